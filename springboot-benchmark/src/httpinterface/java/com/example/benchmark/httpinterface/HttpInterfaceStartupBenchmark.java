@@ -0,0 +1,50 @@
+package com.example.benchmark.httpinterface;
+
+import com.example.httpinterface.SpringbootHttpinterfaceApplication;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * SpringbootHttpinterfaceApplication 시작 시간(ApplicationContext refresh 완료까지) 벤치마크
+ * <p>매번 새 JVM(fork)에서 한 번만 시작하여 클래스 로딩, JIT 워밍업 전의 콜드 스타트를 측정 (CDS 아카이브 적용 전후 비교는 README 참고)</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class HttpInterfaceStartupBenchmark {
+
+  private static final String[] ARGS = {
+      "--server.port=0", // 사용 중인 포트와 충돌하지 않도록 임의 포트 사용
+      "--spring.main.banner-mode=off",
+      "--logging.level.root=WARN"};
+
+  private ConfigurableApplicationContext context;
+
+  @Benchmark
+  public ConfigurableApplicationContext startup() {
+    context = new SpringApplicationBuilder(SpringbootHttpinterfaceApplication.class).run(ARGS);
+    return context;
+  }
+
+  @TearDown(Level.Iteration)
+  public void tearDown() {
+    if (context != null) {
+      context.close();
+    }
+  }
+}
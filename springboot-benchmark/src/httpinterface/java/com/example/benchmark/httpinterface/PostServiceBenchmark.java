@@ -0,0 +1,99 @@
+package com.example.benchmark.httpinterface;
+
+import com.example.benchmark.support.Payload;
+import com.example.benchmark.support.PayloadSize;
+import com.example.benchmark.support.StubServer;
+import com.example.httpinterface.config.HttpInterfaceConfig;
+import com.example.httpinterface.dto.PostDto;
+import com.example.httpinterface.service.PostService;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+/**
+ * HTTP Interface(PostService) 프록시의 처리량/지연 시간 벤치마크
+ * <p>HttpInterfaceConfig와 동일한 방식으로 프록시를 생성하되, 기본 URL만 스텁 서버로 변경</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PostServiceBenchmark {
+
+  private static final int POST_ID = 1;
+
+  @Param({"SMALL", "MEDIUM_64KB", "LARGE_4MB"})
+  private PayloadSize size;
+
+  private StubServer stubServer;
+  private PostService postService;
+  private PostDto.Request request;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    stubServer = StubServer.start(size.toJson());
+
+    Payload payload = size.toPayload();
+    request = PostDto.Request.builder()
+        .id(payload.getId())
+        .title(payload.getTitle())
+        .body(payload.getBody())
+        .userId(payload.getUserId())
+        .build();
+
+    HttpInterfaceConfig httpInterfaceConfig = new HttpInterfaceConfig();
+    RestClient postRestClient = httpInterfaceConfig.restClient(ObservationRegistry.NOOP,
+            httpInterfaceConfig.httpClientMetrics())
+        .mutate()
+        .baseUrl(stubServer.baseUrl())
+        .requestInterceptor(httpInterfaceConfig.circuitBreakerInterceptor())
+        .build();
+    postService = HttpServiceProxyFactory
+        .builderFor(RestClientAdapter.create(postRestClient))
+        .build()
+        .createClient(PostService.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    stubServer.close();
+  }
+
+  @Benchmark
+  public PostDto.Response getPost() {
+    return postService.getPost(POST_ID);
+  }
+
+  @Benchmark
+  public PostDto.Response createPost() {
+    return postService.createPost(request);
+  }
+
+  @Benchmark
+  public PostDto.Response updatePost() {
+    return postService.updatePost(POST_ID, request);
+  }
+
+  @Benchmark
+  public PostDto.Response deletePost() {
+    return postService.deletePost(POST_ID);
+  }
+}
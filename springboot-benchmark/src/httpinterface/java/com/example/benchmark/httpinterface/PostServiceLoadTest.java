@@ -0,0 +1,70 @@
+package com.example.benchmark.httpinterface;
+
+import com.example.benchmark.loadtest.LoadTest;
+import com.example.benchmark.loadtest.LoadTestOptions;
+import com.example.benchmark.support.Payload;
+import com.example.httpinterface.config.HttpInterfaceConfig;
+import com.example.httpinterface.dto.PostDto;
+import com.example.httpinterface.service.PostService;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+/**
+ * HTTP Interface(PostService) 프록시의 부하 테스트
+ * <p>PostServiceBenchmark와 같이 HttpInterfaceConfig의 RestClient와 서킷 브레이커로 프록시를 생성하되, 기본 URL만 스텁 서버로 변경 (주입한
+ * 장애로 서킷 브레이커가 열리면 CircuitBreakerOpenException으로 집계)</p>
+ * <p>HttpInterfaceConfig는 커넥션 설정을 상수로 관리하므로 max-connections는 적용하지 않음</p>
+ */
+public class PostServiceLoadTest implements LoadTest.Target {
+
+  private final PostService postService;
+  private final PostDto.Request request;
+  private final AtomicInteger sequence = new AtomicInteger();
+
+  private PostServiceLoadTest(String baseUrl, LoadTestOptions options) {
+    Payload payload = options.size().toPayload();
+    request = PostDto.Request.builder()
+        .id(payload.getId())
+        .title(payload.getTitle())
+        .body(payload.getBody())
+        .userId(payload.getUserId())
+        .build();
+
+    HttpInterfaceConfig httpInterfaceConfig = new HttpInterfaceConfig();
+    RestClient postRestClient = httpInterfaceConfig.restClient(ObservationRegistry.NOOP,
+            httpInterfaceConfig.httpClientMetrics())
+        .mutate()
+        .baseUrl(baseUrl)
+        .requestInterceptor(httpInterfaceConfig.circuitBreakerInterceptor())
+        .build();
+    postService = HttpServiceProxyFactory
+        .builderFor(RestClientAdapter.create(postRestClient))
+        .build()
+        .createClient(PostService.class);
+  }
+
+  /**
+   * 부하 테스트를 실행 (예: ./gradlew loadTestHttpinterface -PloadTestArgs="rps=500 latency=exp:20ms")
+   *
+   * @param args key=value 형식의 실행 인자 (LoadTestOptions 참고)
+   */
+  public static void main(String[] args) throws Exception {
+    LoadTest.run("httpinterface", args, PostServiceLoadTest::new);
+  }
+
+  @Override
+  public Callable<?> request(LoadTestOptions.Operation operation) {
+    return switch (operation) {
+      case GET -> () -> postService.getPost(sequence.incrementAndGet() & Integer.MAX_VALUE);
+      case POST -> () -> postService.createPost(request);
+    };
+  }
+
+  @Override
+  public void close() {
+  }
+}
@@ -0,0 +1,60 @@
+package com.example.benchmark.loadtest;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 개방형(open-model) 부하의 요청 도착률
+ * <p>응답 시간과 관계없이 정해진 시각에 요청을 보내며, 측정 시간 동안 초당 요청 수를 startRps에서 endRps까지 선형으로 변경 (같으면 고정 요청률)</p>
+ *
+ * @param startRps 시작 초당 요청 수
+ * @param endRps   종료 초당 요청 수
+ */
+public record ArrivalRate(double startRps, double endRps) {
+
+  private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  public ArrivalRate {
+    if (startRps <= 0 || endRps <= 0) {
+      throw new IllegalArgumentException("Arrival rates must be positive: " + startRps + ", "
+          + endRps);
+    }
+  }
+
+  public static ArrivalRate constant(double rps) {
+    return new ArrivalRate(rps, rps);
+  }
+
+  public static ArrivalRate ramp(double startRps, double endRps) {
+    return new ArrivalRate(startRps, endRps);
+  }
+
+  /**
+   * index번째 요청을 보낼 시각을 반환
+   * <p>요청률 r(t) = startRps + k * t (k = (endRps - startRps) / duration)를 적분한 누적 요청 수가 index가 되는 시각</p>
+   *
+   * @param index    요청 순번 (0부터)
+   * @param duration 측정 시간
+   * @return 시작 시각으로부터의 경과 시간 (나노초, 도달하지 않는 순번은 Long.MAX_VALUE)
+   */
+  public long offsetNanos(long index, Duration duration) {
+    double seconds = duration.toNanos() / NANOS_PER_SECOND;
+    double slope = (endRps - startRps) / seconds;
+    double offsetSeconds;
+    if (Math.abs(slope) < 1e-9) {
+      offsetSeconds = index / startRps;
+    } else {
+      double discriminant = startRps * startRps + 2 * slope * index;
+      if (discriminant < 0) {
+        return Long.MAX_VALUE; // 요청률이 줄어드는 경우 측정 시간 안에 도달하지 않는 순번
+      }
+      offsetSeconds = (Math.sqrt(discriminant) - startRps) / slope;
+    }
+    return (long) (offsetSeconds * NANOS_PER_SECOND);
+  }
+
+  @Override
+  public String toString() {
+    return startRps == endRps ? startRps + " rps" : startRps + " -> " + endRps + " rps";
+  }
+}
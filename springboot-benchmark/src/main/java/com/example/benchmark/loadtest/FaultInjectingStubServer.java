@@ -0,0 +1,164 @@
+package com.example.benchmark.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 시간 분포와 장애(5xx 응답, 연결 끊기, 느린 본문 전송)를 주입하는 루프백(127.0.0.1) HTTP 스텁 서버
+ * <p>요청이 도착한 순번과 시드로 난수를 만들기 때문에, 같은 설정으로 실행하면 같은 수의 요청에 같은 지연/장애가 주입됨 (동시에 도착한 요청끼리는 순번이
+ * 바뀔 수 있음)</p>
+ * <p>요청마다 스레드를 하나씩 사용하여(캐시 스레드 풀) 지연 중인 요청 수에 제한을 두지 않으므로, 측정 결과에는 클라이언트 쪽 대기(커넥션 풀, 타임아웃)만
+ * 반영됨</p>
+ * <p>연결 끊기는 응답 헤더를 보내지 않고 연결을 닫음 (JDK HttpServer는 소켓을 노출하지 않으므로 RST가 아닌 FIN으로 닫힘)</p>
+ */
+public class FaultInjectingStubServer implements AutoCloseable {
+
+  private static final int SLOW_BODY_CHUNKS = 8; // 느린 응답 본문을 나누어 보낼 횟수
+  private static final int ERROR_STATUS = 500;
+
+  static {
+    // 응답 헤더/본문이 나뉘어 전송될 때 Nagle 알고리즘으로 인한 지연이 측정에 섞이지 않도록 설정
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+  }
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final byte[] responseBody;
+  private final FaultProfile faultProfile;
+  private final AtomicLong sequence = new AtomicLong();
+  private final LongAdder errors = new LongAdder();
+  private final LongAdder resets = new LongAdder();
+  private final LongAdder slowBodies = new LongAdder();
+
+  private FaultInjectingStubServer(byte[] responseBody, FaultProfile faultProfile)
+      throws IOException {
+    this.responseBody = responseBody;
+    this.faultProfile = faultProfile;
+    this.executor = Executors.newCachedThreadPool();
+    this.server = HttpServer.create(
+        new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    this.server.setExecutor(executor);
+    this.server.createContext("/", this::handle);
+  }
+
+  /**
+   * 임의의 포트로 스텁 서버를 시작
+   *
+   * @param responseBody 모든 요청에 대해 반환할 JSON 응답 본문
+   * @param faultProfile 요청마다 주입할 지연/장애 설정
+   * @return 시작된 FaultInjectingStubServer 객체
+   */
+  public static FaultInjectingStubServer start(byte[] responseBody, FaultProfile faultProfile)
+      throws IOException {
+    FaultInjectingStubServer stubServer = new FaultInjectingStubServer(responseBody,
+        faultProfile);
+    stubServer.server.start();
+    return stubServer;
+  }
+
+  /**
+   * 스텁 서버의 기본 URL을 반환 (예: http://127.0.0.1:54321)
+   *
+   * @return 기본 URL
+   */
+  public String baseUrl() {
+    InetSocketAddress address = server.getAddress();
+    return "http://" + address.getHostString() + ":" + address.getPort();
+  }
+
+  /**
+   * 주입한 장애 수를 반환 (예: errors=12, resets=3, slow-bodies=40)
+   *
+   * @return 장애 종류별 주입 수
+   */
+  public String injectedFaults() {
+    return String.format("requests=%d, errors=%d, resets=%d, slow-bodies=%d", sequence.get(),
+        errors.sum(), resets.sum(), slowBodies.sum());
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    long requestSequence = sequence.getAndIncrement();
+    try (exchange; InputStream requestBody = exchange.getRequestBody()) {
+      requestBody.transferTo(OutputStream.nullOutputStream());
+      sleepNanos(faultProfile.latency().sampleNanos(random(requestSequence, 0)));
+
+      double fault = random(requestSequence, 1);
+      if (fault < faultProfile.resetRate()) {
+        resets.increment();
+        return; // 응답 헤더를 보내지 않고 닫으면 JDK HttpServer가 연결을 닫음
+      }
+      fault -= faultProfile.resetRate();
+      if (fault < faultProfile.errorRate()) {
+        errors.increment();
+        exchange.sendResponseHeaders(ERROR_STATUS, -1);
+        return;
+      }
+      fault -= faultProfile.errorRate();
+      boolean slowBody = fault < faultProfile.slowBodyRate();
+
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, responseBody.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        if (slowBody) {
+          slowBodies.increment();
+          writeSlowly(out);
+        } else {
+          out.write(responseBody);
+        }
+      }
+    }
+  }
+
+  /**
+   * 응답 본문을 나누어 slowBodyTime에 걸쳐 전송
+   */
+  private void writeSlowly(OutputStream out) throws IOException {
+    long pauseNanos = faultProfile.slowBodyTime().toNanos() / SLOW_BODY_CHUNKS;
+    int chunkSize = Math.max(1, (responseBody.length + SLOW_BODY_CHUNKS - 1) / SLOW_BODY_CHUNKS);
+    for (int offset = 0; offset < responseBody.length; offset += chunkSize) {
+      out.write(responseBody, offset, Math.min(chunkSize, responseBody.length - offset));
+      out.flush();
+      sleepNanos(pauseNanos);
+    }
+  }
+
+  /**
+   * 요청 순번과 용도(stream)별로 시드에서 결정되는 [0, 1) 난수를 생성 (SplitMix64)
+   */
+  private double random(long requestSequence, int stream) {
+    long z = faultProfile.seed() + requestSequence * 0x9E3779B97F4A7C15L
+        + stream * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+    z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+    z = z ^ (z >>> 31);
+    return (z >>> 11) * 0x1.0p-53;
+  }
+
+  private static void sleepNanos(long nanos) throws IOException {
+    if (nanos <= 0) {
+      return;
+    }
+    try {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while injecting latency", ex);
+    }
+  }
+}
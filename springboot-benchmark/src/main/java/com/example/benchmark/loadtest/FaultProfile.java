@@ -0,0 +1,42 @@
+package com.example.benchmark.loadtest;
+
+import java.time.Duration;
+
+/**
+ * 스텁 서버가 요청마다 주입할 지연/장애 설정
+ * <p>요청마다 지연 시간을 분포에서 뽑은 뒤, 비율에 따라 연결 끊기, 5xx 응답, 느린 본문 전송 중 하나를 적용 (비율의 합은 1 이하)</p>
+ *
+ * @param latency      응답 헤더를 보내기 전 지연 시간 분포
+ * @param errorRate    500 응답 비율 (0 ~ 1)
+ * @param resetRate    응답 없이 연결을 끊는 비율 (0 ~ 1)
+ * @param slowBodyRate 응답 본문을 나누어 천천히 보내는 비율 (0 ~ 1)
+ * @param slowBodyTime 느린 응답 본문을 모두 보내는 데 걸리는 시간
+ * @param seed         요청 순번별 난수의 시드 (같은 시드면 같은 순번의 요청에 같은 지연/장애를 주입)
+ */
+public record FaultProfile(LatencyDistribution latency, double errorRate, double resetRate,
+                           double slowBodyRate, Duration slowBodyTime, long seed) {
+
+  public FaultProfile {
+    if (errorRate < 0 || resetRate < 0 || slowBodyRate < 0
+        || errorRate + resetRate + slowBodyRate > 1) {
+      throw new IllegalArgumentException("Fault rates must be non-negative and sum to at most 1: "
+          + errorRate + ", " + resetRate + ", " + slowBodyRate);
+    }
+  }
+
+  /**
+   * 지연/장애를 주입하지 않는 설정
+   *
+   * @return FaultProfile 객체
+   */
+  public static FaultProfile none() {
+    return new FaultProfile(LatencyDistribution.none(), 0, 0, 0, Duration.ZERO, 0L);
+  }
+
+  @Override
+  public String toString() {
+    return String.format("latency=%s, error-rate=%s, reset-rate=%s, slow-body-rate=%s "
+            + "(slow-body-time=%dms), seed=%d", latency, errorRate, resetRate, slowBodyRate,
+        slowBodyTime.toMillis(), seed);
+  }
+}
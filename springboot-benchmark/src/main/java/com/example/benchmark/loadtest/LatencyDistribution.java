@@ -0,0 +1,110 @@
+package com.example.benchmark.loadtest;
+
+import java.time.Duration;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * 스텁 서버가 응답 전에 주입할 지연 시간 분포
+ * <p>[0, 1) 균등 난수를 역누적분포함수로 지연 시간(나노초)에 대응시키므로, 같은 난수에는 항상 같은 지연 시간을 반환</p>
+ * <ul>
+ *   <li>none : 지연 없음</li>
+ *   <li>fixed:20ms : 고정 지연</li>
+ *   <li>uniform:5ms..50ms : 최소 ~ 최대 사이 균등 분포</li>
+ *   <li>exp:20ms : 평균이 20ms인 지수 분포 (긴 꼬리)</li>
+ *   <li>bimodal:10ms,2s,0.05 : 대부분 10ms, 5% 요청만 2s (GC 정지, 느린 쿼리 등)</li>
+ * </ul>
+ */
+public final class LatencyDistribution {
+
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final String spec;
+  private final DoubleUnaryOperator inverseCdf; // 균등 난수 -> 지연 시간 (나노초)
+
+  private LatencyDistribution(String spec, DoubleUnaryOperator inverseCdf) {
+    this.spec = spec;
+    this.inverseCdf = inverseCdf;
+  }
+
+  public static LatencyDistribution none() {
+    return new LatencyDistribution("none", u -> 0);
+  }
+
+  public static LatencyDistribution fixed(Duration latency) {
+    long nanos = latency.toNanos();
+    return new LatencyDistribution("fixed:" + millis(nanos), u -> nanos);
+  }
+
+  public static LatencyDistribution uniform(Duration min, Duration max) {
+    long minNanos = min.toNanos();
+    long rangeNanos = max.toNanos() - minNanos;
+    if (rangeNanos < 0) {
+      throw new IllegalArgumentException("max must not be less than min: " + min + ", " + max);
+    }
+    return new LatencyDistribution("uniform:" + millis(minNanos) + ".."
+        + millis(minNanos + rangeNanos), u -> minNanos + u * rangeNanos);
+  }
+
+  public static LatencyDistribution exponential(Duration mean) {
+    long meanNanos = mean.toNanos();
+    return new LatencyDistribution("exp:" + millis(meanNanos),
+        u -> -meanNanos * Math.log(1.0 - u));
+  }
+
+  public static LatencyDistribution bimodal(Duration fast, Duration slow, double slowRatio) {
+    if (slowRatio < 0 || slowRatio > 1) {
+      throw new IllegalArgumentException("slowRatio must be between 0 and 1: " + slowRatio);
+    }
+    long fastNanos = fast.toNanos();
+    long slowNanos = slow.toNanos();
+    return new LatencyDistribution("bimodal:" + millis(fastNanos) + "," + millis(slowNanos)
+        + "," + slowRatio, u -> u < slowRatio ? slowNanos : fastNanos);
+  }
+
+  /**
+   * 문자열 표현(예: exp:20ms)을 지연 시간 분포로 변환
+   *
+   * @param spec 지연 시간 분포 문자열
+   * @return LatencyDistribution 객체
+   */
+  public static LatencyDistribution parse(String spec) {
+    String value = spec.trim();
+    if (value.isEmpty() || value.equals("none") || value.equals("0")) {
+      return none();
+    }
+    int separator = value.indexOf(':');
+    if (separator < 0) {
+      return fixed(LoadTestOptions.parseDuration(value));
+    }
+    String type = value.substring(0, separator);
+    String[] args = value.substring(separator + 1).split("\\.\\.|,");
+    return switch (type) {
+      case "fixed" -> fixed(LoadTestOptions.parseDuration(args[0]));
+      case "uniform" -> uniform(LoadTestOptions.parseDuration(args[0]),
+          LoadTestOptions.parseDuration(args[1]));
+      case "exp" -> exponential(LoadTestOptions.parseDuration(args[0]));
+      case "bimodal" -> bimodal(LoadTestOptions.parseDuration(args[0]),
+          LoadTestOptions.parseDuration(args[1]), Double.parseDouble(args[2]));
+      default -> throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+    };
+  }
+
+  /**
+   * 균등 난수에 대응하는 지연 시간을 반환
+   *
+   * @param uniform [0, 1) 균등 난수
+   * @return 지연 시간 (나노초)
+   */
+  public long sampleNanos(double uniform) {
+    return Math.max(0L, (long) inverseCdf.applyAsDouble(uniform));
+  }
+
+  @Override
+  public String toString() {
+    return spec;
+  }
+
+  private static String millis(long nanos) {
+    return (nanos / NANOS_PER_MILLI) + "ms";
+  }
+}
@@ -0,0 +1,69 @@
+package com.example.benchmark.loadtest;
+
+import java.nio.file.Path;
+import java.util.concurrent.Callable;
+
+/**
+ * 지연/장애를 주입하는 스텁 서버를 띄우고, 모듈의 클라이언트로 개방형 부하를 보내 결과를 출력하는 부하 테스트 실행기
+ * <p>모듈별 부하 테스트(RestClientLoadTest 등)의 main에서 클라이언트 생성 방법(Target)만 지정하여 사용</p>
+ */
+public final class LoadTest {
+
+  private LoadTest() {
+  }
+
+  /**
+   * 부하 테스트 대상 클라이언트
+   */
+  public interface Target extends AutoCloseable {
+
+    /**
+     * 요청 1건을 호출하는 작업을 반환
+     *
+     * @param operation 요청 종류
+     * @return 요청 작업
+     */
+    Callable<?> request(LoadTestOptions.Operation operation);
+  }
+
+  /**
+   * 스텁 서버의 기본 URL로 부하 테스트 대상 클라이언트를 생성
+   */
+  @FunctionalInterface
+  public interface TargetFactory {
+
+    Target create(String baseUrl, LoadTestOptions options) throws Exception;
+  }
+
+  /**
+   * 부하 테스트를 실행하고 결과를 출력
+   *
+   * @param module        모듈 이름 (예: restclient)
+   * @param args          key=value 형식의 실행 인자 (LoadTestOptions 참고)
+   * @param targetFactory 부하 테스트 대상 클라이언트 생성 방법
+   * @return LoadTestReport 객체
+   */
+  public static LoadTestReport run(String module, String[] args, TargetFactory targetFactory)
+      throws Exception {
+    LoadTestOptions options = LoadTestOptions.parse(args);
+    String name = options.nameOf(module);
+    System.out.printf("%s: %s, threads=%d, max-connections=%s, %s%n", name,
+        options.arrivalRate(), options.threads(),
+        options.maxConnections() != null ? options.maxConnections() : "default",
+        options.faultProfile());
+
+    try (FaultInjectingStubServer stubServer = FaultInjectingStubServer.start(
+        options.size().toJson(), options.faultProfile());
+        Target target = targetFactory.create(stubServer.baseUrl(), options)) {
+      LoadTestReport report = new OpenLoadGenerator(options.arrivalRate(), options.threads())
+          .run(name, options.warmUp(), options.duration(), target.request(options.operation()));
+      report.print(System.out);
+      System.out.println("stub server: " + stubServer.injectedFaults());
+      if (options.reportDir() != null) {
+        Path file = report.writeHistogram(options.reportDir());
+        System.out.println("histogram: " + file);
+      }
+      return report;
+    }
+  }
+}
@@ -0,0 +1,116 @@
+package com.example.benchmark.loadtest;
+
+import com.example.benchmark.support.PayloadSize;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 부하 테스트 실행 옵션 (key=value 형식의 실행 인자)
+ * <ul>
+ *   <li>rps=200, ramp-to-rps=1000 : 시작 초당 요청 수, 측정 시간 동안 늘릴 초당 요청 수 (없으면 고정 요청률)</li>
+ *   <li>duration=30s, warm-up=5s : 측정 시간, 워밍업 시간</li>
+ *   <li>threads=200 : 요청을 호출할 스레드 수 (애플리케이션의 요청 스레드 수)</li>
+ *   <li>operation=get, size=SMALL : 요청 종류(get, post), 페이로드 크기</li>
+ *   <li>max-connections=10 : 경로별 최대 커넥션 수 (없으면 모듈의 기본 설정 값)</li>
+ *   <li>latency=exp:20ms, error-rate=0.01, reset-rate=0.001, slow-body-rate=0.05, slow-body-time=1s, seed=1 : 스텁
+ *   서버가 주입할 지연/장애</li>
+ *   <li>report-dir : 응답 시간 분포(.hgrm)를 저장할 디렉터리 (없으면 저장하지 않음)</li>
+ * </ul>
+ *
+ * @param arrivalRate    요청 도착률
+ * @param duration       측정 시간
+ * @param warmUp         워밍업 시간
+ * @param threads        요청을 호출할 스레드 수
+ * @param operation      요청 종류
+ * @param size           페이로드 크기
+ * @param maxConnections 경로별 최대 커넥션 수 (null이면 모듈의 기본 설정 값)
+ * @param faultProfile   스텁 서버가 주입할 지연/장애
+ * @param reportDir      응답 시간 분포를 저장할 디렉터리 (null이면 저장하지 않음)
+ */
+public record LoadTestOptions(ArrivalRate arrivalRate, Duration duration, Duration warmUp,
+                              int threads, Operation operation, PayloadSize size,
+                              Integer maxConnections, FaultProfile faultProfile, Path reportDir) {
+
+  private static final Set<String> KEYS = Set.of("rps", "ramp-to-rps", "duration", "warm-up",
+      "threads", "operation", "size", "max-connections", "latency", "error-rate", "reset-rate",
+      "slow-body-rate", "slow-body-time", "seed", "report-dir");
+
+  /**
+   * 부하 테스트 요청 종류
+   */
+  public enum Operation {
+    GET, POST
+  }
+
+  /**
+   * 실행 인자를 옵션으로 변환
+   *
+   * @param args key=value 형식의 실행 인자
+   * @return LoadTestOptions 객체
+   */
+  public static LoadTestOptions parse(String[] args) {
+    Map<String, String> values = new LinkedHashMap<>();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      String key = separator > 0 ? arg.substring(0, separator) : arg;
+      if (!KEYS.contains(key)) {
+        throw new IllegalArgumentException("Unknown load test option: " + arg + " (" + KEYS + ")");
+      }
+      values.put(key, arg.substring(separator + 1));
+    }
+    double rps = Double.parseDouble(values.getOrDefault("rps", "200"));
+    String rampToRps = values.get("ramp-to-rps");
+    String maxConnections = values.get("max-connections");
+    String reportDir = values.get("report-dir");
+    return new LoadTestOptions(
+        rampToRps != null ? ArrivalRate.ramp(rps, Double.parseDouble(rampToRps))
+            : ArrivalRate.constant(rps),
+        parseDuration(values.getOrDefault("duration", "30s")),
+        parseDuration(values.getOrDefault("warm-up", "5s")),
+        Integer.parseInt(values.getOrDefault("threads", "200")),
+        Operation.valueOf(values.getOrDefault("operation", "get").toUpperCase()),
+        PayloadSize.valueOf(values.getOrDefault("size", "SMALL").toUpperCase()),
+        maxConnections != null ? Integer.valueOf(maxConnections) : null,
+        new FaultProfile(
+            LatencyDistribution.parse(values.getOrDefault("latency", "none")),
+            Double.parseDouble(values.getOrDefault("error-rate", "0")),
+            Double.parseDouble(values.getOrDefault("reset-rate", "0")),
+            Double.parseDouble(values.getOrDefault("slow-body-rate", "0")),
+            parseDuration(values.getOrDefault("slow-body-time", "1s")),
+            Long.parseLong(values.getOrDefault("seed", "1"))),
+        reportDir != null ? Path.of(reportDir) : null);
+  }
+
+  /**
+   * 시간 문자열(예: 500us, 20ms, 30s, 2m)을 Duration으로 변환
+   *
+   * @param value 시간 문자열 (단위가 없으면 밀리초)
+   * @return Duration 객체
+   */
+  static Duration parseDuration(String value) {
+    String trimmed = value.trim();
+    if (trimmed.endsWith("us")) {
+      return Duration.ofNanos(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)) * 1_000);
+    } else if (trimmed.endsWith("ms")) {
+      return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+    } else if (trimmed.endsWith("s")) {
+      return Duration.ofSeconds(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+    } else if (trimmed.endsWith("m")) {
+      return Duration.ofMinutes(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+    }
+    return Duration.ofMillis(Long.parseLong(trimmed));
+  }
+
+  /**
+   * 부하 테스트 이름을 반환 (예: restclient-get-small)
+   *
+   * @param module 모듈 이름
+   * @return 부하 테스트 이름
+   */
+  public String nameOf(String module) {
+    return module + "-" + operation.name().toLowerCase() + "-" + size.name().toLowerCase();
+  }
+}
@@ -0,0 +1,83 @@
+package com.example.benchmark.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 부하 테스트 결과
+ * <p>latency는 요청을 보내기로 한 시각부터 응답 완료까지의 시간(coordinated omission 보정)으로, 클라이언트 스레드나 커넥션을 기다린 시간까지
+ * 포함하며, serviceTime은 실제로 호출을 시작한 시각부터의 시간 (두 값의 차이가 클라이언트 쪽 대기 시간)</p>
+ *
+ * @param name        부하 테스트 이름 (예: restclient-get)
+ * @param arrivalRate 요청 도착률
+ * @param duration    측정 시간
+ * @param sent        보낸 요청 수
+ * @param succeeded   성공한 요청 수
+ * @param failures    실패한 요청 수 (예외 클래스 이름별)
+ * @param unfinished  측정 종료 후 DRAIN_TIMEOUT 안에 끝나지 않은 요청 수 (latency에는 그 시점까지의 응답 시간으로 기록)
+ * @param latency     보정한 응답 시간 분포 (마이크로초)
+ * @param serviceTime 보정하지 않은 응답 시간 분포 (마이크로초)
+ */
+public record LoadTestReport(String name, ArrivalRate arrivalRate, Duration duration, long sent,
+                             long succeeded, Map<String, Long> failures, long unfinished,
+                             Histogram latency, Histogram serviceTime) {
+
+  private static final double MICROS_PER_MILLI = 1_000.0;
+  private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9, 99.99};
+
+  /**
+   * 측정 시간 동안 완료한 초당 요청 수를 반환
+   *
+   * @return 초당 요청 수
+   */
+  public double achievedRps() {
+    return (double) (sent - unfinished) * TimeUnit.SECONDS.toNanos(1) / duration.toNanos();
+  }
+
+  /**
+   * 요약을 출력
+   *
+   * @param out 출력 스트림
+   */
+  public void print(PrintStream out) {
+    out.printf("== %s ==%n", name);
+    out.printf("arrival rate: %s, duration: %ds, achieved: %.1f rps%n", arrivalRate,
+        duration.toSeconds(), achievedRps());
+    out.printf("requests: sent=%d, succeeded=%d, failed=%d %s, unfinished=%d%n", sent, succeeded,
+        sent - succeeded - unfinished, failures, unfinished);
+    printLatency(out, "latency (corrected, ms)", latency);
+    printLatency(out, "service time (ms)      ", serviceTime);
+  }
+
+  /**
+   * 보정한 응답 시간 분포를 HdrHistogram 백분위수 파일(.hgrm, 밀리초 단위)로 저장 (HdrHistogram Plotter 등으로 비교)
+   *
+   * @param directory 저장할 디렉터리
+   * @return 저장한 파일 경로
+   */
+  public Path writeHistogram(Path directory) throws IOException {
+    Files.createDirectories(directory);
+    Path file = directory.resolve(name + ".hgrm");
+    try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+      latency.outputPercentileDistribution(out, MICROS_PER_MILLI);
+    }
+    return file;
+  }
+
+  private static void printLatency(PrintStream out, String label, Histogram histogram) {
+    StringBuilder line = new StringBuilder(label).append(':');
+    for (double percentile : PERCENTILES) {
+      line.append(String.format(" p%s=%.2f", percentile,
+          histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI));
+    }
+    line.append(String.format(" max=%.2f mean=%.2f", histogram.getMaxValue() / MICROS_PER_MILLI,
+        histogram.getMean() / MICROS_PER_MILLI));
+    out.println(line);
+  }
+}
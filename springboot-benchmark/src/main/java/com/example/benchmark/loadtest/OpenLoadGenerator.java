@@ -0,0 +1,195 @@
+package com.example.benchmark.loadtest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 개방형(open-model) 부하 생성기
+ * <p>요청을 보내기로 한 시각(ArrivalRate)에 맞춰 작업을 제출하고, 응답 시간은 그 시각부터 측정하여 coordinated omission을 보정 (클라이언트가
+ * 느려져도 요청률을 낮추지 않으므로, 스레드/커넥션을 기다린 시간이 응답 시간에 그대로 반영됨)</p>
+ * <p>작업 스레드 수(workerThreads)는 호출하는 애플리케이션의 요청 스레드 수에 해당하며, 모두 사용 중이면 요청은 큐에서 대기</p>
+ * <p>측정 종료 후 DRAIN_TIMEOUT 안에 끝나지 않은 요청은 그 시점까지의 응답 시간으로 기록하고 미완료(unfinished)로 집계하여, 가장 느린 요청이 결과에서
+ * 빠지지 않도록 함</p>
+ */
+public class OpenLoadGenerator {
+
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+  private static final int SIGNIFICANT_DIGITS = 3;
+  private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60); // 측정 종료 후 남은 요청을 기다릴 최대 시간
+
+  private final ArrivalRate arrivalRate;
+  private final int workerThreads;
+
+  /**
+   * @param arrivalRate   요청 도착률
+   * @param workerThreads 요청을 호출할 스레드 수
+   */
+  public OpenLoadGenerator(ArrivalRate arrivalRate, int workerThreads) {
+    this.arrivalRate = arrivalRate;
+    this.workerThreads = workerThreads;
+  }
+
+  /**
+   * 워밍업 후 측정 시간 동안 요청을 보내고 결과를 반환
+   * <p>워밍업과 측정 구간은 각각 새 작업 스레드 풀을 사용하며, 워밍업 요청이 모두 끝난(또는 중단된) 뒤에 측정을 시작</p>
+   *
+   * @param name     부하 테스트 이름
+   * @param warmUp   워밍업 시간 (시작 요청률로 보내며 결과에서 제외)
+   * @param duration 측정 시간
+   * @param request  요청 1건을 호출하는 작업 (예외를 던지면 실패로 기록)
+   * @return LoadTestReport 객체
+   */
+  public LoadTestReport run(String name, Duration warmUp, Duration duration, Callable<?> request)
+      throws InterruptedException {
+    if (!warmUp.isZero()) {
+      new Phase(ArrivalRate.constant(arrivalRate.startRps()), workerThreads)
+          .run(warmUp, request);
+    }
+    Phase phase = new Phase(arrivalRate, workerThreads);
+    phase.run(duration, request);
+    return new LoadTestReport(name, arrivalRate, duration, phase.sent, phase.succeeded.sum(),
+        new TreeMap<>(phase.failures), phase.unfinished, phase.latency.copy(),
+        phase.serviceTime.copy());
+  }
+
+  /**
+   * 워밍업 또는 측정 구간의 요청 수와 응답 시간 분포
+   * <p>진행 중인 요청은 inFlight에 등록하고, 요청을 끝낸 작업 스레드와 DRAIN_TIMEOUT 후의 정리 중 inFlight에서 먼저 제거한 쪽만 결과를 기록
+   * (정리 후에는 작업 스레드가 결과를 기록하지 않으므로 분포가 고정됨)</p>
+   */
+  private static class Phase {
+
+    private final ArrivalRate arrivalRate;
+    private final int workerThreads;
+    private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS,
+        SIGNIFICANT_DIGITS);
+    private final Histogram serviceTime = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS,
+        SIGNIFICANT_DIGITS);
+    private final LongAdder succeeded = new LongAdder();
+    private final Map<String, Long> failures = new ConcurrentHashMap<>();
+    private final Map<Long, Long> inFlight = new ConcurrentHashMap<>(); // 요청 순번 -> 보내기로 한 시각
+    private final ReadWriteLock recordLock = new ReentrantReadWriteLock();
+    private long sent;
+    private long unfinished;
+
+    private Phase(ArrivalRate arrivalRate, int workerThreads) {
+      this.arrivalRate = arrivalRate;
+      this.workerThreads = workerThreads;
+    }
+
+    private void run(Duration duration, Callable<?> request) throws InterruptedException {
+      ExecutorService executor = Executors.newFixedThreadPool(workerThreads);
+      try {
+        send(executor, duration, request);
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (!inFlight.isEmpty() && deadline - System.nanoTime() > 0) {
+          TimeUnit.MILLISECONDS.sleep(10);
+        }
+        recordUnfinished();
+      } finally {
+        executor.shutdownNow();
+      }
+      // 중단한 요청이 다음 구간과 스레드/커넥션을 두고 경쟁하지 않도록 종료를 기다림
+      executor.awaitTermination(DRAIN_TIMEOUT.toSeconds(), TimeUnit.SECONDS);
+    }
+
+    private void send(ExecutorService executor, Duration duration, Callable<?> request)
+        throws InterruptedException {
+      long durationNanos = duration.toNanos();
+      long startTime = System.nanoTime();
+      for (long index = 0; ; index++) {
+        long offset = arrivalRate.offsetNanos(index, duration);
+        if (offset >= durationNanos) {
+          break;
+        }
+        long intendedTime = startTime + offset;
+        long delay;
+        while ((delay = intendedTime - System.nanoTime()) > 0) {
+          LockSupport.parkNanos(delay);
+          if (Thread.interrupted()) {
+            throw new InterruptedException();
+          }
+        }
+        long requestIndex = index;
+        inFlight.put(requestIndex, intendedTime);
+        executor.execute(() -> call(request, requestIndex, intendedTime));
+        sent++;
+      }
+    }
+
+    private void call(Callable<?> request, long index, long intendedTime) {
+      long actualStartTime = System.nanoTime();
+      Exception failure = null;
+      try {
+        request.call();
+      } catch (Exception ex) {
+        failure = ex;
+      }
+      long endTime = System.nanoTime();
+      Lock lock = recordLock.readLock();
+      lock.lock();
+      try {
+        if (inFlight.remove(index) == null) {
+          return; // DRAIN_TIMEOUT 후 미완료로 이미 기록한 요청
+        }
+        if (failure == null) {
+          succeeded.increment();
+        } else {
+          failures.merge(failureOf(failure), 1L, Long::sum);
+        }
+        latency.recordValue(micros(endTime - intendedTime));
+        serviceTime.recordValue(micros(endTime - actualStartTime));
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * DRAIN_TIMEOUT 안에 끝나지 않은 요청을 현재 시각까지의 응답 시간으로 기록 (실제 호출 시작 시각은 알 수 없으므로 serviceTime에는 기록하지
+     * 않음)
+     */
+    private void recordUnfinished() {
+      Lock lock = recordLock.writeLock();
+      lock.lock();
+      try {
+        long now = System.nanoTime();
+        for (Long index : inFlight.keySet()) {
+          Long intendedTime = inFlight.remove(index);
+          if (intendedTime != null) {
+            latency.recordValue(micros(now - intendedTime));
+            unfinished++;
+          }
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * 실패 종류를 예외 클래스 이름으로 반환 (원인 예외가 있으면 함께 표시, 예: ResourceAccessException(SocketTimeoutException))
+     */
+    private static String failureOf(Exception ex) {
+      Throwable cause = ex.getCause();
+      return cause != null && cause != ex
+          ? ex.getClass().getSimpleName() + "(" + cause.getClass().getSimpleName() + ")"
+          : ex.getClass().getSimpleName();
+    }
+
+    private static long micros(long nanos) {
+      return Math.min(HIGHEST_TRACKABLE_MICROS, TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+  }
+}
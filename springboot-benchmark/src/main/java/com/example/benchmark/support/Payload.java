@@ -0,0 +1,21 @@
+package com.example.benchmark.support;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 벤치마크 요청/응답 본문 객체
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class Payload {
+
+  private int id;
+  private String title;
+  private String body;
+  private int userId;
+}
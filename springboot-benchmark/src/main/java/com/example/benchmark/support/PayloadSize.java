@@ -0,0 +1,48 @@
+package com.example.benchmark.support;
+
+import java.nio.charset.StandardCharsets;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 벤치마크에 사용하는 JSON 페이로드 크기
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PayloadSize {
+
+  SMALL(128), // 단건 포스트 수준의 작은 페이로드
+  MEDIUM_64KB(64 * 1024), // 64 KB 페이로드
+  LARGE_4MB(4 * 1024 * 1024); // 4 MB 페이로드
+
+  private static final String JSON_PREFIX = "{\"id\":1,\"title\":\"benchmark\",\"body\":\"";
+  private static final String JSON_SUFFIX = "\",\"userId\":1}";
+
+  private final int bytes;
+
+  /**
+   * 지정한 크기에 맞춘 JSON 문자열을 생성
+   * <p>{@code {"id", "title", "body", "userId"}} 형태로, body 필드를 채워 전체 크기를 맞춤</p>
+   *
+   * @return JSON 문자열을 UTF-8로 인코딩한 바이트 배열
+   */
+  public byte[] toJson() {
+    int fill = Math.max(0, bytes - JSON_PREFIX.length() - JSON_SUFFIX.length());
+    return (JSON_PREFIX + "x".repeat(fill) + JSON_SUFFIX).getBytes(StandardCharsets.UTF_8);
+  }
+
+  /**
+   * 지정한 크기에 맞춘 요청 본문 객체를 생성
+   *
+   * @return Payload 객체
+   */
+  public Payload toPayload() {
+    int fill = Math.max(0, bytes - JSON_PREFIX.length() - JSON_SUFFIX.length());
+    return Payload.builder()
+        .id(1)
+        .title("benchmark")
+        .body("x".repeat(fill))
+        .userId(1)
+        .build();
+  }
+}
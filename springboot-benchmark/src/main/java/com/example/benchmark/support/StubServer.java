@@ -0,0 +1,90 @@
+package com.example.benchmark.support;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 네트워크 없이 벤치마크를 수행하기 위한 루프백(127.0.0.1) HTTP 스텁 서버
+ * <p>모든 메서드와 경로에 대해 요청 본문을 읽어 버린 뒤, 미리 만들어 둔 응답(기본 JSON)을 반환</p>
+ */
+public class StubServer implements AutoCloseable {
+
+  private static final int WORKER_THREADS = 16; // 스텁 서버 처리 스레드 수
+
+  static {
+    // 응답 헤더/본문이 나뉘어 전송될 때 Nagle 알고리즘으로 인한 지연이 측정에 섞이지 않도록 설정
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+  }
+
+  private final HttpServer server;
+  private final ExecutorService executor;
+  private final byte[] responseBody;
+  private final String contentType;
+
+  private StubServer(byte[] responseBody, String contentType) throws IOException {
+    this.responseBody = responseBody;
+    this.contentType = contentType;
+    this.executor = Executors.newFixedThreadPool(WORKER_THREADS);
+    this.server = HttpServer.create(
+        new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    this.server.setExecutor(executor);
+    this.server.createContext("/", this::handle);
+  }
+
+  /**
+   * 임의의 포트로 스텁 서버를 시작
+   *
+   * @param responseBody 모든 요청에 대해 반환할 JSON 응답 본문
+   * @return 시작된 StubServer 객체
+   */
+  public static StubServer start(byte[] responseBody) throws IOException {
+    return start(responseBody, "application/json");
+  }
+
+  /**
+   * 임의의 포트로 지정한 Content-Type의 응답을 반환하는 스텁 서버를 시작
+   *
+   * @param responseBody 모든 요청에 대해 반환할 응답 본문
+   * @param contentType  응답 Content-Type (예: application/x-jackson-smile)
+   * @return 시작된 StubServer 객체
+   */
+  public static StubServer start(byte[] responseBody, String contentType) throws IOException {
+    StubServer stubServer = new StubServer(responseBody, contentType);
+    stubServer.server.start();
+    return stubServer;
+  }
+
+  /**
+   * 스텁 서버의 기본 URL을 반환 (예: http://127.0.0.1:54321)
+   *
+   * @return 기본 URL
+   */
+  public String baseUrl() {
+    InetSocketAddress address = server.getAddress();
+    return "http://" + address.getHostString() + ":" + address.getPort();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    try (exchange; InputStream requestBody = exchange.getRequestBody()) {
+      requestBody.transferTo(OutputStream.nullOutputStream());
+      exchange.getResponseHeaders().set("Content-Type", contentType);
+      exchange.sendResponseHeaders(200, responseBody.length);
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write(responseBody);
+      }
+    }
+  }
+}
@@ -0,0 +1,152 @@
+package com.example.benchmark.restclient;
+
+import com.example.benchmark.support.Payload;
+import com.example.benchmark.support.PayloadSize;
+import com.example.benchmark.support.StubServer;
+import com.example.restclient.codec.PayloadFormat;
+import com.example.restclient.concurrent.FanOutExecutor;
+import com.example.restclient.config.CompressionProperties;
+import com.example.restclient.config.ConnectionPoolProperties;
+import com.example.restclient.config.FanOutProperties;
+import com.example.restclient.config.HedgingProperties;
+import com.example.restclient.config.LoadBalancerProperties;
+import com.example.restclient.config.ResponseBufferProperties;
+import com.example.restclient.config.RestClientConfig;
+import com.example.restclient.config.RetryProperties;
+import com.example.restclient.config.SerializationProperties;
+import com.example.restclient.config.SingleFlightProperties;
+import com.example.restclient.loadbalancer.LoadBalancingRoutePlanner;
+import com.example.restclient.observation.HttpClientMetrics;
+import com.example.restclient.pool.ConnectionPoolTuner;
+import com.example.restclient.util.HttpUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.SystemDefaultDnsResolver;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClient;
+
+/**
+ * RestClient 기반 HttpUtil(com.example.restclient.util.HttpUtil)의 처리량/지연 시간 벤치마크
+ * <p>format 파라미터로 요청/응답 본문 직렬화 형식(JSON, Smile, CBOR)별 비용을 비교</p>
+ * <p>pooledResponseBuffer 파라미터로 풀링된 버퍼로 응답 본문을 읽을 때의 요청 1건당 할당량(gc.alloc.rate.norm)을 비교</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestClientHttpUtilBenchmark {
+
+  @Param({"SMALL", "MEDIUM_64KB", "LARGE_4MB"})
+  private PayloadSize size;
+
+  @Param({"JSON", "SMILE", "CBOR"})
+  private PayloadFormat format;
+
+  @Param({"false", "true"})
+  private boolean pooledResponseBuffer;
+
+  private StubServer stubServer;
+  private HttpClient httpClient;
+  private FanOutExecutor fanOutExecutor;
+  private HttpUtil httpUtil;
+  private String targetUrl;
+  private Payload requestBody;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    stubServer = StubServer.start(responseBody(), format.getMediaType().toString());
+    targetUrl = stubServer.baseUrl() + "/posts/1";
+    requestBody = size.toPayload();
+
+    RestClientConfig restClientConfig = new RestClientConfig();
+    HttpClientMetrics httpClientMetrics = restClientConfig.httpClientMetrics();
+    PoolingHttpClientConnectionManager connectionManager = restClientConfig.connectionManager(
+        SystemDefaultDnsResolver.INSTANCE, httpClientMetrics);
+    ConnectionPoolTuner connectionPoolTuner = restClientConfig.connectionPoolTuner(
+        connectionManager, new ConnectionPoolProperties());
+    LoadBalancingRoutePlanner routePlanner = restClientConfig.loadBalancingRoutePlanner(
+        SystemDefaultDnsResolver.INSTANCE, connectionPoolTuner, new LoadBalancerProperties());
+    httpClient = restClientConfig.httpClient(connectionManager, connectionPoolTuner,
+        restClientConfig.retryStrategy(new RetryProperties()), new CompressionProperties(),
+        routePlanner, httpClientMetrics);
+    fanOutExecutor = restClientConfig.fanOutExecutor(connectionPoolTuner, routePlanner,
+        new FanOutProperties());
+    ResponseBufferProperties responseBufferProperties = new ResponseBufferProperties();
+    responseBufferProperties.setEnabled(pooledResponseBuffer);
+    RestClient restClient = restClientConfig.restClient(httpClient, List.of(),
+        responseBufferProperties, restClientConfig.responseBufferPool(responseBufferProperties),
+        ObservationRegistry.NOOP, httpClientMetrics);
+    httpUtil = new HttpUtil(restClient, restClientConfig.fileTransferRestClient(restClient),
+        fanOutExecutor, restClientConfig.transferBufferPool(),
+        restClientConfig.requestCoalescer(new SingleFlightProperties()),
+        restClientConfig.hedgingExecutor(new HedgingProperties()),
+        restClientConfig.payloadFormatResolver(serializationProperties()));
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    fanOutExecutor.close();
+    ((CloseableHttpClient) httpClient).close();
+    stubServer.close();
+  }
+
+  @Benchmark
+  public ResponseEntity<Payload> sendGet() {
+    return httpUtil.sendGet(targetUrl, null, Payload.class);
+  }
+
+  @Benchmark
+  public ResponseEntity<Payload> sendPost() {
+    return httpUtil.sendPost(targetUrl, null, requestBody, Payload.class);
+  }
+
+  @Benchmark
+  public ResponseEntity<Payload> sendPut() {
+    return httpUtil.sendPut(targetUrl, null, requestBody, Payload.class);
+  }
+
+  @Benchmark
+  public ResponseEntity<Payload> sendDelete() {
+    return httpUtil.sendDelete(targetUrl, null, Payload.class);
+  }
+
+  /**
+   * 직렬화 형식에 맞춰 스텁 서버가 반환할 응답 본문을 생성
+   */
+  private byte[] responseBody() throws IOException {
+    return switch (format) {
+      case JSON -> size.toJson();
+      case SMILE -> new ObjectMapper(new SmileFactory()).writeValueAsBytes(size.toPayload());
+      case CBOR -> new ObjectMapper(new CBORFactory()).writeValueAsBytes(size.toPayload());
+    };
+  }
+
+  private SerializationProperties serializationProperties() {
+    SerializationProperties serializationProperties = new SerializationProperties();
+    serializationProperties.setDefaultFormat(format);
+    return serializationProperties;
+  }
+}
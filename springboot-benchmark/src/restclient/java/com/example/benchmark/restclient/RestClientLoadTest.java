@@ -0,0 +1,103 @@
+package com.example.benchmark.restclient;
+
+import com.example.benchmark.loadtest.LoadTest;
+import com.example.benchmark.loadtest.LoadTestOptions;
+import com.example.benchmark.support.Payload;
+import com.example.restclient.concurrent.FanOutExecutor;
+import com.example.restclient.config.CompressionProperties;
+import com.example.restclient.config.ConnectionPoolProperties;
+import com.example.restclient.config.FanOutProperties;
+import com.example.restclient.config.HedgingProperties;
+import com.example.restclient.config.LoadBalancerProperties;
+import com.example.restclient.config.ResponseBufferProperties;
+import com.example.restclient.config.RestClientConfig;
+import com.example.restclient.config.RetryProperties;
+import com.example.restclient.config.SerializationProperties;
+import com.example.restclient.config.SingleFlightProperties;
+import com.example.restclient.loadbalancer.LoadBalancingRoutePlanner;
+import com.example.restclient.observation.HttpClientMetrics;
+import com.example.restclient.pool.ConnectionPoolTuner;
+import com.example.restclient.util.HttpUtil;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.hc.client5.http.SystemDefaultDnsResolver;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.web.client.RestClient;
+
+/**
+ * RestClient 기반 HttpUtil(com.example.restclient.util.HttpUtil)의 부하 테스트
+ * <p>RestClientConfig의 기본 설정(재시도, 동일 GET 요청 병합 등)으로 HttpUtil을 생성하고, 경로별 최대 커넥션 수만 max-connections로 변경</p>
+ * <p>GET 요청은 순번을 경로에 붙여 동일 GET 요청 병합 없이 모두 스텁 서버로 보냄</p>
+ */
+public class RestClientLoadTest implements LoadTest.Target {
+
+  private final RestClientConfig restClientConfig = new RestClientConfig();
+  private final CloseableHttpClient httpClient;
+  private final FanOutExecutor fanOutExecutor;
+  private final HttpUtil httpUtil;
+  private final String baseUrl;
+  private final Payload requestBody;
+  private final AtomicLong sequence = new AtomicLong();
+
+  private RestClientLoadTest(String baseUrl, LoadTestOptions options) {
+    this.baseUrl = baseUrl;
+    this.requestBody = options.size().toPayload();
+
+    HttpClientMetrics httpClientMetrics = restClientConfig.httpClientMetrics();
+    ConnectionPoolProperties connectionPoolProperties = new ConnectionPoolProperties();
+    if (options.maxConnections() != null) {
+      connectionPoolProperties.setMaxTotal(
+          Math.max(connectionPoolProperties.getMaxTotal(), options.maxConnections()));
+      connectionPoolProperties.setDefaultMaxPerRoute(options.maxConnections());
+    }
+    PoolingHttpClientConnectionManager connectionManager = restClientConfig.connectionManager(
+        SystemDefaultDnsResolver.INSTANCE, httpClientMetrics);
+    ConnectionPoolTuner connectionPoolTuner = restClientConfig.connectionPoolTuner(
+        connectionManager, connectionPoolProperties);
+    LoadBalancingRoutePlanner routePlanner = restClientConfig.loadBalancingRoutePlanner(
+        SystemDefaultDnsResolver.INSTANCE, connectionPoolTuner, new LoadBalancerProperties());
+    httpClient = (CloseableHttpClient) restClientConfig.httpClient(connectionManager,
+        connectionPoolTuner, restClientConfig.retryStrategy(new RetryProperties()),
+        new CompressionProperties(),
+        routePlanner, httpClientMetrics);
+    fanOutExecutor = restClientConfig.fanOutExecutor(connectionPoolTuner, routePlanner,
+        new FanOutProperties());
+    ResponseBufferProperties responseBufferProperties = new ResponseBufferProperties();
+    RestClient restClient = restClientConfig.restClient(httpClient, List.of(),
+        responseBufferProperties, restClientConfig.responseBufferPool(responseBufferProperties),
+        ObservationRegistry.NOOP, httpClientMetrics);
+    httpUtil = new HttpUtil(restClient, restClientConfig.fileTransferRestClient(restClient),
+        fanOutExecutor, restClientConfig.transferBufferPool(),
+        restClientConfig.requestCoalescer(new SingleFlightProperties()),
+        restClientConfig.hedgingExecutor(new HedgingProperties()),
+        restClientConfig.payloadFormatResolver(new SerializationProperties()));
+  }
+
+  /**
+   * 부하 테스트를 실행 (예: ./gradlew loadTestRestclient -PloadTestArgs="rps=500 latency=exp:20ms")
+   *
+   * @param args key=value 형식의 실행 인자 (LoadTestOptions 참고)
+   */
+  public static void main(String[] args) throws Exception {
+    LoadTest.run("restclient", args, RestClientLoadTest::new);
+  }
+
+  @Override
+  public Callable<?> request(LoadTestOptions.Operation operation) {
+    return switch (operation) {
+      case GET -> () -> httpUtil.sendGet(baseUrl + "/posts/" + sequence.incrementAndGet(), null,
+          Payload.class);
+      case POST -> () -> httpUtil.sendPost(baseUrl + "/posts", null, requestBody, Payload.class);
+    };
+  }
+
+  @Override
+  public void close() throws IOException {
+    fanOutExecutor.close();
+    httpClient.close();
+  }
+}
@@ -0,0 +1,135 @@
+package com.example.benchmark.restclient;
+
+import com.example.benchmark.support.Payload;
+import com.example.benchmark.support.PayloadSize;
+import com.example.benchmark.support.StubServer;
+import com.example.restclient.concurrent.FanOutExecutor;
+import com.example.restclient.config.CompressionProperties;
+import com.example.restclient.config.ConnectionPoolProperties;
+import com.example.restclient.config.FanOutProperties;
+import com.example.restclient.config.HedgingProperties;
+import com.example.restclient.config.LoadBalancerProperties;
+import com.example.restclient.config.ResponseBufferProperties;
+import com.example.restclient.config.RestClientConfig;
+import com.example.restclient.config.RetryProperties;
+import com.example.restclient.config.SerializationProperties;
+import com.example.restclient.config.SingleFlightProperties;
+import com.example.restclient.loadbalancer.LoadBalancingRoutePlanner;
+import com.example.restclient.observation.HttpClientMetrics;
+import com.example.restclient.pool.ConnectionPoolTuner;
+import com.example.restclient.util.HttpUtil;
+import com.example.restclient.util.RequestTemplate;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.SystemDefaultDnsResolver;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClient;
+
+/**
+ * RestClient 기반 HttpUtil의 sendX와 미리 준비한 RequestTemplate의 요청 1건당 비용 비교 벤치마크
+ * <p>페이로드 직렬화 비용을 줄이기 위해 작은 페이로드(SMALL)만 사용하며, -prof gc의 gc.alloc.rate.norm(B/op)으로 요청 1건당
+ * 할당량을 비교</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestClientRequestTemplateBenchmark {
+
+  private static final PayloadSize SIZE = PayloadSize.SMALL;
+
+  private StubServer stubServer;
+  private HttpClient httpClient;
+  private FanOutExecutor fanOutExecutor;
+  private HttpUtil httpUtil;
+  private MultiValueMap<String, String> headers;
+  private String baseUrl;
+  private Payload requestBody;
+  private RequestTemplate<Payload> getTemplate;
+  private RequestTemplate<Payload> postTemplate;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    stubServer = StubServer.start(SIZE.toJson());
+    baseUrl = stubServer.baseUrl();
+    requestBody = SIZE.toPayload();
+    headers = new LinkedMultiValueMap<>();
+    headers.add("X-Client", "benchmark");
+
+    RestClientConfig restClientConfig = new RestClientConfig();
+    HttpClientMetrics httpClientMetrics = restClientConfig.httpClientMetrics();
+    PoolingHttpClientConnectionManager connectionManager = restClientConfig.connectionManager(
+        SystemDefaultDnsResolver.INSTANCE, httpClientMetrics);
+    ConnectionPoolTuner connectionPoolTuner = restClientConfig.connectionPoolTuner(
+        connectionManager, new ConnectionPoolProperties());
+    LoadBalancingRoutePlanner routePlanner = restClientConfig.loadBalancingRoutePlanner(
+        SystemDefaultDnsResolver.INSTANCE, connectionPoolTuner, new LoadBalancerProperties());
+    httpClient = restClientConfig.httpClient(connectionManager, connectionPoolTuner,
+        restClientConfig.retryStrategy(new RetryProperties()), new CompressionProperties(),
+        routePlanner, httpClientMetrics);
+    fanOutExecutor = restClientConfig.fanOutExecutor(connectionPoolTuner, routePlanner,
+        new FanOutProperties());
+    ResponseBufferProperties responseBufferProperties = new ResponseBufferProperties();
+    RestClient restClient = restClientConfig.restClient(httpClient, List.of(),
+        responseBufferProperties, restClientConfig.responseBufferPool(responseBufferProperties),
+        ObservationRegistry.NOOP, httpClientMetrics);
+    httpUtil = new HttpUtil(restClient, restClientConfig.fileTransferRestClient(restClient),
+        fanOutExecutor, restClientConfig.transferBufferPool(),
+        restClientConfig.requestCoalescer(new SingleFlightProperties()),
+        restClientConfig.hedgingExecutor(new HedgingProperties()),
+        restClientConfig.payloadFormatResolver(new SerializationProperties()));
+
+    getTemplate = httpUtil.template(HttpMethod.GET, baseUrl + "/posts/{id}", headers,
+        Payload.class);
+    postTemplate = httpUtil.template(HttpMethod.POST, baseUrl + "/posts", headers, Payload.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    fanOutExecutor.close();
+    ((CloseableHttpClient) httpClient).close();
+    stubServer.close();
+  }
+
+  @Benchmark
+  public ResponseEntity<Payload> sendGet() {
+    return httpUtil.sendGet(baseUrl + "/posts/" + 1, headers, Payload.class);
+  }
+
+  @Benchmark
+  public ResponseEntity<Payload> templateGet() {
+    return getTemplate.execute(1);
+  }
+
+  @Benchmark
+  public ResponseEntity<Payload> sendPost() {
+    return httpUtil.sendPost(baseUrl + "/posts", headers, requestBody, Payload.class);
+  }
+
+  @Benchmark
+  public ResponseEntity<Payload> templatePost() {
+    return postTemplate.executeWithBody(requestBody);
+  }
+}
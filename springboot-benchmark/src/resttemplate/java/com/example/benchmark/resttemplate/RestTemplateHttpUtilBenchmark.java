@@ -0,0 +1,95 @@
+package com.example.benchmark.resttemplate;
+
+import com.example.benchmark.support.Payload;
+import com.example.benchmark.support.PayloadSize;
+import com.example.benchmark.support.StubServer;
+import com.example.resttemplate.config.CompressionProperties;
+import com.example.resttemplate.config.ConnectionPoolProperties;
+import com.example.resttemplate.config.RestTemplateConfig;
+import com.example.resttemplate.observation.HttpClientMetrics;
+import com.example.resttemplate.util.HttpUtil;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * RestTemplate 기반 HttpUtil(com.example.resttemplate.util.HttpUtil)의 처리량/지연 시간 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestTemplateHttpUtilBenchmark {
+
+  @Param({"SMALL", "MEDIUM_64KB", "LARGE_4MB"})
+  private PayloadSize size;
+
+  private StubServer stubServer;
+  private CloseableHttpClient httpClient;
+  private HttpUtil httpUtil;
+  private String targetUrl;
+  private Payload requestBody;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    stubServer = StubServer.start(size.toJson());
+    targetUrl = stubServer.baseUrl() + "/posts/1";
+    requestBody = size.toPayload();
+
+    RestTemplateConfig restTemplateConfig = new RestTemplateConfig();
+    HttpClientMetrics httpClientMetrics = restTemplateConfig.httpClientMetrics();
+    ConnectionPoolProperties connectionPoolProperties = new ConnectionPoolProperties();
+    httpClient = (CloseableHttpClient) restTemplateConfig.httpClient(
+        restTemplateConfig.connectionManager(connectionPoolProperties), connectionPoolProperties,
+        new CompressionProperties(), httpClientMetrics);
+    httpUtil = new HttpUtil(restTemplateConfig.restTemplate(httpClient, List.of(),
+        ObservationRegistry.NOOP, httpClientMetrics),
+        restTemplateConfig.fileTransferRestTemplate(httpClient, ObservationRegistry.NOOP,
+            httpClientMetrics),
+        restTemplateConfig.transferBufferPool());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    httpClient.close();
+    stubServer.close();
+  }
+
+  @Benchmark
+  public ResponseEntity<Payload> sendGet() {
+    return httpUtil.sendGet(targetUrl, null, Payload.class);
+  }
+
+  @Benchmark
+  public ResponseEntity<Payload> sendPost() {
+    return httpUtil.sendPost(targetUrl, requestBody, null, Payload.class);
+  }
+
+  @Benchmark
+  public ResponseEntity<Payload> sendPut() {
+    return httpUtil.sendPut(targetUrl, requestBody, null, Payload.class);
+  }
+
+  @Benchmark
+  public ResponseEntity<Payload> sendDelete() {
+    return httpUtil.sendDelete(targetUrl, null, Payload.class);
+  }
+}
@@ -0,0 +1,74 @@
+package com.example.benchmark.resttemplate;
+
+import com.example.benchmark.loadtest.LoadTest;
+import com.example.benchmark.loadtest.LoadTestOptions;
+import com.example.benchmark.support.Payload;
+import com.example.resttemplate.config.CompressionProperties;
+import com.example.resttemplate.config.ConnectionPoolProperties;
+import com.example.resttemplate.config.RestTemplateConfig;
+import com.example.resttemplate.observation.HttpClientMetrics;
+import com.example.resttemplate.util.HttpUtil;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+
+/**
+ * RestTemplate 기반 HttpUtil(com.example.resttemplate.util.HttpUtil)의 부하 테스트
+ * <p>RestTemplateConfig의 기본 설정으로 HttpUtil을 생성하고, 경로별 최대 커넥션 수만 max-connections로 변경</p>
+ */
+public class RestTemplateLoadTest implements LoadTest.Target {
+
+  private final CloseableHttpClient httpClient;
+  private final HttpUtil httpUtil;
+  private final String baseUrl;
+  private final Payload requestBody;
+  private final AtomicLong sequence = new AtomicLong();
+
+  private RestTemplateLoadTest(String baseUrl, LoadTestOptions options) {
+    this.baseUrl = baseUrl;
+    this.requestBody = options.size().toPayload();
+
+    RestTemplateConfig restTemplateConfig = new RestTemplateConfig();
+    HttpClientMetrics httpClientMetrics = restTemplateConfig.httpClientMetrics();
+    ConnectionPoolProperties connectionPoolProperties = new ConnectionPoolProperties();
+    if (options.maxConnections() != null) {
+      connectionPoolProperties.setMaxTotal(
+          Math.max(connectionPoolProperties.getMaxTotal(), options.maxConnections()));
+      connectionPoolProperties.setDefaultMaxPerRoute(options.maxConnections());
+    }
+    httpClient = (CloseableHttpClient) restTemplateConfig.httpClient(
+        restTemplateConfig.connectionManager(connectionPoolProperties), connectionPoolProperties,
+        new CompressionProperties(), httpClientMetrics);
+    httpUtil = new HttpUtil(restTemplateConfig.restTemplate(httpClient, List.of(),
+        ObservationRegistry.NOOP, httpClientMetrics),
+        restTemplateConfig.fileTransferRestTemplate(httpClient, ObservationRegistry.NOOP,
+            httpClientMetrics),
+        restTemplateConfig.transferBufferPool());
+  }
+
+  /**
+   * 부하 테스트를 실행 (예: ./gradlew loadTestResttemplate -PloadTestArgs="rps=500 latency=exp:20ms")
+   *
+   * @param args key=value 형식의 실행 인자 (LoadTestOptions 참고)
+   */
+  public static void main(String[] args) throws Exception {
+    LoadTest.run("resttemplate", args, RestTemplateLoadTest::new);
+  }
+
+  @Override
+  public Callable<?> request(LoadTestOptions.Operation operation) {
+    return switch (operation) {
+      case GET -> () -> httpUtil.sendGet(baseUrl + "/posts/" + sequence.incrementAndGet(), null,
+          Payload.class);
+      case POST -> () -> httpUtil.sendPost(baseUrl + "/posts", requestBody, null, Payload.class);
+    };
+  }
+
+  @Override
+  public void close() throws IOException {
+    httpClient.close();
+  }
+}
@@ -0,0 +1,106 @@
+package com.example.benchmark.resttemplate;
+
+import com.example.benchmark.support.Payload;
+import com.example.benchmark.support.PayloadSize;
+import com.example.benchmark.support.StubServer;
+import com.example.resttemplate.config.CompressionProperties;
+import com.example.resttemplate.config.ConnectionPoolProperties;
+import com.example.resttemplate.config.RestTemplateConfig;
+import com.example.resttemplate.observation.HttpClientMetrics;
+import com.example.resttemplate.util.HttpUtil;
+import com.example.resttemplate.util.RequestTemplate;
+import io.micrometer.observation.ObservationRegistry;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * RestTemplate 기반 HttpUtil의 sendX와 미리 준비한 RequestTemplate의 요청 1건당 비용 비교 벤치마크
+ * <p>페이로드 직렬화 비용을 줄이기 위해 작은 페이로드(SMALL)만 사용하며, -prof gc의 gc.alloc.rate.norm(B/op)으로 요청 1건당
+ * 할당량을 비교</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestTemplateRequestTemplateBenchmark {
+
+  private static final PayloadSize SIZE = PayloadSize.SMALL;
+
+  private StubServer stubServer;
+  private CloseableHttpClient httpClient;
+  private HttpUtil httpUtil;
+  private Map<String, String> headers;
+  private String baseUrl;
+  private Payload requestBody;
+  private RequestTemplate<Payload> getTemplate;
+  private RequestTemplate<Payload> postTemplate;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    stubServer = StubServer.start(SIZE.toJson());
+    baseUrl = stubServer.baseUrl();
+    requestBody = SIZE.toPayload();
+    headers = Map.of("X-Client", "benchmark");
+
+    RestTemplateConfig restTemplateConfig = new RestTemplateConfig();
+    HttpClientMetrics httpClientMetrics = restTemplateConfig.httpClientMetrics();
+    ConnectionPoolProperties connectionPoolProperties = new ConnectionPoolProperties();
+    httpClient = (CloseableHttpClient) restTemplateConfig.httpClient(
+        restTemplateConfig.connectionManager(connectionPoolProperties), connectionPoolProperties,
+        new CompressionProperties(), httpClientMetrics);
+    httpUtil = new HttpUtil(restTemplateConfig.restTemplate(httpClient, List.of(),
+        ObservationRegistry.NOOP, httpClientMetrics),
+        restTemplateConfig.fileTransferRestTemplate(httpClient, ObservationRegistry.NOOP,
+            httpClientMetrics),
+        restTemplateConfig.transferBufferPool());
+
+    getTemplate = httpUtil.template(HttpMethod.GET, baseUrl + "/posts/{id}", headers,
+        Payload.class);
+    postTemplate = httpUtil.template(HttpMethod.POST, baseUrl + "/posts", headers, Payload.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    httpClient.close();
+    stubServer.close();
+  }
+
+  @Benchmark
+  public ResponseEntity<Payload> sendGet() {
+    return httpUtil.sendGet(baseUrl + "/posts/" + 1, headers, Payload.class);
+  }
+
+  @Benchmark
+  public ResponseEntity<Payload> templateGet() {
+    return getTemplate.execute(1);
+  }
+
+  @Benchmark
+  public ResponseEntity<Payload> sendPost() {
+    return httpUtil.sendPost(baseUrl + "/posts", requestBody, headers, Payload.class);
+  }
+
+  @Benchmark
+  public ResponseEntity<Payload> templatePost() {
+    return postTemplate.executeWithBody(requestBody);
+  }
+}
@@ -0,0 +1,81 @@
+package com.example.httpinterface.batch;
+
+import com.example.httpinterface.dto.PostDto;
+import com.example.httpinterface.service.BulkPostService;
+import com.example.httpinterface.service.ReactivePostService;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 포스트 생성/수정 요청을 모아 적은 수의 호출로 보내는 클래스
+ * <p>BulkPostService가 있으면 일괄 생성/수정 API로, 없으면 ReactivePostService의 단건 API를 동시에 호출 (WriteBatcher 참고)</p>
+ * <p>생성과 수정은 별도로 모아서 보냄</p>
+ */
+public class PostWriteBatcher implements AutoCloseable {
+
+  private final WriteBatcher<PostDto.Request, PostDto.Response> creates;
+  private final WriteBatcher<Update, PostDto.Response> updates;
+
+  /**
+   * @param settings            일괄 처리 설정 값 (생성, 수정에 각각 적용)
+   * @param reactivePostService 단건 생성/수정에 사용할 ReactivePostService
+   * @param bulkPostService     일괄 생성/수정에 사용할 BulkPostService (null이면 단건 API만 사용)
+   */
+  public PostWriteBatcher(WriteBatcher.Settings settings, ReactivePostService reactivePostService,
+      BulkPostService bulkPostService) {
+    this.creates = new WriteBatcher<>(settings,
+        bulkPostService != null ? bulkPostService::createPosts : null,
+        reactivePostService::createPost);
+    this.updates = new WriteBatcher<>(settings,
+        bulkPostService != null ? batch -> bulkPostService.updatePosts(
+            batch.stream().map(Update::withId).toList()) : null,
+        update -> reactivePostService.updatePost(update.id(), update.request()));
+  }
+
+  /**
+   * 포스트 생성 요청을 추가
+   *
+   * @param request 생성할 포스트
+   * @return 생성된 포스트
+   */
+  public CompletableFuture<PostDto.Response> createPost(PostDto.Request request) {
+    return creates.submit(request);
+  }
+
+  /**
+   * 포스트 수정 요청을 추가
+   *
+   * @param id      수정할 포스트 ID
+   * @param request 수정할 내용
+   * @return 수정된 포스트
+   */
+  public CompletableFuture<PostDto.Response> updatePost(int id, PostDto.Request request) {
+    return updates.submit(new Update(id, request));
+  }
+
+  /**
+   * 모으는 중인 요청을 보내고 응답을 모두 받을 때까지 대기
+   */
+  @Override
+  public void close() {
+    creates.close();
+    updates.close();
+  }
+
+  private record Update(int id, PostDto.Request request) {
+
+    /**
+     * 일괄 수정 API는 본문의 id로 포스트를 구분하므로 경로의 id를 본문에 설정
+     */
+    private PostDto.Request withId() {
+      if (request.getId() == id) {
+        return request;
+      }
+      return PostDto.Request.builder()
+          .id(id)
+          .title(request.getTitle())
+          .body(request.getBody())
+          .userId(request.getUserId())
+          .build();
+    }
+  }
+}
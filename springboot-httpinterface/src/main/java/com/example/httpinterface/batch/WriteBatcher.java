@@ -0,0 +1,161 @@
+package com.example.httpinterface.batch;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 쓰기 요청을 모아 적은 수의 호출로 보내는 클래스
+ * <ul>
+ *   <li>일괄 호출(bulkCall)이 있으면 최대 maxBatchSize 건 또는 maxDelay 동안 모은 요청을 한 번의 호출로 보내고, 응답 목록을 요청 순서대로
+ *   각 호출자에게 전달</li>
+ *   <li>일괄 호출이 없으면 요청을 모으지 않고 단건 호출(singleCall)로 동시에 보냄 (HTTP/2는 커넥션 하나에서 다중화)</li>
+ *   <li>동시에 진행 중인 호출(일괄 호출은 배치 단위)은 최대 maxInFlight 건이며, 응답을 기다리는 요청이 maxPending 건이면 submit이 자리가 날
+ *   때까지 대기</li>
+ * </ul>
+ * <p>반환한 CompletableFuture는 응답을 받은 스레드(Netty 이벤트 루프)에서 완료되므로, 후속 작업에서 블로킹하려면 *Async 메서드를 사용</p>
+ *
+ * @param <T> 요청 타입
+ * @param <R> 응답 타입
+ */
+@Slf4j
+public class WriteBatcher<T, R> implements AutoCloseable {
+
+  private final Settings settings;
+  private final Function<List<T>, Mono<List<R>>> bulkCall;
+  private final Function<T, Mono<R>> singleCall;
+  private final Semaphore pending;
+  private final Sinks.Many<Item<T, R>> sink = Sinks.many().unicast().onBackpressureBuffer();
+  private final CompletableFuture<Void> terminated;
+
+  /**
+   * @param settings   일괄 처리 설정 값
+   * @param bulkCall   요청 목록을 한 번에 보내고 같은 순서의 응답 목록을 반환하는 호출 (null이면 단건 호출만 사용)
+   * @param singleCall 요청 하나를 보내는 호출
+   */
+  public WriteBatcher(Settings settings, Function<List<T>, Mono<List<R>>> bulkCall,
+      Function<T, Mono<R>> singleCall) {
+    this.settings = settings;
+    this.bulkCall = bulkCall;
+    this.singleCall = singleCall;
+    this.pending = new Semaphore(settings.maxPending());
+    Flux<Item<T, R>> items = sink.asFlux();
+    Flux<Void> dispatched = bulkCall != null
+        ? items.bufferTimeout(settings.maxBatchSize(), settings.maxDelay(), true)
+        .flatMap(this::dispatchBatch, settings.maxInFlight())
+        : items.flatMap(this::dispatchSingle, settings.maxInFlight());
+    this.terminated = dispatched.then().toFuture();
+  }
+
+  /**
+   * 요청을 추가하고 응답을 받을 CompletableFuture를 반환
+   * <p>응답을 기다리는 요청이 maxPending 건이면 자리가 날 때까지 대기</p>
+   *
+   * @param request 요청
+   * @return 응답 (호출이 실패하면 예외로 완료)
+   */
+  public CompletableFuture<R> submit(T request) {
+    CompletableFuture<R> future = new CompletableFuture<>();
+    try {
+      pending.acquire();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      future.completeExceptionally(ex);
+      return future;
+    }
+    future.whenComplete((response, ex) -> pending.release());
+    Sinks.EmitResult result;
+    synchronized (sink) { // Sinks.Many는 여러 스레드에서 동시에 emit할 수 없음
+      result = sink.tryEmitNext(new Item<>(request, future));
+    }
+    if (result.isFailure()) {
+      future.completeExceptionally(new IllegalStateException("WriteBatcher is closed: " + result));
+    }
+    return future;
+  }
+
+  /**
+   * 응답을 기다리는 요청 수를 반환
+   *
+   * @return 응답을 기다리는 요청 수 (모으는 중인 요청 포함)
+   */
+  public int pendingCount() {
+    return settings.maxPending() - pending.availablePermits();
+  }
+
+  /**
+   * 새 요청을 받지 않고, 모으는 중인 요청을 보낸 뒤 응답을 모두 받을 때까지 대기 (최대 closeTimeout)
+   */
+  @Override
+  public void close() {
+    synchronized (sink) {
+      sink.tryEmitComplete();
+    }
+    try {
+      terminated.get(settings.closeTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException ex) {
+      log.warn("WriteBatcher close timed out - pending: {}", pendingCount());
+    } catch (ExecutionException ex) {
+      log.warn("WriteBatcher terminated with error - error: {}", ex.getCause().getMessage());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private Mono<Void> dispatchBatch(List<Item<T, R>> batch) {
+    List<T> requests = batch.stream().map(Item::request).toList();
+    return Mono.defer(() -> bulkCall.apply(requests))
+        .doOnSuccess(responses -> {
+          if (responses == null || responses.size() != batch.size()) {
+            fail(batch, new IllegalStateException("Bulk response size mismatch - requests: "
+                + batch.size() + ", responses: " + (responses == null ? 0 : responses.size())));
+            return;
+          }
+          for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).future().complete(responses.get(i));
+          }
+        })
+        .doOnError(ex -> fail(batch, ex))
+        .onErrorResume(ex -> Mono.empty()) // 실패한 배치는 호출자에게만 전달하고 다음 배치를 계속 처리
+        .then();
+  }
+
+  private Mono<Void> dispatchSingle(Item<T, R> item) {
+    return Mono.defer(() -> singleCall.apply(item.request()))
+        .doOnSuccess(item.future()::complete)
+        .doOnError(item.future()::completeExceptionally)
+        .onErrorResume(ex -> Mono.empty())
+        .then();
+  }
+
+  private static <T, R> void fail(List<Item<T, R>> batch, Throwable ex) {
+    batch.forEach(item -> item.future().completeExceptionally(ex));
+  }
+
+  private record Item<T, R>(T request, CompletableFuture<R> future) {
+
+  }
+
+  /**
+   * 일괄 처리 설정 값
+   *
+   * @param maxBatchSize 일괄 호출 한 번에 보낼 최대 요청 수
+   * @param maxDelay     첫 요청을 받은 뒤 일괄 호출을 보내기까지 최대 대기 시간
+   * @param maxInFlight  동시에 진행 중인 최대 호출 수 (일괄 호출은 배치 수)
+   * @param maxPending   응답을 기다리는 최대 요청 수 (초과하면 submit이 대기)
+   * @param closeTimeout close 시 남은 요청의 응답을 기다릴 최대 시간
+   */
+  public record Settings(int maxBatchSize, Duration maxDelay, int maxInFlight, int maxPending,
+                         Duration closeTimeout) {
+
+  }
+}
@@ -0,0 +1,91 @@
+package com.example.httpinterface.circuitbreaker;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 경로(scheme, host, port)별 서킷 브레이커({@link CircuitBreaker})를 적용하는 ClientHttpRequestInterceptor
+ * <p>다운스트림 장애로 실패율이나 느린 요청 비율이 기준을 넘으면 요청을 보내지 않고 바로 CircuitBreakerOpenException으로 거절하여, 요청마다 응답
+ * 타임아웃까지 스레드를 점유하지 않도록 함</p>
+ * <ul>
+ *   <li>실패 : I/O 예외(타임아웃, 연결 실패 등), 5xx 응답 (4xx는 성공으로 기록)</li>
+ *   <li>느린 요청 : 응답 헤더를 받을 때까지 slowCallDuration 이상 걸린 요청</li>
+ * </ul>
+ */
+@Slf4j
+public class CircuitBreakerInterceptor implements ClientHttpRequestInterceptor {
+
+  private final CircuitBreaker.Settings settings;
+  private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+  /**
+   * @param settings 경로별 서킷 브레이커 설정 값
+   */
+  public CircuitBreakerInterceptor(CircuitBreaker.Settings settings) {
+    this.settings = settings;
+  }
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+      ClientHttpRequestExecution execution) throws IOException {
+    String route = routeOf(request.getURI());
+    CircuitBreaker circuitBreaker = circuitBreakers.computeIfAbsent(route,
+        key -> new CircuitBreaker(settings));
+    if (!circuitBreaker.tryAcquirePermission()) {
+      throw new CircuitBreakerOpenException(route, circuitBreaker.getState());
+    }
+
+    long startTime = System.nanoTime();
+    ClientHttpResponse response;
+    try {
+      response = execution.execute(request, body);
+    } catch (IOException ex) {
+      onResult(route, circuitBreaker, System.nanoTime() - startTime, true);
+      throw ex;
+    } catch (RuntimeException | Error ex) {
+      circuitBreaker.releasePermission();
+      throw ex;
+    }
+    boolean failure = response.getStatusCode().is5xxServerError();
+    onResult(route, circuitBreaker, System.nanoTime() - startTime, failure);
+    return response;
+  }
+
+  /**
+   * 경로의 서킷 브레이커 상태를 반환
+   *
+   * @param url 경로의 URL
+   * @return 서킷 브레이커 상태 (요청한 적 없는 경로는 CLOSED)
+   */
+  public CircuitBreaker.State stateOf(URI url) {
+    CircuitBreaker circuitBreaker = circuitBreakers.get(routeOf(url));
+    return circuitBreaker != null ? circuitBreaker.getState() : CircuitBreaker.State.CLOSED;
+  }
+
+  private void onResult(String route, CircuitBreaker circuitBreaker, long durationNanos,
+      boolean failure) {
+    CircuitBreaker.State before = circuitBreaker.getState();
+    circuitBreaker.onResult(durationNanos, failure);
+    CircuitBreaker.State after = circuitBreaker.getState();
+    if (after != before) {
+      log.warn("Circuit breaker state changed - route: {}, state: {} -> {}", route, before,
+          after);
+    }
+  }
+
+  /**
+   * URL을 경로 이름으로 변환 (예: https://jsonplaceholder.typicode.com:443)
+   */
+  private String routeOf(URI url) {
+    int port = url.getPort() > 0 ? url.getPort() : ("https".equalsIgnoreCase(url.getScheme())
+        ? 443 : 80);
+    return url.getScheme() + "://" + url.getHost() + ":" + port;
+  }
+}
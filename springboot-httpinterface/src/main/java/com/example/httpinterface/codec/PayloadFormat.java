@@ -0,0 +1,48 @@
+package com.example.httpinterface.codec;
+
+import java.util.List;
+import org.springframework.http.MediaType;
+
+/**
+ * 요청/응답 본문 직렬화 형식
+ * <p>Smile, CBOR는 Jackson 바이너리 형식으로, 같은 DTO를 JSON 텍스트 파싱 없이 직렬화/역직렬화
+ * (RestClient, WebClient가 클래스패스의 jackson-dataformat-smile, jackson-dataformat-cbor를 감지하여 등록)</p>
+ * <p>WebClient(ReactivePostService)는 CBOR 요청 본문 인코딩을 지원하지 않으므로 JSON, Smile만 사용</p>
+ */
+public enum PayloadFormat {
+
+  JSON(MediaType.APPLICATION_JSON),
+  SMILE(new MediaType("application", "x-jackson-smile")),
+  CBOR(MediaType.APPLICATION_CBOR);
+
+  private static final MediaType JSON_FALLBACK = MediaType.parseMediaType(
+      "application/json;q=0.5"); // 바이너리 형식을 지원하지 않는 서버를 위한 JSON 대체 형식
+
+  private final MediaType mediaType;
+
+  PayloadFormat(MediaType mediaType) {
+    this.mediaType = mediaType;
+  }
+
+  /**
+   * 요청 본문의 Content-Type으로 사용할 MediaType을 반환
+   *
+   * @return MediaType 객체
+   */
+  public MediaType getMediaType() {
+    return mediaType;
+  }
+
+  /**
+   * Accept 헤더로 보낼 MediaType 목록을 반환
+   * <p>바이너리 형식은 서버가 지원하지 않는 경우를 위해 JSON을 낮은 우선순위(q=0.5)로 함께 보냄</p>
+   *
+   * @return MediaType 목록 (우선순위 순서)
+   */
+  public List<MediaType> getAcceptableMediaTypes() {
+    if (this == JSON) {
+      return List.of(MediaType.APPLICATION_JSON);
+    }
+    return List.of(mediaType, JSON_FALLBACK);
+  }
+}
@@ -0,0 +1,100 @@
+package com.example.httpinterface.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 요청/응답 본문 압축을 처리하는 ClientHttpRequestInterceptor
+ * <ul>
+ *   <li>응답 : Accept-Encoding 헤더로 압축을 협상하고, 압축된 응답은 읽는 시점에 스트리밍으로 압축 해제</li>
+ *   <li>요청 : 요청 본문 압축 방식을 지정한 경우에만, 최소 크기 이상인 POST, PUT, PATCH 본문을 압축 (압축 결과가 원본보다 작지 않으면 원본을 그대로 보냄)</li>
+ * </ul>
+ * <p>JDK HttpURLConnection 기반 요청 팩토리는 압축을 자동으로 처리하지 않으므로 인터셉터에서 직접 처리</p>
+ */
+@Slf4j
+public class CompressionInterceptor implements ClientHttpRequestInterceptor {
+
+  private static final Set<HttpMethod> COMPRESSIBLE_METHODS = Set.of(HttpMethod.POST,
+      HttpMethod.PUT, HttpMethod.PATCH);
+
+  private final String acceptEncoding;
+  private final ContentEncoding requestEncoding;
+  private final int requestMinSize;
+
+  /**
+   * @param acceptEncodings 응답 압축 협상에 사용할 압축 방식 (우선순위 순서)
+   * @param requestEncoding 요청 본문 압축 방식 (null이면 요청 본문을 압축하지 않음)
+   * @param requestMinSize  압축할 최소 요청 본문 크기 (바이트)
+   */
+  public CompressionInterceptor(List<ContentEncoding> acceptEncodings,
+      ContentEncoding requestEncoding, int requestMinSize) {
+    this.acceptEncoding = acceptEncodings.stream()
+        .map(ContentEncoding::getToken)
+        .collect(Collectors.joining(", "));
+    this.requestEncoding = requestEncoding;
+    this.requestMinSize = requestMinSize;
+  }
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+      ClientHttpRequestExecution execution) throws IOException {
+    HttpHeaders headers = request.getHeaders();
+    boolean negotiated = !acceptEncoding.isEmpty()
+        && !headers.containsKey(HttpHeaders.ACCEPT_ENCODING);
+    if (negotiated) {
+      headers.set(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+    }
+
+    ClientHttpResponse response = execution.execute(request, compressRequestBody(request, body));
+    return negotiated ? decompress(response) : response;
+  }
+
+  /**
+   * 요청 본문을 압축할 대상이면 압축한 본문을, 아니면 원본을 반환
+   */
+  private byte[] compressRequestBody(HttpRequest request, byte[] body) throws IOException {
+    HttpHeaders headers = request.getHeaders();
+    if (requestEncoding == null || body.length < requestMinSize
+        || !COMPRESSIBLE_METHODS.contains(request.getMethod())
+        || headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+      return body;
+    }
+
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4);
+    try (OutputStream outputStream = requestEncoding.encode(buffer)) {
+      outputStream.write(body);
+    }
+    if (buffer.size() >= body.length) {
+      return body;
+    }
+    log.debug("Compressed request body - {} {}, encoding: {}, size: {} -> {}",
+        request.getMethod(), request.getURI(), requestEncoding.getToken(), body.length,
+        buffer.size());
+    headers.set(HttpHeaders.CONTENT_ENCODING, requestEncoding.getToken());
+    headers.setContentLength(buffer.size());
+    return buffer.toByteArray();
+  }
+
+  /**
+   * 응답이 지원하는 방식으로 압축되어 있으면 압축 해제하는 응답으로 감쌈
+   */
+  private ClientHttpResponse decompress(ClientHttpResponse response) {
+    String contentEncoding = response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING);
+    if (contentEncoding == null || response.getHeaders().getContentLength() == 0) {
+      return response;
+    }
+    ContentEncoding encoding = ContentEncoding.fromToken(contentEncoding);
+    return encoding != null ? new DecompressingClientHttpResponse(response, encoding) : response;
+  }
+}
@@ -0,0 +1,56 @@
+package com.example.httpinterface.compression;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 압축된 응답 본문을 읽는 시점에 스트리밍으로 압축 해제하는 ClientHttpResponse
+ * <p>압축 해제 후 크기는 알 수 없으므로 Content-Encoding, Content-Length 헤더는 제거하여 반환</p>
+ */
+class DecompressingClientHttpResponse implements ClientHttpResponse {
+
+  private final ClientHttpResponse delegate;
+  private final ContentEncoding encoding;
+  private final HttpHeaders headers;
+  private InputStream body;
+
+  DecompressingClientHttpResponse(ClientHttpResponse delegate, ContentEncoding encoding) {
+    this.delegate = delegate;
+    this.encoding = encoding;
+    this.headers = new HttpHeaders();
+    this.headers.putAll(delegate.getHeaders());
+    this.headers.remove(HttpHeaders.CONTENT_ENCODING);
+    this.headers.remove(HttpHeaders.CONTENT_LENGTH);
+  }
+
+  @Override
+  public HttpStatusCode getStatusCode() throws IOException {
+    return delegate.getStatusCode();
+  }
+
+  @Override
+  public String getStatusText() throws IOException {
+    return delegate.getStatusText();
+  }
+
+  @Override
+  public HttpHeaders getHeaders() {
+    return headers;
+  }
+
+  @Override
+  public InputStream getBody() throws IOException {
+    if (body == null) {
+      body = encoding.decode(delegate.getBody());
+    }
+    return body;
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+}
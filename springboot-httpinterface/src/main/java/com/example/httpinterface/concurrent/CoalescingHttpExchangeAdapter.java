@@ -0,0 +1,152 @@
+package com.example.httpinterface.concurrent;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.service.invoker.HttpExchangeAdapter;
+import org.springframework.web.service.invoker.HttpRequestValues;
+import org.springframework.web.util.UriBuilderFactory;
+
+/**
+ * 동시에 진행 중인 동일 GET 요청을 하나의 요청으로 병합하는 HttpExchangeAdapter
+ * <p>HTTP 인터페이스 메서드 호출 중 메서드, URL(템플릿과 변수), 요청 헤더(제외 헤더 제외), 쿠키, 응답 타입이 같은 GET 요청은 먼저 들어온 요청의 응답(역직렬화된
+ * 객체)을 공유</p>
+ * <p>공유하는 응답 객체는 복사하지 않으므로, 병합될 수 있는 GET 메서드의 반환 값은 호출자가 변경하지 않아야 함 (PostService.getPost 참고)</p>
+ * <p>요청 헤더에 Cache-Control: no-cache 또는 no-store가 있으면 병합하지 않음</p>
+ */
+@Slf4j
+public class CoalescingHttpExchangeAdapter implements HttpExchangeAdapter {
+
+  private final HttpExchangeAdapter delegate;
+  private final Set<String> ignoredHeaders;
+  private final SingleFlight<RequestKey, Object> singleFlight = new SingleFlight<>();
+
+  /**
+   * @param delegate       실제 요청을 보내는 HttpExchangeAdapter
+   * @param ignoredHeaders 요청 키 비교에서 제외할 헤더 이름 목록
+   */
+  public CoalescingHttpExchangeAdapter(HttpExchangeAdapter delegate,
+      Collection<String> ignoredHeaders) {
+    this.delegate = delegate;
+    this.ignoredHeaders = ignoredHeaders.stream()
+        .map(name -> name.toLowerCase(Locale.ROOT))
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  @Override
+  public boolean supportsRequestAttributes() {
+    return delegate.supportsRequestAttributes();
+  }
+
+  @Override
+  public void exchange(HttpRequestValues requestValues) {
+    delegate.exchange(requestValues);
+  }
+
+  @Override
+  public HttpHeaders exchangeForHeaders(HttpRequestValues requestValues) {
+    return delegate.exchangeForHeaders(requestValues);
+  }
+
+  @Override
+  public <T> T exchangeForBody(HttpRequestValues requestValues,
+      ParameterizedTypeReference<T> bodyType) {
+    return coalesce(requestValues, bodyType,
+        () -> delegate.exchangeForBody(requestValues, bodyType));
+  }
+
+  @Override
+  public ResponseEntity<Void> exchangeForBodilessEntity(HttpRequestValues requestValues) {
+    return delegate.exchangeForBodilessEntity(requestValues);
+  }
+
+  @Override
+  public <T> ResponseEntity<T> exchangeForEntity(HttpRequestValues requestValues,
+      ParameterizedTypeReference<T> bodyType) {
+    return coalesce(requestValues, ResponseEntityType.of(bodyType),
+        () -> delegate.exchangeForEntity(requestValues, bodyType));
+  }
+
+  /**
+   * 진행 중인 요청 수를 반환
+   *
+   * @return 진행 중인 요청 수
+   */
+  public int inFlightCount() {
+    return singleFlight.inFlightCount();
+  }
+
+  @SuppressWarnings("unchecked")
+  private <T> T coalesce(HttpRequestValues requestValues, Object responseType, Supplier<T> call) {
+    if (!HttpMethod.GET.equals(requestValues.getHttpMethod())
+        || isNoCache(requestValues.getHeaders())) {
+      return call.get();
+    }
+    RequestKey key = new RequestKey(
+        requestValues.getUri() != null ? requestValues.getUri().toString()
+            : requestValues.getUriTemplate(),
+        new TreeMap<>(requestValues.getUriVariables()),
+        requestValues.getUriBuilderFactory(),
+        keyHeaders(requestValues.getHeaders()),
+        Map.copyOf(requestValues.getCookies()),
+        responseType);
+    boolean[] executed = new boolean[1];
+    T result = (T) singleFlight.execute(key, () -> {
+      executed[0] = true;
+      return call.get();
+    });
+    if (!executed[0]) {
+      log.debug("Coalesced in-flight request - uri: {}, variables: {}", key.uri(),
+          key.uriVariables());
+    }
+    return result;
+  }
+
+  private boolean isNoCache(HttpHeaders headers) {
+    return headers.getOrEmpty(HttpHeaders.CACHE_CONTROL).stream()
+        .map(value -> value.toLowerCase(Locale.ROOT))
+        .anyMatch(value -> value.contains("no-cache") || value.contains("no-store"));
+  }
+
+  private Map<String, List<String>> keyHeaders(MultiValueMap<String, String> headers) {
+    Map<String, List<String>> keyHeaders = new TreeMap<>();
+    headers.forEach((name, values) -> {
+      String normalized = name.toLowerCase(Locale.ROOT);
+      if (!ignoredHeaders.contains(normalized)) {
+        keyHeaders.put(normalized, List.copyOf(values));
+      }
+    });
+    return keyHeaders;
+  }
+
+  /**
+   * 병합 여부를 판단하는 요청 키
+   */
+  private record RequestKey(String uri, Map<String, String> uriVariables,
+                            UriBuilderFactory uriBuilderFactory,
+                            Map<String, List<String>> headers,
+                            Map<String, List<String>> cookies, Object responseType) {
+
+  }
+
+  /**
+   * 본문 타입이 같더라도 본문만 반환하는 요청과 ResponseEntity를 반환하는 요청을 구분하기 위한 응답 타입
+   */
+  private record ResponseEntityType(ParameterizedTypeReference<?> bodyType) {
+
+    private static ResponseEntityType of(ParameterizedTypeReference<?> bodyType) {
+      return new ResponseEntityType(bodyType);
+    }
+  }
+}
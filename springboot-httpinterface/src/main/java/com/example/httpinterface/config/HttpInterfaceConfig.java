@@ -1,60 +1,396 @@
 package com.example.httpinterface.config;
 
+import com.example.httpinterface.batch.PostWriteBatcher;
+import com.example.httpinterface.batch.WriteBatcher;
+import com.example.httpinterface.circuitbreaker.CircuitBreaker;
+import com.example.httpinterface.circuitbreaker.CircuitBreakerInterceptor;
+import com.example.httpinterface.codec.PayloadFormat;
+import com.example.httpinterface.compression.CompressionInterceptor;
+import com.example.httpinterface.compression.ContentEncoding;
+import com.example.httpinterface.concurrent.CoalescingHttpExchangeAdapter;
+import com.example.httpinterface.dto.PostDto;
+import com.example.httpinterface.observation.HttpClientMetrics;
+import com.example.httpinterface.observation.ObservedRequestFactory;
+import com.example.httpinterface.ratelimit.RateLimitInterceptor;
+import com.example.httpinterface.service.BulkPostService;
 import com.example.httpinterface.service.PostService;
+import com.example.httpinterface.service.PostStreamService;
+import com.example.httpinterface.service.ReactivePostService;
+import com.example.httpinterface.warmup.StartupWarmUp;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import io.netty.channel.ChannelOption;
+import java.net.URI;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.ClientHttpRequestFactories;
 import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.support.WebClientAdapter;
 import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
 @Slf4j
 @Configuration
+@EnableConfigurationProperties({RateLimitProperties.class, WarmUpProperties.class})
+@ImportRuntimeHints(HttpInterfaceRuntimeHints.class)
 public class HttpInterfaceConfig {
 
   private static final String JSON_PLACEHOLDER_URL = "https://jsonplaceholder.typicode.com";
+  private static final PayloadFormat JSON_PLACEHOLDER_FORMAT = PayloadFormat.JSON; // JSONPlaceholder API 본문 직렬화 형식 (JSON만 지원)
+
+  // 동일 GET 요청 병합 시 같은 요청인지 비교할 때 제외할 헤더
+  private static final List<String> SINGLE_FLIGHT_IGNORED_HEADERS = List.of("traceparent",
+      "tracestate", "X-Request-Id");
+
+  // 서킷 브레이커 설정 값 (PostService)
+  private static final int CIRCUIT_BREAKER_WINDOW_SIZE = 100; // 실패율을 계산할 최근 요청 수
+  private static final int CIRCUIT_BREAKER_MINIMUM_CALLS = 20; // 실패율을 계산하기 위한 최소 요청 수
+  private static final int CIRCUIT_BREAKER_FAILURE_RATE = 50; // OPEN으로 전환할 실패율 (%)
+  private static final int CIRCUIT_BREAKER_SLOW_CALL_RATE = 80; // OPEN으로 전환할 느린 요청 비율 (%)
+  private static final Duration CIRCUIT_BREAKER_SLOW_CALL_DURATION = Duration.ofSeconds(3); // 느린 요청 기준 응답 시간
+  private static final Duration CIRCUIT_BREAKER_WAIT_IN_OPEN = Duration.ofSeconds(10); // OPEN 상태 유지 시간
+  private static final int CIRCUIT_BREAKER_HALF_OPEN_CALLS = 3; // HALF_OPEN 상태에서 허용할 시험 요청 수
+
+  // 요청/응답 본문 압축 설정 값 (RestClient)
+  private static final List<ContentEncoding> ACCEPT_ENCODINGS = List.of(ContentEncoding.GZIP,
+      ContentEncoding.DEFLATE); // 응답 압축 협상에 사용할 압축 방식 (zstd를 추가하면 zstd도 협상)
+  private static final ContentEncoding REQUEST_ENCODING = null; // 요청 본문 압축 방식 (null이면 압축하지 않음, 서버가 지원하는 경우에만 설정)
+  private static final int REQUEST_COMPRESSION_MIN_SIZE = 2 * 1024; // 압축할 최소 요청 본문 크기 (바이트)
+
+  // WebClient(Reactor Netty) 설정 값
+  private static final int MAX_CONNECTIONS = 100; // 최대 커넥션 수 (HTTP/2는 커넥션 하나에서 여러 요청을 동시에 처리)
+  private static final int PENDING_ACQUIRE_MAX_COUNT = 10_000; // 커넥션을 기다리는 최대 요청 수
+  private static final Duration PENDING_ACQUIRE_TIMEOUT = Duration.ofSeconds(3); // 커넥션 대기 타임아웃
+  private static final int CONNECT_TIMEOUT_MILLIS = 5_000; // 연결 타임아웃 (밀리초 단위)
+  private static final Duration RESPONSE_TIMEOUT = Duration.ofSeconds(5); // 응답 타임아웃
+
+  // WebClient(Reactor Netty) DNS 조회 설정 값
+  private static final Duration DNS_CACHE_MAX_TTL = Duration.ofSeconds(30); // 조회 결과 최대 캐시 시간 (DNS 레코드 TTL이 더 짧으면 레코드 TTL 사용)
+  private static final Duration DNS_CACHE_NEGATIVE_TTL = Duration.ofSeconds(5); // 조회 실패 결과 캐시 시간
+  private static final boolean DNS_ROUND_ROBIN = true; // 새 연결마다 조회된 주소를 돌아가며 사용 (여러 IP로 연결을 분산)
+
+  // WebClient(Reactor Netty) 메트릭 설정 값
+  private static final Pattern NUMERIC_PATH_SEGMENT = Pattern.compile("/\\d+(?=/|$)"); // uri 태그에서 {id}로 바꿀 숫자 경로 (태그 값 수 제한)
+
+  // 쓰기 요청 일괄 처리 설정 값 (PostWriteBatcher)
+  private static final boolean BULK_WRITE_SUPPORTED = false; // 일괄 처리 API(/posts/bulk) 사용 여부 (JSONPlaceholder는 지원하지 않으므로 단건 요청을 동시에 보냄)
+  private static final int WRITE_BATCH_MAX_SIZE = 100; // 일괄 처리 API 호출 한 번에 보낼 최대 요청 수
+  private static final Duration WRITE_BATCH_MAX_DELAY = Duration.ofMillis(10); // 요청을 모으는 최대 시간
+  private static final int WRITE_MAX_IN_FLIGHT = 64; // 동시에 진행 중인 최대 호출 수 (일괄 처리 API는 배치 수)
+  private static final int WRITE_MAX_PENDING = 10_000; // 응답을 기다리는 최대 요청 수 (초과하면 요청 추가가 대기)
+  private static final Duration WRITE_CLOSE_TIMEOUT = Duration.ofSeconds(30); // 종료 시 남은 요청의 응답을 기다릴 최대 시간
+
+  // 시작 시 워밍업 설정 값 (나머지는 http-interface.warm-up)
+  private static final List<Class<?>> WARM_UP_TYPES = List.of(PostDto.Request.class,
+      PostDto.Response.class); // 직렬화/역직렬화기를 미리 만들 DTO 타입
 
   /**
    * JSONPlaceholder API를 위한 PostService 빈을 생성
    * <p> RestClient를 기반으로 JSONPlaceholder API와 통신할 PostService 인스턴스를 생성</p>
+   * <p> 동시에 진행 중인 동일 GET 요청(getPost 등)은 하나의 요청으로 병합하여 응답 객체를 공유</p>
+   * <p> JSONPlaceholder API 장애 시에는 서킷 브레이커가 요청을 보내지 않고 CircuitBreakerOpenException으로 바로 거절</p>
+   * <p> 요청 속도 제한을 사용하면(http-interface.rate-limit.enabled) JSONPlaceholder API 할당량 안으로 제한 (토큰을 받을 수 없으면
+   * RateLimitExceededException으로 거절)</p>
    *
-   * @param restClient RestClient 객체
+   * @param restClient                RestClient 객체
+   * @param circuitBreakerInterceptor 서킷 브레이커 ClientHttpRequestInterceptor
+   * @param rateLimitInterceptor      요청 속도 제한 ClientHttpRequestInterceptor (사용하지 않으면 빈이 없음)
    * @return JSONPlaceholder API와 통신할 PostService 인스턴스
    */
   @Bean
-  PostService jsonPlaceholderInterface(RestClient restClient) {
+  PostService jsonPlaceholderInterface(RestClient restClient,
+      CircuitBreakerInterceptor circuitBreakerInterceptor,
+      ObjectProvider<RateLimitInterceptor> rateLimitInterceptor) {
 
-    // RestClient 객체를 사용하여 JSONPlaceholder API의 기본 URL을 설정
-    RestClient postRestClient = restClient
+    // RestClient 객체를 사용하여 JSONPlaceholder API의 기본 URL, 직렬화 형식, 서킷 브레이커와 요청 속도 제한을 설정
+    RestClient.Builder postRestClientBuilder = restClient
         .mutate()
         .baseUrl(JSON_PLACEHOLDER_URL)
-        .build();
+        .defaultHeaders(headers -> applyPayloadFormat(headers, JSON_PLACEHOLDER_FORMAT))
+        .requestInterceptor(circuitBreakerInterceptor);
+    rateLimitInterceptor.ifAvailable(postRestClientBuilder::requestInterceptor);
+    RestClient postRestClient = postRestClientBuilder.build();
 
     // RestClientAdapter 생성의 인스턴스를 생성
     RestClientAdapter restClientAdapter = RestClientAdapter.create(postRestClient);
 
+    // 동시에 진행 중인 동일 GET 요청을 병합하는 HttpExchangeAdapter로 감싸기
+    CoalescingHttpExchangeAdapter coalescingAdapter = new CoalescingHttpExchangeAdapter(
+        restClientAdapter, SINGLE_FLIGHT_IGNORED_HEADERS);
+
     // HttpServiceProxyFactory를 사용하여 HTTP 인터페이스 프록시를 생성
     HttpServiceProxyFactory httpServiceProxyFactory = HttpServiceProxyFactory
-        .builderFor(restClientAdapter)
+        .builderFor(coalescingAdapter)
         .build();
 
     return httpServiceProxyFactory.createClient(PostService.class);
   }
 
+  /**
+   * 경로별 서킷 브레이커 ClientHttpRequestInterceptor 빈을 생성
+   * <p>최근 요청의 실패율 또는 느린 요청 비율이 기준 이상이면 OPEN 상태 유지 시간 동안 요청을 바로 거절하고, 이후 시험 요청으로 복구 여부를 확인</p>
+   *
+   * @return CircuitBreakerInterceptor 객체
+   */
+  @Bean
+  public CircuitBreakerInterceptor circuitBreakerInterceptor() {
+    return new CircuitBreakerInterceptor(new CircuitBreaker.Settings(
+        CIRCUIT_BREAKER_WINDOW_SIZE,
+        CIRCUIT_BREAKER_MINIMUM_CALLS,
+        CIRCUIT_BREAKER_FAILURE_RATE,
+        CIRCUIT_BREAKER_SLOW_CALL_RATE,
+        CIRCUIT_BREAKER_SLOW_CALL_DURATION,
+        CIRCUIT_BREAKER_WAIT_IN_OPEN,
+        CIRCUIT_BREAKER_HALF_OPEN_CALLS));
+  }
+
+  /**
+   * 경로별 요청 속도 제한 ClientHttpRequestInterceptor 빈을 생성
+   * <p>JSONPlaceholder API 요청을 토큰 버킷으로 제한하고, 최대 대기 시간 안에 토큰을 받을 수 없는 요청은 RateLimitExceededException으로
+   * 거절 (PostService, PostStreamService가 할당량을 공유)</p>
+   * <p>http-interface.rate-limit.enabled가 true일 때만 생성</p>
+   *
+   * @param rateLimitProperties 요청 속도 제한 설정 값
+   * @return RateLimitInterceptor 객체
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "http-interface.rate-limit", name = "enabled", havingValue = "true")
+  public RateLimitInterceptor rateLimitInterceptor(RateLimitProperties rateLimitProperties) {
+    return new RateLimitInterceptor(Map.of(URI.create(JSON_PLACEHOLDER_URL),
+        new RateLimitInterceptor.Limit(
+            rateLimitProperties.getPermitsPerSecond(),
+            rateLimitProperties.getBurst(),
+            rateLimitProperties.getMaxWait())), rateLimitProperties.isRespectHeaders());
+  }
+
+  /**
+   * JSONPlaceholder API를 위한 PostStreamService 빈을 생성
+   * <p> 포스트 목록을 응답 전체를 메모리에 올리지 않고 스트리밍으로 조회하는 PostStreamService 인스턴스를 생성</p>
+   *
+   * @param restClient           RestClient 객체
+   * @param objectMapper         JSON 파싱에 사용할 ObjectMapper 객체
+   * @param rateLimitInterceptor 요청 속도 제한 ClientHttpRequestInterceptor (사용하지 않으면 빈이 없음)
+   * @return JSONPlaceholder API와 통신할 PostStreamService 인스턴스
+   */
+  @Bean
+  PostStreamService jsonPlaceholderStreamService(RestClient restClient, ObjectMapper objectMapper,
+      ObjectProvider<RateLimitInterceptor> rateLimitInterceptor) {
+    RestClient.Builder postRestClientBuilder = restClient
+        .mutate()
+        .baseUrl(JSON_PLACEHOLDER_URL);
+    rateLimitInterceptor.ifAvailable(postRestClientBuilder::requestInterceptor);
+    return new PostStreamService(postRestClientBuilder.build(), objectMapper);
+  }
+
+  /**
+   * JSONPlaceholder API를 위한 ReactivePostService 빈을 생성
+   * <p> WebClient를 기반으로 응답을 기다리는 동안 스레드를 점유하지 않는 ReactivePostService 인스턴스를 생성</p>
+   *
+   * @param webClient WebClient 객체
+   * @return JSONPlaceholder API와 통신할 ReactivePostService 인스턴스
+   */
+  @Bean
+  ReactivePostService reactiveJsonPlaceholderInterface(WebClient webClient) {
+    return createReactiveClient(webClient, ReactivePostService.class);
+  }
+
+  /**
+   * JSONPlaceholder API를 위한 PostWriteBatcher 빈을 생성
+   * <p> 포스트 생성/수정 요청을 모아서, 일괄 처리 API가 있으면 BulkPostService로 한 번에 보내고 없으면 ReactivePostService로 동시에
+   * 보냄 (동시 진행 요청 수 제한)</p>
+   *
+   * @param reactivePostService 단건 생성/수정에 사용할 ReactivePostService
+   * @param webClient           BulkPostService를 생성할 WebClient 객체
+   * @return PostWriteBatcher 객체
+   */
+  @Bean
+  public PostWriteBatcher postWriteBatcher(ReactivePostService reactivePostService,
+      WebClient webClient) {
+    BulkPostService bulkPostService = BULK_WRITE_SUPPORTED
+        ? createReactiveClient(webClient, BulkPostService.class) : null;
+    return new PostWriteBatcher(new WriteBatcher.Settings(
+        WRITE_BATCH_MAX_SIZE,
+        WRITE_BATCH_MAX_DELAY,
+        WRITE_MAX_IN_FLIGHT,
+        WRITE_MAX_PENDING,
+        WRITE_CLOSE_TIMEOUT), reactivePostService, bulkPostService);
+  }
+
+  /**
+   * WebClient 빈을 생성
+   * <p>요청마다 Observation(http.client.requests 메트릭, 트레이스 컨텍스트 전파)을 기록</p>
+   *
+   * @param reactorHttpClient   Reactor Netty HttpClient 객체
+   * @param observationRegistry 요청 Observation을 기록할 ObservationRegistry
+   * @return WebClient 객체
+   */
+  @Bean
+  public WebClient webClient(HttpClient reactorHttpClient,
+      ObservationRegistry observationRegistry) {
+    return WebClient.builder()
+        .clientConnector(new ReactorClientHttpConnector(reactorHttpClient))
+        .observationRegistry(observationRegistry)
+        .build();
+  }
+
+  /**
+   * WebClient가 사용하는 Reactor Netty HttpClient 빈을 생성
+   * <p>HTTPS 연결은 ALPN으로 HTTP/2를 협상하여 같은 호스트에 대한 요청이 하나의 커넥션을 공유</p>
+   * <p>응답은 Accept-Encoding(gzip, deflate)으로 압축을 협상하고 Netty 파이프라인에서 스트리밍으로 압축 해제</p>
+   * <p>호스트 주소는 Netty 비동기 DNS Resolver로 조회하여 캐시하고, 여러 IP로 조회되면 새 연결마다 돌아가며 연결</p>
+   * <p>주소 조회, 연결, TLS 핸드셰이크, 응답 시간, 송수신 크기는 Reactor Netty 메트릭(reactor.netty.http.client.*)으로 기록</p>
+   *
+   * @param connectionProvider Reactor Netty ConnectionProvider 객체
+   * @return Reactor Netty HttpClient 객체
+   */
+  @Bean
+  public HttpClient reactorHttpClient(ConnectionProvider connectionProvider) {
+    return HttpClient.create(connectionProvider)
+        .protocol(HttpProtocol.H2, HttpProtocol.HTTP11) // HTTP/2 우선, 지원하지 않는 서버는 HTTP/1.1 사용
+        .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, CONNECT_TIMEOUT_MILLIS)
+        .responseTimeout(RESPONSE_TIMEOUT)
+        .resolver(spec -> spec
+            .cacheMaxTimeToLive(DNS_CACHE_MAX_TTL)
+            .cacheNegativeTimeToLive(DNS_CACHE_NEGATIVE_TTL)
+            .roundRobinSelection(DNS_ROUND_ROBIN))
+        .metrics(true, HttpInterfaceConfig::uriTagValue)
+        .compress(true);
+  }
+
+  /**
+   * Reactor Netty ConnectionProvider 빈을 생성
+   *
+   * @return ConnectionProvider 객체
+   */
+  @Bean(destroyMethod = "dispose")
+  public ConnectionProvider connectionProvider() {
+    return ConnectionProvider.builder("post-service")
+        .maxConnections(MAX_CONNECTIONS)
+        .pendingAcquireMaxCount(PENDING_ACQUIRE_MAX_COUNT)
+        .pendingAcquireTimeout(PENDING_ACQUIRE_TIMEOUT)
+        .build();
+  }
+
   /**
    * RestClient 빈을 생성
+   * <p>요청/응답 본문 압축 ClientHttpRequestInterceptor를 적용</p>
+   * <p>요청마다 Observation(http.client.requests 메트릭, 트레이스 컨텍스트 전파)을 기록하고, 요청/응답 본문 크기와 응답 헤더 수신,
+   * 본문 읽기/역직렬화 시간은 HttpClientMetrics에 기록</p>
    *
+   * @param observationRegistry 요청 Observation을 기록할 ObservationRegistry
+   * @param httpClientMetrics   요청 구간 메트릭을 기록할 HttpClientMetrics
    * @return RestClient 객체
    */
   @Bean
-  public RestClient restClient() {
+  public RestClient restClient(ObservationRegistry observationRegistry,
+      HttpClientMetrics httpClientMetrics) {
     return RestClient.builder()
-        .requestFactory(customRequestFactory())
+        .requestFactory(new ObservedRequestFactory(customRequestFactory(), httpClientMetrics))
+        .observationRegistry(observationRegistry)
+        .requestInterceptor(new CompressionInterceptor(ACCEPT_ENCODINGS, REQUEST_ENCODING,
+            REQUEST_COMPRESSION_MIN_SIZE))
+        .build();
+  }
+
+  /**
+   * 경로별 요청 구간 시간(ttfb, body.read, deserialize), 요청/응답 본문 크기, 응답 상태 메트릭을 기록하는 HttpClientMetrics 빈을
+   * 생성
+   *
+   * @return HttpClientMetrics 객체
+   */
+  @Bean
+  public HttpClientMetrics httpClientMetrics() {
+    return new HttpClientMetrics();
+  }
+
+  /**
+   * 시작 시 워밍업 ApplicationListener 빈을 생성 (http-interface.warm-up.enabled=true일 때만 생성)
+   * <p>애플리케이션 준비 후 Reactor Netty 리소스 로드, PostDto 타입의 직렬화/역직렬화기 생성, 합성 요청으로 커넥션을 미리 여는 작업을 마칠
+   * 때까지 Readiness를 REFUSING_TRAFFIC으로 유지</p>
+   *
+   * @param restClient        RestClient 객체
+   * @param reactorHttpClient WebClient가 사용하는 Reactor Netty HttpClient 객체
+   * @param warmUpProperties  시작 시 워밍업 설정 값
+   * @return StartupWarmUp 객체
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "http-interface.warm-up", name = "enabled", havingValue = "true")
+  public StartupWarmUp startupWarmUp(RestClient restClient, HttpClient reactorHttpClient,
+      WarmUpProperties warmUpProperties) {
+    String healthPath = warmUpProperties.getHealthPath();
+    URI healthUrl = healthPath != null && !healthPath.isBlank()
+        ? URI.create(JSON_PLACEHOLDER_URL + healthPath) : null;
+    return new StartupWarmUp(restClient, reactorHttpClient, WARM_UP_TYPES, healthUrl,
+        warmUpProperties.getConnections(), warmUpProperties.getHealthRequests(),
+        warmUpProperties.getTimeout());
+  }
+
+  /**
+   * WebClient를 기반으로 JSONPlaceholder API의 HTTP 인터페이스 프록시를 생성
+   *
+   * @param webClient WebClient 객체
+   * @param type      HTTP 인터페이스 타입
+   * @return HTTP 인터페이스 프록시
+   */
+  private static <S> S createReactiveClient(WebClient webClient, Class<S> type) {
+
+    // WebClient 객체를 사용하여 JSONPlaceholder API의 기본 URL과 직렬화 형식을 설정
+    WebClient postWebClient = webClient
+        .mutate()
+        .baseUrl(JSON_PLACEHOLDER_URL)
+        .defaultHeaders(headers -> applyPayloadFormat(headers, JSON_PLACEHOLDER_FORMAT))
+        .build();
+
+    // WebClientAdapter의 인스턴스를 생성
+    WebClientAdapter webClientAdapter = WebClientAdapter.create(postWebClient);
+
+    // HttpServiceProxyFactory를 사용하여 HTTP 인터페이스 프록시를 생성
+    HttpServiceProxyFactory httpServiceProxyFactory = HttpServiceProxyFactory
+        .builderFor(webClientAdapter)
         .build();
+
+    return httpServiceProxyFactory.createClient(type);
+  }
+
+  /**
+   * Reactor Netty 메트릭의 uri 태그 값을 생성 (쿼리 문자열은 제외하고 숫자 경로는 {id}로 변환, 예: /posts/1 -> /posts/{id})
+   *
+   * @param uri 요청 경로
+   * @return uri 태그 값
+   */
+  private static String uriTagValue(String uri) {
+    int queryIndex = uri.indexOf('?');
+    String path = queryIndex < 0 ? uri : uri.substring(0, queryIndex);
+    return NUMERIC_PATH_SEGMENT.matcher(path).replaceAll("/{id}");
+  }
+
+  /**
+   * 직렬화 형식에 맞춰 요청 Content-Type과 Accept 헤더를 설정
+   * <p>요청 본문이 있는 요청은 Content-Type에 맞는 HttpMessageConverter(Encoder)로 직렬화</p>
+   *
+   * @param headers 기본 요청 헤더
+   * @param format  본문 직렬화 형식
+   */
+  private static void applyPayloadFormat(HttpHeaders headers, PayloadFormat format) {
+    headers.setContentType(format.getMediaType());
+    headers.setAccept(format.getAcceptableMediaTypes());
   }
 
   /**
@@ -0,0 +1,48 @@
+package com.example.httpinterface.config;
+
+import com.example.httpinterface.dto.PostDto;
+import com.example.httpinterface.service.BulkPostService;
+import com.example.httpinterface.service.PostService;
+import com.example.httpinterface.service.ReactivePostService;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * GraalVM 네이티브 이미지에 필요한 RuntimeHints를 등록 (HttpInterfaceConfig에서 @ImportRuntimeHints로 등록)
+ * <ul>
+ *   <li>HTTP 인터페이스(PostService, ReactivePostService, BulkPostService): HttpServiceProxyFactory가 만드는 JDK 동적 프록시와, 요청 정보를 읽는
+ *   메서드 애너테이션(@GetExchange 등)</li>
+ *   <li>PostDto.Request, PostDto.Response: Jackson이 리플렉션으로 바인딩하는 생성자, 필드, getter</li>
+ *   <li>zstd 압축(zstd-jni): 실행 시 jar에서 꺼내 로드하는 네이티브 라이브러리와, 네이티브 코드가 JNI로 읽고 쓰는 스트림 필드(srcPos,
+ *   dstPos)</li>
+ * </ul>
+ * <p>HTTP 인터페이스 프록시는 @Bean 메서드에서 직접 만들기 때문에 AOT 처리 시 프록시 인터페이스를 알 수 없어 직접 등록</p>
+ */
+public class HttpInterfaceRuntimeHints implements RuntimeHintsRegistrar {
+
+  private static final Class<?>[] HTTP_INTERFACES = {PostService.class,
+      ReactivePostService.class, BulkPostService.class};
+  private static final Class<?>[] BINDING_TYPES = {PostDto.Request.class, PostDto.Response.class};
+  private static final String ZSTD_NATIVE_LIBRARY_PATTERN = "*/*/libzstd-jni-*"; // {os}/{arch}/libzstd-jni-{version}.{so,dylib,dll}
+  private static final String[] ZSTD_JNI_STREAMS = {
+      "com.github.luben.zstd.ZstdInputStreamNoFinalizer",
+      "com.github.luben.zstd.ZstdOutputStreamNoFinalizer"};
+
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    for (Class<?> httpInterface : HTTP_INTERFACES) {
+      hints.proxies().registerJdkProxy(AopProxyUtils.completeJdkProxyInterfaces(httpInterface));
+      hints.reflection().registerType(httpInterface, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+    new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+        BINDING_TYPES);
+    hints.resources().registerPattern(ZSTD_NATIVE_LIBRARY_PATTERN);
+    for (String stream : ZSTD_JNI_STREAMS) {
+      hints.jni().registerType(TypeReference.of(stream), MemberCategory.DECLARED_FIELDS);
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.example.httpinterface.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * JSONPlaceholder API 요청 속도 제한 설정 값 (http-interface.rate-limit)
+ * <p>enabled가 true일 때만 PostService, PostStreamService에 적용하며, 두 서비스가 할당량을 공유</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http-interface.rate-limit")
+public class RateLimitProperties {
+
+  private boolean enabled = false; // 요청 속도 제한 사용 여부
+  private double permitsPerSecond = 45; // 초당 요청 수 (할당량보다 조금 낮게 설정)
+  private int burst = 10; // 유휴 후 한 번에 보낼 수 있는 최대 요청 수
+  private Duration maxWait = Duration.ofMillis(500); // 토큰을 기다릴 최대 시간 (0이면 대기 없이 바로 거절)
+  private boolean respectHeaders = true; // Retry-After, RateLimit-* 응답 헤더에 따라 속도 조절 여부
+}
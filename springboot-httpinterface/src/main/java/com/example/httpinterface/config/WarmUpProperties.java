@@ -0,0 +1,24 @@
+package com.example.httpinterface.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 시작 시 워밍업 설정 값 (http-interface.warm-up)
+ * <p>enabled가 true일 때만 애플리케이션 준비(ApplicationReadyEvent) 후 Reactor Netty 리소스를 로드하고, PostDto 타입의 Jackson
+ * 직렬화/역직렬화기를 미리 만들며, health-path로 합성 요청을 보내 JSONPlaceholder API 커넥션을 미리 엶 (끝날 때까지 Readiness는
+ * REFUSING_TRAFFIC)</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "http-interface.warm-up")
+public class WarmUpProperties {
+
+  private boolean enabled = false; // 시작 시 워밍업 사용 여부
+  private Duration timeout = Duration.ofSeconds(30); // 워밍업 작업별 최대 시간 (지나면 남은 작업을 기다리지 않고 트래픽을 받음)
+  private int connections = 2; // 클라이언트(RestClient, WebClient)별로 미리 열어 둘 커넥션 수 (합성 GET 요청을 동시에 보낼 수)
+  private String healthPath = "/posts/1"; // 합성 GET 요청을 보낼 JSONPlaceholder 경로 (비우면 보내지 않음)
+  private int healthRequests = 10; // 클라이언트별 합성 GET 요청 수 (connections보다 적으면 connections 개를 보냄)
+}
@@ -0,0 +1,183 @@
+package com.example.httpinterface.observation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로별 HTTP 요청 구간 시간, 요청/응답 본문 크기, 응답 상태 메트릭을 기록
+ * <ul>
+ *   <li>httpclient.request.phase : 구간(ttfb, body.read, deserialize)별 처리 시간 히스토그램 (route, phase 태그)</li>
+ *   <li>httpclient.request.size / httpclient.response.size : 요청/응답 본문 크기 히스토그램 (route 태그)</li>
+ *   <li>httpclient.responses : 응답 상태 코드 분류(1xx ~ 5xx, IO_ERROR)별 응답 수 (route, status 태그)</li>
+ * </ul>
+ * <p>요청 전체 시간과 트레이스 컨텍스트 전파는 RestClient의 Observation(http.client.requests)에서 처리하며, WebClient는
+ * Reactor Netty 메트릭(reactor.netty.http.client.*)으로 연결, TLS 핸드셰이크 구간을 기록</p>
+ * <p>MeterRegistry에 바인딩되기 전에 기록한 값은 버림</p>
+ */
+public class HttpClientMetrics implements MeterBinder {
+
+  private static final String PREFIX = "httpclient";
+  private static final String[] STATUSES = {"1xx", "2xx", "3xx", "4xx", "5xx", "UNKNOWN",
+      "IO_ERROR"}; // httpclient.responses 메트릭의 status 태그 값
+  private static final int UNKNOWN_STATUS = 5; // 표준 범위(100 ~ 599)를 벗어난 상태 코드
+  private static final int IO_ERROR_STATUS = 6; // 응답을 받지 못한 요청
+
+  private final Map<String, RouteMeters> routeMeters = new ConcurrentHashMap<>();
+  private volatile MeterRegistry registry;
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    this.registry = registry;
+  }
+
+  /**
+   * 구간 처리 시간을 기록
+   *
+   * @param route 경로 이름
+   * @param phase 요청 처리 구간
+   * @param nanos 처리 시간 (나노초)
+   */
+  public void recordPhase(String route, RequestPhase phase, long nanos) {
+    RouteMeters meters = metersOf(route);
+    if (meters != null) {
+      meters.phase(phase).record(nanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /**
+   * 요청 본문 크기를 기록
+   *
+   * @param route 경로 이름
+   * @param bytes 요청 본문 크기 (바이트)
+   */
+  public void recordRequestSize(String route, long bytes) {
+    RouteMeters meters = metersOf(route);
+    if (meters != null) {
+      meters.requestSize.record(bytes);
+    }
+  }
+
+  /**
+   * 응답 본문 크기를 기록
+   *
+   * @param route 경로 이름
+   * @param bytes 읽은 응답 본문 크기 (바이트, 압축 해제 후)
+   */
+  public void recordResponseSize(String route, long bytes) {
+    RouteMeters meters = metersOf(route);
+    if (meters != null) {
+      meters.responseSize.record(bytes);
+    }
+  }
+
+  /**
+   * 응답 상태 코드 분류별 응답 수를 기록
+   *
+   * @param route      경로 이름
+   * @param statusCode 응답 상태 코드
+   */
+  public void recordStatus(String route, int statusCode) {
+    RouteMeters meters = metersOf(route);
+    if (meters != null) {
+      int index = statusCode / 100 - 1;
+      meters.status(index >= 0 && index < UNKNOWN_STATUS ? index : UNKNOWN_STATUS).increment();
+    }
+  }
+
+  /**
+   * 응답을 받지 못한 요청(연결 실패, 타임아웃 등)을 기록
+   *
+   * @param route 경로 이름
+   */
+  public void recordIoError(String route) {
+    RouteMeters meters = metersOf(route);
+    if (meters != null) {
+      meters.status(IO_ERROR_STATUS).increment();
+    }
+  }
+
+  /**
+   * 요청 URL을 메트릭 route 태그 값으로 변환 (포트가 없으면 scheme의 기본 포트 사용)
+   *
+   * @param url 요청 URL
+   * @return 경로 이름
+   */
+  public static String routeName(URI url) {
+    boolean secure = "https".equalsIgnoreCase(url.getScheme());
+    int port = url.getPort() > 0 ? url.getPort() : (secure ? 443 : 80);
+    return url.getScheme() + "://" + url.getHost() + ":" + port;
+  }
+
+  private RouteMeters metersOf(String route) {
+    MeterRegistry meterRegistry = registry;
+    if (meterRegistry == null) {
+      return null;
+    }
+    return routeMeters.computeIfAbsent(route, key -> new RouteMeters(meterRegistry, key));
+  }
+
+  /**
+   * 경로별 메트릭 (구간 Timer, 상태 Counter는 처음 기록할 때 등록하며, 동시에 등록해도 같은 메트릭을 반환)
+   */
+  private static class RouteMeters {
+
+    private final MeterRegistry registry;
+    private final Tags tags;
+    private final Timer[] phases = new Timer[RequestPhase.values().length];
+    private final Counter[] statuses = new Counter[STATUSES.length];
+    private final DistributionSummary requestSize;
+    private final DistributionSummary responseSize;
+
+    private RouteMeters(MeterRegistry registry, String route) {
+      this.registry = registry;
+      this.tags = Tags.of("route", route);
+      this.requestSize = DistributionSummary.builder(PREFIX + ".request.size")
+          .tags(tags)
+          .baseUnit("bytes")
+          .description("요청 본문 크기")
+          .publishPercentileHistogram()
+          .register(registry);
+      this.responseSize = DistributionSummary.builder(PREFIX + ".response.size")
+          .tags(tags)
+          .baseUnit("bytes")
+          .description("응답 본문 크기 (수신한 크기, 압축된 응답은 압축 해제 전)")
+          .publishPercentileHistogram()
+          .register(registry);
+    }
+
+    private Timer phase(RequestPhase phase) {
+      Timer timer = phases[phase.ordinal()];
+      if (timer == null) {
+        timer = Timer.builder(PREFIX + ".request.phase")
+            .tags(tags)
+            .tag("phase", phase.getTag())
+            .description("HTTP 요청 구간별 처리 시간")
+            .publishPercentileHistogram()
+            .register(registry);
+        phases[phase.ordinal()] = timer;
+      }
+      return timer;
+    }
+
+    private Counter status(int index) {
+      Counter counter = statuses[index];
+      if (counter == null) {
+        counter = Counter.builder(PREFIX + ".responses")
+            .tags(tags)
+            .tag("status", STATUSES[index])
+            .description("응답 상태 코드 분류별 응답 수")
+            .register(registry);
+        statuses[index] = counter;
+      }
+      return counter;
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.example.httpinterface.ratelimit;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 경로의 요청 속도 한도(토큰 버킷)를 넘어 최대 대기 시간 안에 토큰을 받을 수 없어 요청을 보내지 않고 거절한 경우 발생하는 예외
+ */
+public class RateLimitExceededException extends RestClientException {
+
+  private final String route;
+
+  public RateLimitExceededException(String route, double permitsPerSecond) {
+    super(String.format("Rate limit exceeded - route: %s, rate: %.2f/s", route,
+        permitsPerSecond));
+    this.route = route;
+  }
+
+  /**
+   * 요청 경로 이름을 반환 (예: https://jsonplaceholder.typicode.com:443)
+   *
+   * @return 경로 이름
+   */
+  public String getRoute() {
+    return route;
+  }
+}
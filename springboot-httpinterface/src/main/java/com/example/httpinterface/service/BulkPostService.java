@@ -0,0 +1,23 @@
+package com.example.httpinterface.service;
+
+import com.example.httpinterface.dto.PostDto;
+import java.util.List;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PostExchange;
+import org.springframework.web.service.annotation.PutExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 포스트를 여러 건 한 번에 생성/수정하는 일괄 처리 API의 HTTP 인터페이스 (PostWriteBatcher에서 사용)
+ * <p>응답 목록은 요청 목록과 같은 순서여야 하며, 수정은 본문의 id로 포스트를 구분</p>
+ */
+@HttpExchange("/posts/bulk")
+public interface BulkPostService {
+
+  @PostExchange
+  Mono<List<PostDto.Response>> createPosts(@RequestBody List<PostDto.Request> requests);
+
+  @PutExchange
+  Mono<List<PostDto.Response>> updatePosts(@RequestBody List<PostDto.Request> requests);
+}
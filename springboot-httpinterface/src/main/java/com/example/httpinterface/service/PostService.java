@@ -1,8 +1,10 @@
 package com.example.httpinterface.service;
 
 import com.example.httpinterface.dto.PostDto;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.service.annotation.DeleteExchange;
 import org.springframework.web.service.annotation.GetExchange;
 import org.springframework.web.service.annotation.HttpExchange;
@@ -12,9 +14,15 @@ import org.springframework.web.service.annotation.PutExchange;
 @HttpExchange
 public interface PostService {
 
+  // 진행 중인 동일 요청과 병합되면 호출자들이 같은 응답 객체를 받으므로, 반환된 객체는 변경하지 않아야 함
   @GetExchange("/posts/{id}")
   PostDto.Response getPost(@PathVariable int id);
 
+  // Cache-Control: no-cache를 지정하면 진행 중인 동일 요청과 병합하지 않고 별도로 요청
+  @GetExchange("/posts/{id}")
+  PostDto.Response getPost(@PathVariable int id,
+      @RequestHeader(HttpHeaders.CACHE_CONTROL) String cacheControl);
+
   @PostExchange("/posts")
   PostDto.Response createPost(@RequestBody PostDto.Request request);
 
@@ -0,0 +1,114 @@
+package com.example.httpinterface.service;
+
+import com.example.httpinterface.dto.PostDto;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.DefaultResponseErrorHandler;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.util.UriBuilder;
+
+/**
+ * 포스트 목록을 응답 전체를 메모리에 올리지 않고 스트리밍으로 조회하기 위한 서비스
+ * <p>응답 InputStream에서 Jackson 스트리밍 파서로 JSON 배열의 원소를 하나씩 읽으므로, 목록 크기와 관계없이 일정한 메모리를 사용</p>
+ * <p>HTTP 인터페이스(PostService) 프록시는 응답 본문을 모두 읽은 뒤 연결을 닫기 때문에, RestClient의 exchange()를 직접 사용</p>
+ */
+public class PostStreamService {
+
+  private static final DefaultResponseErrorHandler ERROR_HANDLER = new DefaultResponseErrorHandler();
+
+  private final RestClient restClient;
+  private final ObjectReader postReader;
+
+  public PostStreamService(RestClient restClient, ObjectMapper objectMapper) {
+    this.restClient = restClient;
+    this.postReader = objectMapper.readerFor(PostDto.Response.class);
+  }
+
+  /**
+   * 전체 포스트 목록을 Stream으로 조회 (/posts)
+   * <p>반환된 Stream은 응답 연결을 유지하므로 반드시 닫아야 함 (try-with-resources 사용)</p>
+   *
+   * @return 포스트 Stream
+   */
+  public Stream<PostDto.Response> streamPosts() {
+    return stream(uriBuilder -> uriBuilder.path("/posts").build());
+  }
+
+  /**
+   * 사용자 ID를 기준으로 포스트 목록을 Stream으로 조회 (/posts?userId=)
+   * <p>반환된 Stream은 응답 연결을 유지하므로 반드시 닫아야 함 (try-with-resources 사용)</p>
+   *
+   * @param userId 사용자 ID
+   * @return 포스트 Stream
+   */
+  public Stream<PostDto.Response> streamPostsByUserId(int userId) {
+    return stream(uriBuilder -> uriBuilder.path("/posts").queryParam("userId", userId).build());
+  }
+
+  /**
+   * 전체 포스트 목록을 조회하며 포스트마다 action을 실행 (/posts)
+   *
+   * @param action 포스트마다 실행할 작업
+   */
+  public void forEachPost(Consumer<PostDto.Response> action) {
+    try (Stream<PostDto.Response> posts = streamPosts()) {
+      posts.forEach(action);
+    }
+  }
+
+  /**
+   * 사용자 ID를 기준으로 포스트 목록을 조회하며 포스트마다 action을 실행 (/posts?userId=)
+   *
+   * @param userId 사용자 ID
+   * @param action 포스트마다 실행할 작업
+   */
+  public void forEachPostByUserId(int userId, Consumer<PostDto.Response> action) {
+    try (Stream<PostDto.Response> posts = streamPostsByUserId(userId)) {
+      posts.forEach(action);
+    }
+  }
+
+  private Stream<PostDto.Response> stream(Function<UriBuilder, URI> uriFunction) {
+    return restClient.get()
+        .uri(uriFunction)
+        .accept(MediaType.APPLICATION_JSON)
+        .exchange((request, response) -> toStream(response), false);
+  }
+
+  private Stream<PostDto.Response> toStream(ClientHttpResponse response) throws IOException {
+    try {
+      if (ERROR_HANDLER.hasError(response)) {
+        ERROR_HANDLER.handleError(response);
+      }
+      MappingIterator<PostDto.Response> posts = postReader.readValues(response.getBody());
+      return StreamSupport.stream(Spliterators.spliteratorUnknownSize(posts,
+              Spliterator.ORDERED | Spliterator.NONNULL), false)
+          .onClose(() -> close(posts, response));
+    } catch (IOException | RuntimeException ex) {
+      response.close();
+      throw ex;
+    }
+  }
+
+  private void close(MappingIterator<PostDto.Response> posts, ClientHttpResponse response) {
+    try {
+      posts.close();
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    } finally {
+      response.close();
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package com.example.httpinterface.service;
+
+import com.example.httpinterface.dto.PostDto;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.service.annotation.DeleteExchange;
+import org.springframework.web.service.annotation.GetExchange;
+import org.springframework.web.service.annotation.HttpExchange;
+import org.springframework.web.service.annotation.PostExchange;
+import org.springframework.web.service.annotation.PutExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PostService와 동일한 API를 논블로킹(Mono/Flux)으로 호출하기 위한 HTTP 인터페이스
+ */
+@HttpExchange
+public interface ReactivePostService {
+
+  @GetExchange("/posts")
+  Flux<PostDto.Response> getPosts();
+
+  @GetExchange("/posts/{id}")
+  Mono<PostDto.Response> getPost(@PathVariable int id);
+
+  @PostExchange("/posts")
+  Mono<PostDto.Response> createPost(@RequestBody PostDto.Request request);
+
+  @PutExchange("/posts/{id}")
+  Mono<PostDto.Response> updatePost(@PathVariable int id, @RequestBody PostDto.Request request);
+
+  @DeleteExchange("/posts/{id}")
+  Mono<PostDto.Response> deletePost(@PathVariable int id);
+}
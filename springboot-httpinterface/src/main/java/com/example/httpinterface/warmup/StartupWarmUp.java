@@ -0,0 +1,159 @@
+package com.example.httpinterface.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.web.client.RestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.http.client.HttpClient;
+
+/**
+ * 애플리케이션 준비(ApplicationReadyEvent) 후 첫 요청의 지연 시간을 줄이기 위해 RestClient, WebClient를 워밍업하는
+ * ApplicationListener
+ * <ul>
+ *   <li>WebClient의 Reactor Netty HttpClient는 이벤트 루프, DNS Resolver, 네이티브 전송 라이브러리를 미리 로드</li>
+ *   <li>RestClient의 Jackson HttpMessageConverter(JSON, Smile, CBOR)마다 DTO 타입의 ObjectReader, ObjectWriter를 미리
+ *   만들어 역직렬화기/직렬화기를 캐시</li>
+ *   <li>health URL을 설정하면 RestClient, WebClient로 합성 GET 요청을 connections 개씩 동시에 보내 커넥션을 connections 개까지 미리
+ *   열고 요청 처리 경로를 JIT 컴파일 (HTTP/2로 협상한 연결은 요청이 커넥션 하나를 공유하므로 하나만 열림)</li>
+ * </ul>
+ * <p>워밍업은 이벤트를 처리하는 스레드에서 끝날 때까지(최대 timeout) 기다리며, 그동안 Readiness는 REFUSING_TRAFFIC으로 유지</p>
+ */
+@Slf4j
+public class StartupWarmUp implements ApplicationListener<ApplicationReadyEvent> {
+
+  private final RestClient restClient;
+  private final HttpClient reactorHttpClient;
+  private final List<Class<?>> types;
+  private final URI healthUrl;
+  private final int connections;
+  private final int healthRequests;
+  private final Duration timeout;
+
+  /**
+   * @param restClient        합성 요청을 보내고 HttpMessageConverter를 워밍업할 RestClient
+   * @param reactorHttpClient WebClient가 사용하는 Reactor Netty HttpClient
+   * @param types             직렬화/역직렬화기를 미리 만들 DTO 타입 목록
+   * @param healthUrl         합성 GET 요청을 보낼 URL (null이면 보내지 않음)
+   * @param connections       클라이언트별로 미리 열어 둘 커넥션 수 (합성 GET 요청을 동시에 보낼 수)
+   * @param healthRequests    클라이언트별 합성 GET 요청 수 (connections보다 적으면 connections 개를 보냄)
+   * @param timeout           워밍업 최대 시간 (Reactor Netty 리소스 로드, 클라이언트별 합성 요청 각각에 적용)
+   */
+  public StartupWarmUp(RestClient restClient, HttpClient reactorHttpClient, List<Class<?>> types,
+      URI healthUrl, int connections, int healthRequests, Duration timeout) {
+    if (connections <= 0) {
+      throw new IllegalArgumentException("connections must be positive: " + connections);
+    }
+    this.restClient = restClient;
+    this.reactorHttpClient = reactorHttpClient;
+    this.types = List.copyOf(types);
+    this.healthUrl = healthUrl;
+    this.connections = connections;
+    this.healthRequests = Math.max(healthRequests, connections);
+    this.timeout = timeout;
+  }
+
+  @Override
+  public void onApplicationEvent(ApplicationReadyEvent event) {
+    AvailabilityChangeEvent.publish(event.getApplicationContext(),
+        ReadinessState.REFUSING_TRAFFIC);
+    try {
+      warmUp();
+    } finally {
+      AvailabilityChangeEvent.publish(event.getApplicationContext(),
+          ReadinessState.ACCEPTING_TRAFFIC);
+    }
+  }
+
+  /**
+   * Reactor Netty 리소스 로드, 직렬화/역직렬화기 생성, 합성 요청을 차례로 실행
+   * <p>실패하거나 시간 안에 끝나지 않은 작업은 로그만 남김</p>
+   */
+  public void warmUp() {
+    long startTime = System.nanoTime();
+    try {
+      reactorHttpClient.warmup().block(timeout);
+    } catch (RuntimeException ex) {
+      log.warn("Reactor Netty warm-up failed - error: {}", ex.getMessage());
+    }
+    warmSerialization();
+    if (healthUrl != null) {
+      warmRestClient();
+      warmReactorHttpClient();
+    }
+    log.info("Warm-up completed - types: {}, connections: {}, health requests: {}, elapsed: {}ms",
+        types.size(), healthUrl != null ? connections : 0, healthUrl != null ? healthRequests : 0,
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+  }
+
+  /**
+   * RestClient의 Jackson HttpMessageConverter마다 DTO 타입의 역직렬화기/직렬화기를 만들어 ObjectMapper에 캐시
+   */
+  private void warmSerialization() {
+    if (types.isEmpty()) {
+      return;
+    }
+    List<HttpMessageConverter<?>> converters = new ArrayList<>();
+    restClient.mutate().messageConverters(converters::addAll); // 같은 HttpMessageConverter 객체를 공유
+    for (HttpMessageConverter<?> converter : converters) {
+      if (!(converter instanceof AbstractJackson2HttpMessageConverter jackson)) {
+        continue;
+      }
+      ObjectMapper objectMapper = jackson.getObjectMapper();
+      for (Class<?> type : types) {
+        if (jackson.canRead(type, null)) {
+          objectMapper.readerFor(type);
+        }
+        if (jackson.canWrite(type, null)) {
+          objectMapper.writerFor(type);
+        }
+      }
+    }
+  }
+
+  /**
+   * RestClient로 합성 GET 요청을 connections 개씩 동시에 보냄 (블로킹 요청은 boundedElastic 스레드에서 실행)
+   */
+  private void warmRestClient() {
+    try {
+      Flux.range(0, healthRequests)
+          .flatMap(i -> Mono.fromRunnable(
+                  () -> restClient.get().uri(healthUrl).retrieve().toBodilessEntity())
+              .subscribeOn(Schedulers.boundedElastic()), connections)
+          .then()
+          .block(timeout);
+    } catch (RuntimeException ex) {
+      log.warn("RestClient health warm-up failed - url: {}, error: {}", healthUrl,
+          ex.getMessage());
+    }
+  }
+
+  /**
+   * Reactor Netty HttpClient로 합성 GET 요청을 connections 개씩 동시에 보냄
+   */
+  private void warmReactorHttpClient() {
+    try {
+      Flux.range(0, healthRequests)
+          .flatMap(i -> reactorHttpClient.get()
+              .uri(healthUrl)
+              .responseSingle((response, body) -> body.then()), connections)
+          .then()
+          .block(timeout);
+    } catch (RuntimeException ex) {
+      log.warn("WebClient health warm-up failed - url: {}, error: {}", healthUrl,
+          ex.getMessage());
+    }
+  }
+}
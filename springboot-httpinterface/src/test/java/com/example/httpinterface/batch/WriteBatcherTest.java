@@ -0,0 +1,109 @@
+package com.example.httpinterface.batch;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class WriteBatcherTest {
+
+  private static final WriteBatcher.Settings SETTINGS = new WriteBatcher.Settings(10,
+      Duration.ofMillis(50), 2, 1_000, Duration.ofSeconds(5));
+
+  @DisplayName("일괄 처리: 최대 배치 크기만큼 모은 요청을 한 번에 보내고 응답을 요청 순서대로 각 호출자에게 전달")
+  @Test
+  public void testBulkCall() {
+
+    // Given
+    List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+    WriteBatcher<Integer, String> batcher = new WriteBatcher<>(SETTINGS, requests -> {
+      batches.add(requests);
+      return Mono.just(requests.stream().map(request -> "post-" + request).toList());
+    }, request -> Mono.error(new AssertionError("single call")));
+
+    // When
+    List<CompletableFuture<String>> futures = IntStream.range(0, 25)
+        .mapToObj(batcher::submit)
+        .toList();
+    batcher.close();
+
+    // Then
+    assertAll(
+        () -> assertEquals(IntStream.range(0, 25).mapToObj(i -> "post-" + i).toList(),
+            futures.stream().map(CompletableFuture::join).toList()),
+        () -> assertEquals(List.of(10, 10, 5), batches.stream().map(List::size).toList()),
+        () -> assertEquals(0, batcher.pendingCount())
+    );
+  }
+
+  @DisplayName("일괄 처리: 일괄 호출이 실패하면 배치의 모든 요청이 예외로 완료되고 다음 배치는 계속 처리")
+  @Test
+  public void testBulkCallFailure() {
+
+    // Given
+    AtomicInteger calls = new AtomicInteger();
+    WriteBatcher<Integer, String> batcher = new WriteBatcher<>(SETTINGS,
+        requests -> calls.getAndIncrement() == 0
+            ? Mono.error(new IllegalStateException("bulk failed"))
+            : Mono.just(requests.stream().map(String::valueOf).toList()),
+        request -> Mono.error(new AssertionError("single call")));
+
+    // When
+    List<CompletableFuture<String>> failed = IntStream.range(0, 10).mapToObj(batcher::submit)
+        .toList();
+    CompletableFuture<String> next = batcher.submit(10);
+    batcher.close();
+
+    // Then
+    ExecutionException ex = assertThrows(ExecutionException.class, () -> failed.get(9).get());
+    assertAll(
+        () -> assertInstanceOf(IllegalStateException.class, ex.getCause()),
+        () -> assertTrue(failed.stream().allMatch(CompletableFuture::isCompletedExceptionally)),
+        () -> assertEquals("10", next.join())
+    );
+  }
+
+  @DisplayName("단건 처리: 일괄 호출이 없으면 단건 호출을 동시에 보내고 진행 중인 호출 수는 maxInFlight 이하")
+  @Test
+  public void testSingleCallInFlightLimit() {
+
+    // Given
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    WriteBatcher<Integer, Integer> batcher = new WriteBatcher<>(SETTINGS, null,
+        request -> Mono.fromSupplier(() -> {
+              maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+              return request * 2;
+            })
+            .delayElement(Duration.ofMillis(20))
+            .doOnNext(response -> inFlight.decrementAndGet()));
+
+    // When
+    List<CompletableFuture<Integer>> futures = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      futures.add(batcher.submit(i));
+    }
+    batcher.close();
+
+    // Then
+    assertAll(
+        () -> assertEquals(IntStream.range(0, 10).mapToObj(i -> i * 2).toList(),
+            futures.stream().map(CompletableFuture::join).toList()),
+        () -> assertEquals(2, maxInFlight.get()),
+        () -> assertTrue(batcher.submit(10).isCompletedExceptionally())
+    );
+  }
+}
@@ -0,0 +1,110 @@
+package com.example.httpinterface.circuitbreaker;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.httpinterface.dto.PostDto;
+import com.example.httpinterface.service.PostService;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+@Slf4j
+@SpringBootTest
+class CircuitBreakerInterceptorTest {
+
+  private static final int FAILURE_COUNT = 4;
+  private static final Duration WAIT_DURATION_IN_OPEN = Duration.ofMillis(300);
+
+  @Autowired
+  RestClient restClient;
+
+  private HttpServer server;
+  private PostService postService;
+  private CircuitBreakerInterceptor circuitBreakerInterceptor;
+  private volatile boolean failing = true;
+  private final AtomicInteger requestCount = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/posts/", exchange -> {
+      requestCount.incrementAndGet();
+      if (failing) {
+        exchange.sendResponseHeaders(500, -1);
+        exchange.close();
+        return;
+      }
+      byte[] body = "{\"id\":1,\"title\":\"title1\",\"userId\":1}".getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    server.start();
+
+    circuitBreakerInterceptor = new CircuitBreakerInterceptor(new CircuitBreaker.Settings(
+        FAILURE_COUNT, FAILURE_COUNT, 50, 100, Duration.ofSeconds(3), WAIT_DURATION_IN_OPEN, 1));
+    RestClient postRestClient = restClient.mutate()
+        .baseUrl(baseUrl())
+        .requestInterceptor(circuitBreakerInterceptor)
+        .build();
+    postService = HttpServiceProxyFactory.builderFor(RestClientAdapter.create(postRestClient))
+        .build()
+        .createClient(PostService.class);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("서킷 브레이커: 실패율이 기준 이상이면 요청을 보내지 않고 거절하며, 대기 시간 후 시험 요청이 성공하면 닫힘")
+  @Test
+  public void testOpenAndHalfOpenProbe() throws InterruptedException {
+
+    // Given
+    for (int i = 0; i < FAILURE_COUNT; i++) {
+      assertThrows(HttpServerErrorException.class, () -> postService.getPost(1));
+    }
+
+    // When
+    CircuitBreakerOpenException rejected = assertThrows(CircuitBreakerOpenException.class,
+        () -> postService.getPost(1));
+    int requestsWhileOpen = requestCount.get();
+
+    failing = false;
+    Thread.sleep(WAIT_DURATION_IN_OPEN.toMillis() + 100);
+    PostDto.Response probe = postService.getPost(1);
+
+    // Then
+    assertAll(
+        () -> assertEquals(CircuitBreaker.State.OPEN, rejected.getState()),
+        () -> assertEquals(FAILURE_COUNT, requestsWhileOpen),
+        () -> assertEquals(1, probe.getId()),
+        () -> assertEquals(CircuitBreaker.State.CLOSED,
+            circuitBreakerInterceptor.stateOf(URI.create(baseUrl())))
+    );
+  }
+
+  private String baseUrl() {
+    return "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+}
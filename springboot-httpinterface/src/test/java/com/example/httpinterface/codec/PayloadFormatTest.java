@@ -0,0 +1,138 @@
+package com.example.httpinterface.codec;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.httpinterface.dto.PostDto;
+import com.example.httpinterface.service.PostService;
+import com.example.httpinterface.service.ReactivePostService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.support.WebClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+@Slf4j
+@SpringBootTest
+class PayloadFormatTest {
+
+  @Autowired
+  RestClient restClient;
+
+  @Autowired
+  WebClient webClient;
+
+  private HttpServer server;
+  private final List<String> receivedContentTypes = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/posts", exchange -> {
+      String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+      receivedContentTypes.add(contentType);
+      ObjectMapper mapper = new ObjectMapper(PayloadFormat.CBOR.getMediaType().toString()
+          .equals(contentType) ? new CBORFactory() : new SmileFactory());
+      PostDto.Request request;
+      try (InputStream inputStream = exchange.getRequestBody()) {
+        request = mapper.readValue(inputStream, PostDto.Request.class);
+      }
+      byte[] body = mapper.writeValueAsBytes(PostDto.Response.builder()
+          .id(101)
+          .title(request.getTitle())
+          .userId(request.getUserId())
+          .build());
+      exchange.getResponseHeaders().set("Content-Type", contentType);
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("직렬화 형식: CBOR로 설정한 PostService는 요청/응답 본문을 CBOR로 직렬화")
+  @Test
+  public void testCborRoundTrip() {
+
+    // Given
+    RestClient postRestClient = restClient.mutate()
+        .baseUrl(baseUrl())
+        .defaultHeaders(headers -> {
+          headers.setContentType(PayloadFormat.CBOR.getMediaType());
+          headers.setAccept(PayloadFormat.CBOR.getAcceptableMediaTypes());
+        })
+        .build();
+    PostService postService = HttpServiceProxyFactory
+        .builderFor(RestClientAdapter.create(postRestClient))
+        .build()
+        .createClient(PostService.class);
+
+    // When
+    PostDto.Response response = postService.createPost(
+        PostDto.Request.builder().title("cbor").userId(1).build());
+
+    // Then
+    assertAll(
+        () -> assertEquals(PayloadFormat.CBOR.getMediaType().toString(),
+            receivedContentTypes.get(0)),
+        () -> assertEquals(101, response.getId()),
+        () -> assertEquals("cbor", response.getTitle())
+    );
+  }
+
+  @DisplayName("직렬화 형식: Smile로 설정한 ReactivePostService는 요청/응답 본문을 Smile로 직렬화")
+  @Test
+  public void testSmileRoundTrip() {
+
+    // Given
+    WebClient postWebClient = webClient.mutate()
+        .baseUrl(baseUrl())
+        .defaultHeaders(headers -> {
+          headers.setContentType(PayloadFormat.SMILE.getMediaType());
+          headers.setAccept(PayloadFormat.SMILE.getAcceptableMediaTypes());
+        })
+        .build();
+    ReactivePostService reactivePostService = HttpServiceProxyFactory
+        .builderFor(WebClientAdapter.create(postWebClient))
+        .build()
+        .createClient(ReactivePostService.class);
+
+    // When
+    PostDto.Response response = reactivePostService.createPost(
+        PostDto.Request.builder().title("smile").userId(1).build()).block();
+
+    // Then
+    assertAll(
+        () -> assertEquals(PayloadFormat.SMILE.getMediaType().toString(),
+            receivedContentTypes.get(0)),
+        () -> assertEquals(101, response.getId()),
+        () -> assertEquals("smile", response.getTitle())
+    );
+  }
+
+  private String baseUrl() {
+    return "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+}
@@ -0,0 +1,161 @@
+package com.example.httpinterface.compression;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.httpinterface.dto.PostDto;
+import com.example.httpinterface.service.PostService;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+@Slf4j
+@SpringBootTest
+class CompressionInterceptorTest {
+
+  private static final String LONG_TITLE = "a".repeat(4096);
+
+  @Autowired
+  RestClient restClient;
+
+  private HttpServer server;
+  private final List<ReceivedRequest> receivedRequests = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/posts", exchange -> {
+      String contentEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+      byte[] rawBody;
+      try (InputStream inputStream = exchange.getRequestBody()) {
+        rawBody = inputStream.readAllBytes();
+      }
+      byte[] body = contentEncoding == null ? rawBody
+          : ContentEncoding.fromToken(contentEncoding).decode(new ByteArrayInputStream(rawBody))
+              .readAllBytes();
+      receivedRequests.add(new ReceivedRequest(contentEncoding, rawBody.length,
+          new String(body, StandardCharsets.UTF_8)));
+      respond(exchange, "{\"id\":101,\"title\":\"posted\",\"userId\":1}", null);
+    });
+    server.createContext("/posts/1", exchange -> {
+      String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+      receivedRequests.add(new ReceivedRequest(acceptEncoding, 0, null));
+      respond(exchange, "{\"id\":1,\"title\":\"" + LONG_TITLE + "\",\"userId\":1}",
+          acceptEncoding != null && acceptEncoding.contains("gzip") ? ContentEncoding.GZIP
+              : null);
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("응답 압축 해제: Accept-Encoding으로 gzip을 협상하고, gzip으로 압축된 응답을 그대로 읽음")
+  @Test
+  public void testDecompressGzipResponse() {
+
+    // Given
+    PostService postService = postService(restClient.mutate().baseUrl(baseUrl()).build());
+
+    // When
+    PostDto.Response response = postService.getPost(1);
+
+    // Then
+    assertAll(
+        () -> assertEquals("gzip, deflate", receivedRequests.get(0).getEncoding()),
+        () -> assertEquals(1, response.getId()),
+        () -> assertEquals(LONG_TITLE, response.getTitle())
+    );
+  }
+
+  @DisplayName("요청 본문 압축: 요청 본문 압축 방식을 지정하면 최소 크기 이상인 POST 본문만 압축하여 보냄")
+  @Test
+  public void testCompressLargeRequestBody() {
+
+    // Given
+    RestClient compressingRestClient = RestClient.builder()
+        .baseUrl(baseUrl())
+        .requestFactory(new SimpleClientHttpRequestFactory())
+        .requestInterceptor(new CompressionInterceptor(List.of(ContentEncoding.GZIP),
+            ContentEncoding.ZSTD, 1024))
+        .build();
+    PostService postService = postService(compressingRestClient);
+
+    // When
+    postService.createPost(PostDto.Request.builder().title(LONG_TITLE).userId(1).build());
+    postService.createPost(PostDto.Request.builder().title("small").userId(1).build());
+
+    // Then
+    ReceivedRequest large = receivedRequests.get(0);
+    ReceivedRequest small = receivedRequests.get(1);
+    assertAll(
+        () -> assertEquals("zstd", large.getEncoding()),
+        () -> assertTrue(large.getRawLength() < LONG_TITLE.length()),
+        () -> assertTrue(large.getBody().contains(LONG_TITLE)),
+        () -> assertNull(small.getEncoding()),
+        () -> assertTrue(small.getBody().contains("small"))
+    );
+  }
+
+  private PostService postService(RestClient postRestClient) {
+    return HttpServiceProxyFactory.builderFor(RestClientAdapter.create(postRestClient))
+        .build()
+        .createClient(PostService.class);
+  }
+
+  private void respond(HttpExchange exchange, String json, ContentEncoding encoding)
+      throws IOException {
+    byte[] body = json.getBytes(StandardCharsets.UTF_8);
+    if (encoding != null) {
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      try (OutputStream outputStream = encoding.encode(buffer)) {
+        outputStream.write(body);
+      }
+      body = buffer.toByteArray();
+      exchange.getResponseHeaders().set("Content-Encoding", encoding.getToken());
+    }
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    exchange.getResponseBody().write(body);
+    exchange.close();
+  }
+
+  private String baseUrl() {
+    return "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class ReceivedRequest {
+
+    private final String encoding;
+    private final int rawLength;
+    private final String body;
+  }
+}
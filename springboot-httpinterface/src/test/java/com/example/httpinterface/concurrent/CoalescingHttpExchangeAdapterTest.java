@@ -0,0 +1,144 @@
+package com.example.httpinterface.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.example.httpinterface.dto.PostDto;
+import com.example.httpinterface.service.PostService;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+@Slf4j
+@SpringBootTest
+class CoalescingHttpExchangeAdapterTest {
+
+  private static final int CALLER_COUNT = 8;
+  private static final long RESPONSE_DELAY_MILLIS = 500L;
+
+  @Autowired
+  RestClient restClient;
+
+  private HttpServer server;
+  private ExecutorService callers;
+  private PostService postService;
+  private final AtomicInteger requestCount = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext("/posts/", exchange -> {
+      requestCount.incrementAndGet();
+      try {
+        Thread.sleep(RESPONSE_DELAY_MILLIS);
+        String id = exchange.getRequestURI().getPath().substring("/posts/".length());
+        byte[] body = ("{\"id\":" + id + ",\"title\":\"title" + id + "\",\"userId\":1}")
+            .getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      } finally {
+        exchange.close();
+      }
+    });
+    server.start();
+    callers = Executors.newFixedThreadPool(CALLER_COUNT);
+
+    RestClient postRestClient = restClient.mutate()
+        .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+        .build();
+    CoalescingHttpExchangeAdapter coalescingAdapter = new CoalescingHttpExchangeAdapter(
+        RestClientAdapter.create(postRestClient), List.of("X-Request-Id"));
+    postService = HttpServiceProxyFactory.builderFor(coalescingAdapter)
+        .build()
+        .createClient(PostService.class);
+  }
+
+  @AfterEach
+  void tearDown() {
+    callers.shutdownNow();
+    server.stop(0);
+  }
+
+  @DisplayName("동일 GET 요청 병합: 동시에 들어온 같은 포스트 조회는 한 번만 요청하고 응답 객체를 공유")
+  @Test
+  public void testCoalesceConcurrentGetPost() throws Exception {
+
+    // When
+    List<PostDto.Response> responses = callConcurrently(i -> postService.getPost(1));
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, requestCount.get()),
+        () -> responses.forEach(response -> assertSame(responses.get(0), response)),
+        () -> assertEquals(1, responses.get(0).getId())
+    );
+  }
+
+  @DisplayName("동일 GET 요청 병합: 포스트 ID가 다르면 별도로 요청")
+  @Test
+  public void testDifferentIdsNotCoalesced() throws Exception {
+
+    // When
+    List<PostDto.Response> responses = callConcurrently(i -> postService.getPost(i % 2 + 1));
+
+    // Then
+    assertAll(
+        () -> assertEquals(2, requestCount.get()),
+        () -> IntStream.range(0, CALLER_COUNT)
+            .forEach(i -> assertEquals(i % 2 + 1, responses.get(i).getId()))
+    );
+  }
+
+  @DisplayName("동일 GET 요청 병합 제외: Cache-Control: no-cache를 지정하면 별도로 요청")
+  @Test
+  public void testCoalesceOptOut() throws Exception {
+
+    // When
+    callConcurrently(i -> postService.getPost(1, "no-cache"));
+
+    // Then
+    assertEquals(CALLER_COUNT, requestCount.get());
+  }
+
+  private <T> List<T> callConcurrently(IntFunction<T> call) throws Exception {
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<T>> futures = IntStream.range(0, CALLER_COUNT)
+        .mapToObj(i -> callers.submit(() -> {
+          start.await();
+          return call.apply(i);
+        }))
+        .toList();
+    start.countDown();
+    List<T> results = new ArrayList<>();
+    for (Future<T> future : futures) {
+      results.add(future.get());
+    }
+    return results;
+  }
+}
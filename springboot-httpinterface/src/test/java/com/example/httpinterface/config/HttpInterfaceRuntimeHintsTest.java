@@ -0,0 +1,45 @@
+package com.example.httpinterface.config;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.httpinterface.dto.PostDto;
+import com.example.httpinterface.service.PostService;
+import com.example.httpinterface.service.ReactivePostService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.core.DecoratingProxy;
+
+class HttpInterfaceRuntimeHintsTest {
+
+  @DisplayName("네이티브 이미지 RuntimeHints: HTTP 인터페이스 JDK 프록시와 PostDto 바인딩 리플렉션을 등록")
+  @Test
+  public void testRegisterHints() throws NoSuchMethodException {
+
+    // Given
+    RuntimeHints hints = new RuntimeHints();
+
+    // When
+    new HttpInterfaceRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+    // Then
+    assertAll(
+        () -> assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(PostService.class,
+            SpringProxy.class, Advised.class, DecoratingProxy.class).test(hints)),
+        () -> assertTrue(RuntimeHintsPredicates.proxies().forInterfaces(
+            ReactivePostService.class, SpringProxy.class, Advised.class, DecoratingProxy.class)
+            .test(hints)),
+        () -> assertTrue(RuntimeHintsPredicates.reflection().onType(PostService.class)
+            .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS).test(hints)),
+        () -> assertTrue(RuntimeHintsPredicates.reflection()
+            .onMethod(PostDto.Response.class.getMethod("getTitle")).test(hints)),
+        () -> assertTrue(RuntimeHintsPredicates.reflection()
+            .onConstructor(PostDto.Request.class.getDeclaredConstructor()).test(hints))
+    );
+  }
+}
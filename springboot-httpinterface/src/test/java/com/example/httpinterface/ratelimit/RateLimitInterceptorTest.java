@@ -0,0 +1,99 @@
+package com.example.httpinterface.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.httpinterface.service.PostService;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.support.RestClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+
+@Slf4j
+@SpringBootTest
+class RateLimitInterceptorTest {
+
+  @Autowired
+  RestClient restClient;
+
+  private HttpServer server;
+  private PostService postService;
+  private volatile boolean throttled = true;
+  private final AtomicInteger requestCount = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/posts/", exchange -> {
+      requestCount.incrementAndGet();
+      if (throttled) {
+        exchange.getResponseHeaders().set("Retry-After", "1");
+        exchange.sendResponseHeaders(429, -1);
+        exchange.close();
+        return;
+      }
+      byte[] body = "{\"id\":1,\"title\":\"title1\",\"userId\":1}".getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    server.start();
+
+    RateLimitInterceptor rateLimitInterceptor = new RateLimitInterceptor(
+        Map.of(URI.create(baseUrl()), new RateLimitInterceptor.Limit(100, 10, Duration.ZERO)),
+        true);
+    RestClient postRestClient = restClient.mutate()
+        .baseUrl(baseUrl())
+        .requestInterceptor(rateLimitInterceptor)
+        .build();
+    postService = HttpServiceProxyFactory.builderFor(RestClientAdapter.create(postRestClient))
+        .build()
+        .createClient(PostService.class);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("요청 속도 제한: 429 응답의 Retry-After 동안 PostService 요청을 보내지 않고 거절")
+  @Test
+  public void testPauseOnRetryAfter() {
+
+    // Given
+    assertThrows(HttpClientErrorException.TooManyRequests.class, () -> postService.getPost(1));
+
+    // When
+    RateLimitExceededException rejected = assertThrows(RateLimitExceededException.class,
+        () -> postService.getPost(1));
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, requestCount.get()),
+        () -> assertEquals("http://127.0.0.1:" + server.getAddress().getPort(),
+            rejected.getRoute())
+    );
+  }
+
+  private String baseUrl() {
+    return "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+}
@@ -0,0 +1,156 @@
+package com.example.httpinterface.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.httpinterface.dto.PostDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+@Slf4j
+@SpringBootTest
+class PostStreamServiceTest {
+
+  private static final int POST_COUNT = 10_000;
+
+  @Autowired
+  RestClient restClient;
+
+  @Autowired
+  ObjectMapper objectMapper;
+
+  private HttpServer server;
+  private PostStreamService postStreamService;
+  private final CountDownLatch firstPostRead = new CountDownLatch(1);
+  private final AtomicBoolean serverFinishedBeforeFirstRead = new AtomicBoolean();
+  private final AtomicReference<String> query = new AtomicReference<>();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext("/posts", exchange -> {
+      query.set(exchange.getRequestURI().getQuery());
+      if ("userId=404".equals(query.get())) {
+        exchange.sendResponseHeaders(404, -1);
+        exchange.close();
+        return;
+      }
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, 0); // chunked 전송
+      try (OutputStream out = exchange.getResponseBody()) {
+        out.write('[');
+        for (int id = 1; id <= POST_COUNT; id++) {
+          if (id > 1) {
+            out.write(',');
+          }
+          out.write(("{\"id\":" + id + ",\"title\":\"title" + id + "\",\"userId\":1}")
+              .getBytes(StandardCharsets.UTF_8));
+          if (id == 1) {
+            // 클라이언트가 첫 번째 포스트를 읽을 때까지 나머지 응답을 보내지 않음
+            out.flush();
+            serverFinishedBeforeFirstRead.set(!awaitFirstPostRead());
+          }
+        }
+        out.write(']');
+      }
+    });
+    server.start();
+
+    RestClient postRestClient = restClient.mutate()
+        .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+        .build();
+    postStreamService = new PostStreamService(postRestClient, objectMapper);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("스트리밍 조회: 응답이 모두 도착하기 전에 첫 번째 포스트부터 순서대로 처리")
+  @Test
+  public void testStreamPosts() {
+
+    // Given
+    AtomicInteger count = new AtomicInteger();
+    AtomicInteger lastId = new AtomicInteger();
+
+    // When
+    postStreamService.forEachPost(post -> {
+      firstPostRead.countDown();
+      count.incrementAndGet();
+      lastId.set(post.getId());
+    });
+
+    // Then
+    assertAll(
+        () -> assertEquals(POST_COUNT, count.get()),
+        () -> assertEquals(POST_COUNT, lastId.get()),
+        () -> assertFalse(serverFinishedBeforeFirstRead.get())
+    );
+  }
+
+  @DisplayName("스트리밍 조회: 사용자 ID를 쿼리 파라미터로 전달하고, 필요한 만큼만 읽은 뒤 Stream을 닫음")
+  @Test
+  public void testStreamPostsByUserId() {
+
+    // When
+    List<Integer> ids;
+    try (Stream<PostDto.Response> posts = postStreamService.streamPostsByUserId(1)) {
+      ids = posts.peek(post -> firstPostRead.countDown())
+          .map(PostDto.Response::getId)
+          .limit(3)
+          .toList();
+    }
+
+    // Then
+    assertAll(
+        () -> assertEquals(List.of(1, 2, 3), ids),
+        () -> assertEquals("userId=1", query.get())
+    );
+  }
+
+  @DisplayName("스트리밍 조회: 오류 응답이면 예외 발생")
+  @Test
+  public void testStreamPostsError() {
+    assertThrows(HttpClientErrorException.NotFound.class,
+        () -> postStreamService.forEachPostByUserId(404, post -> {
+        }));
+    assertTrue(query.get().contains("404"));
+  }
+
+  private boolean awaitFirstPostRead() {
+    try {
+      return firstPostRead.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package com.example.httpinterface.service;
+
+import com.example.httpinterface.dto.PostDto;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.support.WebClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+@Slf4j
+@SpringBootTest
+class ReactivePostServiceTest {
+
+  @Autowired
+  WebClient webClient;
+
+  private HttpServer server;
+  private ReactivePostService reactivePostService;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/posts", exchange -> {
+      String path = exchange.getRequestURI().getPath();
+      String json = "/posts".equals(path)
+          ? "[{\"id\":1,\"title\":\"foo\"},{\"id\":2,\"title\":\"bar\"}]"
+          : "{\"id\":" + path.substring("/posts/".length()) + ",\"title\":\"foo\"}";
+      byte[] body = json.getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    server.start();
+
+    // 설정된 WebClient에 기본 URL만 로컬 서버로 변경하여 프록시를 생성
+    WebClient postWebClient = webClient.mutate()
+        .baseUrl("http://127.0.0.1:" + server.getAddress().getPort())
+        .build();
+    reactivePostService = HttpServiceProxyFactory
+        .builderFor(WebClientAdapter.create(postWebClient))
+        .build()
+        .createClient(ReactivePostService.class);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("GET 요청: ID를 기준으로 포스트 조회 후 응답 ID 확인")
+  @Test
+  public void testGetRequest() {
+    StepVerifier.create(reactivePostService.getPost(1))
+        .expectNextMatches(response -> response.getId() == 1)
+        .verifyComplete();
+  }
+
+  @DisplayName("GET 요청: 포스트 목록을 Flux로 조회")
+  @Test
+  public void testGetListRequest() {
+    StepVerifier.create(reactivePostService.getPosts().map(PostDto.Response::getId))
+        .expectNext(1, 2)
+        .verifyComplete();
+  }
+
+  @DisplayName("GET 요청: 여러 건의 조회 요청을 동시에 처리")
+  @Test
+  public void testConcurrentGetRequests() {
+    StepVerifier.create(Flux.range(1, 100)
+            .flatMap(id -> reactivePostService.getPost(id), 100)
+            .map(PostDto.Response::getId)
+            .reduce(0, Integer::sum))
+        .expectNext(5050)
+        .verifyComplete();
+  }
+}
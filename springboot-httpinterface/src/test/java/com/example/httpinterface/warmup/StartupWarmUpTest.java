@@ -0,0 +1,111 @@
+package com.example.httpinterface.warmup;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.httpinterface.dto.PostDto;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.web.client.RestClient;
+import reactor.netty.http.client.HttpClient;
+
+class StartupWarmUpTest {
+
+  private static final int CONNECTIONS = 3;
+
+  private HttpServer server;
+  private ExecutorService executor;
+  private List<ReadinessState> readinessDuringWarmUp;
+  private Set<Integer> clientPorts;
+  private ApplicationAvailabilityBean availability;
+  private GenericApplicationContext context;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    readinessDuringWarmUp = new CopyOnWriteArrayList<>();
+    clientPorts = ConcurrentHashMap.newKeySet();
+    availability = new ApplicationAvailabilityBean();
+    context = new GenericApplicationContext();
+    context.addApplicationListener(availability);
+    context.refresh();
+
+    // 합성 요청이 CONNECTIONS 개 동시에 도착해야 응답하는 로컬 서버 (순서대로 보내면 대기 시간 후 응답)
+    CyclicBarrier concurrentRequests = new CyclicBarrier(CONNECTIONS);
+    executor = Executors.newCachedThreadPool();
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.setExecutor(executor);
+    server.createContext("/health", exchange -> {
+      readinessDuringWarmUp.add(availability.getReadinessState());
+      clientPorts.add(exchange.getRemoteAddress().getPort());
+      try {
+        concurrentRequests.await(2, TimeUnit.SECONDS);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      } catch (BrokenBarrierException | TimeoutException ex) {
+        concurrentRequests.reset();
+      }
+      byte[] body = "UP".getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    context.close();
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
+  @DisplayName("시작 시 워밍업: RestClient, WebClient로 합성 요청을 동시에 보내 커넥션을 미리 열며, 끝날 때까지 Readiness는 REFUSING_TRAFFIC")
+  @Test
+  public void testWarmUp() {
+
+    // Given
+    URI healthUrl = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/health");
+    StartupWarmUp startupWarmUp = new StartupWarmUp(RestClient.create(), HttpClient.create(),
+        List.of(PostDto.Request.class, PostDto.Response.class), healthUrl, CONNECTIONS,
+        CONNECTIONS, Duration.ofSeconds(10));
+    ApplicationReadyEvent event = new ApplicationReadyEvent(new SpringApplication(),
+        new String[0], context, Duration.ZERO);
+
+    // When
+    startupWarmUp.onApplicationEvent(event);
+
+    // Then
+    assertAll(
+        () -> assertEquals(CONNECTIONS * 2, readinessDuringWarmUp.size()),
+        () -> assertTrue(clientPorts.size() >= CONNECTIONS, "ports: " + clientPorts),
+        () -> assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC), readinessDuringWarmUp.stream()
+            .distinct().toList()),
+        () -> assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState())
+    );
+  }
+}
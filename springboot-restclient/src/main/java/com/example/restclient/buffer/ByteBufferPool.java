@@ -0,0 +1,138 @@
+package com.example.restclient.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 고정 크기 ByteBuffer를 재사용하기 위한 풀
+ * <p>풀이 비어 있으면 새 버퍼를 할당하고, 반납 시 풀이 가득 차 있으면 버퍼를 버림 (최대 maxPooled 개까지 보관)</p>
+ * <p>대여 시 풀에서 꺼낸 횟수(hit)와 새로 할당한 횟수(miss)를 집계</p>
+ */
+public class ByteBufferPool {
+
+  private final int bufferSize;
+  private final boolean direct;
+  private final BlockingQueue<ByteBuffer> buffers;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * 힙 버퍼를 사용하는 ByteBufferPool을 생성
+   *
+   * @param bufferSize 버퍼 크기 (바이트)
+   * @param maxPooled  풀에 보관할 최대 버퍼 수
+   */
+  public ByteBufferPool(int bufferSize, int maxPooled) {
+    this(bufferSize, maxPooled, false);
+  }
+
+  /**
+   * ByteBufferPool을 생성
+   *
+   * @param bufferSize 버퍼 크기 (바이트)
+   * @param maxPooled  풀에 보관할 최대 버퍼 수
+   * @param direct     다이렉트(힙 외부) 버퍼 사용 여부
+   */
+  public ByteBufferPool(int bufferSize, int maxPooled, boolean direct) {
+    if (bufferSize <= 0 || maxPooled <= 0) {
+      throw new IllegalArgumentException(
+          "bufferSize and maxPooled must be positive: " + bufferSize + ", " + maxPooled);
+    }
+    this.bufferSize = bufferSize;
+    this.direct = direct;
+    this.buffers = new ArrayBlockingQueue<>(maxPooled);
+  }
+
+  /**
+   * 버퍼를 대여 (사용 후 반드시 release()로 반납)
+   *
+   * @return 비어 있는(clear 상태의) ByteBuffer (direct가 false이면 힙 버퍼)
+   */
+  public ByteBuffer acquire() {
+    ByteBuffer buffer = buffers.poll();
+    if (buffer != null) {
+      hits.increment();
+      return buffer;
+    }
+    misses.increment();
+    return direct ? ByteBuffer.allocateDirect(bufferSize) : ByteBuffer.allocate(bufferSize);
+  }
+
+  /**
+   * 버퍼를 풀에 반납
+   *
+   * @param buffer acquire()로 대여한 버퍼
+   */
+  public void release(ByteBuffer buffer) {
+    if (buffer != null && buffer.capacity() == bufferSize && buffer.isDirect() == direct) {
+      buffers.offer(buffer.clear());
+    }
+  }
+
+  /**
+   * 버퍼 크기를 반환
+   *
+   * @return 버퍼 크기 (바이트)
+   */
+  public int getBufferSize() {
+    return bufferSize;
+  }
+
+  /**
+   * 다이렉트 버퍼 사용 여부를 반환
+   *
+   * @return 다이렉트 버퍼를 사용하면 true
+   */
+  public boolean isDirect() {
+    return direct;
+  }
+
+  /**
+   * 풀에 보관 중인(대여 가능한) 버퍼 수를 반환
+   *
+   * @return 보관 중인 버퍼 수
+   */
+  public int getPooledCount() {
+    return buffers.size();
+  }
+
+  /**
+   * 풀에서 꺼내 재사용한 횟수를 반환
+   *
+   * @return 재사용 횟수
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * 풀이 비어 있어 새로 할당한 횟수를 반환
+   *
+   * @return 새로 할당한 횟수
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * 전체 대여 중 재사용 비율을 반환
+   *
+   * @return 재사용 비율 (0.0 ~ 1.0, 대여한 적이 없으면 0.0)
+   */
+  public double getHitRate() {
+    long hitCount = hits.sum();
+    long total = hitCount + misses.sum();
+    return total == 0 ? 0.0 : (double) hitCount / total;
+  }
+
+  /**
+   * 재사용으로 할당하지 않은 바이트 수를 반환 (재사용 횟수 x 버퍼 크기)
+   *
+   * @return 절약한 할당량 (바이트)
+   */
+  public long getSavedBytes() {
+    return hits.sum() * bufferSize;
+  }
+}
@@ -0,0 +1,59 @@
+package com.example.restclient.buffer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * ByteBufferPool의 재사용 현황을 httpclient.buffer.pool.* 메트릭으로 등록하는 MeterBinder
+ * <ul>
+ *   <li>acquires : 버퍼 대여 횟수 (result 태그: hit는 재사용, miss는 새로 할당)</li>
+ *   <li>hit.ratio : 전체 대여 중 재사용 비율</li>
+ *   <li>saved : 재사용으로 할당하지 않은 바이트 수</li>
+ *   <li>idle : 풀에 보관 중인 버퍼 수</li>
+ * </ul>
+ */
+public class ByteBufferPoolMetrics implements MeterBinder {
+
+  private static final String PREFIX = "httpclient.buffer.pool";
+
+  private final String poolName;
+  private final ByteBufferPool bufferPool;
+
+  /**
+   * @param poolName   메트릭 pool 태그 값 (예: transfer, response)
+   * @param bufferPool 메트릭을 등록할 ByteBufferPool
+   */
+  public ByteBufferPoolMetrics(String poolName, ByteBufferPool bufferPool) {
+    this.poolName = poolName;
+    this.bufferPool = bufferPool;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder(PREFIX + ".acquires", bufferPool, ByteBufferPool::getHitCount)
+        .tag("pool", poolName)
+        .tag("result", "hit")
+        .description("풀에서 꺼내 재사용한 버퍼 대여 횟수")
+        .register(registry);
+    FunctionCounter.builder(PREFIX + ".acquires", bufferPool, ByteBufferPool::getMissCount)
+        .tag("pool", poolName)
+        .tag("result", "miss")
+        .description("풀이 비어 있어 새로 할당한 버퍼 대여 횟수")
+        .register(registry);
+    Gauge.builder(PREFIX + ".hit.ratio", bufferPool, ByteBufferPool::getHitRate)
+        .tag("pool", poolName)
+        .description("전체 버퍼 대여 중 재사용 비율")
+        .register(registry);
+    FunctionCounter.builder(PREFIX + ".saved", bufferPool, ByteBufferPool::getSavedBytes)
+        .tag("pool", poolName)
+        .baseUnit("bytes")
+        .description("버퍼 재사용으로 할당하지 않은 바이트 수")
+        .register(registry);
+    Gauge.builder(PREFIX + ".idle", bufferPool, ByteBufferPool::getPooledCount)
+        .tag("pool", poolName)
+        .description("풀에 보관 중인 버퍼 수")
+        .register(registry);
+  }
+}
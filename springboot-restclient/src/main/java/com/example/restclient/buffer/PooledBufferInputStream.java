@@ -0,0 +1,232 @@
+package com.example.restclient.buffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Objects;
+
+/**
+ * ByteBufferPool에서 대여한 버퍼 하나로 원본 스트림(응답 본문)을 읽는 InputStream
+ * <p>본문 크기(Content-Length)가 버퍼 크기 이하이면 첫 읽기에서 본문 전체를 버퍼에 담으며, 힙 버퍼이면
+ * getBufferedBody()로 복사 없이 역직렬화할 수 있음</p>
+ * <p>더 큰 본문은 버퍼 크기 단위로 나눠 읽으므로 본문 전체를 하나의 배열에 모으지 않으며, 버퍼 크기 이상을 한 번에 읽으면 버퍼를
+ * 거치지 않고 원본 스트림에서 바로 읽음</p>
+ * <p>close() 시 버퍼를 풀에 반납 (Jackson은 역직렬화를 마치면 입력 스트림을 닫음)</p>
+ */
+public class PooledBufferInputStream extends InputStream {
+
+  private final InputStream source;
+  private final ByteBufferPool bufferPool;
+  private final long contentLength;
+  private ByteBuffer buffer; // 읽은 데이터 (position ~ limit), 대여 전이거나 반납 후에는 null
+  private ReadableByteChannel channel; // 다이렉트 버퍼로 읽을 때 사용하는 채널
+  private long totalRead;
+  private boolean eof;
+  private int fillCount; // 버퍼를 채운 횟수 (mark 위치가 유효한지 확인)
+  private int markFillCount = -1;
+  private int markPosition;
+  private boolean closed;
+
+  /**
+   * @param source        원본 스트림
+   * @param bufferPool    읽기에 사용할 버퍼 풀
+   * @param contentLength 본문 크기 (모르면 -1)
+   */
+  public PooledBufferInputStream(InputStream source, ByteBufferPool bufferPool,
+      long contentLength) {
+    this.source = source;
+    this.bufferPool = bufferPool;
+    this.contentLength = contentLength;
+  }
+
+  /**
+   * 본문 전체가 힙 버퍼 하나에 담기면 아직 읽지 않은 본문이 담긴 버퍼를 반환
+   * <p>반환한 버퍼는 close() 전까지만 유효하며, 버퍼의 position/limit을 변경하지 않아야 함</p>
+   *
+   * @return 남은 본문이 담긴 힙 ByteBuffer (본문 크기를 모르거나 버퍼보다 크거나 다이렉트 버퍼이면 null)
+   */
+  public ByteBuffer getBufferedBody() throws IOException {
+    if (closed || bufferPool.isDirect() || contentLength < 0
+        || contentLength > bufferPool.getBufferSize()) {
+      return null;
+    }
+    if (fillCount == 0) {
+      fill();
+    }
+    return fillCount == 1 && eof ? buffer : null;
+  }
+
+  @Override
+  public int read() throws IOException {
+    ensureOpen();
+    if (!hasBuffered() && !fill()) {
+      return -1;
+    }
+    return buffer.get() & 0xff;
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    Objects.checkFromIndexSize(off, len, b.length);
+    ensureOpen();
+    if (len == 0) {
+      return 0;
+    }
+    if (!hasBuffered()) {
+      if (len >= bufferPool.getBufferSize() && markFillCount < 0) {
+        return readSource(b, off, len);
+      }
+      if (!fill()) {
+        return -1;
+      }
+    }
+    int read = Math.min(len, buffer.remaining());
+    buffer.get(b, off, read);
+    return read;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    ensureOpen();
+    if (n <= 0) {
+      return 0;
+    }
+    if (hasBuffered()) {
+      int skipped = (int) Math.min(n, buffer.remaining());
+      buffer.position(buffer.position() + skipped);
+      return skipped;
+    }
+    long skipped = source.skip(n);
+    totalRead += skipped;
+    return skipped;
+  }
+
+  @Override
+  public int available() throws IOException {
+    ensureOpen();
+    return hasBuffered() ? buffer.remaining() : source.available();
+  }
+
+  @Override
+  public boolean markSupported() {
+    return true;
+  }
+
+  /**
+   * 현재 위치를 기억 (버퍼에 남은 데이터 안에서만 reset 가능)
+   */
+  @Override
+  public void mark(int readlimit) {
+    if (hasBuffered()) {
+      markFillCount = fillCount;
+      markPosition = buffer.position();
+    } else {
+      markFillCount = fillCount + 1;
+      markPosition = 0;
+    }
+  }
+
+  @Override
+  public void reset() throws IOException {
+    ensureOpen();
+    if (markFillCount == fillCount + 1) {
+      return; // mark 이후 버퍼를 채우지 않았으므로 읽은 데이터가 없음
+    }
+    if (markFillCount != fillCount) {
+      throw new IOException("Resetting to invalid mark");
+    }
+    buffer.position(markPosition);
+  }
+
+  /**
+   * 버퍼를 풀에 반납하고 원본 스트림을 닫음
+   */
+  @Override
+  public void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    bufferPool.release(buffer);
+    buffer = null;
+    source.close();
+  }
+
+  private boolean hasBuffered() {
+    return buffer != null && buffer.hasRemaining();
+  }
+
+  /**
+   * 원본 스트림에서 버퍼를 채움 (본문 크기를 알면 버퍼가 가득 차거나 본문 끝까지, 모르면 한 번만 읽음)
+   *
+   * @return 읽은 데이터가 있으면 true
+   */
+  private boolean fill() throws IOException {
+    if (eof) {
+      return false;
+    }
+    if (buffer == null) {
+      buffer = bufferPool.acquire();
+    }
+    buffer.clear();
+    if (contentLength >= 0) {
+      buffer.limit((int) Math.min(buffer.capacity(), Math.max(contentLength - totalRead, 0)));
+    }
+    do {
+      int read = readSource(buffer);
+      if (read < 0) {
+        break;
+      }
+    } while (contentLength >= 0 && buffer.hasRemaining());
+    if (contentLength >= 0 && totalRead >= contentLength) {
+      eof = true;
+    }
+    buffer.flip();
+    fillCount++;
+    return buffer.hasRemaining();
+  }
+
+  private int readSource(ByteBuffer target) throws IOException {
+    if (!target.hasRemaining()) {
+      return 0;
+    }
+    int read;
+    if (target.hasArray()) {
+      read = source.read(target.array(), target.arrayOffset() + target.position(),
+          target.remaining());
+      if (read > 0) {
+        target.position(target.position() + read);
+      }
+    } else {
+      if (channel == null) {
+        channel = Channels.newChannel(source);
+      }
+      read = channel.read(target);
+    }
+    return count(read);
+  }
+
+  private int readSource(byte[] b, int off, int len) throws IOException {
+    if (eof) {
+      return -1;
+    }
+    return count(source.read(b, off, len));
+  }
+
+  private int count(int read) {
+    if (read < 0) {
+      eof = true;
+    } else {
+      totalRead += read;
+    }
+    return read;
+  }
+
+  private void ensureOpen() throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+  }
+}
@@ -0,0 +1,144 @@
+package com.example.restclient.buffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.util.Map;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.AbstractClientHttpRequestFactoryWrapper;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 응답 본문을 ByteBufferPool의 버퍼로 읽도록 감싸는 ClientHttpRequestFactory
+ * <p>응답 본문은 PooledBufferInputStream으로 제공되며, 본문을 끝까지 읽어 스트림을 닫거나 응답을 닫으면 버퍼를 풀에 반납</p>
+ * <p>본문 전체가 버퍼 하나에 담기는 JSON 응답은 PooledBufferJsonHttpMessageConverter가 버퍼에서 바로 역직렬화</p>
+ */
+public class PooledBufferRequestFactory extends AbstractClientHttpRequestFactoryWrapper {
+
+  private final ByteBufferPool bufferPool;
+
+  /**
+   * @param requestFactory 감쌀 ClientHttpRequestFactory (예: HttpComponentsClientHttpRequestFactory)
+   * @param bufferPool     응답 본문을 읽을 때 사용할 버퍼 풀
+   */
+  public PooledBufferRequestFactory(ClientHttpRequestFactory requestFactory,
+      ByteBufferPool bufferPool) {
+    super(requestFactory);
+    this.bufferPool = bufferPool;
+  }
+
+  @Override
+  protected ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod,
+      ClientHttpRequestFactory requestFactory) throws IOException {
+    return new PooledBufferRequest(requestFactory.createRequest(uri, httpMethod), bufferPool);
+  }
+
+  /**
+   * 응답을 PooledBufferResponse로 감싸는 ClientHttpRequest
+   * <p>감싼 요청이 스트리밍 본문을 지원하면 본문을 버퍼링하지 않고 그대로 전달</p>
+   */
+  private record PooledBufferRequest(ClientHttpRequest delegate, ByteBufferPool bufferPool)
+      implements ClientHttpRequest, StreamingHttpOutputMessage {
+
+    @Override
+    public ClientHttpResponse execute() throws IOException {
+      return new PooledBufferResponse(delegate.execute(), bufferPool);
+    }
+
+    @Override
+    public HttpMethod getMethod() {
+      return delegate.getMethod();
+    }
+
+    @Override
+    public URI getURI() {
+      return delegate.getURI();
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+      return delegate.getAttributes();
+    }
+
+    @Override
+    public OutputStream getBody() throws IOException {
+      return delegate.getBody();
+    }
+
+    @Override
+    public void setBody(Body body) {
+      if (delegate instanceof StreamingHttpOutputMessage streamingMessage) {
+        streamingMessage.setBody(body);
+        return;
+      }
+      try {
+        body.writeTo(getBody());
+      } catch (IOException ex) {
+        throw new IllegalStateException("Failed to write request body", ex);
+      }
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+  }
+
+  /**
+   * 응답 본문을 PooledBufferInputStream으로 제공하는 ClientHttpResponse
+   */
+  private static final class PooledBufferResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final ByteBufferPool bufferPool;
+    private PooledBufferInputStream body;
+
+    private PooledBufferResponse(ClientHttpResponse delegate, ByteBufferPool bufferPool) {
+      this.delegate = delegate;
+      this.bufferPool = bufferPool;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      if (body == null) {
+        body = new PooledBufferInputStream(delegate.getBody(), bufferPool,
+            delegate.getHeaders().getContentLength());
+      }
+      return body;
+    }
+
+    @Override
+    public void close() {
+      try {
+        if (body != null) {
+          body.close();
+        }
+      } catch (IOException ignored) {
+        // 응답을 닫는 중의 오류는 무시 (커넥션은 delegate.close()에서 정리)
+      } finally {
+        delegate.close();
+      }
+    }
+  }
+}
@@ -0,0 +1,74 @@
+package com.example.restclient.cache;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Cache-Control 헤더의 지시자 목록
+ */
+final class CacheDirectives {
+
+  private static final CacheDirectives EMPTY = new CacheDirectives(Map.of());
+
+  private final Map<String, String> directives;
+
+  private CacheDirectives(Map<String, String> directives) {
+    this.directives = directives;
+  }
+
+  /**
+   * Cache-Control 헤더 값을 파싱
+   *
+   * @param values Cache-Control 헤더 값 목록 (null 허용)
+   * @return CacheDirectives 객체
+   */
+  static CacheDirectives parse(List<String> values) {
+    if (values == null || values.isEmpty()) {
+      return EMPTY;
+    }
+    Map<String, String> directives = new HashMap<>();
+    for (String value : values) {
+      for (String directive : value.split(",")) {
+        String token = directive.trim();
+        if (token.isEmpty()) {
+          continue;
+        }
+        int separator = token.indexOf('=');
+        String name = (separator < 0 ? token : token.substring(0, separator)).trim();
+        String argument = separator < 0 ? "" : token.substring(separator + 1).trim();
+        directives.put(name.toLowerCase(Locale.ROOT), argument.replace("\"", ""));
+      }
+    }
+    return new CacheDirectives(directives);
+  }
+
+  /**
+   * 지시자 포함 여부를 반환
+   *
+   * @param name 지시자 이름 (소문자)
+   * @return 포함 여부
+   */
+  boolean has(String name) {
+    return directives.containsKey(name);
+  }
+
+  /**
+   * 초 단위 값을 갖는 지시자(max-age 등)의 값을 반환
+   *
+   * @param name 지시자 이름 (소문자)
+   * @return 지시자 값 (초 단위, 없거나 잘못된 값이면 null)
+   */
+  Long seconds(String name) {
+    String value = directives.get(name);
+    if (value == null || value.isEmpty()) {
+      return null;
+    }
+    try {
+      return Math.max(0L, Long.parseLong(value));
+    } catch (NumberFormatException ex) {
+      return null;
+    }
+  }
+}
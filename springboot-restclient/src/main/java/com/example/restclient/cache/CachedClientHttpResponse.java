@@ -0,0 +1,65 @@
+package com.example.restclient.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 캐시에서 제공하거나, 이미 읽은 본문을 다시 제공하는 ClientHttpResponse
+ */
+class CachedClientHttpResponse implements ClientHttpResponse {
+
+  private final HttpStatusCode statusCode;
+  private final HttpHeaders headers;
+  private final InputStream body;
+  private final Closeable onClose;
+
+  CachedClientHttpResponse(HttpStatusCode statusCode, HttpHeaders headers, byte[] body) {
+    this(statusCode, headers, new ByteArrayInputStream(body), null);
+  }
+
+  CachedClientHttpResponse(HttpStatusCode statusCode, HttpHeaders headers, InputStream body,
+      Closeable onClose) {
+    this.statusCode = statusCode;
+    this.headers = headers;
+    this.body = body;
+    this.onClose = onClose;
+  }
+
+  @Override
+  public HttpStatusCode getStatusCode() {
+    return statusCode;
+  }
+
+  @Override
+  public String getStatusText() {
+    HttpStatus status = HttpStatus.resolve(statusCode.value());
+    return status != null ? status.getReasonPhrase() : "";
+  }
+
+  @Override
+  public HttpHeaders getHeaders() {
+    return headers;
+  }
+
+  @Override
+  public InputStream getBody() {
+    return body;
+  }
+
+  @Override
+  public void close() {
+    if (onClose != null) {
+      try {
+        onClose.close();
+      } catch (IOException ignored) {
+        // 응답 정리 중 오류는 무시
+      }
+    }
+  }
+}
@@ -0,0 +1,205 @@
+package com.example.restclient.cache;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 캐시에 저장된 응답
+ * <p>신선도(freshness)는 Cache-Control의 s-maxage, max-age, 없으면 Expires와 Date의 차이로 계산하며, no-cache 응답은 항상 재검증
+ * 대상</p>
+ * <p>애플리케이션의 모든 호출자가 함께 사용하는 캐시이므로 공유 캐시(shared cache) 규칙(RFC 9111)을 따름</p>
+ */
+@Getter
+public final class CachedResponse {
+
+  // 304 응답으로 갱신하지 않는 헤더 (hop-by-hop 및 본문 관련 헤더)
+  private static final Set<String> NON_UPDATABLE_HEADERS = Set.of(
+      HttpHeaders.CONNECTION.toLowerCase(), "keep-alive",
+      HttpHeaders.TRANSFER_ENCODING.toLowerCase(), HttpHeaders.CONTENT_LENGTH.toLowerCase());
+
+  private final int statusCode;
+  private final HttpHeaders headers;
+  private final byte[] body;
+  private final Map<String, List<String>> varyValues; // Vary 헤더에 지정된 요청 헤더의 저장 당시 값
+  private final long storedAt; // 저장(또는 재검증) 시각 (epoch 밀리초)
+
+  public CachedResponse(int statusCode, HttpHeaders headers, byte[] body,
+      Map<String, List<String>> varyValues, long storedAt) {
+    HttpHeaders copy = new HttpHeaders();
+    copy.addAll(headers);
+    copy.remove(HttpHeaders.TRANSFER_ENCODING);
+    copy.setContentLength(body.length);
+    this.statusCode = statusCode;
+    this.headers = HttpHeaders.readOnlyHttpHeaders(copy);
+    this.body = body;
+    this.varyValues = Map.copyOf(varyValues);
+    this.storedAt = storedAt;
+  }
+
+  /**
+   * 응답과 요청 헤더로 CachedResponse를 생성
+   *
+   * @param statusCode     응답 상태 코드
+   * @param headers        응답 헤더
+   * @param body           응답 본문
+   * @param requestHeaders 요청 헤더 (Vary 헤더에 지정된 값을 저장)
+   * @param now            저장 시각 (epoch 밀리초)
+   * @return CachedResponse 객체
+   */
+  static CachedResponse of(int statusCode, HttpHeaders headers, byte[] body,
+      HttpHeaders requestHeaders, long now) {
+    Map<String, List<String>> varyValues = new LinkedHashMap<>();
+    for (String name : headers.getVary()) {
+      varyValues.put(name.toLowerCase(), requestHeaders.getOrEmpty(name));
+    }
+    return new CachedResponse(statusCode, headers, body, varyValues, now);
+  }
+
+  /**
+   * 응답을 캐시에 저장할 수 있는지 확인
+   * <p>200 응답 중 no-store, private, Vary: * 가 아니고, 신선도 정보나 검증자(ETag, Last-Modified)가 있는 응답만 저장</p>
+   * <p>Authorization 헤더가 있는 요청의 응답은 public, s-maxage, must-revalidate 중 하나가 있을 때만 저장 (RFC 9111 3.5절)</p>
+   *
+   * @param statusCode     응답 상태 코드
+   * @param headers        응답 헤더
+   * @param requestHeaders 요청 헤더
+   * @return 저장 가능 여부
+   */
+  static boolean isStorable(HttpStatusCode statusCode, HttpHeaders headers,
+      HttpHeaders requestHeaders) {
+    if (statusCode.value() != 200) {
+      return false;
+    }
+    CacheDirectives directives = CacheDirectives.parse(headers.get(HttpHeaders.CACHE_CONTROL));
+    if (directives.has("no-store") || directives.has("private")
+        || headers.getVary().contains("*")) {
+      return false;
+    }
+    if (requestHeaders.containsKey(HttpHeaders.AUTHORIZATION) && !directives.has("public")
+        && !directives.has("s-maxage") && !directives.has("must-revalidate")) {
+      return false;
+    }
+    return freshnessMillis(headers) > 0 || hasValidator(headers);
+  }
+
+  /**
+   * 현재 시각 기준으로 신선한 응답인지 확인
+   *
+   * @param now 현재 시각 (epoch 밀리초)
+   * @return 신선 여부
+   */
+  public boolean isFresh(long now) {
+    return ageMillis(now) < freshnessMillis(headers);
+  }
+
+  /**
+   * 조건부 요청에 사용할 검증자(ETag, Last-Modified) 보유 여부를 반환
+   *
+   * @return 검증자 보유 여부
+   */
+  public boolean hasValidator() {
+    return hasValidator(headers);
+  }
+
+  /**
+   * 요청 헤더가 저장 당시 Vary 헤더 값과 일치하는지 확인
+   *
+   * @param requestHeaders 요청 헤더
+   * @return 일치 여부
+   */
+  public boolean matchesVary(HttpHeaders requestHeaders) {
+    for (Map.Entry<String, List<String>> entry : varyValues.entrySet()) {
+      if (!Objects.equals(entry.getValue(), requestHeaders.getOrEmpty(entry.getKey()))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * 304(Not Modified) 응답의 헤더로 갱신한 CachedResponse를 반환
+   *
+   * @param notModifiedHeaders 304 응답 헤더
+   * @param now                재검증 시각 (epoch 밀리초)
+   * @return 갱신된 CachedResponse 객체
+   */
+  public CachedResponse revalidated(HttpHeaders notModifiedHeaders, long now) {
+    HttpHeaders updated = new HttpHeaders();
+    updated.addAll(headers);
+    notModifiedHeaders.forEach((name, values) -> {
+      if (!NON_UPDATABLE_HEADERS.contains(name.toLowerCase())) {
+        updated.put(name, values);
+      }
+    });
+    return new CachedResponse(statusCode, updated, body, varyValues, now);
+  }
+
+  /**
+   * 캐시된 응답을 ClientHttpResponse로 반환 (Age 헤더 포함)
+   *
+   * @param now 현재 시각 (epoch 밀리초)
+   * @return ClientHttpResponse 객체
+   */
+  public ClientHttpResponse toResponse(long now) {
+    HttpHeaders responseHeaders = new HttpHeaders();
+    responseHeaders.addAll(headers);
+    responseHeaders.set(HttpHeaders.AGE, String.valueOf(ageMillis(now) / 1000));
+    return new CachedClientHttpResponse(HttpStatusCode.valueOf(statusCode), responseHeaders,
+        body);
+  }
+
+  /**
+   * 캐시 용량 계산에 사용하는 대략적인 크기를 반환
+   *
+   * @return 크기 (바이트)
+   */
+  public int weight() {
+    return body.length + headers.toString().length();
+  }
+
+  private long ageMillis(long now) {
+    long initialAge = 0L;
+    String age = headers.getFirst(HttpHeaders.AGE);
+    if (age != null) {
+      try {
+        initialAge = Math.max(0L, Long.parseLong(age.trim())) * 1000;
+      } catch (NumberFormatException ignored) {
+        // 잘못된 Age 헤더는 무시
+      }
+    }
+    return initialAge + Math.max(0L, now - storedAt);
+  }
+
+  private static long freshnessMillis(HttpHeaders headers) {
+    CacheDirectives directives = CacheDirectives.parse(headers.get(HttpHeaders.CACHE_CONTROL));
+    if (directives.has("no-cache")) {
+      return 0L;
+    }
+    Long sharedMaxAge = directives.seconds("s-maxage");
+    if (sharedMaxAge != null) {
+      return sharedMaxAge * 1000;
+    }
+    Long maxAge = directives.seconds("max-age");
+    if (maxAge != null) {
+      return maxAge * 1000;
+    }
+    try {
+      long expires = headers.getExpires();
+      long date = headers.getDate();
+      return expires < 0 || date < 0 ? 0L : Math.max(0L, expires - date);
+    } catch (IllegalArgumentException ex) {
+      return 0L;
+    }
+  }
+
+  private static boolean hasValidator(HttpHeaders headers) {
+    return headers.getETag() != null || headers.containsKey(HttpHeaders.LAST_MODIFIED);
+  }
+}
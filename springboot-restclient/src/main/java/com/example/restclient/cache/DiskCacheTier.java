@@ -0,0 +1,220 @@
+package com.example.restclient.cache;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 메모리 캐시에서 밀려난 응답을 보관하는 디스크 캐시
+ * <p>응답 1건을 캐시 키의 SHA-256 해시 이름의 파일 1개로 저장하며, 최대 크기를 넘으면 오래된 파일부터 삭제</p>
+ * <p>디스크 캐시는 최선 노력(best-effort) 방식으로, 입출력 오류는 로그만 남기고 캐시 미스로 처리</p>
+ */
+@Slf4j
+public class DiskCacheTier {
+
+  private static final String FILE_SUFFIX = ".cache";
+  private static final int FORMAT_VERSION = 1;
+
+  private final Path directory;
+  private final long maximumSize;
+  private long size; // 디스크 캐시 전체 크기 (바이트)
+
+  public DiskCacheTier(Path directory, long maximumSize) {
+    this.directory = directory;
+    this.maximumSize = maximumSize;
+    try {
+      Files.createDirectories(directory);
+      try (Stream<Path> files = cacheFiles()) {
+        this.size = files.mapToLong(DiskCacheTier::sizeOf).sum();
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException("Failed to initialize disk cache: " + directory, ex);
+    }
+  }
+
+  /**
+   * 디스크에 저장된 응답을 반환
+   *
+   * @param key 캐시 키
+   * @return 저장된 응답 (없거나 읽기에 실패하면 null)
+   */
+  public CachedResponse get(String key) {
+    Path file = fileOf(key);
+    try (DataInputStream in = new DataInputStream(
+        new BufferedInputStream(Files.newInputStream(file)))) {
+      if (in.readInt() != FORMAT_VERSION || !key.equals(in.readUTF())) {
+        return null;
+      }
+      int statusCode = in.readInt();
+      long storedAt = in.readLong();
+      HttpHeaders headers = new HttpHeaders();
+      readMultiValues(in).forEach(headers::put);
+      Map<String, List<String>> varyValues = readMultiValues(in);
+      byte[] body = in.readNBytes(in.readInt());
+      return new CachedResponse(statusCode, headers, body, varyValues, storedAt);
+    } catch (NoSuchFileException ex) {
+      return null;
+    } catch (IOException ex) {
+      log.warn("Failed to read disk cache entry - key: {}, file: {}", key, file, ex);
+      return null;
+    }
+  }
+
+  /**
+   * 응답을 디스크에 저장 (최대 크기를 넘으면 오래된 파일부터 삭제)
+   *
+   * @param key      캐시 키
+   * @param response 저장할 응답
+   */
+  public synchronized void put(String key, CachedResponse response) {
+    Path file = fileOf(key);
+    Path tempFile = directory.resolve(file.getFileName() + ".tmp");
+    try {
+      try (DataOutputStream out = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(key);
+        out.writeInt(response.getStatusCode());
+        out.writeLong(response.getStoredAt());
+        writeMultiValues(out, response.getHeaders());
+        writeMultiValues(out, response.getVaryValues());
+        out.writeInt(response.getBody().length);
+        out.write(response.getBody());
+      }
+      size -= sizeOf(file);
+      Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+      size += sizeOf(file);
+      trim();
+    } catch (IOException ex) {
+      log.warn("Failed to write disk cache entry - key: {}, file: {}", key, file, ex);
+      deleteQuietly(tempFile);
+    }
+  }
+
+  /**
+   * 디스크에 저장된 응답을 삭제
+   *
+   * @param key 캐시 키
+   */
+  public synchronized void remove(String key) {
+    Path file = fileOf(key);
+    size -= sizeOf(file);
+    deleteQuietly(file);
+  }
+
+  /**
+   * 디스크 캐시 전체 크기를 반환
+   *
+   * @return 크기 (바이트)
+   */
+  public synchronized long size() {
+    return size;
+  }
+
+  /**
+   * 최대 크기를 넘으면 수정 시각이 오래된 파일부터 삭제
+   */
+  private void trim() throws IOException {
+    if (size <= maximumSize) {
+      return;
+    }
+    List<Path> files;
+    try (Stream<Path> stream = cacheFiles()) {
+      files = new ArrayList<>(stream.toList());
+    }
+    files.sort(Comparator.comparingLong(DiskCacheTier::lastModifiedOf));
+    for (Path file : files) {
+      if (size <= maximumSize) {
+        break;
+      }
+      size -= sizeOf(file);
+      deleteQuietly(file);
+    }
+  }
+
+  private Stream<Path> cacheFiles() throws IOException {
+    return Files.list(directory).filter(file -> file.toString().endsWith(FILE_SUFFIX));
+  }
+
+  private Path fileOf(String key) {
+    try {
+      byte[] hash = MessageDigest.getInstance("SHA-256")
+          .digest(key.getBytes(StandardCharsets.UTF_8));
+      return directory.resolve(HexFormat.of().formatHex(hash) + FILE_SUFFIX);
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private static void writeMultiValues(DataOutputStream out, Map<String, List<String>> values)
+      throws IOException {
+    out.writeInt(values.size());
+    for (Map.Entry<String, List<String>> entry : values.entrySet()) {
+      out.writeUTF(entry.getKey());
+      out.writeInt(entry.getValue().size());
+      for (String value : entry.getValue()) {
+        out.writeUTF(value);
+      }
+    }
+  }
+
+  private static Map<String, List<String>> readMultiValues(DataInputStream in)
+      throws IOException {
+    int count = in.readInt();
+    Map<String, List<String>> values = new LinkedHashMap<>();
+    for (int i = 0; i < count; i++) {
+      String name = in.readUTF();
+      int valueCount = in.readInt();
+      List<String> list = new ArrayList<>(valueCount);
+      for (int j = 0; j < valueCount; j++) {
+        list.add(in.readUTF());
+      }
+      values.put(name, list);
+    }
+    return values;
+  }
+
+  private static long sizeOf(Path file) {
+    try {
+      return Files.exists(file) ? Files.size(file) : 0L;
+    } catch (IOException ex) {
+      return 0L;
+    }
+  }
+
+  private static long lastModifiedOf(Path file) {
+    try {
+      return Files.getLastModifiedTime(file).toMillis();
+    } catch (IOException ex) {
+      return Long.MAX_VALUE;
+    }
+  }
+
+  private static void deleteQuietly(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException ex) {
+      log.warn("Failed to delete disk cache file: {}", file, ex);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package com.example.restclient.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+/**
+ * 메모리/디스크 2단계 응답 캐시
+ * <p>메모리 캐시는 Caffeine(W-TinyLFU) 기반으로 응답 크기 합계를 제한하며, 크기 초과로 밀려난 응답은 디스크 캐시(설정 시)로 이동</p>
+ * <p>메모리에 없는 응답은 디스크에서 찾아 메모리로 다시 올림</p>
+ */
+public class ResponseCache {
+
+  private final Cache<String, CachedResponse> memory;
+  private final DiskCacheTier disk;
+
+  /**
+   * @param maximumWeight 메모리 캐시 최대 크기 (바이트)
+   * @param disk          디스크 캐시 (null이면 메모리 캐시만 사용)
+   */
+  public ResponseCache(long maximumWeight, DiskCacheTier disk) {
+    this.disk = disk;
+    this.memory = Caffeine.newBuilder()
+        .maximumWeight(maximumWeight)
+        .<String, CachedResponse>weigher((key, response) -> response.weight())
+        .evictionListener((key, response, cause) -> {
+          if (disk != null && cause == RemovalCause.SIZE && key != null && response != null) {
+            disk.put(key, response);
+          }
+        })
+        .build();
+  }
+
+  /**
+   * 캐시된 응답을 반환
+   *
+   * @param key 캐시 키
+   * @return 캐시된 응답 (없으면 null)
+   */
+  public CachedResponse get(String key) {
+    CachedResponse response = memory.getIfPresent(key);
+    if (response == null && disk != null) {
+      response = disk.get(key);
+      if (response != null) {
+        memory.put(key, response);
+        disk.remove(key);
+      }
+    }
+    return response;
+  }
+
+  /**
+   * 응답을 캐시에 저장
+   *
+   * @param key      캐시 키
+   * @param response 저장할 응답
+   */
+  public void put(String key, CachedResponse response) {
+    memory.put(key, response);
+  }
+
+  /**
+   * 캐시된 응답을 삭제
+   *
+   * @param key 캐시 키
+   */
+  public void invalidate(String key) {
+    memory.invalidate(key);
+    if (disk != null) {
+      disk.remove(key);
+    }
+  }
+
+  /**
+   * 메모리 캐시에 저장된 응답 수를 반환 (근사값)
+   *
+   * @return 응답 수
+   */
+  public long estimatedSize() {
+    return memory.estimatedSize();
+  }
+
+  /**
+   * 보류 중인 메모리 캐시 정리 작업(크기 초과 응답 제거 등)을 즉시 실행
+   */
+  public void cleanUp() {
+    memory.cleanUp();
+  }
+}
@@ -0,0 +1,175 @@
+package com.example.restclient.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * HTTP 캐시 규칙(Cache-Control, ETag, Last-Modified)에 따라 GET 응답을 캐시하는 ClientHttpRequestInterceptor
+ * <ul>
+ *   <li>신선한 응답은 요청을 보내지 않고 캐시에서 반환</li>
+ *   <li>신선도가 지난 응답은 If-None-Match / If-Modified-Since 조건부 요청으로 재검증하고, 304 응답이면 캐시된 본문을 반환</li>
+ *   <li>요청의 Cache-Control: no-store는 캐시를 사용하지 않고, no-cache(또는 max-age=0)는 항상 재검증</li>
+ *   <li>Range 요청이나 호출자가 직접 조건부 헤더를 지정한 요청은 캐시를 사용하지 않음</li>
+ *   <li>private 응답은 저장하지 않고, Authorization 요청의 응답은 public, s-maxage, must-revalidate가 있을 때만 저장</li>
+ *   <li>같은 URL에 대한 POST, PUT, PATCH, DELETE 요청이 성공하면 캐시된 응답을 삭제</li>
+ * </ul>
+ * <p>httpclient.cache.requests 메트릭(result 태그: hit, revalidated, miss, bypass)과 httpclient.cache.entries 메트릭을 등록</p>
+ */
+@Slf4j
+public class ResponseCacheInterceptor implements ClientHttpRequestInterceptor, MeterBinder {
+
+  private static final String PREFIX = "httpclient.cache";
+
+  // 캐시를 사용하지 않는 요청 헤더
+  private static final Set<String> BYPASS_REQUEST_HEADERS = Set.of(HttpHeaders.RANGE,
+      HttpHeaders.IF_NONE_MATCH, HttpHeaders.IF_MODIFIED_SINCE, HttpHeaders.IF_MATCH,
+      HttpHeaders.IF_UNMODIFIED_SINCE);
+
+  private final ResponseCache cache;
+  private final int maxEntrySize;
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder revalidatedCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder bypassCount = new LongAdder();
+
+  /**
+   * @param cache        응답 캐시
+   * @param maxEntrySize 캐시할 응답 본문 최대 크기 (바이트)
+   */
+  public ResponseCacheInterceptor(ResponseCache cache, int maxEntrySize) {
+    this.cache = cache;
+    this.maxEntrySize = maxEntrySize;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    registerCounter(registry, "hit", hitCount, "캐시에서 바로 반환한 응답 수");
+    registerCounter(registry, "revalidated", revalidatedCount, "304 응답으로 재검증 후 캐시에서 반환한 응답 수");
+    registerCounter(registry, "miss", missCount, "서버에서 새로 받은 응답 수");
+    registerCounter(registry, "bypass", bypassCount, "캐시를 사용하지 않은 요청 수");
+    Gauge.builder(PREFIX + ".entries", cache, ResponseCache::estimatedSize)
+        .description("메모리 캐시에 저장된 응답 수")
+        .register(registry);
+  }
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+      ClientHttpRequestExecution execution) throws IOException {
+    String key = request.getURI().toString();
+    HttpMethod method = request.getMethod();
+    if (!HttpMethod.GET.equals(method)) {
+      ClientHttpResponse response = execution.execute(request, body);
+      if (isUnsafe(method) && !response.getStatusCode().isError()) {
+        cache.invalidate(key);
+      }
+      return response;
+    }
+
+    HttpHeaders requestHeaders = request.getHeaders();
+    CacheDirectives requestDirectives = CacheDirectives.parse(
+        requestHeaders.get(HttpHeaders.CACHE_CONTROL));
+    if (requestDirectives.has("no-store")
+        || BYPASS_REQUEST_HEADERS.stream().anyMatch(requestHeaders::containsKey)) {
+      bypassCount.increment();
+      return execution.execute(request, body);
+    }
+
+    long now = System.currentTimeMillis();
+    CachedResponse cached = cache.get(key);
+    if (cached != null && !cached.matchesVary(requestHeaders)) {
+      cached = null;
+    }
+    Long requestMaxAge = requestDirectives.seconds("max-age");
+    boolean revalidate = requestDirectives.has("no-cache")
+        || (requestMaxAge != null && requestMaxAge == 0);
+    if (cached != null && !revalidate && cached.isFresh(now)) {
+      hitCount.increment();
+      log.debug("Response cache hit - url: {}", key);
+      return cached.toResponse(now);
+    }
+
+    // 검증자가 있으면 조건부 요청으로 재검증
+    if (cached != null && cached.hasValidator()) {
+      HttpHeaders cachedHeaders = cached.getHeaders();
+      if (cachedHeaders.getETag() != null) {
+        requestHeaders.setIfNoneMatch(cachedHeaders.getETag());
+      }
+      String lastModified = cachedHeaders.getFirst(HttpHeaders.LAST_MODIFIED);
+      if (lastModified != null) {
+        requestHeaders.set(HttpHeaders.IF_MODIFIED_SINCE, lastModified);
+      }
+    }
+
+    ClientHttpResponse response = execution.execute(request, body);
+    long receivedAt = System.currentTimeMillis();
+    if (cached != null && response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+      CachedResponse updated = cached.revalidated(response.getHeaders(), receivedAt);
+      response.close();
+      cache.put(key, updated);
+      revalidatedCount.increment();
+      log.debug("Response cache revalidated - url: {}", key);
+      return updated.toResponse(receivedAt);
+    }
+    missCount.increment();
+    return store(key, requestHeaders, response, receivedAt);
+  }
+
+  /**
+   * 저장 가능한 응답이면 본문을 읽어 캐시에 저장
+   * <p>본문이 최대 크기를 넘으면 저장하지 않고, 이미 읽은 부분과 나머지 본문을 이어서 반환</p>
+   *
+   * @param key            캐시 키
+   * @param requestHeaders 요청 헤더
+   * @param response       서버 응답
+   * @param now            응답 수신 시각 (epoch 밀리초)
+   * @return 호출자에게 반환할 응답
+   */
+  private ClientHttpResponse store(String key, HttpHeaders requestHeaders,
+      ClientHttpResponse response, long now) throws IOException {
+    HttpHeaders headers = response.getHeaders();
+    if (!CachedResponse.isStorable(response.getStatusCode(), headers, requestHeaders)
+        || headers.getContentLength() > maxEntrySize) {
+      return response;
+    }
+    InputStream in = response.getBody();
+    byte[] prefix = in.readNBytes(maxEntrySize + 1);
+    if (prefix.length > maxEntrySize) {
+      return new CachedClientHttpResponse(response.getStatusCode(), headers,
+          new SequenceInputStream(new ByteArrayInputStream(prefix), in), response);
+    }
+    response.close();
+    CachedResponse cached = CachedResponse.of(response.getStatusCode().value(), headers, prefix,
+        requestHeaders, now);
+    cache.put(key, cached);
+    return cached.toResponse(now);
+  }
+
+  private boolean isUnsafe(HttpMethod method) {
+    return HttpMethod.POST.equals(method) || HttpMethod.PUT.equals(method)
+        || HttpMethod.PATCH.equals(method) || HttpMethod.DELETE.equals(method);
+  }
+
+  private void registerCounter(MeterRegistry registry, String result, LongAdder count,
+      String description) {
+    FunctionCounter.builder(PREFIX + ".requests", count, LongAdder::sum)
+        .tag("result", result)
+        .description(description)
+        .register(registry);
+  }
+}
@@ -0,0 +1,159 @@
+package com.example.restclient.circuitbreaker;
+
+import java.time.Duration;
+
+/**
+ * 최근 N건 요청의 실패율/느린 요청 비율로 열리고 닫히는 서킷 브레이커
+ * <ul>
+ *   <li>CLOSED : 요청을 허용하고 결과를 슬라이딩 윈도(최근 windowSize 건)에 기록하며, minimumCalls 건 이상에서 실패율 또는 느린 요청 비율이 기준 이상이면 OPEN</li>
+ *   <li>OPEN : waitDurationInOpen 동안 요청을 보내지 않고 거절하며, 시간이 지나면 HALF_OPEN</li>
+ *   <li>HALF_OPEN : permittedCallsInHalfOpen 건의 시험 요청만 허용하며, 모두 성공하면 CLOSED, 하나라도 실패하거나 느리면 다시 OPEN</li>
+ * </ul>
+ */
+public class CircuitBreaker {
+
+  /**
+   * 서킷 브레이커 상태 (메트릭 값은 ordinal)
+   */
+  public enum State {
+    CLOSED, OPEN, HALF_OPEN
+  }
+
+  private static final byte SUCCESS = 0;
+  private static final byte FAILURE = 1;
+  private static final byte SLOW = 2;
+
+  private final Settings settings;
+  private final byte[] outcomes;
+  private int count;
+  private int next;
+  private int failureCount;
+  private int slowCount;
+  private State state = State.CLOSED;
+  private long openUntilNanos;
+  private int halfOpenPermits;
+  private int halfOpenSuccesses;
+
+  /**
+   * @param settings 서킷 브레이커 설정 값
+   */
+  public CircuitBreaker(Settings settings) {
+    this.settings = settings;
+    this.outcomes = new byte[settings.windowSize()];
+  }
+
+  /**
+   * 요청을 보내도 되는지 확인 (HALF_OPEN이면 시험 요청 허용 수를 차감)
+   *
+   * @return 허용 여부
+   */
+  public synchronized boolean tryAcquirePermission() {
+    if (state == State.OPEN) {
+      if (System.nanoTime() - openUntilNanos < 0) {
+        return false;
+      }
+      transitionTo(State.HALF_OPEN);
+    }
+    if (state == State.HALF_OPEN) {
+      if (halfOpenPermits <= 0) {
+        return false;
+      }
+      halfOpenPermits--;
+    }
+    return true;
+  }
+
+  /**
+   * 허용받은 요청의 결과를 기록
+   *
+   * @param durationNanos 응답 시간 (나노초)
+   * @param failure       실패 여부
+   */
+  public synchronized void onResult(long durationNanos, boolean failure) {
+    boolean slow = durationNanos >= settings.slowCallDuration().toNanos();
+    if (state == State.HALF_OPEN) {
+      if (failure || slow) {
+        transitionTo(State.OPEN);
+      } else if (++halfOpenSuccesses >= settings.permittedCallsInHalfOpen()) {
+        transitionTo(State.CLOSED);
+      }
+      return;
+    }
+    if (state == State.OPEN) {
+      // OPEN 전에 허용된 요청의 결과는 무시
+      return;
+    }
+    record((byte) ((failure ? FAILURE : SUCCESS) | (slow ? SLOW : SUCCESS)));
+    if (count >= settings.minimumCalls()
+        && (failureCount * 100 >= settings.failureRateThreshold() * count
+        || slowCount * 100 >= settings.slowCallRateThreshold() * count)) {
+      transitionTo(State.OPEN);
+    }
+  }
+
+  /**
+   * 허용받은 요청을 결과 기록 없이 반환 (요청을 보내지 못한 경우 등)
+   */
+  public synchronized void releasePermission() {
+    if (state == State.HALF_OPEN) {
+      halfOpenPermits++;
+    }
+  }
+
+  /**
+   * 현재 상태를 반환 (OPEN 대기 시간이 지났어도 다음 요청 전까지는 OPEN)
+   *
+   * @return 현재 상태
+   */
+  public synchronized State getState() {
+    return state;
+  }
+
+  private void record(byte outcome) {
+    if (count == outcomes.length) {
+      byte evicted = outcomes[next];
+      failureCount -= evicted & FAILURE;
+      slowCount -= (evicted & SLOW) >> 1;
+    } else {
+      count++;
+    }
+    outcomes[next] = outcome;
+    next = (next + 1) % outcomes.length;
+    failureCount += outcome & FAILURE;
+    slowCount += (outcome & SLOW) >> 1;
+  }
+
+  private void transitionTo(State newState) {
+    state = newState;
+    switch (newState) {
+      case OPEN -> openUntilNanos = System.nanoTime() + settings.waitDurationInOpen().toNanos();
+      case HALF_OPEN -> {
+        halfOpenPermits = settings.permittedCallsInHalfOpen();
+        halfOpenSuccesses = 0;
+      }
+      case CLOSED -> {
+        count = 0;
+        next = 0;
+        failureCount = 0;
+        slowCount = 0;
+      }
+    }
+  }
+
+  /**
+   * 서킷 브레이커 설정 값
+   *
+   * @param windowSize               실패율을 계산할 최근 요청 수 (슬라이딩 윈도 크기)
+   * @param minimumCalls             실패율을 계산하기 위한 최소 요청 수
+   * @param failureRateThreshold     OPEN으로 전환할 실패율 (%)
+   * @param slowCallRateThreshold    OPEN으로 전환할 느린 요청 비율 (%)
+   * @param slowCallDuration         느린 요청으로 판단할 응답 시간
+   * @param waitDurationInOpen       OPEN 상태 유지 시간 (이후 HALF_OPEN)
+   * @param permittedCallsInHalfOpen HALF_OPEN 상태에서 허용할 시험 요청 수
+   */
+  public record Settings(int windowSize, int minimumCalls, int failureRateThreshold,
+                         int slowCallRateThreshold, Duration slowCallDuration,
+                         Duration waitDurationInOpen, int permittedCallsInHalfOpen) {
+
+  }
+}
@@ -0,0 +1,143 @@
+package com.example.restclient.circuitbreaker;
+
+import com.example.restclient.pool.HttpRoutes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.classic.RequestFailedException;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 경로(호스트)별 서킷 브레이커({@link CircuitBreaker})를 적용하는 ClientHttpRequestInterceptor
+ * <p>다운스트림 장애로 실패율이나 느린 요청 비율이 기준을 넘으면 요청을 보내지 않고 바로 CircuitBreakerOpenException으로 거절하여, 요청마다 응답
+ * 타임아웃까지 스레드와 커넥션을 점유하지 않도록 함</p>
+ * <ul>
+ *   <li>실패 : I/O 예외(타임아웃, 연결 실패 등), 5xx 응답 (4xx는 성공으로 기록)</li>
+ *   <li>느린 요청 : 응답 헤더를 받을 때까지 slowCallDuration 이상 걸린 요청</li>
+ *   <li>헤징으로 취소된 요청, 다른 인터셉터가 거절한 요청은 기록하지 않음</li>
+ *   <li>httpclient.circuitbreaker.state : 경로별 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN, route 태그)</li>
+ *   <li>httpclient.circuitbreaker.rejected : 서킷 브레이커가 거절한 요청 수 (route 태그)</li>
+ * </ul>
+ */
+@Slf4j
+public class CircuitBreakerInterceptor implements ClientHttpRequestInterceptor, MeterBinder {
+
+  private static final String PREFIX = "httpclient.circuitbreaker";
+
+  private final CircuitBreaker.Settings settings;
+  private final Map<HttpRoute, RouteCircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+  private volatile MeterRegistry registry;
+
+  /**
+   * @param settings 경로별 서킷 브레이커 설정 값
+   */
+  public CircuitBreakerInterceptor(CircuitBreaker.Settings settings) {
+    this.settings = settings;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    this.registry = registry;
+    circuitBreakers.values().forEach(circuitBreaker -> circuitBreaker.register(registry));
+  }
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+      ClientHttpRequestExecution execution) throws IOException {
+    HttpRoute route = HttpRoutes.of(request.getURI());
+    RouteCircuitBreaker routeCircuitBreaker = circuitBreakers.computeIfAbsent(route,
+        RouteCircuitBreaker::new);
+    CircuitBreaker circuitBreaker = routeCircuitBreaker.circuitBreaker;
+    if (!circuitBreaker.tryAcquirePermission()) {
+      routeCircuitBreaker.reject();
+    }
+
+    long startTime = System.nanoTime();
+    ClientHttpResponse response;
+    try {
+      response = execution.execute(request, body);
+    } catch (RequestFailedException ex) {
+      // 헤징 등으로 취소된 요청
+      circuitBreaker.releasePermission();
+      throw ex;
+    } catch (IOException ex) {
+      routeCircuitBreaker.onResult(System.nanoTime() - startTime, true);
+      throw ex;
+    } catch (RuntimeException | Error ex) {
+      circuitBreaker.releasePermission();
+      throw ex;
+    }
+    boolean failure = response.getStatusCode().is5xxServerError();
+    routeCircuitBreaker.onResult(System.nanoTime() - startTime, failure);
+    return response;
+  }
+
+  /**
+   * 경로의 서킷 브레이커 상태를 반환
+   *
+   * @param route HttpRoute 객체
+   * @return 서킷 브레이커 상태 (요청한 적 없는 경로는 CLOSED)
+   */
+  public CircuitBreaker.State stateOf(HttpRoute route) {
+    RouteCircuitBreaker routeCircuitBreaker = circuitBreakers.get(route);
+    return routeCircuitBreaker != null ? routeCircuitBreaker.circuitBreaker.getState()
+        : CircuitBreaker.State.CLOSED;
+  }
+
+  /**
+   * 경로별 서킷 브레이커와 메트릭
+   */
+  private class RouteCircuitBreaker {
+
+    private final HttpRoute route;
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(settings);
+    private Counter rejected;
+
+    private RouteCircuitBreaker(HttpRoute route) {
+      this.route = route;
+      MeterRegistry meterRegistry = registry;
+      if (meterRegistry != null) {
+        register(meterRegistry);
+      }
+    }
+
+    private void onResult(long durationNanos, boolean failure) {
+      CircuitBreaker.State before = circuitBreaker.getState();
+      circuitBreaker.onResult(durationNanos, failure);
+      CircuitBreaker.State after = circuitBreaker.getState();
+      if (after != before) {
+        log.warn("Circuit breaker state changed - route: {}, state: {} -> {}",
+            HttpRoutes.nameOf(route), before, after);
+      }
+    }
+
+    private void reject() {
+      if (rejected != null) {
+        rejected.increment();
+      }
+      throw new CircuitBreakerOpenException(HttpRoutes.nameOf(route), circuitBreaker.getState());
+    }
+
+    private void register(MeterRegistry registry) {
+      Tags tags = Tags.of("route", HttpRoutes.nameOf(route));
+      Gauge.builder(PREFIX + ".state", circuitBreaker, breaker -> breaker.getState().ordinal())
+          .tags(tags)
+          .description("경로별 서킷 브레이커 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+          .register(registry);
+      this.rejected = Counter.builder(PREFIX + ".rejected")
+          .tags(tags)
+          .description("서킷 브레이커가 거절한 요청 수")
+          .register(registry);
+    }
+  }
+}
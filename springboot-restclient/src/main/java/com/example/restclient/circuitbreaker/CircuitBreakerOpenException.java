@@ -0,0 +1,36 @@
+package com.example.restclient.circuitbreaker;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 경로의 서킷 브레이커가 열려 있어(OPEN, HALF_OPEN 시험 요청 초과) 요청을 보내지 않고 거절한 경우 발생하는 예외
+ */
+public class CircuitBreakerOpenException extends RestClientException {
+
+  private final String route;
+  private final CircuitBreaker.State state;
+
+  public CircuitBreakerOpenException(String route, CircuitBreaker.State state) {
+    super("Circuit breaker is " + state + " - route: " + route);
+    this.route = route;
+    this.state = state;
+  }
+
+  /**
+   * 요청 경로 이름을 반환 (예: https://jsonplaceholder.typicode.com:443)
+   *
+   * @return 경로 이름
+   */
+  public String getRoute() {
+    return route;
+  }
+
+  /**
+   * 거절 시점의 서킷 브레이커 상태를 반환
+   *
+   * @return 서킷 브레이커 상태
+   */
+  public CircuitBreaker.State getState() {
+    return state;
+  }
+}
@@ -0,0 +1,40 @@
+package com.example.restclient.codec;
+
+import com.example.restclient.pool.HttpRoutes;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.hc.client5.http.HttpRoute;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * 요청 URL의 경로(scheme, host, port)별로 본문 직렬화 형식({@link PayloadFormat})을 선택하는 클래스
+ */
+public class PayloadFormatResolver {
+
+  private final PayloadFormat defaultFormat;
+  private final Map<HttpRoute, PayloadFormat> routeFormats = new HashMap<>();
+
+  /**
+   * @param defaultFormat 경로별 설정이 없을 때 사용할 직렬화 형식
+   * @param routes        경로 URL별 직렬화 형식
+   */
+  public PayloadFormatResolver(PayloadFormat defaultFormat, Map<String, PayloadFormat> routes) {
+    this.defaultFormat = defaultFormat;
+    routes.forEach((url, format) -> routeFormats.put(
+        HttpRoutes.of(UriComponentsBuilder.fromUriString(url).build().toUri()), format));
+  }
+
+  /**
+   * 요청 URL에 사용할 직렬화 형식을 반환
+   *
+   * @param targetUrl 요청을 보낼 URL
+   * @return 직렬화 형식
+   */
+  public PayloadFormat resolve(String targetUrl) {
+    if (routeFormats.isEmpty()) {
+      return defaultFormat;
+    }
+    HttpRoute route = HttpRoutes.of(UriComponentsBuilder.fromUriString(targetUrl).build().toUri());
+    return routeFormats.getOrDefault(route, defaultFormat);
+  }
+}
@@ -0,0 +1,73 @@
+package com.example.restclient.codec;
+
+import com.example.restclient.buffer.PooledBufferInputStream;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConversionException;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * 응답 본문 전체가 풀링된 힙 버퍼에 담겨 있으면 버퍼에서 바로 역직렬화하는 MappingJackson2HttpMessageConverter
+ * <p>Jackson이 버퍼의 배열을 입력 버퍼로 그대로 사용하므로, 읽기용 버퍼 할당과 복사 없이 역직렬화하며 끝나면 버퍼를 풀에 반납</p>
+ * <p>본문이 버퍼보다 크거나 UTF-8이 아닌 응답은 기본 방식(스트림)으로 역직렬화</p>
+ */
+public class PooledBufferJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+  @Override
+  public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+      throws IOException, HttpMessageNotReadableException {
+    ByteBuffer body = bufferedBody(inputMessage);
+    if (body == null) {
+      return super.read(type, contextClass, inputMessage);
+    }
+    return readBuffered(getJavaType(type, contextClass), body, inputMessage);
+  }
+
+  @Override
+  protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage)
+      throws IOException, HttpMessageNotReadableException {
+    ByteBuffer body = bufferedBody(inputMessage);
+    if (body == null) {
+      return super.readInternal(clazz, inputMessage);
+    }
+    return readBuffered(getJavaType(clazz, null), body, inputMessage);
+  }
+
+  /**
+   * 본문 전체가 담긴 힙 버퍼를 반환
+   *
+   * @return 본문이 담긴 버퍼 (PooledBufferInputStream이 아니거나 본문 전체를 담지 못했으면 null)
+   */
+  private ByteBuffer bufferedBody(HttpInputMessage inputMessage) throws IOException {
+    MediaType contentType = inputMessage.getHeaders().getContentType();
+    Charset charset = contentType != null ? contentType.getCharset() : null;
+    if (charset != null && !StandardCharsets.UTF_8.equals(charset)) {
+      return null;
+    }
+    return inputMessage.getBody() instanceof PooledBufferInputStream body
+        ? body.getBufferedBody() : null;
+  }
+
+  private Object readBuffered(JavaType javaType, ByteBuffer body, HttpInputMessage inputMessage)
+      throws IOException {
+    try (InputStream ignored = inputMessage.getBody()) { // 역직렬화가 끝나면 버퍼를 반납
+      return getObjectMapper().readValue(body.array(), body.arrayOffset() + body.position(),
+          body.remaining(), javaType);
+    } catch (InvalidDefinitionException ex) {
+      throw new HttpMessageConversionException("Type definition error: " + ex.getType(), ex);
+    } catch (JsonProcessingException ex) {
+      throw new HttpMessageNotReadableException("JSON parse error: " + ex.getOriginalMessage(),
+          ex, inputMessage);
+    }
+  }
+}
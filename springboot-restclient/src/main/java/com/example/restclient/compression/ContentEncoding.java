@@ -0,0 +1,87 @@
+package com.example.restclient.compression;
+
+import com.github.luben.zstd.ZstdInputStream;
+import com.github.luben.zstd.ZstdOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * HTTP 본문 압축 방식 (Content-Encoding)
+ * <p>압축/해제 모두 스트림을 감싸는 방식으로, 본문 전체를 메모리에 올리지 않음</p>
+ */
+public enum ContentEncoding {
+
+  GZIP("gzip") {
+    @Override
+    public OutputStream encode(OutputStream outputStream) throws IOException {
+      return new GZIPOutputStream(outputStream, BUFFER_SIZE);
+    }
+
+    @Override
+    public InputStream decode(InputStream inputStream) throws IOException {
+      return new GZIPInputStream(inputStream, BUFFER_SIZE);
+    }
+  },
+
+  DEFLATE("deflate") {
+    @Override
+    public OutputStream encode(OutputStream outputStream) {
+      return new DeflaterOutputStream(outputStream);
+    }
+
+    @Override
+    public InputStream decode(InputStream inputStream) {
+      return new InflaterInputStream(inputStream);
+    }
+  },
+
+  ZSTD("zstd") {
+    @Override
+    public OutputStream encode(OutputStream outputStream) throws IOException {
+      return new ZstdOutputStream(outputStream);
+    }
+
+    @Override
+    public InputStream decode(InputStream inputStream) throws IOException {
+      return new ZstdInputStream(inputStream);
+    }
+  };
+
+  private static final int BUFFER_SIZE = 8 * 1024; // gzip 스트림 버퍼 크기 (바이트)
+
+  private final String token;
+
+  ContentEncoding(String token) {
+    this.token = token;
+  }
+
+  /**
+   * Content-Encoding, Accept-Encoding 헤더에 사용하는 이름을 반환
+   *
+   * @return 압축 방식 이름 (예: gzip)
+   */
+  public String getToken() {
+    return token;
+  }
+
+  /**
+   * 출력 스트림을 압축 스트림으로 감쌈 (close 시 압축을 마무리)
+   *
+   * @param outputStream 압축된 데이터를 쓸 스트림
+   * @return 압축 스트림
+   */
+  public abstract OutputStream encode(OutputStream outputStream) throws IOException;
+
+  /**
+   * 입력 스트림을 압축 해제 스트림으로 감쌈
+   *
+   * @param inputStream 압축된 데이터를 읽을 스트림
+   * @return 압축 해제 스트림
+   */
+  public abstract InputStream decode(InputStream inputStream) throws IOException;
+}
@@ -0,0 +1,89 @@
+package com.example.restclient.compression;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * POST, PUT, PATCH 요청 본문이 기준 크기 이상이면 압축하여 보내는 ClientHttpRequestInterceptor
+ * <p>이미 Content-Encoding이 있는 요청은 압축하지 않으며, 압축 결과가 원본보다 작지 않으면 원본을 그대로 보냄</p>
+ * <p>httpclient.compression.request.bytes 메트릭(stage 태그: original, compressed)으로 압축 전/후 크기를 기록</p>
+ */
+@Slf4j
+public class RequestCompressionInterceptor implements ClientHttpRequestInterceptor, MeterBinder {
+
+  private static final String PREFIX = "httpclient.compression.request";
+  private static final Set<HttpMethod> COMPRESSIBLE_METHODS = Set.of(HttpMethod.POST,
+      HttpMethod.PUT, HttpMethod.PATCH);
+
+  private final ContentEncoding encoding;
+  private final int minSize;
+  private final LongAdder originalBytes = new LongAdder();
+  private final LongAdder compressedBytes = new LongAdder();
+
+  /**
+   * @param encoding 요청 본문 압축 방식
+   * @param minSize  압축할 최소 본문 크기 (바이트)
+   */
+  public RequestCompressionInterceptor(ContentEncoding encoding, int minSize) {
+    this.encoding = encoding;
+    this.minSize = minSize;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder(PREFIX + ".bytes", originalBytes, LongAdder::sum)
+        .tag("stage", "original")
+        .baseUnit("bytes")
+        .description("압축한 요청 본문의 원본 크기")
+        .register(registry);
+    FunctionCounter.builder(PREFIX + ".bytes", compressedBytes, LongAdder::sum)
+        .tag("stage", "compressed")
+        .baseUnit("bytes")
+        .description("압축한 요청 본문의 압축 후 크기")
+        .register(registry);
+  }
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+      ClientHttpRequestExecution execution) throws IOException {
+    HttpHeaders headers = request.getHeaders();
+    if (body.length < minSize || !COMPRESSIBLE_METHODS.contains(request.getMethod())
+        || headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+      return execution.execute(request, body);
+    }
+
+    byte[] compressed = compress(body);
+    if (compressed.length >= body.length) {
+      return execution.execute(request, body);
+    }
+    originalBytes.add(body.length);
+    compressedBytes.add(compressed.length);
+    log.debug("Compressed request body - {} {}, encoding: {}, size: {} -> {}",
+        request.getMethod(), request.getURI(), encoding.getToken(), body.length,
+        compressed.length);
+    headers.set(HttpHeaders.CONTENT_ENCODING, encoding.getToken());
+    headers.setContentLength(compressed.length);
+    return execution.execute(request, compressed);
+  }
+
+  private byte[] compress(byte[] body) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4);
+    try (OutputStream outputStream = encoding.encode(buffer)) {
+      outputStream.write(body);
+    }
+    return buffer.toByteArray();
+  }
+}
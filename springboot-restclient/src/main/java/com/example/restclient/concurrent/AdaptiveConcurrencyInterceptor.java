@@ -0,0 +1,283 @@
+package com.example.restclient.concurrent;
+
+import com.example.restclient.pool.ConnectionPoolTuner;
+import com.example.restclient.pool.HttpRoutes;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 경로(호스트)별 동시 요청 수를 응답 시간에 따라 조절되는 한도(VegasLimit)로 제한하는 ClientHttpRequestInterceptor
+ * <p>다운스트림이 느려지면 한도가 줄어 요청이 커넥션 임대 대기(connection request timeout)에 쌓이기 전에 거절(또는 제한된 시간만 대기)하여, 연쇄적인
+ * 타임아웃을 막음</p>
+ * <p>진행 중인 요청은 응답을 닫을 때(본문을 모두 읽은 후) 끝난 것으로 보며, 한도는 경로별 최대 커넥션 수를 넘지 않음</p>
+ * <ul>
+ *   <li>httpclient.concurrency.limit / in-flight : 경로별 현재 한도 / 진행 중인 요청 수 (route 태그)</li>
+ *   <li>httpclient.concurrency.rejected : 한도 초과로 거절한 요청 수 (route 태그)</li>
+ * </ul>
+ */
+@Slf4j
+public class AdaptiveConcurrencyInterceptor implements ClientHttpRequestInterceptor, MeterBinder {
+
+  private static final String PREFIX = "httpclient.concurrency";
+
+  private final ConnectionPoolTuner connectionPoolTuner;
+  private final int initialLimit;
+  private final int minLimit;
+  private final int maxLimit;
+  private final Duration maxWait;
+  private final int maxQueueSize;
+  private final Map<HttpRoute, RouteLimiter> routeLimiters = new ConcurrentHashMap<>();
+  private volatile MeterRegistry registry;
+
+  /**
+   * @param connectionPoolTuner 경로별 최대 커넥션 수를 조회할 ConnectionPoolTuner
+   * @param initialLimit        경로별 초기 한도
+   * @param minLimit            경로별 최소 한도
+   * @param maxLimit            경로별 최대 한도
+   * @param maxWait             한도 초과 시 최대 대기 시간 (0이면 바로 거절)
+   * @param maxQueueSize        경로별 최대 대기 요청 수
+   */
+  public AdaptiveConcurrencyInterceptor(ConnectionPoolTuner connectionPoolTuner, int initialLimit,
+      int minLimit, int maxLimit, Duration maxWait, int maxQueueSize) {
+    this.connectionPoolTuner = connectionPoolTuner;
+    this.initialLimit = initialLimit;
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.maxWait = maxWait;
+    this.maxQueueSize = maxQueueSize;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    this.registry = registry;
+    routeLimiters.values().forEach(routeLimiter -> routeLimiter.register(registry));
+  }
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+      ClientHttpRequestExecution execution) throws IOException {
+    HttpRoute route = HttpRoutes.of(request.getURI());
+    RouteLimiter routeLimiter = routeLimiters.computeIfAbsent(route, RouteLimiter::new);
+    int inFlight = routeLimiter.acquire();
+
+    long startTime = System.nanoTime();
+    ClientHttpResponse response = null;
+    HttpStatusCode statusCode;
+    try {
+      response = execution.execute(request, body);
+      statusCode = response.getStatusCode();
+    } catch (IOException ex) {
+      routeLimiter.onSample(System.nanoTime() - startTime, inFlight, true);
+      closeAndRelease(response, routeLimiter);
+      throw ex;
+    } catch (RuntimeException | Error ex) {
+      closeAndRelease(response, routeLimiter);
+      throw ex;
+    }
+    boolean dropped = statusCode.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)
+        || statusCode.isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE);
+    routeLimiter.onSample(System.nanoTime() - startTime, inFlight, dropped);
+    return new ReleasingClientHttpResponse(response, routeLimiter);
+  }
+
+  /**
+   * 응답을 반환하지 못하고 실패한 요청의 응답을 닫고 요청 허용을 반납 (응답 상태를 읽다 실패한 경우 응답이 있음)
+   */
+  private static void closeAndRelease(ClientHttpResponse response, RouteLimiter routeLimiter) {
+    try {
+      if (response != null) {
+        response.close();
+      }
+    } finally {
+      routeLimiter.release();
+    }
+  }
+
+  /**
+   * 경로의 현재 한도를 반환
+   *
+   * @param route HttpRoute 객체
+   * @return 현재 한도 (요청한 적 없는 경로는 초기 한도)
+   */
+  public int limitOf(HttpRoute route) {
+    RouteLimiter routeLimiter = routeLimiters.get(route);
+    return routeLimiter != null ? routeLimiter.limit.getLimit() : initialLimit;
+  }
+
+  private int maxLimitOf(HttpRoute route) {
+    return Math.min(maxLimit, connectionPoolTuner.settingsOf(route).maxConnections());
+  }
+
+  /**
+   * 경로별 한도와 진행 중인 요청 수
+   */
+  private class RouteLimiter {
+
+    private final HttpRoute route;
+    private final VegasLimit limit;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    private volatile int inFlight;
+    private int waiting;
+    private Counter rejected;
+
+    private RouteLimiter(HttpRoute route) {
+      this.route = route;
+      this.limit = new VegasLimit(Math.min(initialLimit, maxLimitOf(route)), minLimit);
+      MeterRegistry meterRegistry = registry;
+      if (meterRegistry != null) {
+        register(meterRegistry);
+      }
+    }
+
+    /**
+     * 요청 허용을 획득 (한도를 넘으면 최대 대기 시간까지 대기 후 거절)
+     *
+     * @return 획득 전 진행 중인 요청 수
+     */
+    private int acquire() throws InterruptedIOException {
+      lock.lock();
+      try {
+        long remainingNanos = maxWait.toNanos();
+        while (inFlight >= limit.getLimit()) {
+          if (remainingNanos <= 0 || waiting >= maxQueueSize) {
+            reject();
+          }
+          waiting++;
+          try {
+            remainingNanos = released.awaitNanos(remainingNanos);
+          } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for concurrency limit");
+          } finally {
+            waiting--;
+          }
+        }
+        return inFlight++;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void release() {
+      lock.lock();
+      try {
+        inFlight--;
+        released.signal();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    private void onSample(long rttNanos, int inFlightAtStart, boolean dropped) {
+      int before = limit.getLimit();
+      limit.onSample(rttNanos, inFlightAtStart, dropped, maxLimitOf(route));
+      int after = limit.getLimit();
+      if (after > before) {
+        // 한도가 늘어나면 대기 중인 요청을 깨움
+        lock.lock();
+        try {
+          released.signalAll();
+        } finally {
+          lock.unlock();
+        }
+      }
+      if (after != before) {
+        log.debug("Concurrency limit changed - route: {}, limit: {} -> {}",
+            HttpRoutes.nameOf(route), before, after);
+      }
+    }
+
+    private void reject() {
+      if (rejected != null) {
+        rejected.increment();
+      }
+      throw new ConcurrencyLimitExceededException(
+          "Concurrency limit exceeded - route: " + HttpRoutes.nameOf(route) + ", limit: "
+              + limit.getLimit() + ", in-flight: " + inFlight);
+    }
+
+    private void register(MeterRegistry registry) {
+      Tags tags = Tags.of("route", HttpRoutes.nameOf(route));
+      Gauge.builder(PREFIX + ".limit", limit, VegasLimit::getLimit)
+          .tags(tags)
+          .description("경로별 동시 요청 한도")
+          .register(registry);
+      Gauge.builder(PREFIX + ".in-flight", this, routeLimiter -> routeLimiter.inFlight)
+          .tags(tags)
+          .description("경로별 진행 중인 요청 수")
+          .register(registry);
+      this.rejected = Counter.builder(PREFIX + ".rejected")
+          .tags(tags)
+          .description("동시 요청 한도 초과로 거절한 요청 수")
+          .register(registry);
+    }
+  }
+
+  /**
+   * 응답을 닫을 때 경로의 요청 허용을 반환하는 ClientHttpResponse
+   */
+  private static class ReleasingClientHttpResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final RouteLimiter routeLimiter;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    private ReleasingClientHttpResponse(ClientHttpResponse delegate, RouteLimiter routeLimiter) {
+      this.delegate = delegate;
+      this.routeLimiter = routeLimiter;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      return delegate.getBody();
+    }
+
+    @Override
+    public void close() {
+      try {
+        delegate.close();
+      } finally {
+        if (released.compareAndSet(false, true)) {
+          routeLimiter.release();
+        }
+      }
+    }
+  }
+}
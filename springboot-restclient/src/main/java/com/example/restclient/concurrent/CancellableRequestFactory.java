@@ -0,0 +1,27 @@
+package com.example.restclient.concurrent;
+
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+/**
+ * 헤지 요청 시도({@link HedgingExecutor})에서 생성한 HTTP 요청을 시도에 연결하는 HttpComponentsClientHttpRequestFactory
+ * <p>먼저 성공한 요청이 있으면 나머지 요청은 Apache HttpClient의 요청 취소(Cancellable)로 커넥션을 끊어 바로 종료</p>
+ */
+public class CancellableRequestFactory extends HttpComponentsClientHttpRequestFactory {
+
+  /**
+   * @param httpClient 설정된 HttpClient 객체
+   */
+  public CancellableRequestFactory(HttpClient httpClient) {
+    super(httpClient);
+  }
+
+  @Override
+  protected void postProcessHttpRequest(ClassicHttpRequest request) {
+    if (request instanceof Cancellable cancellable) {
+      HedgingExecutor.bindToCurrentAttempt(cancellable);
+    }
+  }
+}
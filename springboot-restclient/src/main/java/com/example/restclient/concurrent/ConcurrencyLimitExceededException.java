@@ -0,0 +1,13 @@
+package com.example.restclient.concurrent;
+
+import org.springframework.web.client.RestClientException;
+
+/**
+ * 경로의 동시 요청 수가 적응형 한도를 넘어 요청을 보내지 않고 거절한 경우 발생하는 예외
+ */
+public class ConcurrencyLimitExceededException extends RestClientException {
+
+  public ConcurrencyLimitExceededException(String message) {
+    super(message);
+  }
+}
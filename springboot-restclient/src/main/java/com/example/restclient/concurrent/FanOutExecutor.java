@@ -0,0 +1,128 @@
+package com.example.restclient.concurrent;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+
+/**
+ * 여러 건의 블로킹 HTTP 요청을 동시에 실행하기 위한 실행기
+ * <ul>
+ *   <li>Java 21 이상에서는 가상 스레드, 그 이하에서는 플랫폼 스레드에서 요청을 실행 (플랫폼 스레드는 maxPlatformThreads 개까지만 동시에 실행하고,
+ *   넘으면 작업 제출이 대기)</li>
+ *   <li>호출 1건당 동시 요청 수 제한 : maxConcurrency 개의 작업자가 요청을 순서대로 나누어 실행</li>
+ *   <li>호스트(경로)별 동시 요청 수 제한 : {@link RouteConcurrencyLimiter}</li>
+ *   <li>요청 스레드에 호출 스레드의 Observation(트레이스)과 MDC 등의 컨텍스트를 전파</li>
+ * </ul>
+ */
+@Slf4j
+public class FanOutExecutor implements AutoCloseable {
+
+  private static final int VIRTUAL_THREADS_MIN_JAVA_VERSION = 21;
+
+  private final SimpleAsyncTaskExecutor taskExecutor;
+  private final RouteConcurrencyLimiter routeConcurrencyLimiter;
+  private final int defaultMaxConcurrency;
+
+  /**
+   * @param routeConcurrencyLimiter 호스트(경로)별 동시 요청 수 제한
+   * @param defaultMaxConcurrency   호출 1건당 기본 최대 동시 요청 수
+   * @param virtualThreads          가상 스레드 사용 여부 (Java 21 이상에서만 적용)
+   * @param maxPlatformThreads      플랫폼 스레드를 사용할 때 동시에 실행할 최대 스레드 수
+   */
+  public FanOutExecutor(RouteConcurrencyLimiter routeConcurrencyLimiter, int defaultMaxConcurrency,
+      boolean virtualThreads, int maxPlatformThreads) {
+    this.routeConcurrencyLimiter = routeConcurrencyLimiter;
+    this.defaultMaxConcurrency = defaultMaxConcurrency;
+    this.taskExecutor = new SimpleAsyncTaskExecutor("fan-out-");
+    this.taskExecutor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+    boolean virtualThreadsSupported =
+        Runtime.version().feature() >= VIRTUAL_THREADS_MIN_JAVA_VERSION;
+    this.taskExecutor.setVirtualThreads(virtualThreads && virtualThreadsSupported);
+    if (virtualThreads && !virtualThreadsSupported) {
+      log.info("Virtual threads require Java {}+, falling back to platform threads",
+          VIRTUAL_THREADS_MIN_JAVA_VERSION);
+    }
+    if (!virtualThreads || !virtualThreadsSupported) {
+      this.taskExecutor.setConcurrencyLimit(maxPlatformThreads);
+    }
+  }
+
+  /**
+   * 호출 1건당 기본 최대 동시 요청 수를 반환
+   *
+   * @return 기본 최대 동시 요청 수
+   */
+  public int getDefaultMaxConcurrency() {
+    return defaultMaxConcurrency;
+  }
+
+  /**
+   * 요청 목록을 비동기로 실행하고, 요청 순서와 같은 순서의 CompletableFuture 목록을 반환
+   *
+   * @param requests       요청 목록
+   * @param urlOf          요청의 URL (호스트별 동시 요청 수 제한에 사용)
+   * @param call           요청을 실행하는 함수
+   * @param maxConcurrency 최대 동시 요청 수
+   * @return 요청 순서와 같은 순서의 CompletableFuture 목록
+   */
+  public <R, T> List<CompletableFuture<T>> submitAll(List<R> requests, Function<R, URI> urlOf,
+      Function<R, T> call, int maxConcurrency) {
+    if (maxConcurrency <= 0) {
+      throw new IllegalArgumentException("maxConcurrency must be positive: " + maxConcurrency);
+    }
+    List<CompletableFuture<T>> futures = new ArrayList<>(requests.size());
+    for (int i = 0; i < requests.size(); i++) {
+      futures.add(new CompletableFuture<>());
+    }
+
+    AtomicInteger nextIndex = new AtomicInteger();
+    Runnable worker = () -> {
+      int index;
+      while ((index = nextIndex.getAndIncrement()) < requests.size()) {
+        execute(requests.get(index), urlOf, call, futures.get(index));
+      }
+    };
+
+    int workers = Math.min(maxConcurrency, requests.size());
+    for (int i = 0; i < workers; i++) {
+      try {
+        taskExecutor.execute(worker);
+      } catch (RejectedExecutionException ex) {
+        futures.forEach(future -> future.completeExceptionally(ex));
+        break;
+      }
+    }
+    return futures;
+  }
+
+  @Override
+  public void close() {
+    taskExecutor.close();
+  }
+
+  private <R, T> void execute(R request, Function<R, URI> urlOf, Function<R, T> call,
+      CompletableFuture<T> future) {
+    Semaphore routeLimit = null;
+    try {
+      routeLimit = routeConcurrencyLimiter.acquire(urlOf.apply(request));
+      future.complete(call.apply(request));
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      future.completeExceptionally(ex);
+    } catch (Throwable ex) {
+      future.completeExceptionally(ex);
+    } finally {
+      if (routeLimit != null) {
+        routeLimit.release();
+      }
+    }
+  }
+}
@@ -0,0 +1,380 @@
+package com.example.restclient.concurrent;
+
+import com.example.restclient.pool.HttpRoutes;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * 지연 시간이 중요한 GET 요청을 헤징(hedging)하여 실행
+ * <p>첫 번째 요청이 경로별 최근 응답 시간의 백분위수(예: p95) 안에 응답하지 않으면 같은 요청을 한 번 더 보내고, 먼저 성공한 응답을 사용하며 나머지
+ * 요청은 커넥션을 끊어 취소</p>
+ * <p>첫 번째 요청은 호출 스레드에서 실행하고, 대기 시간이 지나도 끝나지 않은 경우에만 헤지 요청을 별도 스레드에서 시작 (헤지 요청이 먼저 성공하면 첫 번째
+ * 요청을 취소하여 호출 스레드를 깨움)</p>
+ * <p>헤지 요청 스레드에는 호출 스레드의 Observation(트레이스)과 MDC 등의 컨텍스트를 전파</p>
+ * <ul>
+ *   <li>헤지 예산 : 경로별로 요청 1건마다 budgetPercent/100 개의 토큰을 적립하고, 헤지 요청 1건에 토큰 1개를 사용 (추가 부하를 요청 수의 budgetPercent% 이내로 제한)</li>
+ *   <li>경로별 적용 : routes에 등록한 경로에만 적용 (비어 있으면 모든 경로)</li>
+ *   <li>최근 응답 시간 표본이 minSamples 개 미만인 경로는 헤징하지 않음</li>
+ *   <li>httpclient.hedging.requests 메트릭 (result 태그: not-hedged, hedged, throttled)</li>
+ *   <li>httpclient.hedging.wins 메트릭 (attempt 태그: primary, hedge)</li>
+ * </ul>
+ * <p>요청 취소는 {@link CancellableRequestFactory}가 생성한 요청에만 적용되며, 실패한 요청은 재시도하지 않음 (재시도는 Retry Strategy에서
+ * 처리)</p>
+ */
+@Slf4j
+public class HedgingExecutor implements MeterBinder, AutoCloseable {
+
+  private static final String PREFIX = "httpclient.hedging";
+  private static final int VIRTUAL_THREADS_MIN_JAVA_VERSION = 21;
+  private static final int MAX_BURST = 10; // 예산에 적립할 수 있는 최대 헤지 요청 수
+  private static final int TOKEN_UNIT = 100; // 헤지 요청 1건에 사용하는 토큰 (백분율 단위)
+
+  // 헤지 요청 상태
+  private static final int PENDING = 0; // 대기 시간이 지나지 않음
+  private static final int COMPLETED = 1; // 대기 시간 안에 첫 번째 요청이 끝남
+  private static final int THROTTLED = 2; // 헤지 예산이 부족하여 헤지 요청을 보내지 않음
+  private static final int HEDGED = 3; // 헤지 요청을 보냄
+
+  private static final ThreadLocal<Attempt<?>> CURRENT_ATTEMPT = new ThreadLocal<>();
+
+  private final boolean enabled;
+  private final Set<HttpRoute> routes;
+  private final double percentile;
+  private final long minDelayNanos;
+  private final int budgetPercent;
+  private final int windowSize;
+  private final int minSamples;
+  private final TaskDecorator contextPropagation = new ContextPropagatingTaskDecorator();
+  private final SimpleAsyncTaskExecutor taskExecutor;
+  private final ScheduledThreadPoolExecutor hedgeScheduler;
+  private final Map<HttpRoute, RouteHedging> routeHedgings = new ConcurrentHashMap<>();
+  private final LongAdder notHedgedCount = new LongAdder();
+  private final LongAdder hedgedCount = new LongAdder();
+  private final LongAdder throttledCount = new LongAdder();
+  private final LongAdder primaryWinCount = new LongAdder();
+  private final LongAdder hedgeWinCount = new LongAdder();
+
+  /**
+   * @param enabled        헤징 사용 여부
+   * @param routes         헤징을 적용할 경로 URL 목록 (비어 있으면 모든 경로)
+   * @param percentile     헤지 요청을 보낼 기준 백분위수 (예: 0.95)
+   * @param minDelay       헤지 요청을 보내기 전 최소 대기 시간
+   * @param budgetPercent  헤지 예산 (요청 수 대비 추가 요청 비율, %)
+   * @param windowSize     경로별로 보관할 최근 응답 시간 표본 수
+   * @param minSamples     헤징을 시작하기 위한 최소 표본 수
+   * @param virtualThreads 가상 스레드 사용 여부 (Java 21 이상에서만 적용)
+   */
+  public HedgingExecutor(boolean enabled, Collection<String> routes, double percentile,
+      Duration minDelay, int budgetPercent, int windowSize, int minSamples,
+      boolean virtualThreads) {
+    if (percentile <= 0 || percentile > 1) {
+      throw new IllegalArgumentException("percentile must be in (0, 1]: " + percentile);
+    }
+    this.enabled = enabled;
+    this.routes = routes.stream()
+        .map(url -> HttpRoutes.of(UriComponentsBuilder.fromUriString(url).build().toUri()))
+        .collect(Collectors.toUnmodifiableSet());
+    this.percentile = percentile;
+    this.minDelayNanos = minDelay.toNanos();
+    this.budgetPercent = budgetPercent;
+    this.windowSize = windowSize;
+    this.minSamples = minSamples;
+    this.taskExecutor = new SimpleAsyncTaskExecutor("hedging-");
+    this.taskExecutor.setTaskDecorator(contextPropagation);
+    this.taskExecutor.setVirtualThreads(
+        virtualThreads && Runtime.version().feature() >= VIRTUAL_THREADS_MIN_JAVA_VERSION);
+    CustomizableThreadFactory schedulerThreadFactory = new CustomizableThreadFactory(
+        "hedging-scheduler-");
+    schedulerThreadFactory.setDaemon(true);
+    this.hedgeScheduler = new ScheduledThreadPoolExecutor(1, schedulerThreadFactory);
+    this.hedgeScheduler.setRemoveOnCancelPolicy(true);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder(PREFIX + ".requests", notHedgedCount, LongAdder::sum)
+        .tag("result", "not-hedged")
+        .description("헤지 요청 없이 끝난 요청 수")
+        .register(registry);
+    FunctionCounter.builder(PREFIX + ".requests", hedgedCount, LongAdder::sum)
+        .tag("result", "hedged")
+        .description("헤지 요청을 보낸 요청 수")
+        .register(registry);
+    FunctionCounter.builder(PREFIX + ".requests", throttledCount, LongAdder::sum)
+        .tag("result", "throttled")
+        .description("헤지 예산이 부족하여 헤지 요청을 보내지 않은 요청 수")
+        .register(registry);
+    FunctionCounter.builder(PREFIX + ".wins", primaryWinCount, LongAdder::sum)
+        .tag("attempt", "primary")
+        .description("헤징한 요청 중 첫 번째 요청이 먼저 성공한 수")
+        .register(registry);
+    FunctionCounter.builder(PREFIX + ".wins", hedgeWinCount, LongAdder::sum)
+        .tag("attempt", "hedge")
+        .description("헤징한 요청 중 헤지 요청이 먼저 성공한 수")
+        .register(registry);
+  }
+
+  /**
+   * 헤징을 적용할 경로이면 헤징하여 요청을 실행하고, 아니면 현재 스레드에서 그대로 실행
+   *
+   * @param targetUrl 요청 URL
+   * @param call      요청을 실행하는 함수 (헤지 요청에서 한 번 더 호출될 수 있음)
+   * @return 먼저 성공한 요청의 응답 객체
+   */
+  public <T> T execute(String targetUrl, Supplier<T> call) {
+    if (!enabled) {
+      return call.get();
+    }
+    return execute(HttpRoutes.of(UriComponentsBuilder.fromUriString(targetUrl).build().toUri()),
+        call);
+  }
+
+  /**
+   * 헤징을 적용할 경로이면 헤징하여 요청을 실행하고, 아니면 현재 스레드에서 그대로 실행
+   * <p>경로를 미리 알고 있는 경우(RequestTemplate 등) URL 파싱 없이 사용</p>
+   *
+   * @param route 요청 경로
+   * @param call  요청을 실행하는 함수 (헤지 요청에서 한 번 더 호출될 수 있음)
+   * @return 먼저 성공한 요청의 응답 객체
+   */
+  public <T> T execute(HttpRoute route, Supplier<T> call) {
+    if (!enabled || (!routes.isEmpty() && !routes.contains(route))) {
+      return call.get();
+    }
+    RouteHedging routeHedging = routeHedgings.computeIfAbsent(route, RouteHedging::new);
+    routeHedging.deposit();
+
+    long delayNanos = routeHedging.delayNanos();
+    if (delayNanos < 0) {
+      // 표본이 부족하면 헤징하지 않고 응답 시간만 기록
+      notHedgedCount.increment();
+      long startTime = System.nanoTime();
+      T result = call.get();
+      routeHedging.latencies.record(System.nanoTime() - startTime);
+      return result;
+    }
+
+    Attempt<T> primary = new Attempt<>();
+    Attempt<T> hedge = new Attempt<>();
+    AtomicInteger state = new AtomicInteger(PENDING);
+    ScheduledFuture<?> hedgeTimer = hedgeScheduler.schedule(contextPropagation.decorate(
+            () -> startHedge(route, call, routeHedging, primary, hedge, state, delayNanos)),
+        delayNanos, TimeUnit.NANOSECONDS);
+
+    run(call, routeHedging, primary);
+    if (state.compareAndSet(PENDING, COMPLETED)) {
+      // 대기 시간 안에 끝나면 헤지 요청을 보내지 않음
+      hedgeTimer.cancel(false);
+      notHedgedCount.increment();
+      return await(primary.future, primary);
+    }
+    if (state.get() == THROTTLED) {
+      return await(primary.future, primary);
+    }
+
+    Attempt<T> winner = await(firstSuccessful(primary, hedge), primary, hedge);
+    Attempt<T> loser = winner == primary ? hedge : primary;
+    loser.cancel();
+    (winner == primary ? primaryWinCount : hedgeWinCount).increment();
+    return winner.future.join();
+  }
+
+  @Override
+  public void close() {
+    hedgeScheduler.shutdownNow();
+    taskExecutor.close();
+  }
+
+  /**
+   * 현재 스레드에서 실행 중인 요청 시도에 HTTP 요청을 연결하여, 시도가 취소되면 요청도 취소되도록 함
+   *
+   * @param request 취소 가능한 HTTP 요청
+   */
+  static void bindToCurrentAttempt(Cancellable request) {
+    Attempt<?> attempt = CURRENT_ATTEMPT.get();
+    if (attempt != null) {
+      attempt.bind(request);
+    }
+  }
+
+  /**
+   * 대기 시간이 지나도 첫 번째 요청이 끝나지 않았으면 헤지 예산을 확인하고 헤지 요청을 별도 스레드에서 시작
+   * <p>헤지 요청이 먼저 성공하면 첫 번째 요청을 취소하여, 첫 번째 요청을 실행 중인 호출 스레드가 바로 결과를 반환하도록 함</p>
+   */
+  private <T> void startHedge(HttpRoute route, Supplier<T> call, RouteHedging routeHedging,
+      Attempt<T> primary, Attempt<T> hedge, AtomicInteger state, long delayNanos) {
+    if (primary.future.isDone()) {
+      return;
+    }
+    if (!routeHedging.tryWithdraw()) {
+      if (state.compareAndSet(PENDING, THROTTLED)) {
+        throttledCount.increment();
+      }
+      return;
+    }
+    if (!state.compareAndSet(PENDING, HEDGED)) {
+      routeHedging.refund();
+      return;
+    }
+    hedgedCount.increment();
+    log.debug("Sending hedge request - route: {}, delay: {}ms", HttpRoutes.nameOf(route),
+        TimeUnit.NANOSECONDS.toMillis(delayNanos));
+    try {
+      taskExecutor.execute(() -> {
+        run(call, routeHedging, hedge);
+        if (!hedge.future.isCompletedExceptionally()) {
+          primary.cancel();
+        }
+      });
+    } catch (RuntimeException ex) {
+      hedge.future.completeExceptionally(ex);
+    }
+  }
+
+  /**
+   * 현재 스레드에서 요청 시도를 실행하고 결과를 시도의 future에 기록
+   */
+  private <T> void run(Supplier<T> call, RouteHedging routeHedging, Attempt<T> attempt) {
+    CURRENT_ATTEMPT.set(attempt);
+    long startTime = System.nanoTime();
+    try {
+      T result = call.get();
+      routeHedging.latencies.record(System.nanoTime() - startTime);
+      attempt.future.complete(result);
+    } catch (Throwable ex) {
+      attempt.future.completeExceptionally(ex);
+    } finally {
+      CURRENT_ATTEMPT.remove();
+    }
+  }
+
+  private <T> CompletableFuture<Attempt<T>> firstSuccessful(Attempt<T> primary, Attempt<T> hedge) {
+    CompletableFuture<Attempt<T>> winner = new CompletableFuture<>();
+    AtomicInteger remaining = new AtomicInteger(2);
+    for (Attempt<T> attempt : List.of(primary, hedge)) {
+      attempt.future.whenComplete((result, ex) -> {
+        if (ex == null) {
+          winner.complete(attempt);
+        } else if (remaining.decrementAndGet() == 0) {
+          winner.completeExceptionally(ex);
+        }
+      });
+    }
+    return winner;
+  }
+
+  private <R> R await(CompletableFuture<R> future, Attempt<?>... attempts) {
+    try {
+      return future.get();
+    } catch (ExecutionException ex) {
+      throw unwrap(ex);
+    } catch (InterruptedException ex) {
+      for (Attempt<?> attempt : attempts) {
+        attempt.cancel();
+      }
+      Thread.currentThread().interrupt();
+      throw new RestClientException("Hedged request interrupted", ex);
+    }
+  }
+
+  private RuntimeException unwrap(ExecutionException ex) {
+    if (ex.getCause() instanceof RuntimeException runtimeException) {
+      return runtimeException;
+    }
+    if (ex.getCause() instanceof Error error) {
+      throw error;
+    }
+    return new RestClientException("Hedged request failed", ex.getCause());
+  }
+
+  /**
+   * 경로별 최근 응답 시간과 헤지 예산
+   */
+  private class RouteHedging {
+
+    private final RollingPercentile latencies = new RollingPercentile(windowSize);
+    private int tokens;
+
+    private RouteHedging(HttpRoute route) {
+      log.debug("Hedging enabled - route: {}", HttpRoutes.nameOf(route));
+    }
+
+    /**
+     * 헤지 요청을 보내기 전 대기 시간을 반환
+     *
+     * @return 대기 시간 (나노초, 표본이 부족하면 -1)
+     */
+    private long delayNanos() {
+      if (latencies.size() < minSamples) {
+        return -1L;
+      }
+      return Math.max(minDelayNanos, latencies.percentile(percentile));
+    }
+
+    private synchronized void deposit() {
+      tokens = Math.min(MAX_BURST * TOKEN_UNIT, tokens + budgetPercent);
+    }
+
+    private synchronized boolean tryWithdraw() {
+      if (tokens < TOKEN_UNIT) {
+        return false;
+      }
+      tokens -= TOKEN_UNIT;
+      return true;
+    }
+
+    private synchronized void refund() {
+      tokens = Math.min(MAX_BURST * TOKEN_UNIT, tokens + TOKEN_UNIT);
+    }
+  }
+
+  /**
+   * 요청 1회 시도 (취소 시 연결된 HTTP 요청의 커넥션을 끊음)
+   */
+  private static class Attempt<T> {
+
+    private final CompletableFuture<T> future = new CompletableFuture<>();
+    private Cancellable request;
+    private boolean cancelled;
+
+    private synchronized void bind(Cancellable request) {
+      if (cancelled) {
+        request.cancel();
+      } else {
+        this.request = request;
+      }
+    }
+
+    private synchronized void cancel() {
+      cancelled = true;
+      if (request != null && !future.isDone()) {
+        request.cancel();
+      }
+    }
+  }
+}
@@ -0,0 +1,132 @@
+package com.example.restclient.concurrent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * 동시에 진행 중인 동일 GET 요청을 하나의 요청으로 병합
+ * <p>메서드, URL, 응답 타입, 요청 헤더(제외 헤더 제외)가 같으면 같은 요청으로 판단하며, 먼저 들어온 요청의 응답(역직렬화된 객체)을 나머지 요청이 공유</p>
+ * <p>응답 객체는 복사하지 않으므로 병합된 호출자는 같은 인스턴스를 받음. 한 호출자가 응답을 변경하면 다른 호출자에게도 보이므로, 호출자는 응답을 읽기
+ * 전용으로 다뤄야 함</p>
+ * <p>요청 헤더에 Cache-Control: no-cache 또는 no-store가 있으면 병합하지 않음</p>
+ * <p>httpclient.singleflight.requests 메트릭(result 태그: executed, shared)을 등록</p>
+ */
+@Slf4j
+public class RequestCoalescer implements MeterBinder {
+
+  private static final String PREFIX = "httpclient.singleflight";
+
+  private final SingleFlight<RequestKey, Object> singleFlight = new SingleFlight<>();
+  private final boolean enabled;
+  private final Set<String> ignoredHeaders;
+  private final LongAdder executedCount = new LongAdder();
+  private final LongAdder sharedCount = new LongAdder();
+
+  /**
+   * @param enabled        병합 사용 여부
+   * @param ignoredHeaders 요청 키 비교에서 제외할 헤더 이름 목록
+   */
+  public RequestCoalescer(boolean enabled, Collection<String> ignoredHeaders) {
+    this.enabled = enabled;
+    this.ignoredHeaders = ignoredHeaders.stream()
+        .map(name -> name.toLowerCase(Locale.ROOT))
+        .collect(Collectors.toUnmodifiableSet());
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder(PREFIX + ".requests", executedCount, LongAdder::sum)
+        .tag("result", "executed")
+        .description("실제로 보낸 요청 수")
+        .register(registry);
+    FunctionCounter.builder(PREFIX + ".requests", sharedCount, LongAdder::sum)
+        .tag("result", "shared")
+        .description("진행 중인 동일 요청의 응답을 공유한 요청 수")
+        .register(registry);
+  }
+
+  /**
+   * 진행 중인 동일 요청이 있으면 그 응답을 공유하고, 없으면 요청을 실행
+   *
+   * @param method       HTTP 메서드 (GET만 병합)
+   * @param targetUrl    요청 URL
+   * @param headers      요청 헤더 정보
+   * @param responseType 응답을 매핑할 타입
+   * @param call         요청을 실행하는 함수
+   * @return 응답 객체 (병합된 요청은 같은 객체를 공유하므로 변경하지 않아야 함)
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(HttpMethod method, String targetUrl, MultiValueMap<String, String> headers,
+      Object responseType, Supplier<T> call) {
+    if (!enabled || !HttpMethod.GET.equals(method) || isNoCache(headers)) {
+      return call.get();
+    }
+    RequestKey key = new RequestKey(method, targetUrl, keyHeaders(headers), responseType);
+    boolean[] executed = new boolean[1];
+    try {
+      return (T) singleFlight.execute(key, () -> {
+        executed[0] = true;
+        return call.get();
+      });
+    } finally {
+      (executed[0] ? executedCount : sharedCount).increment();
+      if (!executed[0]) {
+        log.debug("Coalesced in-flight request - url: {}", targetUrl);
+      }
+    }
+  }
+
+  /**
+   * 진행 중인 요청 수를 반환
+   *
+   * @return 진행 중인 요청 수
+   */
+  public int inFlightCount() {
+    return singleFlight.inFlightCount();
+  }
+
+  private boolean isNoCache(MultiValueMap<String, String> headers) {
+    if (headers == null) {
+      return false;
+    }
+    List<String> cacheControl = headers.get(HttpHeaders.CACHE_CONTROL);
+    return cacheControl != null && cacheControl.stream()
+        .map(value -> value.toLowerCase(Locale.ROOT))
+        .anyMatch(value -> value.contains("no-cache") || value.contains("no-store"));
+  }
+
+  private Map<String, List<String>> keyHeaders(MultiValueMap<String, String> headers) {
+    Map<String, List<String>> keyHeaders = new TreeMap<>();
+    if (headers != null) {
+      headers.forEach((name, values) -> {
+        String normalized = name.toLowerCase(Locale.ROOT);
+        if (!ignoredHeaders.contains(normalized)) {
+          keyHeaders.put(normalized, List.copyOf(values));
+        }
+      });
+    }
+    return keyHeaders;
+  }
+
+  /**
+   * 병합 여부를 판단하는 요청 키
+   */
+  private record RequestKey(HttpMethod method, String targetUrl,
+                            Map<String, List<String>> headers, Object responseType) {
+
+  }
+}
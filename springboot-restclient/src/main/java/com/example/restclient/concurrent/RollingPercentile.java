@@ -0,0 +1,75 @@
+package com.example.restclient.concurrent;
+
+import java.util.Arrays;
+
+/**
+ * 최근 N개의 표본(응답 시간 등)으로 백분위수를 계산
+ * <p>표본은 고정 크기 링 버퍼에 보관하며, 백분위수는 일정 개수의 표본이 새로 기록될 때마다 다시 계산하여 조회 비용을 줄임</p>
+ */
+public class RollingPercentile {
+
+  private static final int RECOMPUTE_DIVISOR = 20; // 윈도 크기의 1/20만큼 표본이 쌓이면 다시 계산
+
+  private final long[] samples;
+  private final int recomputeInterval;
+  private int count;
+  private int next;
+  private int recordedSinceCompute;
+  private double computedPercentile = Double.NaN;
+  private long computedValue;
+
+  /**
+   * @param windowSize 보관할 최근 표본 수
+   */
+  public RollingPercentile(int windowSize) {
+    if (windowSize <= 0) {
+      throw new IllegalArgumentException("windowSize must be positive: " + windowSize);
+    }
+    this.samples = new long[windowSize];
+    this.recomputeInterval = Math.max(1, windowSize / RECOMPUTE_DIVISOR);
+  }
+
+  /**
+   * 표본을 기록 (윈도가 가득 차면 가장 오래된 표본을 덮어씀)
+   *
+   * @param value 표본 값
+   */
+  public synchronized void record(long value) {
+    samples[next] = value;
+    next = (next + 1) % samples.length;
+    if (count < samples.length) {
+      count++;
+    }
+    recordedSinceCompute++;
+  }
+
+  /**
+   * 보관 중인 표본 수를 반환
+   *
+   * @return 표본 수
+   */
+  public synchronized int size() {
+    return count;
+  }
+
+  /**
+   * 보관 중인 표본의 백분위수를 반환 (nearest-rank 방식)
+   *
+   * @param percentile 백분위수 (0 초과 1 이하, 예: 0.95)
+   * @return 백분위수 값 (표본이 없으면 -1)
+   */
+  public synchronized long percentile(double percentile) {
+    if (count == 0) {
+      return -1L;
+    }
+    if (percentile != computedPercentile || recordedSinceCompute >= recomputeInterval) {
+      long[] sorted = Arrays.copyOf(samples, count);
+      Arrays.sort(sorted);
+      int rank = (int) Math.ceil(percentile * count);
+      computedValue = sorted[Math.min(count, Math.max(1, rank)) - 1];
+      computedPercentile = percentile;
+      recordedSinceCompute = 0;
+    }
+    return computedValue;
+  }
+}
@@ -0,0 +1,73 @@
+package com.example.restclient.concurrent;
+
+import com.example.restclient.loadbalancer.LoadBalancingRoutePlanner;
+import com.example.restclient.pool.ConnectionPoolTuner;
+import com.example.restclient.pool.HttpRoutes;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import org.apache.hc.client5.http.HttpRoute;
+
+/**
+ * 호스트(경로)별 동시 요청 수를 Connection Pool의 경로별 최대 커넥션 수로 제한
+ * <p>커넥션 임대 대기(connection request timeout)에 들어가기 전에 요청을 대기시켜, 일괄 요청이 풀을 고갈시키지 않도록 함</p>
+ * <p>클라이언트 측 로드 밸런싱 대상 서비스는 엔드포인트마다 경로별 최대 커넥션 수만큼 커넥션을 가지므로, 최대 커넥션 수 x 엔드포인트 수로 제한</p>
+ */
+public class RouteConcurrencyLimiter {
+
+  private final ConnectionPoolTuner connectionPoolTuner;
+  private final LoadBalancingRoutePlanner routePlanner;
+  private final Map<HttpRoute, RouteLimit> routeLimits = new ConcurrentHashMap<>();
+
+  /**
+   * @param connectionPoolTuner 경로별 Connection Pool 설정을 적용하는 객체
+   * @param routePlanner        로드 밸런싱 HttpRoutePlanner (서비스별 엔드포인트 수를 조회)
+   */
+  public RouteConcurrencyLimiter(ConnectionPoolTuner connectionPoolTuner,
+      LoadBalancingRoutePlanner routePlanner) {
+    this.connectionPoolTuner = connectionPoolTuner;
+    this.routePlanner = routePlanner;
+  }
+
+  /**
+   * 경로의 허용 수를 획득 (허용 수가 없으면 대기)
+   * <p>Connection Pool 설정이나 서비스 엔드포인트 수가 변경된 경우 변경된 허용 수를 반영</p>
+   *
+   * @param url 요청 URL
+   * @return 요청 완료 후 release()를 호출해야 하는 Semaphore
+   * @throws InterruptedException 대기 중 인터럽트된 경우
+   */
+  public Semaphore acquire(URI url) throws InterruptedException {
+    HttpRoute route = HttpRoutes.of(url);
+    int permits = connectionPoolTuner.settingsOf(route).maxConnections()
+        * routePlanner.endpointCountOf(route);
+    RouteLimit routeLimit = routeLimits.computeIfAbsent(route, key -> new RouteLimit(permits));
+    routeLimit.resize(permits);
+    routeLimit.acquire();
+    return routeLimit;
+  }
+
+  /**
+   * 최대 허용 수를 변경할 수 있는 Semaphore
+   */
+  private static class RouteLimit extends Semaphore {
+
+    private int limit;
+
+    private RouteLimit(int limit) {
+      super(limit, true);
+      this.limit = limit;
+    }
+
+    private synchronized void resize(int newLimit) {
+      int delta = newLimit - limit;
+      if (delta > 0) {
+        release(delta);
+      } else if (delta < 0) {
+        reducePermits(-delta);
+      }
+      limit = newLimit;
+    }
+  }
+}
@@ -0,0 +1,67 @@
+package com.example.restclient.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 호출이 동시에 들어오면 먼저 들어온 호출 하나만 실행하고, 나머지 호출은 그 결과(또는 예외)를 공유
+ * <p>호출이 끝나면 키를 제거하므로 결과를 캐시하지 않으며, 진행 중인 호출만 병합</p>
+ *
+ * @param <K> 키 타입 (equals/hashCode로 같은 호출을 판단)
+ * @param <V> 결과 타입
+ */
+public class SingleFlight<K, V> {
+
+  private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * 같은 키로 진행 중인 호출이 있으면 그 결과를 기다려 반환하고, 없으면 직접 호출
+   *
+   * @param key  호출 키
+   * @param call 실행할 호출
+   * @return 호출 결과 (병합된 호출은 같은 객체를 공유)
+   */
+  public V execute(K key, Supplier<V> call) {
+    CompletableFuture<V> created = new CompletableFuture<>();
+    CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+    if (existing != null) {
+      return join(existing);
+    }
+    try {
+      V value = call.get();
+      created.complete(value);
+      return value;
+    } catch (RuntimeException | Error ex) {
+      created.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      inFlight.remove(key, created);
+    }
+  }
+
+  /**
+   * 진행 중인 호출 수를 반환
+   *
+   * @return 진행 중인 호출 수
+   */
+  public int inFlightCount() {
+    return inFlight.size();
+  }
+
+  private V join(CompletableFuture<V> future) {
+    try {
+      return future.join();
+    } catch (CompletionException ex) {
+      Throwable cause = ex.getCause();
+      if (cause instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      if (cause instanceof Error error) {
+        throw error;
+      }
+      throw ex;
+    }
+  }
+}
@@ -0,0 +1,77 @@
+package com.example.restclient.concurrent;
+
+/**
+ * TCP Vegas 방식으로 측정한 응답 시간(RTT)에 따라 동시 요청 한도를 조절
+ * <p>최소 RTT 대비 현재 RTT로 대기열 길이(limit × (1 - minRtt / rtt))를 추정하여, 대기열이 alpha 이하이면 한도를 늘리고 beta
+ * 이상이면 한도를 줄임</p>
+ * <p>타임아웃, 429, 503 등 과부하 신호(drop)가 발생하면 한도를 BACKOFF_RATIO 비율로 줄이며, 일정 샘플마다 최소 RTT를 현재 RTT로 다시 측정하여
+ * 다운스트림의 기준 응답 시간 변화를 반영</p>
+ */
+public class VegasLimit {
+
+  private static final double BACKOFF_RATIO = 0.9; // 과부하 신호 발생 시 한도 감소 비율
+  private static final int ALPHA_FACTOR = 3; // 한도를 늘리는 대기열 길이 기준 (× log10(limit))
+  private static final int BETA_FACTOR = 6; // 한도를 줄이는 대기열 길이 기준 (× log10(limit))
+  private static final int PROBE_INTERVAL = 1_000; // 최소 RTT를 다시 측정하는 샘플 간격
+
+  private final int minLimit;
+  private double limit;
+  private long minRttNanos; // 측정된 최소 RTT (0이면 미측정)
+  private long sampleCount;
+
+  /**
+   * @param initialLimit 초기 한도
+   * @param minLimit     최소 한도
+   */
+  public VegasLimit(int initialLimit, int minLimit) {
+    this.limit = Math.max(initialLimit, minLimit);
+    this.minLimit = minLimit;
+  }
+
+  /**
+   * 요청 결과를 반영하여 한도를 조절
+   *
+   * @param rttNanos 응답 시간 (나노초)
+   * @param inFlight 요청 시작 시점의 진행 중인 요청 수
+   * @param dropped  과부하 신호(타임아웃, 429, 503 등) 여부
+   * @param maxLimit 최대 한도
+   */
+  public synchronized void onSample(long rttNanos, int inFlight, boolean dropped, int maxLimit) {
+    sampleCount++;
+    if (dropped) {
+      limit = clamp(limit * BACKOFF_RATIO, maxLimit);
+      return;
+    }
+    if (rttNanos <= 0) {
+      return;
+    }
+    if (minRttNanos == 0 || rttNanos < minRttNanos || sampleCount % PROBE_INTERVAL == 0) {
+      minRttNanos = rttNanos;
+    }
+
+    double queueSize = Math.ceil(limit * (1 - (double) minRttNanos / rttNanos));
+    int step = Math.max(1, (int) Math.log10(limit));
+    if (queueSize <= ALPHA_FACTOR * step) {
+      // 한도를 충분히 사용하고 있을 때만 늘림 (요청이 적어 한도가 무한히 늘어나는 것을 방지)
+      if (inFlight * 2 >= limit) {
+        limit += step;
+      }
+    } else if (queueSize >= BETA_FACTOR * step) {
+      limit -= step;
+    }
+    limit = clamp(limit, maxLimit);
+  }
+
+  /**
+   * 현재 한도를 반환
+   *
+   * @return 동시 요청 한도
+   */
+  public synchronized int getLimit() {
+    return (int) limit;
+  }
+
+  private double clamp(double value, int maxLimit) {
+    return Math.max(minLimit, Math.min(Math.max(maxLimit, minLimit), value));
+  }
+}
@@ -0,0 +1,23 @@
+package com.example.restclient.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 경로별 적응형 동시 요청 제한 설정 값 (rest-client.adaptive-concurrency)
+ * <p>enabled가 true일 때만 RestClient에 적용하며, 한도는 응답 시간에 따라 min-limit과 max-limit(경로별 최대 커넥션 수 이하) 사이에서 조절</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rest-client.adaptive-concurrency")
+public class AdaptiveConcurrencyProperties {
+
+  private boolean enabled = false; // 적응형 동시 요청 제한 사용 여부
+  private int initialLimit = 20; // 경로별 초기 동시 요청 한도
+  private int minLimit = 1; // 경로별 최소 동시 요청 한도
+  private int maxLimit = 200; // 경로별 최대 동시 요청 한도 (경로별 최대 커넥션 수를 넘지 않음)
+  private Duration maxWait = Duration.ZERO; // 한도 초과 시 최대 대기 시간 (0이면 대기 없이 바로 거절)
+  private int maxQueueSize = 100; // 경로별 최대 대기 요청 수 (초과 시 바로 거절)
+}
@@ -0,0 +1,26 @@
+package com.example.restclient.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 경로별 서킷 브레이커 설정 값 (rest-client.circuit-breaker)
+ * <p>enabled가 true일 때만 RestClient에 적용하며, 최근 window-size 건의 실패율 또는 느린 요청 비율이 기준 이상이면 wait-duration-in-open
+ * 동안 요청을 바로 거절</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rest-client.circuit-breaker")
+public class CircuitBreakerProperties {
+
+  private boolean enabled = false; // 서킷 브레이커 사용 여부
+  private int windowSize = 100; // 실패율을 계산할 최근 요청 수 (슬라이딩 윈도 크기)
+  private int minimumCalls = 20; // 실패율을 계산하기 위한 최소 요청 수
+  private int failureRateThreshold = 50; // OPEN으로 전환할 실패율 (%)
+  private int slowCallRateThreshold = 80; // OPEN으로 전환할 느린 요청 비율 (%)
+  private Duration slowCallDuration = Duration.ofSeconds(3); // 느린 요청으로 판단할 응답 시간
+  private Duration waitDurationInOpen = Duration.ofSeconds(10); // OPEN 상태 유지 시간 (이후 HALF_OPEN)
+  private int permittedCallsInHalfOpen = 3; // HALF_OPEN 상태에서 허용할 시험 요청 수
+}
@@ -0,0 +1,41 @@
+package com.example.restclient.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Connection Pool 설정 값 (rest-client.connection-pool)
+ * <p>routes에 등록한 호스트는 개별 설정 값을 사용하고, 등록하지 않은 호스트는 기본 설정 값을 사용</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rest-client.connection-pool")
+public class ConnectionPoolProperties {
+
+  private int maxTotal = 100; // 최대 전체 커넥션 수
+  private int defaultMaxPerRoute = 10; // 호스트(경로)별 기본 최대 커넥션 수
+  private Duration validateAfterInactivity = Duration.ofSeconds(2); // 유휴 후 재사용 전 연결 검증 기준 시간
+  private Duration timeToLive; // 커넥션 최대 수명 (미설정 시 무제한)
+  private Duration maxIdleTime = Duration.ofSeconds(10); // 유휴 연결 유지 시간
+  private Map<String, Route> routes = new LinkedHashMap<>(); // 호스트(경로)별 설정
+
+  /**
+   * 호스트(경로)별 Connection Pool 설정 값
+   * <p>설정하지 않은 항목은 기본 설정 값을 사용</p>
+   */
+  @Getter
+  @Setter
+  public static class Route {
+
+    private URI url; // 대상 호스트 URL (예: https://jsonplaceholder.typicode.com)
+    private Integer maxConnections; // 최대 커넥션 수
+    private Duration validateAfterInactivity; // 유휴 후 재사용 전 연결 검증 기준 시간
+    private Duration timeToLive; // 커넥션 최대 수명
+    private Duration maxIdleTime; // 유휴 연결 유지 시간
+  }
+}
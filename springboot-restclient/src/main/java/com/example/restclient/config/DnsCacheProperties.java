@@ -0,0 +1,22 @@
+package com.example.restclient.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * DNS 조회 결과 캐시 설정 값 (rest-client.dns-cache)
+ * <p>enabled가 true이면 새 연결, 로드 밸런싱 엔드포인트 조회 시 조회 결과를 ttl 동안 캐시하고, 사용 중인 호스트는 만료 전에 백그라운드에서
+ * 다시 조회</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rest-client.dns-cache")
+public class DnsCacheProperties {
+
+  private boolean enabled = false; // DNS 조회 결과 캐시 사용 여부 (false이면 새 연결마다 시스템 DNS로 조회)
+  private Duration ttl = Duration.ofSeconds(30); // 조회 결과 캐시 시간 (절반이 지나면 백그라운드에서 다시 조회)
+  private Duration maxStale = Duration.ofMinutes(5); // 다시 조회에 실패했을 때 마지막 조회 결과를 사용할 최대 시간
+  private Duration idleTimeout = Duration.ofMinutes(10); // 조회하지 않은 호스트를 캐시에서 제거할 시간
+}
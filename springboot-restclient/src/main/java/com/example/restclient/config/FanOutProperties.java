@@ -0,0 +1,18 @@
+package com.example.restclient.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 비동기/일괄(fan-out) 요청 설정 값 (rest-client.fan-out)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rest-client.fan-out")
+public class FanOutProperties {
+
+  private int maxConcurrency = 16; // 호출 1건당 기본 최대 동시 요청 수
+  private boolean virtualThreads = true; // 가상 스레드 사용 여부 (Java 21 이상에서만 적용)
+  private int maxPlatformThreads = 100; // 플랫폼 스레드를 사용할 때 동시에 실행할 최대 스레드 수 (넘으면 작업 제출이 대기)
+}
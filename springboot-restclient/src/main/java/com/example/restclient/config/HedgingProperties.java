@@ -0,0 +1,27 @@
+package com.example.restclient.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * GET 요청 헤징(hedging) 설정 값 (rest-client.hedging)
+ * <p>routes에 등록한 경로(scheme, host, port 기준)에만 적용하며, 비어 있으면 모든 경로에 적용</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rest-client.hedging")
+public class HedgingProperties {
+
+  private boolean enabled = false; // GET 요청 헤징 사용 여부
+  private List<String> routes = new ArrayList<>(); // 헤징을 적용할 경로 URL 목록 (비어 있으면 모든 경로)
+  private double percentile = 0.95; // 헤지 요청을 보낼 기준 백분위수 (경로별 최근 응답 시간)
+  private Duration minDelay = Duration.ofMillis(10); // 헤지 요청을 보내기 전 최소 대기 시간
+  private int budgetPercent = 10; // 헤지 예산 (요청 수 대비 추가 요청 비율, %)
+  private int windowSize = 1000; // 경로별로 보관할 최근 응답 시간 표본 수
+  private int minSamples = 100; // 헤징을 시작하기 위한 최소 표본 수
+  private boolean virtualThreads = true; // 가상 스레드 사용 여부 (Java 21 이상에서만 적용)
+}
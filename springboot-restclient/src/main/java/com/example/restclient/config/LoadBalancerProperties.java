@@ -0,0 +1,53 @@
+package com.example.restclient.config;
+
+import com.example.restclient.loadbalancer.LoadBalancingStrategy;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 클라이언트 측 로드 밸런싱 설정 값 (rest-client.load-balancer)
+ * <p>enabled가 true이면 services에 등록한 서비스 URL로 가는 요청을 서비스의 엔드포인트(설정한 목록 또는 DNS로 조회한 모든 주소)에 나눠 보내며,
+ * 엔드포인트마다 별도의 Connection Pool을 사용</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rest-client.load-balancer")
+public class LoadBalancerProperties {
+
+  private boolean enabled = false; // 클라이언트 측 로드 밸런싱 사용 여부
+  private LoadBalancingStrategy strategy = LoadBalancingStrategy.POWER_OF_TWO_CHOICES; // 기본 엔드포인트 선택 방식
+  private OutlierEjection outlierEjection = new OutlierEjection(); // 이상 엔드포인트 제외 설정
+  private Map<String, Service> services = new LinkedHashMap<>(); // 서비스별 설정
+
+  /**
+   * 이상 엔드포인트 제외 설정 값
+   */
+  @Getter
+  @Setter
+  public static class OutlierEjection {
+
+    private int consecutiveFailures = 5; // 제외할 연속 실패 수 (I/O 오류, 5xx 응답)
+    private Duration baseEjectionTime = Duration.ofSeconds(30); // 제외 시간 (다시 제외할 때마다 배수로 증가)
+    private Duration maxEjectionTime = Duration.ofMinutes(5); // 최대 제외 시간
+    private int maxEjectionPercent = 50; // 동시에 제외할 수 있는 최대 엔드포인트 비율 (%)
+  }
+
+  /**
+   * 서비스별 로드 밸런싱 설정 값
+   */
+  @Getter
+  @Setter
+  public static class Service {
+
+    private URI url; // 서비스 URL (예: https://api.internal:8443)
+    private List<String> endpoints = new ArrayList<>(); // 엔드포인트 목록 (host[:port], 비어 있으면 DNS로 조회한 모든 주소)
+    private LoadBalancingStrategy strategy; // 엔드포인트 선택 방식 (미설정 시 기본 선택 방식)
+  }
+}
@@ -0,0 +1,22 @@
+package com.example.restclient.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 풀링된 버퍼로 응답 본문을 읽는 설정 값 (rest-client.response-buffer)
+ * <p>buffer-size 이하인 JSON 응답은 버퍼에서 바로 역직렬화하며, G1 GC에서 버퍼가 humongous 객체가 되지 않도록 region 크기의
+ * 절반보다 작게 설정</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rest-client.response-buffer")
+public class ResponseBufferProperties {
+
+  private boolean enabled = false; // 풀링된 버퍼로 응답 본문 읽기 사용 여부
+  private boolean direct = false; // 다이렉트(힙 외부) 버퍼 사용 여부 (JSON 본문을 버퍼에서 바로 역직렬화하려면 false)
+  private DataSize bufferSize = DataSize.ofKilobytes(64); // 버퍼 크기
+  private int maxPooled = 64; // 풀에 보관할 최대 버퍼 수
+}
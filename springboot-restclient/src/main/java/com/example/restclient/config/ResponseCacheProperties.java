@@ -0,0 +1,33 @@
+package com.example.restclient.config;
+
+import java.nio.file.Path;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 응답 캐시 설정 값 (rest-client.response-cache)
+ * <p>enabled가 true일 때만 RestClient에 응답 캐시를 적용하며, disk.directory를 설정하면 메모리에서 밀려난 응답을 디스크에 보관</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rest-client.response-cache")
+public class ResponseCacheProperties {
+
+  private boolean enabled = false; // 응답 캐시 사용 여부
+  private DataSize maximumSize = DataSize.ofMegabytes(32); // 메모리 캐시 최대 크기
+  private DataSize maxEntrySize = DataSize.ofMegabytes(1); // 캐시할 응답 본문 최대 크기 (초과 시 캐시하지 않음)
+  private Disk disk = new Disk(); // 디스크 캐시 설정
+
+  /**
+   * 디스크 캐시 설정 값
+   */
+  @Getter
+  @Setter
+  public static class Disk {
+
+    private Path directory; // 디스크 캐시 디렉터리 (미설정 시 디스크 캐시 미사용)
+    private DataSize maximumSize = DataSize.ofMegabytes(256); // 디스크 캐시 최대 크기
+  }
+}
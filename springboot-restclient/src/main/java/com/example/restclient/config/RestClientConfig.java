@@ -1,31 +1,105 @@
 package com.example.restclient.config;
 
+import com.example.restclient.buffer.ByteBufferPool;
+import com.example.restclient.buffer.ByteBufferPoolMetrics;
+import com.example.restclient.buffer.PooledBufferRequestFactory;
+import com.example.restclient.cache.DiskCacheTier;
+import com.example.restclient.cache.ResponseCache;
+import com.example.restclient.cache.ResponseCacheInterceptor;
+import com.example.restclient.circuitbreaker.CircuitBreaker;
+import com.example.restclient.circuitbreaker.CircuitBreakerInterceptor;
+import com.example.restclient.codec.PayloadFormatResolver;
+import com.example.restclient.codec.PooledBufferJsonHttpMessageConverter;
+import com.example.restclient.compression.ContentEncoding;
+import com.example.restclient.compression.RequestCompressionInterceptor;
+import com.example.restclient.concurrent.AdaptiveConcurrencyInterceptor;
+import com.example.restclient.concurrent.CancellableRequestFactory;
+import com.example.restclient.concurrent.FanOutExecutor;
+import com.example.restclient.concurrent.HedgingExecutor;
+import com.example.restclient.concurrent.RequestCoalescer;
+import com.example.restclient.concurrent.RouteConcurrencyLimiter;
+import com.example.restclient.dns.CachingDnsResolver;
+import com.example.restclient.loadbalancer.LoadBalancedService;
+import com.example.restclient.loadbalancer.LoadBalancingRoutePlanner;
+import com.example.restclient.observation.HttpClientMetrics;
+import com.example.restclient.observation.ObservedRequestFactory;
+import com.example.restclient.observation.TimedConnectionOperator;
+import com.example.restclient.pool.ConnectionPoolEndpoint;
+import com.example.restclient.pool.ConnectionPoolTuner;
+import com.example.restclient.pool.HttpRoutes;
+import com.example.restclient.pool.InstrumentedConnectionManager;
+import com.example.restclient.ratelimit.RateLimitInterceptor;
+import com.example.restclient.retry.BackoffRetryStrategy;
+import com.example.restclient.retry.RetryBudget;
+import com.example.restclient.warmup.ConnectionWarmer;
+import com.example.restclient.warmup.StartupWarmUp;
+import io.micrometer.observation.ObservationRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.DnsResolver;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.SystemDefaultDnsResolver;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
 import org.apache.hc.client5.http.classic.HttpClient;
 import org.apache.hc.client5.http.config.RequestConfig;
-import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
-import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
+import org.apache.hc.client5.http.entity.DeflateInputStreamFactory;
+import org.apache.hc.client5.http.entity.GZIPInputStreamFactory;
+import org.apache.hc.client5.http.entity.InputStreamFactory;
+import org.apache.hc.client5.http.impl.ChainElement;
 import org.apache.hc.client5.http.impl.classic.DefaultBackoffStrategy;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
 import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.http.HttpHeaders;
 import org.apache.hc.core5.http.impl.DefaultConnectionReuseStrategy;
-import org.apache.hc.core5.util.TimeValue;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.web.client.RestClient;
 
 @Configuration
+@EnableConfigurationProperties({ConnectionPoolProperties.class, FanOutProperties.class,
+    ResponseCacheProperties.class, SingleFlightProperties.class,
+    AdaptiveConcurrencyProperties.class, HedgingProperties.class, RetryProperties.class,
+    CircuitBreakerProperties.class, CompressionProperties.class, SerializationProperties.class,
+    ResponseBufferProperties.class, DnsCacheProperties.class, LoadBalancerProperties.class,
+    WarmUpProperties.class, RateLimitProperties.class})
+@ImportRuntimeHints(RestClientRuntimeHints.class)
 public class RestClientConfig {
 
-  // Connection Pool 설정 값
-  private static final int MAX_TOTAL_CONNECTIONS = 100; // 최대 전체 커넥션 수
-  private static final int MAX_CONNECTIONS_PER_ROUTE = 10; // 특정 호스트(경로)별 최대 커넥션 수
-  private static final int MAX_IDLE_TIME = 10; // 유휴 연결 유지 시간 (초 단위)
+  // 파일 전송 버퍼 설정 값
+  private static final int TRANSFER_BUFFER_SIZE = 64 * 1024; // 파일 전송 버퍼 크기 (바이트)
+  private static final int TRANSFER_BUFFER_POOL_SIZE = 32; // 풀에 보관할 최대 버퍼 수
 
-  // Retry 설정 값
-  private static final int MAX_RETRIES = 1; // 요청 실패 시 재시도 횟수
-  private static final long RETRY_INTERVAL_IN_SECONDS = 1L; // 재시도 간격 (초 단위)
+  // ClientHttpRequestInterceptor 적용 순서 (작을수록 바깥쪽에서 먼저 실행)
+  private static final int RESPONSE_CACHE_ORDER = 100; // 응답 캐시 (캐시 적중 시 이후 인터셉터를 거치지 않음)
+  private static final int CIRCUIT_BREAKER_ORDER = 200; // 서킷 브레이커 (OPEN이면 이후 인터셉터를 거치지 않고 거절)
+  private static final int RATE_LIMIT_ORDER = 250; // 요청 속도 제한 (토큰을 기다리는 동안 동시 요청 한도를 점유하지 않음)
+  private static final int ADAPTIVE_CONCURRENCY_ORDER = 300; // 적응형 동시 요청 제한
+  private static final int REQUEST_COMPRESSION_ORDER = 400; // 요청 본문 압축 (캐시 키 등은 압축 전 본문 기준)
+
+  // 응답 압축 협상 설정 값
+  private static final String ACCEPT_ENCODING_INTERCEPTOR = "accept-encoding"; // ExecChainHandler 이름
+  private static final String IDENTITY_ENCODING = "identity"; // Range 요청의 Accept-Encoding (압축하지 않음)
+
+  // 클라이언트 측 로드 밸런싱 설정 값
+  private static final String LOAD_BALANCER_INTERCEPTOR = "load-balancer"; // ExecChainHandler 이름
+
+  // 요청 구간 메트릭 설정 값
+  private static final String TIME_TO_FIRST_BYTE_INTERCEPTOR = "time-to-first-byte"; // ExecChainHandler 이름
 
   // Timeout 설정 값
   private static final long RESPONSE_TIMEOUT = 5L; // 응답 타임아웃 (초 단위)
@@ -33,46 +107,515 @@ public class RestClientConfig {
 
   /**
    * RestClient 빈을 생성
+   * <p>등록된 ClientHttpRequestInterceptor 빈(응답 캐시 등)을 순서(@Order)대로 적용</p>
+   * <p>헤징한 GET 요청 중 늦은 요청을 취소할 수 있도록 CancellableRequestFactory를 사용</p>
+   * <p>rest-client.response-buffer.enabled=true이면 응답 본문을 풀링된 버퍼로 읽고, 버퍼에 모두 담긴 JSON 응답은 버퍼에서 바로
+   * 역직렬화</p>
+   * <p>요청마다 Observation(http.client.requests 메트릭, 트레이스 컨텍스트 전파)을 기록하고, 요청/응답 본문 크기와 응답 본문
+   * 읽기/역직렬화 시간은 HttpClientMetrics에 기록</p>
    *
-   * @param httpClient 설정된 HttpClient 객체
+   * @param httpClient               설정된 HttpClient 객체
+   * @param requestInterceptors      적용할 ClientHttpRequestInterceptor 목록
+   * @param responseBufferProperties 풀링된 버퍼로 응답 본문 읽기 설정 값
+   * @param responseBufferPool       응답 본문을 읽을 때 사용할 버퍼 풀
+   * @param observationRegistry      요청 Observation을 기록할 ObservationRegistry
+   * @param httpClientMetrics        요청 구간 메트릭을 기록할 HttpClientMetrics
    * @return RestClient 객체
    */
   @Bean
-  public RestClient restClient(HttpClient httpClient) {
-    return RestClient.builder()
-        .requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient))
+  @Primary
+  public RestClient restClient(HttpClient httpClient,
+      List<ClientHttpRequestInterceptor> requestInterceptors,
+      ResponseBufferProperties responseBufferProperties,
+      @Qualifier("responseBufferPool") ByteBufferPool responseBufferPool,
+      ObservationRegistry observationRegistry, HttpClientMetrics httpClientMetrics) {
+    ClientHttpRequestFactory requestFactory = new ObservedRequestFactory(
+        new CancellableRequestFactory(httpClient), httpClientMetrics);
+    RestClient.Builder builder = RestClient.builder()
+        .observationRegistry(observationRegistry)
+        .requestInterceptors(interceptors -> interceptors.addAll(requestInterceptors));
+    if (responseBufferProperties.isEnabled()) {
+      requestFactory = new PooledBufferRequestFactory(requestFactory, responseBufferPool);
+      builder.messageConverters(converters -> converters.replaceAll(
+          converter -> converter instanceof MappingJackson2HttpMessageConverter
+              ? new PooledBufferJsonHttpMessageConverter() : converter));
+    }
+    return builder.requestFactory(requestFactory).build();
+  }
+
+  /**
+   * 파일 다운로드/업로드에 사용하는 RestClient 빈을 생성
+   * <p>ClientHttpRequestInterceptor가 있으면 InterceptingClientHttpRequest가 요청 본문 전체를 byte[]로 복사하므로, RestClient 빈과
+   * 같은 ClientHttpRequestFactory, 메시지 컨버터, ObservationRegistry를 사용하되 인터셉터(응답 캐시, 요청 본문 압축 등)는 적용하지 않음</p>
+   *
+   * @param restClient 인터셉터가 적용된 RestClient 객체
+   * @return 인터셉터를 적용하지 않은 RestClient 객체
+   */
+  @Bean
+  public RestClient fileTransferRestClient(RestClient restClient) {
+    return restClient.mutate()
+        .requestInterceptors(List::clear)
         .build();
   }
 
   /**
    * HttpClient 빈을 생성
+   * <p>유휴 연결은 경로별 유휴 연결 유지 시간을 Keep-Alive 시간으로 적용하여 만료 커넥션으로 정리</p>
+   * <p>Accept-Encoding으로 응답 압축을 협상하고, 압축된 응답은 읽는 시점에 스트리밍으로 압축을 해제</p>
+   * <p>로드 밸런싱 대상 서비스로 가는 요청은 엔드포인트별 경로로 연결하며, 재시도마다 엔드포인트를 다시 선택</p>
+   * <p>요청 전송부터 응답 헤더 수신까지의 시간(ttfb)은 커넥션 임대, 연결 시간을 제외하고 HttpClientMetrics에 기록</p>
    *
+   * @param connectionManager     Connection Manager 객체
+   * @param connectionPoolTuner   경로별 Connection Pool 설정을 적용하는 객체
+   * @param retryStrategy         요청 재시도 전략
+   * @param compressionProperties 요청/응답 본문 압축 설정 값
+   * @param routePlanner          로드 밸런싱 HttpRoutePlanner
+   * @param httpClientMetrics     요청 구간 메트릭을 기록할 HttpClientMetrics
    * @return 설정된 HttpClient 객체
    */
   @Bean
-  public HttpClient httpClient() {
-    return HttpClients.custom()
+  public HttpClient httpClient(PoolingHttpClientConnectionManager connectionManager,
+      ConnectionPoolTuner connectionPoolTuner, BackoffRetryStrategy retryStrategy,
+      CompressionProperties compressionProperties, LoadBalancingRoutePlanner routePlanner,
+      HttpClientMetrics httpClientMetrics) {
+    LinkedHashMap<String, InputStreamFactory> contentDecoders = buildContentDecoders(
+        compressionProperties.isAcceptZstd());
+    HttpClientBuilder builder = HttpClients.custom();
+    if (!routePlanner.getServices().isEmpty()) {
+      builder.addExecInterceptorAfter(ChainElement.RETRY.name(), LOAD_BALANCER_INTERCEPTOR,
+          routePlanner.endpointTracker());
+    }
+    return builder
+        .setRoutePlanner(routePlanner)
+        .setContentDecoderRegistry(contentDecoders)
+        .addExecInterceptorBefore(ChainElement.COMPRESS.name(), ACCEPT_ENCODING_INTERCEPTOR,
+            acceptEncodingHandler(String.join(", ", contentDecoders.keySet())))
+        .addExecInterceptorBefore(ChainElement.MAIN_TRANSPORT.name(),
+            TIME_TO_FIRST_BYTE_INTERCEPTOR, httpClientMetrics.timeToFirstByteHandler())
         .setConnectionBackoffStrategy(new DefaultBackoffStrategy())
-        .setKeepAliveStrategy(new DefaultConnectionKeepAliveStrategy())
-        .setRetryStrategy(buildRetryStrategy())
+        .setKeepAliveStrategy(connectionPoolTuner)
+        .setRetryStrategy(retryStrategy)
         .setConnectionReuseStrategy(DefaultConnectionReuseStrategy.INSTANCE)
         .setDefaultRequestConfig(buildRequestConfig())
-        .setConnectionManager(buildConnectionManager())
+        .setConnectionManager(connectionManager)
         .evictExpiredConnections()
-        .evictIdleConnections(TimeValue.ofSeconds(MAX_IDLE_TIME))
         .build();
   }
 
   /**
-   * Connection Manager를 생성
+   * Connection Manager 빈을 생성
+   * <p>최대 커넥션 수 등의 설정은 ConnectionPoolTuner에서 적용하며, MeterBinder로 Connection Pool 메트릭을 등록</p>
+   * <p>새 연결의 TCP 연결, TLS 핸드셰이크 시간은 HttpClientMetrics에 기록</p>
    *
-   * @return 설정된 PoolingHttpClientConnectionManager 객체
+   * @param dnsResolver       새 연결의 호스트 주소를 조회할 DnsResolver
+   * @param httpClientMetrics 연결 구간 메트릭을 기록할 HttpClientMetrics
+   * @return InstrumentedConnectionManager 객체
    */
-  private PoolingHttpClientConnectionManager buildConnectionManager() {
-    PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
-    connectionManager.setMaxTotal(MAX_TOTAL_CONNECTIONS);
-    connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
-    return connectionManager;
+  @Bean
+  public InstrumentedConnectionManager connectionManager(DnsResolver dnsResolver,
+      HttpClientMetrics httpClientMetrics) {
+    return new InstrumentedConnectionManager(
+        new TimedConnectionOperator(dnsResolver, httpClientMetrics));
+  }
+
+  /**
+   * 경로별 요청 구간 시간(connect, tls, ttfb, body.read, deserialize), 요청/응답 본문 크기, 응답 상태 메트릭을 기록하는
+   * HttpClientMetrics 빈을 생성
+   *
+   * @return HttpClientMetrics 객체
+   */
+  @Bean
+  public HttpClientMetrics httpClientMetrics() {
+    return new HttpClientMetrics();
+  }
+
+  /**
+   * DnsResolver 빈을 생성
+   * <p>rest-client.dns-cache.enabled=true이면 조회 결과를 캐시하고 백그라운드에서 다시 조회하는 CachingDnsResolver를, 아니면
+   * 시스템 DNS(JVM 캐시)를 사용</p>
+   *
+   * @param dnsCacheProperties DNS 조회 결과 캐시 설정 값
+   * @return DnsResolver 객체
+   */
+  @Bean
+  public DnsResolver dnsResolver(DnsCacheProperties dnsCacheProperties) {
+    if (!dnsCacheProperties.isEnabled()) {
+      return SystemDefaultDnsResolver.INSTANCE;
+    }
+    return new CachingDnsResolver(SystemDefaultDnsResolver.INSTANCE, dnsCacheProperties.getTtl(),
+        dnsCacheProperties.getMaxStale(), dnsCacheProperties.getIdleTimeout());
+  }
+
+  /**
+   * 로드 밸런싱 HttpRoutePlanner 빈을 생성
+   * <p>rest-client.load-balancer.enabled=false이면 대상 서비스 없이 기본 경로만 사용하며, 엔드포인트별 Connection Pool에는
+   * 서비스 경로의 설정(최대 커넥션 수 등)을 적용</p>
+   *
+   * @param dnsResolver            엔드포인트 주소를 조회할 DnsResolver
+   * @param connectionPoolTuner    경로별 Connection Pool 설정을 적용하는 객체
+   * @param loadBalancerProperties 클라이언트 측 로드 밸런싱 설정 값
+   * @return LoadBalancingRoutePlanner 객체
+   */
+  @Bean
+  public LoadBalancingRoutePlanner loadBalancingRoutePlanner(DnsResolver dnsResolver,
+      ConnectionPoolTuner connectionPoolTuner, LoadBalancerProperties loadBalancerProperties) {
+    List<LoadBalancedService> services = new ArrayList<>();
+    if (loadBalancerProperties.isEnabled()) {
+      LoadBalancerProperties.OutlierEjection ejectionProperties =
+          loadBalancerProperties.getOutlierEjection();
+      LoadBalancedService.OutlierEjection outlierEjection = new LoadBalancedService.OutlierEjection(
+          ejectionProperties.getConsecutiveFailures(), ejectionProperties.getBaseEjectionTime(),
+          ejectionProperties.getMaxEjectionTime(), ejectionProperties.getMaxEjectionPercent());
+      loadBalancerProperties.getServices().forEach((name, service) -> {
+        if (service.getUrl() == null) {
+          throw new IllegalArgumentException("rest-client.load-balancer.services." + name
+              + ".url must be set");
+        }
+        services.add(new LoadBalancedService(name, service.getUrl(), service.getEndpoints(),
+            service.getStrategy() != null ? service.getStrategy()
+                : loadBalancerProperties.getStrategy(),
+            outlierEjection, dnsResolver, connectionPoolTuner::registerEndpointRoute));
+      });
+    }
+    return new LoadBalancingRoutePlanner(services);
+  }
+
+  /**
+   * ConnectionPoolTuner 빈을 생성
+   *
+   * @param connectionManager        Connection Manager 객체
+   * @param connectionPoolProperties Connection Pool 설정 값
+   * @return 설정이 적용된 ConnectionPoolTuner 객체
+   */
+  @Bean
+  public ConnectionPoolTuner connectionPoolTuner(
+      PoolingHttpClientConnectionManager connectionManager,
+      ConnectionPoolProperties connectionPoolProperties) {
+    return new ConnectionPoolTuner(connectionManager, connectionPoolProperties);
+  }
+
+  /**
+   * 실행 중인 Connection Pool 설정을 조회하고 변경하는 Actuator 엔드포인트 빈을 생성 (/actuator/connectionpool)
+   * <p>management.endpoints.web.exposure.include에 connectionpool을 추가한 경우에만 생성</p>
+   *
+   * @param connectionManager   Connection Manager 객체
+   * @param connectionPoolTuner 경로별 Connection Pool 설정을 적용하는 객체
+   * @param environment         설정을 다시 읽을 Environment
+   * @return ConnectionPoolEndpoint 객체
+   */
+  @Bean
+  @ConditionalOnAvailableEndpoint
+  public ConnectionPoolEndpoint connectionPoolEndpoint(
+      PoolingHttpClientConnectionManager connectionManager,
+      ConnectionPoolTuner connectionPoolTuner, Environment environment) {
+    return new ConnectionPoolEndpoint(connectionManager, connectionPoolTuner, environment);
+  }
+
+  /**
+   * 요청 재시도 전략 빈을 생성
+   * <p>지수 백오프(full jitter)로 재시도하며, 경로별 재시도 예산을 넘거나 멱등하지 않은 요청(멱등 키 헤더가 없는 POST 등)은 재시도하지 않음</p>
+   *
+   * @param retryProperties 요청 재시도 설정 값
+   * @return BackoffRetryStrategy 객체
+   */
+  @Bean
+  public BackoffRetryStrategy retryStrategy(RetryProperties retryProperties) {
+    RetryProperties.Budget budgetProperties = retryProperties.getBudget();
+    return new BackoffRetryStrategy(retryProperties.getMaxRetries(),
+        retryProperties.getInitialBackoff(), retryProperties.getMaxBackoff(),
+        retryProperties.getMaxRetryAfter(), retryProperties.getRetryableStatuses(),
+        retryProperties.getIdempotencyKeyHeader(),
+        new RetryBudget(budgetProperties.getPercent(), budgetProperties.getMaxTokens()));
+  }
+
+  /**
+   * 비동기/일괄 요청을 실행하는 FanOutExecutor 빈을 생성
+   * <p>호스트별 동시 요청 수는 Connection Pool의 경로별 최대 커넥션 수(로드 밸런싱 대상 서비스는 x 엔드포인트 수)로 제한</p>
+   *
+   * @param connectionPoolTuner 경로별 Connection Pool 설정을 적용하는 객체
+   * @param routePlanner        로드 밸런싱 HttpRoutePlanner
+   * @param fanOutProperties    비동기/일괄 요청 설정 값
+   * @return FanOutExecutor 객체
+   */
+  @Bean
+  public FanOutExecutor fanOutExecutor(ConnectionPoolTuner connectionPoolTuner,
+      LoadBalancingRoutePlanner routePlanner, FanOutProperties fanOutProperties) {
+    return new FanOutExecutor(new RouteConcurrencyLimiter(connectionPoolTuner, routePlanner),
+        fanOutProperties.getMaxConcurrency(), fanOutProperties.isVirtualThreads(),
+        fanOutProperties.getMaxPlatformThreads());
+  }
+
+  /**
+   * 동시에 진행 중인 동일 GET 요청을 병합하는 RequestCoalescer 빈을 생성
+   *
+   * @param singleFlightProperties 동일 GET 요청 병합 설정 값
+   * @return RequestCoalescer 객체
+   */
+  @Bean
+  public RequestCoalescer requestCoalescer(SingleFlightProperties singleFlightProperties) {
+    return new RequestCoalescer(singleFlightProperties.isEnabled(),
+        singleFlightProperties.getIgnoredHeaders());
+  }
+
+  /**
+   * 지연 시간이 중요한 GET 요청을 헤징하는 HedgingExecutor 빈을 생성
+   * <p>rest-client.hedging.enabled=false이면 헤징하지 않고 요청을 그대로 실행</p>
+   *
+   * @param hedgingProperties GET 요청 헤징 설정 값
+   * @return HedgingExecutor 객체
+   */
+  @Bean
+  public HedgingExecutor hedgingExecutor(HedgingProperties hedgingProperties) {
+    return new HedgingExecutor(hedgingProperties.isEnabled(), hedgingProperties.getRoutes(),
+        hedgingProperties.getPercentile(), hedgingProperties.getMinDelay(),
+        hedgingProperties.getBudgetPercent(), hedgingProperties.getWindowSize(),
+        hedgingProperties.getMinSamples(), hedgingProperties.isVirtualThreads());
+  }
+
+  /**
+   * 요청 URL의 경로별로 본문 직렬화 형식(JSON, Smile, CBOR)을 선택하는 PayloadFormatResolver 빈을 생성
+   *
+   * @param serializationProperties 요청/응답 본문 직렬화 형식 설정 값
+   * @return PayloadFormatResolver 객체
+   */
+  @Bean
+  public PayloadFormatResolver payloadFormatResolver(
+      SerializationProperties serializationProperties) {
+    return new PayloadFormatResolver(serializationProperties.getDefaultFormat(),
+        serializationProperties.getRoutes());
+  }
+
+  /**
+   * 파일 다운로드/업로드에 사용하는 ByteBufferPool 빈을 생성 (ByteBufferPool 주입 시 기본으로 사용)
+   *
+   * @return ByteBufferPool 객체
+   */
+  @Bean
+  @Primary
+  public ByteBufferPool transferBufferPool() {
+    return new ByteBufferPool(TRANSFER_BUFFER_SIZE, TRANSFER_BUFFER_POOL_SIZE);
+  }
+
+  /**
+   * 응답 본문을 읽을 때 사용하는 ByteBufferPool 빈을 생성
+   * <p>버퍼는 처음 대여할 때 할당하므로 rest-client.response-buffer.enabled=false이면 메모리를 사용하지 않음</p>
+   *
+   * @param responseBufferProperties 풀링된 버퍼로 응답 본문 읽기 설정 값
+   * @return ByteBufferPool 객체
+   */
+  @Bean
+  public ByteBufferPool responseBufferPool(ResponseBufferProperties responseBufferProperties) {
+    return new ByteBufferPool(Math.toIntExact(responseBufferProperties.getBufferSize().toBytes()),
+        responseBufferProperties.getMaxPooled(), responseBufferProperties.isDirect());
+  }
+
+  /**
+   * 파일 전송 버퍼 풀의 재사용 메트릭(httpclient.buffer.pool.*, pool=transfer)을 등록하는 빈을 생성
+   *
+   * @param transferBufferPool 파일 다운로드/업로드에 사용하는 ByteBufferPool
+   * @return ByteBufferPoolMetrics 객체
+   */
+  @Bean
+  public ByteBufferPoolMetrics transferBufferPoolMetrics(
+      @Qualifier("transferBufferPool") ByteBufferPool transferBufferPool) {
+    return new ByteBufferPoolMetrics("transfer", transferBufferPool);
+  }
+
+  /**
+   * 응답 버퍼 풀의 재사용 메트릭(httpclient.buffer.pool.*, pool=response)을 등록하는 빈을 생성
+   *
+   * @param responseBufferPool 응답 본문을 읽을 때 사용하는 ByteBufferPool
+   * @return ByteBufferPoolMetrics 객체
+   */
+  @Bean
+  public ByteBufferPoolMetrics responseBufferPoolMetrics(
+      @Qualifier("responseBufferPool") ByteBufferPool responseBufferPool) {
+    return new ByteBufferPoolMetrics("response", responseBufferPool);
+  }
+
+  /**
+   * 응답 캐시 ClientHttpRequestInterceptor 빈을 생성 (rest-client.response-cache.enabled=true일 때만 생성)
+   * <p>disk.directory를 설정하면 메모리 캐시에서 밀려난 응답을 디스크 캐시에 보관</p>
+   *
+   * @param responseCacheProperties 응답 캐시 설정 값
+   * @return ResponseCacheInterceptor 객체
+   */
+  @Bean
+  @Order(RESPONSE_CACHE_ORDER)
+  @ConditionalOnProperty(prefix = "rest-client.response-cache", name = "enabled",
+      havingValue = "true")
+  public ResponseCacheInterceptor responseCacheInterceptor(
+      ResponseCacheProperties responseCacheProperties) {
+    ResponseCacheProperties.Disk diskProperties = responseCacheProperties.getDisk();
+    DiskCacheTier disk = diskProperties.getDirectory() == null ? null
+        : new DiskCacheTier(diskProperties.getDirectory(),
+            diskProperties.getMaximumSize().toBytes());
+    ResponseCache responseCache = new ResponseCache(
+        responseCacheProperties.getMaximumSize().toBytes(), disk);
+    return new ResponseCacheInterceptor(responseCache,
+        Math.toIntExact(responseCacheProperties.getMaxEntrySize().toBytes()));
+  }
+
+  /**
+   * 경로별 서킷 브레이커 ClientHttpRequestInterceptor 빈을 생성 (rest-client.circuit-breaker.enabled=true일 때만 생성)
+   * <p>실패율 또는 느린 요청 비율이 기준 이상인 경로는 요청을 보내지 않고 CircuitBreakerOpenException으로 바로 거절</p>
+   *
+   * @param circuitBreakerProperties 서킷 브레이커 설정 값
+   * @return CircuitBreakerInterceptor 객체
+   */
+  @Bean
+  @Order(CIRCUIT_BREAKER_ORDER)
+  @ConditionalOnProperty(prefix = "rest-client.circuit-breaker", name = "enabled",
+      havingValue = "true")
+  public CircuitBreakerInterceptor circuitBreakerInterceptor(
+      CircuitBreakerProperties circuitBreakerProperties) {
+    return new CircuitBreakerInterceptor(new CircuitBreaker.Settings(
+        circuitBreakerProperties.getWindowSize(),
+        circuitBreakerProperties.getMinimumCalls(),
+        circuitBreakerProperties.getFailureRateThreshold(),
+        circuitBreakerProperties.getSlowCallRateThreshold(),
+        circuitBreakerProperties.getSlowCallDuration(),
+        circuitBreakerProperties.getWaitDurationInOpen(),
+        circuitBreakerProperties.getPermittedCallsInHalfOpen()));
+  }
+
+  /**
+   * 요청 본문 압축 ClientHttpRequestInterceptor 빈을 생성 (rest-client.compression.request.enabled=true일 때만 생성)
+   * <p>POST, PUT, PATCH 요청 본문이 최소 크기 이상이면 설정한 방식으로 압축하고 Content-Encoding 헤더를 추가</p>
+   *
+   * @param compressionProperties 요청/응답 본문 압축 설정 값
+   * @return RequestCompressionInterceptor 객체
+   */
+  @Bean
+  @Order(REQUEST_COMPRESSION_ORDER)
+  @ConditionalOnProperty(prefix = "rest-client.compression.request", name = "enabled",
+      havingValue = "true")
+  public RequestCompressionInterceptor requestCompressionInterceptor(
+      CompressionProperties compressionProperties) {
+    CompressionProperties.Request requestProperties = compressionProperties.getRequest();
+    return new RequestCompressionInterceptor(requestProperties.getEncoding(),
+        Math.toIntExact(requestProperties.getMinSize().toBytes()));
+  }
+
+  /**
+   * 경로별 요청 속도 제한 ClientHttpRequestInterceptor 빈을 생성 (rest-client.rate-limit.enabled=true일 때만 생성)
+   * <p>routes에 등록한 경로는 토큰 버킷으로 요청 속도를 제한하고, 최대 대기 시간 안에 토큰을 받을 수 없는 요청은
+   * RateLimitExceededException으로 거절</p>
+   *
+   * @param rateLimitProperties 요청 속도 제한 설정 값
+   * @return RateLimitInterceptor 객체
+   */
+  @Bean
+  @Order(RATE_LIMIT_ORDER)
+  @ConditionalOnProperty(prefix = "rest-client.rate-limit", name = "enabled", havingValue = "true")
+  public RateLimitInterceptor rateLimitInterceptor(RateLimitProperties rateLimitProperties) {
+    Map<HttpRoute, RateLimitInterceptor.Limit> limits = new LinkedHashMap<>();
+    rateLimitProperties.getRoutes().forEach((name, route) -> {
+      if (route.getUrl() == null || route.getPermitsPerSecond() == null) {
+        throw new IllegalArgumentException("rest-client.rate-limit.routes." + name
+            + ".url and permits-per-second must be set");
+      }
+      limits.put(HttpRoutes.of(route.getUrl()), new RateLimitInterceptor.Limit(
+          route.getPermitsPerSecond(),
+          route.getBurst() != null ? route.getBurst() : rateLimitProperties.getBurst(),
+          route.getMaxWait() != null ? route.getMaxWait() : rateLimitProperties.getMaxWait()));
+    });
+    return new RateLimitInterceptor(limits, rateLimitProperties.isRespectHeaders());
+  }
+
+  /**
+   * 경로별 적응형 동시 요청 제한 ClientHttpRequestInterceptor 빈을 생성
+   * (rest-client.adaptive-concurrency.enabled=true일 때만 생성)
+   * <p>응답 시간에 따라 경로별 한도를 조절하고, 한도를 넘는 요청은 최대 대기 시간 후 ConcurrencyLimitExceededException으로 거절</p>
+   *
+   * @param connectionPoolTuner           경로별 Connection Pool 설정을 적용하는 객체
+   * @param adaptiveConcurrencyProperties 적응형 동시 요청 제한 설정 값
+   * @return AdaptiveConcurrencyInterceptor 객체
+   */
+  @Bean
+  @Order(ADAPTIVE_CONCURRENCY_ORDER)
+  @ConditionalOnProperty(prefix = "rest-client.adaptive-concurrency", name = "enabled",
+      havingValue = "true")
+  public AdaptiveConcurrencyInterceptor adaptiveConcurrencyInterceptor(
+      ConnectionPoolTuner connectionPoolTuner,
+      AdaptiveConcurrencyProperties adaptiveConcurrencyProperties) {
+    return new AdaptiveConcurrencyInterceptor(connectionPoolTuner,
+        adaptiveConcurrencyProperties.getInitialLimit(),
+        adaptiveConcurrencyProperties.getMinLimit(),
+        adaptiveConcurrencyProperties.getMaxLimit(),
+        adaptiveConcurrencyProperties.getMaxWait(),
+        adaptiveConcurrencyProperties.getMaxQueueSize());
+  }
+
+  /**
+   * 시작 시 워밍업 ApplicationListener 빈을 생성 (rest-client.warm-up.enabled=true일 때만 생성)
+   * <p>애플리케이션 준비 후 경로별 커넥션 연결, DTO 타입의 직렬화/역직렬화기 생성, 합성 요청을 마칠 때까지 Readiness를
+   * REFUSING_TRAFFIC으로 유지</p>
+   *
+   * @param restClient          합성 요청을 보내고 HttpMessageConverter를 워밍업할 RestClient
+   * @param connectionManager   커넥션을 열어 둘 Connection Manager
+   * @param connectionPoolTuner 경로별 Connection Pool 설정을 적용하는 객체
+   * @param routePlanner        로드 밸런싱 HttpRoutePlanner
+   * @param warmUpProperties    시작 시 워밍업 설정 값
+   * @return StartupWarmUp 객체
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "rest-client.warm-up", name = "enabled", havingValue = "true")
+  public StartupWarmUp startupWarmUp(RestClient restClient,
+      PoolingHttpClientConnectionManager connectionManager,
+      ConnectionPoolTuner connectionPoolTuner, LoadBalancingRoutePlanner routePlanner,
+      WarmUpProperties warmUpProperties) {
+    List<StartupWarmUp.Target> targets = new ArrayList<>();
+    warmUpProperties.getRoutes().forEach((name, route) -> {
+      if (route.getUrl() == null) {
+        throw new IllegalArgumentException("rest-client.warm-up.routes." + name
+            + ".url must be set");
+      }
+      targets.add(new StartupWarmUp.Target(route.getUrl(),
+          route.getConnections() != null ? route.getConnections()
+              : warmUpProperties.getConnections(),
+          route.getHealthPath(), route.getHealthRequests()));
+    });
+    return new StartupWarmUp(new ConnectionWarmer(connectionManager, connectionPoolTuner),
+        routePlanner, restClient, targets, warmUpProperties.getTypes(),
+        warmUpProperties.getTimeout());
+  }
+
+  /**
+   * 응답 압축 해제에 사용할 Content-Encoding별 InputStreamFactory를 생성
+   * <p>등록 순서대로 Accept-Encoding 헤더 값이 만들어짐 (예: zstd, gzip, x-gzip, deflate)</p>
+   *
+   * @param acceptZstd zstd 협상 여부
+   * @return Content-Encoding별 InputStreamFactory
+   */
+  private LinkedHashMap<String, InputStreamFactory> buildContentDecoders(boolean acceptZstd) {
+    LinkedHashMap<String, InputStreamFactory> decoders = new LinkedHashMap<>();
+    if (acceptZstd) {
+      decoders.put(ContentEncoding.ZSTD.getToken(), ContentEncoding.ZSTD::decode);
+    }
+    decoders.put(ContentEncoding.GZIP.getToken(), GZIPInputStreamFactory.getInstance());
+    decoders.put("x-gzip", GZIPInputStreamFactory.getInstance());
+    decoders.put(ContentEncoding.DEFLATE.getToken(), DeflateInputStreamFactory.getInstance());
+    return decoders;
+  }
+
+  /**
+   * 요청에 Accept-Encoding 헤더가 없으면 압축 해제가 가능한 방식을 추가하는 ExecChainHandler를 생성
+   * <p>HttpClient 기본 Accept-Encoding은 gzip, x-gzip, deflate로 고정되어 있어, 등록한 InputStreamFactory 기준으로
+   * 헤더를 직접 추가</p>
+   * <p>Range 요청은 서버가 압축된 본문 기준으로 범위를 자를 수 있으므로 identity로 보냄 (이어받기한 조각을 압축 해제하면 파일이 손상됨)</p>
+   *
+   * @param acceptEncoding Accept-Encoding 헤더 값
+   * @return ExecChainHandler 객체
+   */
+  private ExecChainHandler acceptEncodingHandler(String acceptEncoding) {
+    return (request, scope, chain) -> {
+      if (!request.containsHeader(HttpHeaders.ACCEPT_ENCODING)) {
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING,
+            request.containsHeader(HttpHeaders.RANGE) ? IDENTITY_ENCODING : acceptEncoding);
+      }
+      return chain.proceed(request, scope);
+    };
   }
 
   /**
@@ -86,16 +629,4 @@ public class RestClientConfig {
         .setConnectionRequestTimeout(CONNECTION_REQUEST_TIMEOUT, TimeUnit.SECONDS)
         .build();
   }
-
-  /**
-   * Retry Strategy를 생성
-   *
-   * @return 설정된 DefaultHttpRequestRetryStrategy 객체
-   */
-  private DefaultHttpRequestRetryStrategy buildRetryStrategy() {
-    return new DefaultHttpRequestRetryStrategy(
-        MAX_RETRIES,
-        TimeValue.ofSeconds(RETRY_INTERVAL_IN_SECONDS)
-    );
-  }
 }
@@ -0,0 +1,38 @@
+package com.example.restclient.config;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 요청 재시도 설정 값 (rest-client.retry)
+ * <p>재시도 간격은 지수 백오프(full jitter)를 사용하며, 응답에 Retry-After 헤더가 있으면 그 값을 따름</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rest-client.retry")
+public class RetryProperties {
+
+  private int maxRetries = 2; // 최대 재시도 횟수
+  private Duration initialBackoff = Duration.ofMillis(100); // 첫 번째 재시도의 최대 대기 시간 (재시도마다 2배씩 증가)
+  private Duration maxBackoff = Duration.ofSeconds(2); // 재시도 대기 시간 상한
+  private Duration maxRetryAfter = Duration.ofSeconds(3); // 따를 수 있는 Retry-After 최대 값 (초과하면 재시도하지 않음)
+  private Set<Integer> retryableStatuses = new LinkedHashSet<>(List.of(429, 503)); // 재시도할 응답 상태 코드
+  private String idempotencyKeyHeader = "Idempotency-Key"; // 멱등 키 헤더 이름 (POST, PATCH는 이 헤더가 있을 때만 재시도)
+  private Budget budget = new Budget(); // 경로별 재시도 예산 설정
+
+  /**
+   * 경로별 재시도 예산 설정 값 (토큰 버킷)
+   */
+  @Getter
+  @Setter
+  public static class Budget {
+
+    private int percent = 20; // 재시도 예산 (요청 수 대비 재시도 비율, %)
+    private int maxTokens = 10; // 경로별로 적립할 수 있는 최대 재시도 수
+  }
+}
@@ -0,0 +1,21 @@
+package com.example.restclient.config;
+
+import com.example.restclient.codec.PayloadFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 요청/응답 본문 직렬화 형식 설정 값 (rest-client.serialization)
+ * <p>routes에 등록한 경로(scheme, host, port 기준)는 지정한 형식(json, smile, cbor)을 사용하고, 나머지는 default-format을 사용</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rest-client.serialization")
+public class SerializationProperties {
+
+  private PayloadFormat defaultFormat = PayloadFormat.JSON; // 기본 직렬화 형식
+  private Map<String, PayloadFormat> routes = new LinkedHashMap<>(); // 경로 URL별 직렬화 형식
+}
@@ -0,0 +1,21 @@
+package com.example.restclient.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 동일 GET 요청 병합(single-flight) 설정 값 (rest-client.single-flight)
+ * <p>메서드, URL, 응답 타입, 요청 헤더가 모두 같은 GET 요청을 같은 요청으로 판단하며, ignored-headers에 등록한 헤더는 비교에서 제외</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rest-client.single-flight")
+public class SingleFlightProperties {
+
+  private boolean enabled = true; // 동일 GET 요청 병합 사용 여부
+  private List<String> ignoredHeaders = new ArrayList<>(
+      List.of("traceparent", "tracestate", "X-Request-Id")); // 요청 키 비교에서 제외할 헤더
+}
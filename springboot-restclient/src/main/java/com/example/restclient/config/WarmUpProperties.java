@@ -0,0 +1,41 @@
+package com.example.restclient.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 시작 시 워밍업 설정 값 (rest-client.warm-up)
+ * <p>enabled가 true이면 애플리케이션 준비(ApplicationReadyEvent) 후 routes에 등록한 경로의 커넥션을 미리 열고, types의 Jackson
+ * 직렬화/역직렬화기를 미리 만들며, health-path를 설정한 경로는 합성 요청을 보냄 (끝날 때까지 Readiness는 REFUSING_TRAFFIC)</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rest-client.warm-up")
+public class WarmUpProperties {
+
+  private boolean enabled = false; // 시작 시 워밍업 사용 여부
+  private Duration timeout = Duration.ofSeconds(30); // 워밍업 최대 시간 (지나면 남은 작업을 기다리지 않고 트래픽을 받음)
+  private int connections = 2; // 경로별로 미리 열어 둘 기본 커넥션 수 (경로별 최대 커넥션 수를 넘지 않음)
+  private List<Class<?>> types = new ArrayList<>(); // Jackson 직렬화/역직렬화기를 미리 만들 DTO 타입 (클래스 이름)
+  private Map<String, Route> routes = new LinkedHashMap<>(); // 경로별 설정
+
+  /**
+   * 경로별 워밍업 설정 값
+   */
+  @Getter
+  @Setter
+  public static class Route {
+
+    private URI url; // 경로 URL (예: https://api.internal:8443, 로드 밸런싱 서비스이면 엔드포인트마다 커넥션을 엶)
+    private Integer connections; // 미리 열어 둘 커넥션 수 (미설정 시 기본 커넥션 수)
+    private String healthPath; // 합성 GET 요청을 보낼 경로 (예: /health, 미설정 시 보내지 않음)
+    private int healthRequests = 10; // 합성 GET 요청 수
+  }
+}
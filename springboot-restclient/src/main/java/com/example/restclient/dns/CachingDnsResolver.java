@@ -0,0 +1,203 @@
+package com.example.restclient.dns;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.DnsResolver;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * 조회 결과를 TTL 동안 캐시하고, 사용 중인 호스트는 만료 전에 백그라운드에서 다시 조회하는 DnsResolver
+ * <ul>
+ *   <li>요청 스레드는 캐시된 주소를 바로 사용하며, 캐시에 없거나 만료된 호스트만 직접 조회</li>
+ *   <li>다시 조회에 실패하면 maxStale 동안 마지막으로 조회한 주소를 계속 사용</li>
+ *   <li>idleTimeout 동안 조회하지 않은 호스트는 캐시에서 제거 (백그라운드 조회 대상에서 제외)</li>
+ *   <li>조회 결과가 바뀌지 않으면 같은 배열을 반환하므로 참조 비교로 변경 여부를 확인할 수 있음 (반환한 배열은 변경하지 않아야 함)</li>
+ * </ul>
+ * <p>httpclient.dns.lookups 메트릭(result 태그: hit, miss, stale, failure)으로 캐시 적중 현황을 기록</p>
+ */
+@Slf4j
+public class CachingDnsResolver implements DnsResolver, MeterBinder, AutoCloseable {
+
+  private static final String PREFIX = "httpclient.dns";
+
+  private final DnsResolver delegate;
+  private final long ttlNanos;
+  private final long maxStaleNanos;
+  private final long idleTimeoutNanos;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+  private final ScheduledExecutorService refresher;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder staleHits = new LongAdder();
+  private final LongAdder failures = new LongAdder();
+
+  /**
+   * @param delegate    실제로 주소를 조회할 DnsResolver (예: SystemDefaultDnsResolver)
+   * @param ttl         조회 결과를 캐시할 시간 (절반이 지나면 백그라운드에서 다시 조회)
+   * @param maxStale    다시 조회에 실패했을 때 마지막 조회 결과를 사용할 수 있는 최대 시간 (TTL 만료 후 기준)
+   * @param idleTimeout 조회하지 않은 호스트를 캐시에서 제거할 시간
+   */
+  public CachingDnsResolver(DnsResolver delegate, Duration ttl, Duration maxStale,
+      Duration idleTimeout) {
+    if (ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException("ttl must be positive: " + ttl);
+    }
+    this.delegate = delegate;
+    this.ttlNanos = ttl.toNanos();
+    this.maxStaleNanos = maxStale.toNanos();
+    this.idleTimeoutNanos = idleTimeout.toNanos();
+    CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("dns-refresh-");
+    threadFactory.setDaemon(true);
+    this.refresher = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    long refreshInterval = Math.max(1, ttl.toMillis() / 2);
+    this.refresher.scheduleWithFixedDelay(this::refreshAll, refreshInterval, refreshInterval,
+        TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    registerLookups(registry, "hit", hits, "캐시에서 바로 반환한 조회 수");
+    registerLookups(registry, "miss", misses, "캐시에 없거나 만료되어 직접 조회한 수");
+    registerLookups(registry, "stale", staleHits, "다시 조회에 실패하여 마지막 조회 결과를 반환한 수");
+    registerLookups(registry, "failure", failures, "조회에 실패한 수");
+    Gauge.builder(PREFIX + ".cache.size", entries, Map::size)
+        .description("캐시된 호스트 수")
+        .register(registry);
+  }
+
+  @Override
+  public InetAddress[] resolve(String host) throws UnknownHostException {
+    long now = System.nanoTime();
+    Entry entry = entries.get(host);
+    if (entry != null && now - entry.resolvedAt() < ttlNanos) {
+      entry.touch(now);
+      hits.increment();
+      return entry.addresses();
+    }
+    misses.increment();
+    return lookup(host, entry, now, true);
+  }
+
+  @Override
+  public String resolveCanonicalHostname(String host) throws UnknownHostException {
+    return delegate.resolveCanonicalHostname(host);
+  }
+
+  /**
+   * 백그라운드 조회를 중지하고 캐시를 비움
+   */
+  @Override
+  public void close() {
+    refresher.shutdownNow();
+    entries.clear();
+  }
+
+  /**
+   * 호스트 주소를 조회하여 캐시에 저장 (주소가 바뀌지 않았으면 기존 배열을 재사용)
+   * <p>백그라운드 조회는 마지막 사용 시각을 갱신하지 않으므로, 사용하지 않는 호스트는 조회 성공 여부와 관계없이 idleTimeout 후 제거됨</p>
+   *
+   * @param previous        이전 캐시 항목 (없으면 null)
+   * @param callerInitiated 요청 스레드에서 조회하는지 여부 (false 이면 백그라운드 조회)
+   */
+  private InetAddress[] lookup(String host, Entry previous, long now, boolean callerInitiated)
+      throws UnknownHostException {
+    InetAddress[] addresses;
+    try {
+      addresses = delegate.resolve(host);
+    } catch (UnknownHostException ex) {
+      failures.increment();
+      if (callerInitiated && previous != null
+          && now - previous.resolvedAt() < ttlNanos + maxStaleNanos) {
+        log.warn("DNS lookup failed, using stale addresses - host: {}, addresses: {}", host,
+            Arrays.toString(previous.addresses()));
+        previous.touch(now);
+        staleHits.increment();
+        return previous.addresses();
+      }
+      throw ex;
+    }
+    if (previous != null && Arrays.equals(previous.addresses(), addresses)) {
+      addresses = previous.addresses();
+    } else if (previous != null) {
+      log.info("DNS addresses changed - host: {}, addresses: {} -> {}", host,
+          Arrays.toString(previous.addresses()), Arrays.toString(addresses));
+    }
+    Entry entry = new Entry(addresses, now);
+    if (previous != null) {
+      entry.touch(callerInitiated ? Math.max(previous.lastAccess(), now) : previous.lastAccess());
+    }
+    entries.put(host, entry);
+    return addresses;
+  }
+
+  /**
+   * 최근에 조회한 호스트는 TTL의 절반이 지나면 다시 조회하고, idleTimeout 동안 조회하지 않은 호스트는 제거
+   */
+  private void refreshAll() {
+    long now = System.nanoTime();
+    entries.forEach((host, entry) -> {
+      if (now - entry.lastAccess() > idleTimeoutNanos) {
+        entries.remove(host, entry);
+      } else if (now - entry.resolvedAt() >= ttlNanos / 2) {
+        try {
+          lookup(host, entry, now, false);
+        } catch (UnknownHostException | RuntimeException ex) {
+          log.debug("DNS refresh failed - host: {}, error: {}", host, ex.getMessage());
+        }
+      }
+    });
+  }
+
+  private void registerLookups(MeterRegistry registry, String result, LongAdder count,
+      String description) {
+    FunctionCounter.builder(PREFIX + ".lookups", count, LongAdder::sum)
+        .tag("result", result)
+        .description(description)
+        .register(registry);
+  }
+
+  /**
+   * 캐시 항목 (조회한 주소, 조회 시각, 마지막 사용 시각)
+   */
+  private static final class Entry {
+
+    private final InetAddress[] addresses;
+    private final long resolvedAt;
+    private volatile long lastAccess;
+
+    private Entry(InetAddress[] addresses, long resolvedAt) {
+      this.addresses = addresses;
+      this.resolvedAt = resolvedAt;
+      this.lastAccess = resolvedAt;
+    }
+
+    private InetAddress[] addresses() {
+      return addresses;
+    }
+
+    private long resolvedAt() {
+      return resolvedAt;
+    }
+
+    private long lastAccess() {
+      return lastAccess;
+    }
+
+    private void touch(long now) {
+      lastAccess = now;
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package com.example.restclient.loadbalancer;
+
+import java.net.InetAddress;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.client5.http.HttpRoute;
+
+/**
+ * 서비스의 엔드포인트 (IP 주소, 포트)
+ * <p>엔드포인트마다 주소가 지정된 HttpRoute를 사용하므로 Connection Pool도 엔드포인트별로 분리됨</p>
+ */
+public final class Endpoint {
+
+  private final InetAddress address;
+  private final int port;
+  private final HttpRoute route;
+  private final AtomicInteger outstanding = new AtomicInteger();
+  private final AtomicInteger consecutiveFailures = new AtomicInteger();
+  private int ejectionCount; // 연속으로 제외된 횟수 (this로 동기화)
+  private volatile long ejectedUntilNanos;
+  private volatile boolean ejected;
+
+  Endpoint(InetAddress address, int port, HttpRoute route) {
+    this.address = address;
+    this.port = port;
+    this.route = route;
+  }
+
+  /**
+   * 엔드포인트 IP 주소를 반환
+   *
+   * @return IP 주소
+   */
+  public InetAddress getAddress() {
+    return address;
+  }
+
+  /**
+   * 엔드포인트 포트를 반환
+   *
+   * @return 포트
+   */
+  public int getPort() {
+    return port;
+  }
+
+  /**
+   * 엔드포인트 주소가 지정된 HttpRoute를 반환
+   *
+   * @return HttpRoute 객체
+   */
+  public HttpRoute getRoute() {
+    return route;
+  }
+
+  /**
+   * 진행 중인 요청 수를 반환
+   *
+   * @return 진행 중인 요청 수
+   */
+  public int getOutstanding() {
+    return outstanding.get();
+  }
+
+  /**
+   * 이상 엔드포인트로 제외되어 있는지 확인
+   *
+   * @param nowNanos 현재 시각 (System.nanoTime())
+   * @return 제외 중이면 true
+   */
+  public boolean isEjected(long nowNanos) {
+    return ejected && nowNanos - ejectedUntilNanos < 0;
+  }
+
+  boolean matches(InetAddress address, int port) {
+    return this.port == port && this.address.equals(address);
+  }
+
+  void onStart() {
+    outstanding.incrementAndGet();
+  }
+
+  void onFinish() {
+    outstanding.decrementAndGet();
+  }
+
+  int recordFailure() {
+    return consecutiveFailures.incrementAndGet();
+  }
+
+  /**
+   * 성공한 요청을 기록 (제외 기간이 끝난 뒤 성공하면 연속 제외 횟수를 초기화)
+   */
+  void recordSuccess(long nowNanos) {
+    consecutiveFailures.set(0);
+    if (ejected && nowNanos - ejectedUntilNanos >= 0) {
+      synchronized (this) {
+        ejected = false;
+        ejectionCount = 0;
+      }
+    }
+  }
+
+  /**
+   * 엔드포인트를 제외 (제외할 때마다 제외 시간이 늘어남)
+   *
+   * @return 제외 시간 (나노초)
+   */
+  synchronized long eject(long nowNanos, long baseEjectionNanos, long maxEjectionNanos) {
+    ejectionCount++;
+    long duration = Math.min(baseEjectionNanos * ejectionCount, maxEjectionNanos);
+    ejectedUntilNanos = nowNanos + duration;
+    ejected = true;
+    consecutiveFailures.set(0);
+    return duration;
+  }
+
+  @Override
+  public String toString() {
+    return address.getHostAddress() + ":" + port;
+  }
+}
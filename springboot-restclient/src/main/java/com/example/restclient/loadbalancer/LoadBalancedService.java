@@ -0,0 +1,249 @@
+package com.example.restclient.loadbalancer;
+
+import com.example.restclient.pool.HttpRoutes;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.DnsResolver;
+import org.apache.hc.client5.http.HttpRoute;
+
+/**
+ * 논리 서비스(URL의 scheme, host, port) 하나의 엔드포인트 목록과 선택, 이상 엔드포인트 제외를 관리
+ * <ul>
+ *   <li>엔드포인트 : 설정한 host[:port] 목록 또는 서비스 호스트 이름을 DNS로 조회한 모든 IP 주소</li>
+ *   <li>선택 : 제외되지 않은 엔드포인트 중 LoadBalancingStrategy로 선택 (모두 제외되었으면 전체 중에서 선택)</li>
+ *   <li>이상 엔드포인트 제외 : 연속 실패(I/O 오류, 5xx)가 기준 이상이면 일정 시간 제외하며, 제외된 엔드포인트 비율은
+ *   maxEjectionPercent를 넘지 않음</li>
+ * </ul>
+ */
+@Slf4j
+public class LoadBalancedService {
+
+  private static final long ENDPOINT_REFRESH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1); // 엔드포인트 주소를 다시 조회하는 최소 간격
+
+  private final String name;
+  private final HttpRoute route;
+  private final List<Target> targets;
+  private final LoadBalancingStrategy strategy;
+  private final OutlierEjection outlierEjection;
+  private final DnsResolver dnsResolver;
+  private final Consumer<HttpRoute> endpointRouteListener;
+  private final AtomicInteger sequence = new AtomicInteger();
+  private final LongAdder ejections = new LongAdder();
+  private volatile List<Endpoint> endpoints = List.of();
+  private volatile long refreshedAt;
+
+  /**
+   * @param name                  서비스 이름 (로그, 메트릭 태그)
+   * @param url                   서비스 URL (예: https://api.internal:8443)
+   * @param endpoints             엔드포인트 목록 (host[:port], 비어 있으면 서비스 호스트 이름을 DNS로 조회한 모든 주소)
+   * @param strategy              엔드포인트 선택 방식
+   * @param outlierEjection       이상 엔드포인트 제외 설정 값
+   * @param dnsResolver           엔드포인트 주소를 조회할 DnsResolver
+   * @param endpointRouteListener 새 엔드포인트의 HttpRoute를 전달받을 콜백 (예: 엔드포인트별 Connection Pool 설정)
+   */
+  public LoadBalancedService(String name, URI url, List<String> endpoints,
+      LoadBalancingStrategy strategy, OutlierEjection outlierEjection, DnsResolver dnsResolver,
+      Consumer<HttpRoute> endpointRouteListener) {
+    this.name = name;
+    this.route = HttpRoutes.of(url);
+    this.targets = endpoints.isEmpty()
+        ? List.of(new Target(route.getTargetHost().getHostName(), route.getTargetHost().getPort()))
+        : endpoints.stream().map(endpoint -> Target.parse(endpoint, route)).toList();
+    this.strategy = strategy;
+    this.outlierEjection = outlierEjection;
+    this.dnsResolver = dnsResolver;
+    this.endpointRouteListener = endpointRouteListener;
+  }
+
+  /**
+   * 요청을 보낼 엔드포인트를 선택
+   *
+   * @return 선택한 엔드포인트
+   * @throws UnknownHostException 엔드포인트 주소를 하나도 조회하지 못한 경우
+   */
+  public Endpoint choose() throws UnknownHostException {
+    long now = System.nanoTime();
+    if (now - refreshedAt >= ENDPOINT_REFRESH_INTERVAL_NANOS || endpoints.isEmpty()) {
+      refresh(now);
+    }
+    List<Endpoint> current = endpoints;
+    List<Endpoint> candidates = current;
+    for (Endpoint endpoint : current) {
+      if (endpoint.isEjected(now)) {
+        candidates = current.stream().filter(e -> !e.isEjected(now)).toList();
+        break;
+      }
+    }
+    if (candidates.isEmpty()) {
+      candidates = current; // 모두 제외되었으면 전체 중에서 선택
+    }
+    return strategy.choose(candidates, sequence.getAndIncrement());
+  }
+
+  /**
+   * 엔드포인트로 보낸 요청 결과를 기록
+   *
+   * @param endpoint 요청을 보낸 엔드포인트
+   * @param success  성공 여부 (I/O 오류, 5xx 응답은 실패)
+   */
+  public void onComplete(Endpoint endpoint, boolean success) {
+    endpoint.onFinish();
+    long now = System.nanoTime();
+    if (success) {
+      endpoint.recordSuccess(now);
+    } else if (endpoint.recordFailure() >= outlierEjection.consecutiveFailures()) {
+      tryEject(endpoint, now);
+    }
+  }
+
+  /**
+   * 취소된 요청(헤징 등)은 성공/실패로 기록하지 않고 진행 중인 요청 수만 줄임
+   *
+   * @param endpoint 요청을 보낸 엔드포인트
+   */
+  public void onCancel(Endpoint endpoint) {
+    endpoint.onFinish();
+  }
+
+  /**
+   * 서비스 이름을 반환
+   *
+   * @return 서비스 이름
+   */
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * 서비스의 논리 경로(URL의 scheme, host, port)를 반환
+   *
+   * @return HttpRoute 객체
+   */
+  public HttpRoute getRoute() {
+    return route;
+  }
+
+  /**
+   * 현재 엔드포인트 목록을 반환
+   *
+   * @return 엔드포인트 목록
+   */
+  public List<Endpoint> getEndpoints() {
+    return endpoints;
+  }
+
+  /**
+   * 제외 중인 엔드포인트 수를 반환
+   *
+   * @return 제외 중인 엔드포인트 수
+   */
+  public int getEjectedCount() {
+    long now = System.nanoTime();
+    return (int) endpoints.stream().filter(endpoint -> endpoint.isEjected(now)).count();
+  }
+
+  /**
+   * 이상 엔드포인트로 제외한 횟수를 반환
+   *
+   * @return 제외 횟수
+   */
+  public long getEjections() {
+    return ejections.sum();
+  }
+
+  /**
+   * 엔드포인트 주소를 다시 조회하여 목록을 갱신 (주소가 같은 엔드포인트는 요청 수, 제외 상태를 유지)
+   * <p>조회에 실패하면 기존 목록을 유지</p>
+   */
+  private synchronized void refresh(long now) throws UnknownHostException {
+    if (now - refreshedAt < ENDPOINT_REFRESH_INTERVAL_NANOS && !endpoints.isEmpty()) {
+      return;
+    }
+    List<Endpoint> current = endpoints;
+    List<Endpoint> refreshed = new ArrayList<>();
+    try {
+      for (Target target : targets) {
+        for (InetAddress address : dnsResolver.resolve(target.host())) {
+          refreshed.add(current.stream()
+              .filter(endpoint -> endpoint.matches(address, target.port()))
+              .findFirst()
+              .orElseGet(() -> newEndpoint(address, target.port())));
+        }
+      }
+    } catch (UnknownHostException ex) {
+      if (current.isEmpty()) {
+        throw ex;
+      }
+      log.warn("Endpoint lookup failed, keeping endpoints - service: {}, endpoints: {}", name,
+          current);
+      refreshedAt = now;
+      return;
+    }
+    if (!refreshed.equals(current)) {
+      log.info("Endpoints updated - service: {}, endpoints: {}", name, refreshed);
+      endpoints = List.copyOf(refreshed);
+    }
+    refreshedAt = now;
+  }
+
+  private Endpoint newEndpoint(InetAddress address, int port) {
+    Endpoint endpoint = new Endpoint(address, port, HttpRoutes.toEndpoint(route, address, port));
+    endpointRouteListener.accept(endpoint.getRoute());
+    return endpoint;
+  }
+
+  /**
+   * 연속 실패가 기준 이상인 엔드포인트를 제외 (제외된 엔드포인트 비율이 maxEjectionPercent를 넘으면 제외하지 않음)
+   */
+  private synchronized void tryEject(Endpoint endpoint, long now) {
+    if (endpoint.isEjected(now)) {
+      return;
+    }
+    int maxEjected = endpoints.size() * outlierEjection.maxEjectionPercent() / 100;
+    if (getEjectedCount() >= maxEjected) {
+      return;
+    }
+    long duration = endpoint.eject(now, outlierEjection.baseEjectionTime().toNanos(),
+        outlierEjection.maxEjectionTime().toNanos());
+    ejections.increment();
+    log.warn("Endpoint ejected - service: {}, endpoint: {}, duration: {}ms", name, endpoint,
+        TimeUnit.NANOSECONDS.toMillis(duration));
+  }
+
+  /**
+   * 이상 엔드포인트 제외 설정 값
+   *
+   * @param consecutiveFailures 제외할 연속 실패 수
+   * @param baseEjectionTime    제외 시간 (같은 엔드포인트를 다시 제외할 때마다 배수로 늘어남)
+   * @param maxEjectionTime     최대 제외 시간
+   * @param maxEjectionPercent  서비스의 엔드포인트 중 동시에 제외할 수 있는 최대 비율 (%)
+   */
+  public record OutlierEjection(int consecutiveFailures, Duration baseEjectionTime,
+                                Duration maxEjectionTime, int maxEjectionPercent) {
+
+  }
+
+  /**
+   * 주소를 조회할 엔드포인트 호스트와 포트
+   */
+  private record Target(String host, int port) {
+
+    private static Target parse(String endpoint, HttpRoute route) {
+      URI uri = URI.create("//" + endpoint.trim());
+      if (uri.getHost() == null) {
+        throw new IllegalArgumentException("Invalid endpoint (host[:port]): " + endpoint);
+      }
+      return new Target(uri.getHost(),
+          uri.getPort() > 0 ? uri.getPort() : route.getTargetHost().getPort());
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package com.example.restclient.loadbalancer;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.net.UnknownHostException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.client5.http.impl.classic.RequestFailedException;
+import org.apache.hc.client5.http.impl.routing.DefaultRoutePlanner;
+import org.apache.hc.client5.http.routing.HttpRoutePlanner;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+/**
+ * 로드 밸런싱 대상 서비스로 가는 요청을 서비스의 엔드포인트 중 하나로 연결하는 HttpRoutePlanner
+ * <p>선택한 엔드포인트의 IP 주소를 지정한 HttpRoute를 반환하므로, 커넥션은 엔드포인트별 Connection Pool에서 임대하고
+ * 호스트 이름(Host 헤더, TLS SNI, 인증서 검증)은 그대로 유지</p>
+ * <p>{@link #endpointTracker()}를 HttpClient 실행 체인에 등록해야 엔드포인트별 진행 중인 요청 수, 연속 실패를 기록</p>
+ * <p>httpclient.loadbalancer.endpoints(state 태그: active, ejected), httpclient.loadbalancer.ejections 메트릭(service 태그)을
+ * 등록</p>
+ */
+public class LoadBalancingRoutePlanner implements HttpRoutePlanner, MeterBinder {
+
+  private static final String PREFIX = "httpclient.loadbalancer";
+  private static final String ENDPOINT_ATTRIBUTE = LoadBalancingRoutePlanner.class.getName()
+      + ".endpoint";
+
+  private final HttpRoutePlanner delegate = new DefaultRoutePlanner(null);
+  private final Map<HttpRoute, LoadBalancedService> services = new HashMap<>();
+
+  /**
+   * @param services 로드 밸런싱 대상 서비스 목록
+   */
+  public LoadBalancingRoutePlanner(Collection<LoadBalancedService> services) {
+    services.forEach(service -> this.services.put(service.getRoute(), service));
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    services.values().forEach(service -> {
+      Gauge.builder(PREFIX + ".endpoints", service,
+              s -> s.getEndpoints().size() - s.getEjectedCount())
+          .tag("service", service.getName())
+          .tag("state", "active")
+          .description("요청을 보낼 수 있는 엔드포인트 수")
+          .register(registry);
+      Gauge.builder(PREFIX + ".endpoints", service, LoadBalancedService::getEjectedCount)
+          .tag("service", service.getName())
+          .tag("state", "ejected")
+          .description("이상 엔드포인트로 제외된 엔드포인트 수")
+          .register(registry);
+      FunctionCounter.builder(PREFIX + ".ejections", service, LoadBalancedService::getEjections)
+          .tag("service", service.getName())
+          .description("이상 엔드포인트로 제외한 횟수")
+          .register(registry);
+    });
+  }
+
+  @Override
+  public HttpRoute determineRoute(HttpHost target, HttpContext context) throws HttpException {
+    HttpRoute route = delegate.determineRoute(target, context);
+    context.removeAttribute(ENDPOINT_ATTRIBUTE);
+    LoadBalancedService service = route.getProxyHost() == null ? services.get(route) : null;
+    if (service == null) {
+      return route;
+    }
+    Endpoint endpoint;
+    try {
+      endpoint = service.choose();
+    } catch (UnknownHostException ex) {
+      return route; // 엔드포인트를 조회하지 못하면 기본 경로(시스템 DNS)로 연결
+    }
+    context.setAttribute(ENDPOINT_ATTRIBUTE, new EndpointSelection(service, endpoint));
+    return endpoint.getRoute();
+  }
+
+  /**
+   * 엔드포인트별 진행 중인 요청 수와 요청 결과(I/O 오류, 5xx 응답은 실패)를 기록하는 ExecChainHandler를 반환
+   * <p>재시도마다 기록되도록 HttpClient 실행 체인의 재시도(RETRY) 다음에 등록</p>
+   *
+   * @return ExecChainHandler 객체
+   */
+  public ExecChainHandler endpointTracker() {
+    return (request, scope, chain) -> {
+      if (!(scope.clientContext.getAttribute(ENDPOINT_ATTRIBUTE) instanceof EndpointSelection
+          selection) || !selection.endpoint().getRoute().equals(scope.route)) {
+        return chain.proceed(request, scope);
+      }
+      LoadBalancedService service = selection.service();
+      Endpoint endpoint = selection.endpoint();
+      endpoint.onStart();
+      try {
+        ClassicHttpResponse response = chain.proceed(request, scope);
+        service.onComplete(endpoint, response.getCode() < HttpStatus.SC_SERVER_ERROR);
+        return response;
+      } catch (RequestFailedException ex) {
+        service.onCancel(endpoint); // 취소된 요청(헤징 등)은 실패로 기록하지 않음
+        throw ex;
+      } catch (Exception ex) {
+        service.onComplete(endpoint, false);
+        throw ex;
+      }
+    };
+  }
+
+  /**
+   * 경로로 가는 요청이 연결될 수 있는 경로 목록을 반환 (커넥션 워밍업 등)
+   *
+   * @param route 논리 경로
+   * @return 로드 밸런싱 대상 서비스이면 엔드포인트별 경로 목록, 아니면 경로 그대로
+   * @throws UnknownHostException 서비스 엔드포인트 주소를 하나도 조회하지 못한 경우
+   */
+  public List<HttpRoute> routesOf(HttpRoute route) throws UnknownHostException {
+    LoadBalancedService service = services.get(route);
+    if (service == null) {
+      return List.of(route);
+    }
+    service.choose(); // 엔드포인트 목록을 조회
+    return service.getEndpoints().stream().map(Endpoint::getRoute).toList();
+  }
+
+  /**
+   * 경로로 가는 요청이 나누어 연결되는 엔드포인트 수를 반환 (엔드포인트 주소를 새로 조회하지 않음)
+   *
+   * @param route 논리 경로
+   * @return 로드 밸런싱 대상 서비스이면 현재 엔드포인트 수 (아직 조회 전이면 1), 아니면 1
+   */
+  public int endpointCountOf(HttpRoute route) {
+    LoadBalancedService service = services.get(route);
+    return service == null ? 1 : Math.max(1, service.getEndpoints().size());
+  }
+
+  /**
+   * 로드 밸런싱 대상 서비스 목록을 반환
+   *
+   * @return 서비스 목록
+   */
+  public Collection<LoadBalancedService> getServices() {
+    return services.values();
+  }
+
+  private record EndpointSelection(LoadBalancedService service, Endpoint endpoint) {
+
+  }
+}
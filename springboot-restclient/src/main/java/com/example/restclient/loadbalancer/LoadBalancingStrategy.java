@@ -0,0 +1,70 @@
+package com.example.restclient.loadbalancer;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 서비스의 엔드포인트 중 요청을 보낼 엔드포인트를 고르는 방식
+ */
+public enum LoadBalancingStrategy {
+
+  /**
+   * 엔드포인트를 순서대로 돌아가며 선택
+   */
+  ROUND_ROBIN {
+    @Override
+    Endpoint choose(List<Endpoint> endpoints, int sequence) {
+      return endpoints.get(Math.floorMod(sequence, endpoints.size()));
+    }
+  },
+
+  /**
+   * 진행 중인 요청이 가장 적은 엔드포인트를 선택 (같으면 순서대로 돌아가며 선택)
+   */
+  LEAST_OUTSTANDING {
+    @Override
+    Endpoint choose(List<Endpoint> endpoints, int sequence) {
+      int size = endpoints.size();
+      int start = Math.floorMod(sequence, size);
+      Endpoint chosen = endpoints.get(start);
+      for (int i = 1; i < size; i++) {
+        Endpoint endpoint = endpoints.get((start + i) % size);
+        if (endpoint.getOutstanding() < chosen.getOutstanding()) {
+          chosen = endpoint;
+        }
+      }
+      return chosen;
+    }
+  },
+
+  /**
+   * 무작위로 고른 두 엔드포인트 중 진행 중인 요청이 적은 엔드포인트를 선택 (엔드포인트 수와 관계없이 비교 1회)
+   */
+  POWER_OF_TWO_CHOICES {
+    @Override
+    Endpoint choose(List<Endpoint> endpoints, int sequence) {
+      int size = endpoints.size();
+      if (size == 1) {
+        return endpoints.get(0);
+      }
+      ThreadLocalRandom random = ThreadLocalRandom.current();
+      int first = random.nextInt(size);
+      int second = random.nextInt(size - 1);
+      if (second >= first) {
+        second++;
+      }
+      Endpoint a = endpoints.get(first);
+      Endpoint b = endpoints.get(second);
+      return a.getOutstanding() <= b.getOutstanding() ? a : b;
+    }
+  };
+
+  /**
+   * 엔드포인트를 선택
+   *
+   * @param endpoints 선택할 수 있는 엔드포인트 목록 (비어 있지 않음)
+   * @param sequence  서비스별 요청 순번
+   * @return 선택한 엔드포인트
+   */
+  abstract Endpoint choose(List<Endpoint> endpoints, int sequence);
+}
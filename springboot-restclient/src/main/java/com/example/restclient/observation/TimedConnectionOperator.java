@@ -0,0 +1,72 @@
+package com.example.restclient.observation;
+
+import org.apache.hc.client5.http.DnsResolver;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.DefaultHttpClientConnectionOperator;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.config.RegistryBuilder;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+/**
+ * 새 커넥션의 TCP 연결, TLS 핸드셰이크 시간을 HttpClientMetrics에 기록하는 HttpClientConnectionOperator
+ * <p>호스트 주소는 지정한 DnsResolver로 조회하며, 그 외 설정(기본 TLS 설정 등)은 PoolingHttpClientConnectionManager 기본 값과 동일</p>
+ */
+public class TimedConnectionOperator extends DefaultHttpClientConnectionOperator {
+
+  private static final String CONNECT_START_ATTRIBUTE = TimedConnectionOperator.class.getName()
+      + ".connectStart";
+  private static final String TLS_START_ATTRIBUTE = TimedConnectionOperator.class.getName()
+      + ".tlsStart";
+
+  private final HttpClientMetrics metrics;
+
+  /**
+   * @param dnsResolver 호스트 주소를 조회할 DnsResolver (예: CachingDnsResolver)
+   * @param metrics     연결 구간 시간을 기록할 HttpClientMetrics
+   */
+  public TimedConnectionOperator(DnsResolver dnsResolver, HttpClientMetrics metrics) {
+    super(null, dnsResolver, RegistryBuilder.<TlsSocketStrategy>create()
+        .register(URIScheme.HTTPS.id, DefaultClientTlsStrategy.createDefault())
+        .build());
+    this.metrics = metrics;
+  }
+
+  @Override
+  protected void onBeforeSocketConnect(HttpContext context, HttpHost endpointHost) {
+    start(context, CONNECT_START_ATTRIBUTE);
+  }
+
+  @Override
+  protected void onAfterSocketConnect(HttpContext context, HttpHost endpointHost) {
+    record(context, endpointHost, CONNECT_START_ATTRIBUTE, RequestPhase.CONNECT);
+  }
+
+  @Override
+  protected void onBeforeTlsHandshake(HttpContext context, HttpHost endpointHost) {
+    start(context, TLS_START_ATTRIBUTE);
+  }
+
+  @Override
+  protected void onAfterTlsHandshake(HttpContext context, HttpHost endpointHost) {
+    record(context, endpointHost, TLS_START_ATTRIBUTE, RequestPhase.TLS_HANDSHAKE);
+  }
+
+  private void start(HttpContext context, String attribute) {
+    if (context != null) {
+      context.setAttribute(attribute, System.nanoTime());
+    }
+  }
+
+  private void record(HttpContext context, HttpHost endpointHost, String attribute,
+      RequestPhase phase) {
+    if (context != null && context.removeAttribute(attribute) instanceof Long startTime) {
+      String route = HttpClientContext.castOrCreate(context).getHttpRoute() instanceof HttpRoute
+          httpRoute ? HttpClientMetrics.routeName(httpRoute) : endpointHost.toURI();
+      metrics.recordPhase(route, phase, System.nanoTime() - startTime);
+    }
+  }
+}
@@ -0,0 +1,89 @@
+package com.example.restclient.pool;
+
+import com.example.restclient.config.ConnectionPoolProperties;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.lang.Nullable;
+
+/**
+ * 실행 중인 Connection Pool 설정을 조회하고 변경하는 Actuator 엔드포인트 (/actuator/connectionpool)
+ * <ul>
+ *   <li>GET : 최대 전체 커넥션 수, 경로별 기본 최대 커넥션 수, 등록한 호스트별 최대 커넥션 수</li>
+ *   <li>POST : 현재 Environment에서 rest-client.connection-pool 설정을 다시 읽어 {@link ConnectionPoolTuner}로 적용 (maxTotal,
+ *   defaultMaxPerRoute를 지정하면 해당 값으로 덮어씀)</li>
+ * </ul>
+ */
+@Endpoint(id = "connectionpool")
+public class ConnectionPoolEndpoint {
+
+  private static final String PROPERTIES_PREFIX = "rest-client.connection-pool";
+
+  private final PoolingHttpClientConnectionManager connectionManager;
+  private final ConnectionPoolTuner connectionPoolTuner;
+  private final Environment environment;
+
+  /**
+   * @param connectionManager   설정을 조회할 Connection Manager
+   * @param connectionPoolTuner 설정을 적용할 ConnectionPoolTuner
+   * @param environment         설정을 다시 읽을 Environment
+   */
+  public ConnectionPoolEndpoint(PoolingHttpClientConnectionManager connectionManager,
+      ConnectionPoolTuner connectionPoolTuner, Environment environment) {
+    this.connectionManager = connectionManager;
+    this.connectionPoolTuner = connectionPoolTuner;
+    this.environment = environment;
+  }
+
+  /**
+   * 적용 중인 Connection Pool 설정을 반환
+   *
+   * @return Connection Pool 설정
+   */
+  @ReadOperation
+  public PoolDescriptor pool() {
+    Map<String, Integer> routes = new LinkedHashMap<>();
+    connectionPoolTuner.routeSettings().forEach((route, settings) ->
+        routes.put(HttpRoutes.nameOf(route), settings.maxConnections()));
+    return new PoolDescriptor(connectionManager.getMaxTotal(),
+        connectionManager.getDefaultMaxPerRoute(), routes);
+  }
+
+  /**
+   * Environment의 Connection Pool 설정을 다시 읽어 실행 중인 Connection Manager에 적용
+   *
+   * @param maxTotal           최대 전체 커넥션 수 (null이면 설정 값 사용)
+   * @param defaultMaxPerRoute 호스트(경로)별 기본 최대 커넥션 수 (null이면 설정 값 사용)
+   * @return 적용된 Connection Pool 설정
+   */
+  @WriteOperation
+  public PoolDescriptor apply(@Nullable Integer maxTotal, @Nullable Integer defaultMaxPerRoute) {
+    ConnectionPoolProperties properties = Binder.get(environment)
+        .bind(PROPERTIES_PREFIX, ConnectionPoolProperties.class)
+        .orElseGet(ConnectionPoolProperties::new);
+    if (maxTotal != null) {
+      properties.setMaxTotal(maxTotal);
+    }
+    if (defaultMaxPerRoute != null) {
+      properties.setDefaultMaxPerRoute(defaultMaxPerRoute);
+    }
+    connectionPoolTuner.apply(properties);
+    return pool();
+  }
+
+  /**
+   * Connection Pool 설정
+   *
+   * @param maxTotal           최대 전체 커넥션 수
+   * @param defaultMaxPerRoute 호스트(경로)별 기본 최대 커넥션 수
+   * @param routes             등록한 호스트별 최대 커넥션 수
+   */
+  public record PoolDescriptor(int maxTotal, int defaultMaxPerRoute, Map<String, Integer> routes) {
+
+  }
+}
@@ -0,0 +1,191 @@
+package com.example.restclient.pool;
+
+import com.example.restclient.config.ConnectionPoolProperties;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.ConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.function.Resolver;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+
+/**
+ * 실행 중인 PoolingHttpClientConnectionManager에 호스트(경로)별 Connection Pool 설정을 적용
+ * <p>RestClient, HttpClient 빈을 다시 생성하지 않고 {@link #apply(ConnectionPoolProperties)}로 설정을 변경할 수 있음 (실행 중에는
+ * {@link ConnectionPoolEndpoint}(/actuator/connectionpool)로 호출)</p>
+ * <ul>
+ *   <li>최대 커넥션 수 : 즉시 반영</li>
+ *   <li>연결 검증 기준 시간, 커넥션 최대 수명 : 이후 커넥션을 임대(lease)할 때 반영</li>
+ *   <li>유휴 연결 유지 시간 : 이후 커넥션을 반납할 때 Keep-Alive 시간으로 반영</li>
+ * </ul>
+ * <p>클라이언트 측 로드 밸런싱의 엔드포인트 경로(IP 주소가 지정된 경로)는 논리 경로의 설정 값을 엔드포인트별로 적용</p>
+ */
+@Slf4j
+public class ConnectionPoolTuner implements Resolver<HttpRoute, ConnectionConfig>,
+    ConnectionKeepAliveStrategy {
+
+  private final PoolingHttpClientConnectionManager connectionManager;
+  private final Set<HttpRoute> endpointRoutes = ConcurrentHashMap.newKeySet();
+  private volatile PoolSettings poolSettings;
+
+  public ConnectionPoolTuner(PoolingHttpClientConnectionManager connectionManager,
+      ConnectionPoolProperties properties) {
+    this.connectionManager = connectionManager;
+    apply(properties);
+    connectionManager.setConnectionConfigResolver(this);
+  }
+
+  /**
+   * Connection Pool 설정을 실행 중인 Connection Manager에 적용
+   * <p>이전 설정에는 있었으나 새 설정에서 제거된 호스트는 기본 최대 커넥션 수로 되돌림</p>
+   *
+   * @param properties 적용할 Connection Pool 설정 값
+   */
+  public synchronized void apply(ConnectionPoolProperties properties) {
+    if (properties.getMaxTotal() <= 0) {
+      throw new IllegalArgumentException("maxTotal must be positive: " + properties.getMaxTotal());
+    }
+    RouteSettings defaults = RouteSettings.defaults(properties);
+    Map<HttpRoute, RouteSettings> routes = new HashMap<>();
+    properties.getRoutes().forEach((name, route) -> {
+      if (route.getUrl() == null) {
+        throw new IllegalArgumentException("Route url is required: " + name);
+      }
+      routes.put(HttpRoutes.of(route.getUrl()), defaults.merge(route));
+    });
+
+    connectionManager.setMaxTotal(properties.getMaxTotal());
+    connectionManager.setDefaultMaxPerRoute(defaults.maxConnections());
+    if (poolSettings != null) {
+      poolSettings.routes().keySet().stream()
+          .filter(route -> !routes.containsKey(route))
+          .forEach(route -> connectionManager.setMaxPerRoute(route, defaults.maxConnections()));
+    }
+    routes.forEach((route, settings) ->
+        connectionManager.setMaxPerRoute(route, settings.maxConnections()));
+
+    poolSettings = new PoolSettings(defaults, Map.copyOf(routes));
+    endpointRoutes.forEach(route ->
+        connectionManager.setMaxPerRoute(route, settingsOf(route).maxConnections()));
+    log.info("Connection pool applied - maxTotal: {}, defaultMaxPerRoute: {}, routes: {}",
+        properties.getMaxTotal(), defaults.maxConnections(), routes.size());
+  }
+
+  /**
+   * 엔드포인트 경로에 논리 경로의 최대 커넥션 수를 적용 (이후 설정을 변경할 때도 함께 적용)
+   *
+   * @param endpointRoute IP 주소가 지정된 엔드포인트 경로
+   */
+  public void registerEndpointRoute(HttpRoute endpointRoute) {
+    if (endpointRoutes.add(endpointRoute)) {
+      connectionManager.setMaxPerRoute(endpointRoute, settingsOf(endpointRoute).maxConnections());
+    }
+  }
+
+  /**
+   * 호스트(경로)에 적용 중인 설정 값을 반환
+   *
+   * @param route HttpRoute 객체 (엔드포인트 경로는 논리 경로의 설정 값을 사용)
+   * @return 경로별 설정 값 (등록되지 않은 경로는 기본 설정 값)
+   */
+  public RouteSettings settingsOf(HttpRoute route) {
+    PoolSettings current = poolSettings;
+    return route == null ? current.defaults()
+        : current.routes().getOrDefault(HttpRoutes.toLogical(route), current.defaults());
+  }
+
+  /**
+   * 등록한 호스트(경로)별 설정 값을 반환
+   *
+   * @return 경로별 설정 값 (기본 설정 값을 사용하는 경로는 포함하지 않음)
+   */
+  public Map<HttpRoute, RouteSettings> routeSettings() {
+    return poolSettings.routes();
+  }
+
+  /**
+   * 커넥션을 임대할 때 경로별 ConnectionConfig(연결 검증 기준 시간, 커넥션 최대 수명)를 반환
+   */
+  @Override
+  public ConnectionConfig resolve(HttpRoute route) {
+    return settingsOf(route).connectionConfig();
+  }
+
+  /**
+   * 서버가 알려준 Keep-Alive 시간과 경로별 유휴 연결 유지 시간 중 짧은 값을 반환
+   * <p>Keep-Alive 시간이 지난 커넥션은 만료 커넥션으로 정리됨</p>
+   */
+  @Override
+  public TimeValue getKeepAliveDuration(HttpResponse response, HttpContext context) {
+    TimeValue keepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+        .getKeepAliveDuration(response, context);
+    HttpClientContext clientContext = HttpClientContext.castOrCreate(context);
+    TimeValue maxIdleTime = clientContext.getHttpRoute() instanceof HttpRoute route
+        ? settingsOf(route).maxIdleTime()
+        : poolSettings.defaults().maxIdleTime();
+    if (maxIdleTime == null) {
+      return keepAlive;
+    }
+    return TimeValue.isPositive(keepAlive) && keepAlive.compareTo(maxIdleTime) < 0
+        ? keepAlive : maxIdleTime;
+  }
+
+  private record PoolSettings(RouteSettings defaults, Map<HttpRoute, RouteSettings> routes) {
+
+  }
+
+  /**
+   * 경로별로 적용되는 Connection Pool 설정 값
+   *
+   * @param maxConnections   최대 커넥션 수
+   * @param maxIdleTime      유휴 연결 유지 시간 (null 이면 서버의 Keep-Alive 시간을 그대로 사용)
+   * @param connectionConfig 연결 검증 기준 시간, 커넥션 최대 수명이 적용된 ConnectionConfig
+   */
+  public record RouteSettings(int maxConnections, TimeValue maxIdleTime,
+                              ConnectionConfig connectionConfig) {
+
+    private static RouteSettings defaults(ConnectionPoolProperties properties) {
+      return of(properties.getDefaultMaxPerRoute(), properties.getMaxIdleTime(),
+          properties.getValidateAfterInactivity(), properties.getTimeToLive());
+    }
+
+    private RouteSettings merge(ConnectionPoolProperties.Route route) {
+      return of(
+          route.getMaxConnections() != null ? route.getMaxConnections() : maxConnections,
+          route.getMaxIdleTime() != null ? route.getMaxIdleTime() : toDuration(maxIdleTime),
+          route.getValidateAfterInactivity() != null ? route.getValidateAfterInactivity()
+              : toDuration(connectionConfig.getValidateAfterInactivity()),
+          route.getTimeToLive() != null ? route.getTimeToLive()
+              : toDuration(connectionConfig.getTimeToLive()));
+    }
+
+    private static RouteSettings of(int maxConnections, Duration maxIdleTime,
+        Duration validateAfterInactivity, Duration timeToLive) {
+      if (maxConnections <= 0) {
+        throw new IllegalArgumentException("maxConnections must be positive: " + maxConnections);
+      }
+      ConnectionConfig connectionConfig = ConnectionConfig.custom()
+          .setValidateAfterInactivity(toTimeValue(validateAfterInactivity))
+          .setTimeToLive(toTimeValue(timeToLive))
+          .build();
+      return new RouteSettings(maxConnections, toTimeValue(maxIdleTime), connectionConfig);
+    }
+
+    private static TimeValue toTimeValue(Duration duration) {
+      return duration != null ? TimeValue.ofMilliseconds(duration.toMillis()) : null;
+    }
+
+    private static Duration toDuration(TimeValue timeValue) {
+      return timeValue != null ? Duration.ofMillis(timeValue.toMilliseconds()) : null;
+    }
+  }
+}
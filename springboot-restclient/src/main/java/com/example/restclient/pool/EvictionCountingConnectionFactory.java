@@ -0,0 +1,205 @@
+package com.example.restclient.pool;
+
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import javax.net.ssl.SSLSession;
+import javax.net.ssl.SSLSocket;
+import org.apache.hc.client5.http.impl.io.ManagedHttpClientConnectionFactory;
+import org.apache.hc.client5.http.io.ManagedHttpClientConnection;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.EndpointDetails;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.ProtocolVersion;
+import org.apache.hc.core5.http.io.HttpConnectionFactory;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * Connection Pool에서 유휴 상태로 있는 동안 닫힌 연결 수를 집계하는 HttpConnectionFactory
+ * <p>Connection Pool은 반납된 연결을 passivate(), 임대할 때 activate()하므로, 두 호출 사이에 닫히면 만료(TTL), 유휴 시간 초과, stale 검사로
+ * 정리(eviction)된 연결로 판단. 임대 중 오류로 닫히거나 Connection Manager 종료로 닫히는 연결은 제외</p>
+ */
+class EvictionCountingConnectionFactory implements
+    HttpConnectionFactory<ManagedHttpClientConnection> {
+
+  private final HttpConnectionFactory<ManagedHttpClientConnection> delegate;
+  private final LongAdder evictedCount = new LongAdder();
+  private volatile boolean shutdown;
+
+  EvictionCountingConnectionFactory() {
+    this(ManagedHttpClientConnectionFactory.INSTANCE);
+  }
+
+  EvictionCountingConnectionFactory(
+      HttpConnectionFactory<ManagedHttpClientConnection> delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public ManagedHttpClientConnection createConnection(Socket socket) throws IOException {
+    return new IdleTrackingConnection(delegate.createConnection(socket));
+  }
+
+  /**
+   * 유휴 상태에서 닫힌 연결 수
+   */
+  long evictedCount() {
+    return evictedCount.sum();
+  }
+
+  /**
+   * 이후 닫히는 연결은 정리로 집계하지 않음 (Connection Manager 종료 시 호출)
+   */
+  void shutdown() {
+    shutdown = true;
+  }
+
+  /**
+   * passivate() ~ activate() 사이에 닫히면 정리된 연결로 집계하는 ManagedHttpClientConnection
+   */
+  private class IdleTrackingConnection implements ManagedHttpClientConnection {
+
+    private final ManagedHttpClientConnection connection;
+    private final AtomicBoolean idle = new AtomicBoolean();
+
+    private IdleTrackingConnection(ManagedHttpClientConnection connection) {
+      this.connection = connection;
+    }
+
+    @Override
+    public void passivate() {
+      connection.passivate();
+      idle.set(true);
+    }
+
+    @Override
+    public void activate() {
+      idle.set(false);
+      connection.activate();
+    }
+
+    @Override
+    public void close() throws IOException {
+      countIfIdle();
+      connection.close();
+    }
+
+    @Override
+    public void close(CloseMode closeMode) {
+      countIfIdle();
+      connection.close(closeMode);
+    }
+
+    private void countIfIdle() {
+      // 중복 close 호출은 한 번만 집계
+      if (idle.compareAndSet(true, false) && !shutdown && connection.isOpen()) {
+        evictedCount.increment();
+      }
+    }
+
+    @Override
+    public void bind(Socket socket) throws IOException {
+      connection.bind(socket);
+    }
+
+    @Override
+    public void bind(SSLSocket sslSocket, Socket socket) throws IOException {
+      connection.bind(sslSocket, socket);
+    }
+
+    @Override
+    public Socket getSocket() {
+      return connection.getSocket();
+    }
+
+    @Override
+    public SSLSession getSSLSession() {
+      return connection.getSSLSession();
+    }
+
+    @Override
+    public boolean isConsistent() {
+      return connection.isConsistent();
+    }
+
+    @Override
+    public void sendRequestHeader(ClassicHttpRequest request) throws HttpException, IOException {
+      connection.sendRequestHeader(request);
+    }
+
+    @Override
+    public void terminateRequest(ClassicHttpRequest request) throws HttpException, IOException {
+      connection.terminateRequest(request);
+    }
+
+    @Override
+    public void sendRequestEntity(ClassicHttpRequest request) throws HttpException, IOException {
+      connection.sendRequestEntity(request);
+    }
+
+    @Override
+    public ClassicHttpResponse receiveResponseHeader() throws HttpException, IOException {
+      return connection.receiveResponseHeader();
+    }
+
+    @Override
+    public void receiveResponseEntity(ClassicHttpResponse response)
+        throws HttpException, IOException {
+      connection.receiveResponseEntity(response);
+    }
+
+    @Override
+    public boolean isDataAvailable(Timeout timeout) throws IOException {
+      return connection.isDataAvailable(timeout);
+    }
+
+    @Override
+    public boolean isStale() throws IOException {
+      return connection.isStale();
+    }
+
+    @Override
+    public void flush() throws IOException {
+      connection.flush();
+    }
+
+    @Override
+    public EndpointDetails getEndpointDetails() {
+      return connection.getEndpointDetails();
+    }
+
+    @Override
+    public SocketAddress getLocalAddress() {
+      return connection.getLocalAddress();
+    }
+
+    @Override
+    public SocketAddress getRemoteAddress() {
+      return connection.getRemoteAddress();
+    }
+
+    @Override
+    public ProtocolVersion getProtocolVersion() {
+      return connection.getProtocolVersion();
+    }
+
+    @Override
+    public boolean isOpen() {
+      return connection.isOpen();
+    }
+
+    @Override
+    public Timeout getSocketTimeout() {
+      return connection.getSocketTimeout();
+    }
+
+    @Override
+    public void setSocketTimeout(Timeout timeout) {
+      connection.setSocketTimeout(timeout);
+    }
+  }
+}
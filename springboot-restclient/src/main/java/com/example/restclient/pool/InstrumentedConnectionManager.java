@@ -0,0 +1,218 @@
+package com.example.restclient.pool;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.io.DefaultHttpClientConnectionOperator;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.io.HttpClientConnectionOperator;
+import org.apache.hc.client5.http.io.LeaseRequest;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+import org.apache.hc.core5.http.URIScheme;
+import org.apache.hc.core5.http.config.RegistryBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * Micrometer 메트릭을 제공하는 PoolingHttpClientConnectionManager
+ * <p>Connection Pool 고갈(임대 대기)과 업스트림 응답 지연을 구분할 수 있도록 전체/경로별 메트릭을 등록</p>
+ * <ul>
+ *   <li>httpclient.pool.leased / available / pending / max : 전체 커넥션 상태</li>
+ *   <li>httpclient.pool.route.leased / available / pending / max : 경로별 커넥션 상태 (route 태그)</li>
+ *   <li>httpclient.pool.lease.wait : 커넥션 임대 대기 시간 히스토그램 (route 태그)</li>
+ *   <li>httpclient.pool.lease.timeout : 커넥션 임대 타임아웃 횟수 (route 태그)</li>
+ *   <li>httpclient.pool.connections.created / reused : 신규 연결 / Keep-Alive 재사용 횟수 (route 태그)</li>
+ *   <li>httpclient.pool.reuse.ratio : 전체 임대 중 Keep-Alive 재사용 비율</li>
+ *   <li>httpclient.pool.connections.evicted : 유휴 상태에서 정리(만료, 유휴 시간 초과, stale)된 연결 수</li>
+ * </ul>
+ */
+@Slf4j
+public class InstrumentedConnectionManager extends PoolingHttpClientConnectionManager implements
+    MeterBinder {
+
+  private static final String PREFIX = "httpclient.pool";
+
+  private final Map<HttpRoute, RouteMeters> routeMeters = new ConcurrentHashMap<>();
+  private final LongAdder createdCount = new LongAdder();
+  private final LongAdder reusedCount = new LongAdder();
+  private final EvictionCountingConnectionFactory connectionFactory;
+  private volatile MeterRegistry registry;
+
+  /**
+   * 기본 TLS 설정, 시스템 DNS로 연결하는 Connection Manager를 생성
+   */
+  public InstrumentedConnectionManager() {
+    this(new DefaultHttpClientConnectionOperator(null, null,
+        RegistryBuilder.<TlsSocketStrategy>create()
+            .register(URIScheme.HTTPS.id, DefaultClientTlsStrategy.createDefault())
+            .build()));
+  }
+
+  /**
+   * 지정한 HttpClientConnectionOperator로 연결하는 Connection Manager를 생성 (그 외 설정은 기본 생성자와 동일)
+   *
+   * @param connectionOperator 새 연결을 만드는 HttpClientConnectionOperator (예: TimedConnectionOperator)
+   */
+  public InstrumentedConnectionManager(HttpClientConnectionOperator connectionOperator) {
+    this(connectionOperator, new EvictionCountingConnectionFactory());
+  }
+
+  private InstrumentedConnectionManager(HttpClientConnectionOperator connectionOperator,
+      EvictionCountingConnectionFactory connectionFactory) {
+    super(connectionOperator, PoolConcurrencyPolicy.STRICT, PoolReusePolicy.LIFO,
+        TimeValue.NEG_ONE_MILLISECOND, connectionFactory);
+    this.connectionFactory = connectionFactory;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    this.registry = registry;
+    registerPoolGauges(registry, PREFIX, Tags.empty(), manager -> manager.getTotalStats());
+    Gauge.builder(PREFIX + ".reuse.ratio", this, InstrumentedConnectionManager::reuseRatio)
+        .description("전체 커넥션 임대 중 Keep-Alive 재사용 비율")
+        .register(registry);
+    FunctionCounter.builder(PREFIX + ".connections.evicted", connectionFactory,
+            EvictionCountingConnectionFactory::evictedCount)
+        .description("유휴 상태에서 정리(만료, 유휴 시간 초과, stale)된 연결 수")
+        .register(registry);
+  }
+
+  @Override
+  public void close(CloseMode closeMode) {
+    // 종료하면서 닫는 유휴 연결은 정리로 집계하지 않음
+    connectionFactory.shutdown();
+    super.close(closeMode);
+  }
+
+  @Override
+  public LeaseRequest lease(String id, HttpRoute route, Timeout requestTimeout, Object state) {
+    long startTime = System.nanoTime();
+    LeaseRequest leaseRequest = super.lease(id, route, requestTimeout, state);
+    return new LeaseRequest() {
+
+      @Override
+      public ConnectionEndpoint get(Timeout timeout)
+          throws InterruptedException, ExecutionException, TimeoutException {
+        RouteMeters meters = metersOf(route);
+        try {
+          ConnectionEndpoint endpoint = leaseRequest.get(timeout);
+          if (meters != null) {
+            meters.leaseWait.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+          }
+          // 연결된 상태로 임대되면 Keep-Alive 재사용, 아니면 이후 새로 연결
+          boolean reused = endpoint.isConnected();
+          (reused ? reusedCount : createdCount).increment();
+          if (meters != null) {
+            (reused ? meters.reused : meters.created).increment();
+          }
+          return endpoint;
+        } catch (TimeoutException ex) {
+          if (meters != null) {
+            meters.leaseWait.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            meters.leaseTimeout.increment();
+          }
+          throw ex;
+        }
+      }
+
+      @Override
+      public boolean cancel() {
+        return leaseRequest.cancel();
+      }
+    };
+  }
+
+  /**
+   * 경로별 메트릭을 반환 (처음 사용되는 경로는 메트릭을 등록)
+   *
+   * @param route HttpRoute 객체
+   * @return 경로별 메트릭 (MeterRegistry에 바인딩되기 전이거나 경로가 없으면 null)
+   */
+  private RouteMeters metersOf(HttpRoute route) {
+    MeterRegistry meterRegistry = registry;
+    if (meterRegistry == null || route == null) {
+      return null;
+    }
+    return routeMeters.computeIfAbsent(route, key -> new RouteMeters(meterRegistry, key));
+  }
+
+  private double reuseRatio() {
+    double reused = reusedCount.sum();
+    double total = reused + createdCount.sum();
+    return total == 0 ? Double.NaN : reused / total;
+  }
+
+  private void registerPoolGauges(MeterRegistry registry, String prefix, Tags tags,
+      Function<PoolingHttpClientConnectionManager, PoolStats> stats) {
+    registerGauge(registry, prefix + ".leased", tags, "임대 중인 커넥션 수",
+        manager -> stats.apply(manager).getLeased());
+    registerGauge(registry, prefix + ".available", tags, "재사용 가능한 유휴 커넥션 수",
+        manager -> stats.apply(manager).getAvailable());
+    registerGauge(registry, prefix + ".pending", tags, "커넥션 임대를 기다리는 요청 수",
+        manager -> stats.apply(manager).getPending());
+    registerGauge(registry, prefix + ".max", tags, "최대 커넥션 수",
+        manager -> stats.apply(manager).getMax());
+  }
+
+  private void registerGauge(MeterRegistry registry, String name, Tags tags, String description,
+      ToIntFunction<PoolingHttpClientConnectionManager> value) {
+    Gauge.builder(name, this, manager -> value.applyAsInt(manager))
+        .tags(tags)
+        .description(description)
+        .register(registry);
+  }
+
+  /**
+   * 경로별 메트릭
+   */
+  private class RouteMeters {
+
+    private final Timer leaseWait;
+    private final Counter leaseTimeout;
+    private final Counter created;
+    private final Counter reused;
+
+    private RouteMeters(MeterRegistry registry, HttpRoute route) {
+      Tags tags = Tags.of("route", HttpRoutes.nameOf(route));
+      registerPoolGauges(registry, PREFIX + ".route", tags, manager -> manager.getStats(route));
+      this.leaseWait = Timer.builder(PREFIX + ".lease.wait")
+          .tags(tags)
+          .description("커넥션 임대 대기 시간")
+          .publishPercentileHistogram()
+          .register(registry);
+      this.leaseTimeout = Counter.builder(PREFIX + ".lease.timeout")
+          .tags(tags)
+          .description("커넥션 임대 타임아웃 횟수")
+          .register(registry);
+      this.created = Counter.builder(PREFIX + ".connections.created")
+          .tags(tags)
+          .description("새로 연결한 커넥션 수")
+          .register(registry);
+      this.reused = Counter.builder(PREFIX + ".connections.reused")
+          .tags(tags)
+          .description("Keep-Alive로 재사용한 커넥션 수")
+          .register(registry);
+      log.debug("Connection pool metrics registered - route: {}", HttpRoutes.nameOf(route));
+    }
+  }
+}
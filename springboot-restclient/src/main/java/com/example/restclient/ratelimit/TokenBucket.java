@@ -0,0 +1,130 @@
+package com.example.restclient.ratelimit;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 없이(CAS) 토큰을 예약하는 토큰 버킷
+ * <p>초당 permitsPerSecond 개씩 채워지고 최대 burst 개까지 쌓이는 토큰 버킷을, 다음 토큰이 채워지는 시각 하나(GCRA, Generic Cell Rate
+ * Algorithm)로 표현하여 AtomicLong 하나로 갱신</p>
+ * <ul>
+ *   <li>reserve : 토큰을 예약하고 토큰이 채워질 때까지 기다려야 하는 시간을 반환 (최대 대기 시간을 넘으면 예약하지 않음)</li>
+ *   <li>pauseUntil : 지정한 시각까지 토큰을 비움 (Retry-After, 남은 요청 수 0)</li>
+ *   <li>limitRate : 지정한 시각까지 채우는 속도를 설정 값보다 낮춤 (남은 요청 수 / 초기화까지 남은 시간)</li>
+ * </ul>
+ */
+public class TokenBucket {
+
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final long intervalNanos;
+  private final int burst;
+  private final AtomicLong theoreticalArrival; // 버킷이 다시 가득 차는 시각 (System.nanoTime 기준, 지난 시각이면 가득 참)
+  private volatile RateAdjustment adjustment;
+
+  /**
+   * @param permitsPerSecond 초당 채워지는 토큰 수
+   * @param burst            최대로 쌓이는 토큰 수 (유휴 후 한 번에 보낼 수 있는 요청 수)
+   */
+  public TokenBucket(double permitsPerSecond, int burst) {
+    if (permitsPerSecond <= 0 || burst < 1) {
+      throw new IllegalArgumentException(
+          "permitsPerSecond must be positive and burst at least 1: " + permitsPerSecond + ", "
+              + burst);
+    }
+    this.intervalNanos = intervalOf(permitsPerSecond);
+    this.burst = burst;
+    this.theoreticalArrival = new AtomicLong(System.nanoTime());
+  }
+
+  /**
+   * 토큰 하나를 예약
+   *
+   * @param maxWaitNanos 토큰을 기다릴 수 있는 최대 시간 (나노초)
+   * @return 토큰이 채워질 때까지 기다려야 하는 시간 (나노초, 0이면 바로 사용 가능), 최대 대기 시간을 넘으면 -1 (예약하지 않음)
+   */
+  public long reserve(long maxWaitNanos) {
+    long now = System.nanoTime();
+    long interval = intervalAt(now);
+    long tolerance = interval * burst;
+    while (true) {
+      long tat = theoreticalArrival.get();
+      long newTat = latest(tat, now) + interval;
+      long waitNanos = newTat - tolerance - now;
+      if (waitNanos > maxWaitNanos) {
+        return -1L;
+      }
+      if (theoreticalArrival.compareAndSet(tat, newTat)) {
+        return Math.max(waitNanos, 0L);
+      }
+    }
+  }
+
+  /**
+   * 지정한 시각까지 토큰을 비워, 그 시각 이후부터 토큰을 다시 사용하도록 함 (이미 더 늦게 예약된 경우 변경하지 않음)
+   *
+   * @param nanoTime 토큰을 다시 사용할 시각 (System.nanoTime 기준)
+   */
+  public void pauseUntil(long nanoTime) {
+    long interval = intervalAt(nanoTime);
+    long target = nanoTime + interval * (burst - 1);
+    theoreticalArrival.accumulateAndGet(target, TokenBucket::latest);
+  }
+
+  /**
+   * 지정한 시각까지 토큰 채우는 속도를 낮춤 (설정 값보다 빠른 속도는 무시)
+   *
+   * @param permitsPerSecond 초당 채워지는 토큰 수
+   * @param untilNanoTime    낮춘 속도를 적용할 시각 (System.nanoTime 기준, 이후 설정 값으로 복구)
+   */
+  public void limitRate(double permitsPerSecond, long untilNanoTime) {
+    if (permitsPerSecond <= 0) {
+      pauseUntil(untilNanoTime);
+      return;
+    }
+    long interval = intervalOf(permitsPerSecond);
+    adjustment = interval > intervalNanos ? new RateAdjustment(interval, untilNanoTime) : null;
+  }
+
+  /**
+   * 현재 초당 채워지는 토큰 수를 반환
+   *
+   * @return 초당 토큰 수 (낮춘 속도가 적용 중이면 낮춘 값)
+   */
+  public double getRate() {
+    return (double) NANOS_PER_SECOND / intervalAt(System.nanoTime());
+  }
+
+  /**
+   * 현재 바로 사용할 수 있는 토큰 수를 반환
+   *
+   * @return 토큰 수 (0 ~ burst)
+   */
+  public int availablePermits() {
+    long now = System.nanoTime();
+    long interval = intervalAt(now);
+    long available = (now + interval * burst - theoreticalArrival.get()) / interval;
+    return (int) Math.max(0L, Math.min(burst, available));
+  }
+
+  private long intervalAt(long now) {
+    RateAdjustment current = adjustment;
+    return current != null && now - current.untilNanoTime() < 0 ? current.intervalNanos()
+        : intervalNanos;
+  }
+
+  private static long intervalOf(double permitsPerSecond) {
+    return Math.max(1L, (long) (NANOS_PER_SECOND / permitsPerSecond));
+  }
+
+  /**
+   * System.nanoTime 값 중 늦은 시각 (오버플로를 고려하여 차이로 비교)
+   */
+  private static long latest(long a, long b) {
+    return a - b > 0 ? a : b;
+  }
+
+  private record RateAdjustment(long intervalNanos, long untilNanoTime) {
+
+  }
+}
@@ -0,0 +1,225 @@
+package com.example.restclient.retry;
+
+import com.example.restclient.pool.HttpRoutes;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.URISyntaxException;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import javax.net.ssl.SSLException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRequestRetryStrategy;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.client5.http.utils.DateUtils;
+import org.apache.hc.core5.concurrent.CancellableDependency;
+import org.apache.hc.core5.http.ConnectionClosedException;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.HttpRequest;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.Method;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.util.TimeValue;
+
+/**
+ * 지수 백오프(full jitter), 경로별 재시도 예산, Retry-After, 멱등성을 고려하는 HttpRequestRetryStrategy
+ * <ul>
+ *   <li>재시도 간격 : 0 ~ min(maxBackoff, initialBackoff * 2^(재시도 횟수 - 1)) 사이의 임의 값 (응답에 Retry-After가 있으면 그 값을 사용)</li>
+ *   <li>Retry-After가 maxRetryAfter보다 길면 재시도하지 않고 응답을 그대로 반환</li>
+ *   <li>재시도 예산 : {@link RetryBudget} (토큰이 부족하면 재시도하지 않음)</li>
+ *   <li>멱등성 : GET, HEAD, PUT, DELETE, OPTIONS, TRACE는 재시도하며, POST, PATCH는 멱등 키 헤더(Idempotency-Key)가 있을 때만 재시도</li>
+ *   <li>httpclient.retry.requests 메트릭 (result 태그: retried, throttled, not-idempotent)</li>
+ * </ul>
+ * <p>재시도 대기 전에 응답을 닫아 커넥션은 Connection Pool로 반환되며, 본문을 다시 보낼 수 없는 요청(스트리밍 업로드 등)은 재시도하지 않음</p>
+ */
+@Slf4j
+public class BackoffRetryStrategy implements HttpRequestRetryStrategy, MeterBinder {
+
+  private static final String PREFIX = "httpclient.retry";
+
+  // 재시도해도 같은 결과가 예상되는 I/O 예외 (DefaultHttpRequestRetryStrategy와 동일)
+  private static final List<Class<? extends IOException>> NON_RETRIABLE_EXCEPTIONS = List.of(
+      InterruptedIOException.class, UnknownHostException.class, ConnectException.class,
+      ConnectionClosedException.class, NoRouteToHostException.class, SSLException.class);
+
+  private final int maxRetries;
+  private final long initialBackoffMillis;
+  private final long maxBackoffMillis;
+  private final long maxRetryAfterMillis;
+  private final Set<Integer> retryableStatuses;
+  private final String idempotencyKeyHeader;
+  private final RetryBudget retryBudget;
+  private final LongAdder retriedCount = new LongAdder();
+  private final LongAdder throttledCount = new LongAdder();
+  private final LongAdder notIdempotentCount = new LongAdder();
+
+  /**
+   * @param maxRetries           최대 재시도 횟수
+   * @param initialBackoff       첫 번째 재시도의 최대 대기 시간 (재시도마다 2배씩 증가)
+   * @param maxBackoff           재시도 대기 시간 상한
+   * @param maxRetryAfter        따를 수 있는 Retry-After 최대 값 (초과하면 재시도하지 않음)
+   * @param retryableStatuses    재시도할 응답 상태 코드
+   * @param idempotencyKeyHeader 멱등 키 헤더 이름 (POST, PATCH는 이 헤더가 있을 때만 재시도)
+   * @param retryBudget          경로별 재시도 예산
+   */
+  public BackoffRetryStrategy(int maxRetries, Duration initialBackoff, Duration maxBackoff,
+      Duration maxRetryAfter, Set<Integer> retryableStatuses, String idempotencyKeyHeader,
+      RetryBudget retryBudget) {
+    this.maxRetries = maxRetries;
+    this.initialBackoffMillis = initialBackoff.toMillis();
+    this.maxBackoffMillis = maxBackoff.toMillis();
+    this.maxRetryAfterMillis = maxRetryAfter.toMillis();
+    this.retryableStatuses = Set.copyOf(retryableStatuses);
+    this.idempotencyKeyHeader = idempotencyKeyHeader;
+    this.retryBudget = retryBudget;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    FunctionCounter.builder(PREFIX + ".requests", retriedCount, LongAdder::sum)
+        .tag("result", "retried")
+        .description("재시도한 요청 수")
+        .register(registry);
+    FunctionCounter.builder(PREFIX + ".requests", throttledCount, LongAdder::sum)
+        .tag("result", "throttled")
+        .description("재시도 예산이 부족하여 재시도하지 않은 요청 수")
+        .register(registry);
+    FunctionCounter.builder(PREFIX + ".requests", notIdempotentCount, LongAdder::sum)
+        .tag("result", "not-idempotent")
+        .description("멱등하지 않아 재시도하지 않은 요청 수")
+        .register(registry);
+  }
+
+  @Override
+  public boolean retryRequest(HttpRequest request, IOException exception, int execCount,
+      HttpContext context) {
+    HttpRoute route = routeOf(request, context);
+    onAttempt(route, execCount);
+    if (execCount > maxRetries || isNonRetriable(exception)) {
+      return false;
+    }
+    if (request instanceof CancellableDependency cancellable && cancellable.isCancelled()) {
+      return false;
+    }
+    return shouldRetry(request, route, exception.getClass().getSimpleName());
+  }
+
+  @Override
+  public boolean retryRequest(HttpResponse response, int execCount, HttpContext context) {
+    HttpRequest request = HttpClientContext.castOrCreate(context).getRequest();
+    HttpRoute route = routeOf(request, context);
+    onAttempt(route, execCount);
+    if (execCount > maxRetries || !retryableStatuses.contains(response.getCode())) {
+      return false;
+    }
+    Long retryAfterMillis = retryAfterMillis(response);
+    if (retryAfterMillis != null && retryAfterMillis > maxRetryAfterMillis) {
+      log.debug("Retry-After exceeds limit, not retrying - retry-after: {}ms", retryAfterMillis);
+      return false;
+    }
+    return request != null && shouldRetry(request, route, "status " + response.getCode());
+  }
+
+  @Override
+  public TimeValue getRetryInterval(HttpRequest request, IOException exception, int execCount,
+      HttpContext context) {
+    return backoff(execCount);
+  }
+
+  @Override
+  public TimeValue getRetryInterval(HttpResponse response, int execCount, HttpContext context) {
+    Long retryAfterMillis = retryAfterMillis(response);
+    if (retryAfterMillis != null) {
+      return TimeValue.ofMilliseconds(Math.max(0L, retryAfterMillis));
+    }
+    return backoff(execCount);
+  }
+
+  /**
+   * 첫 번째 요청이면 재시도 예산에 토큰을 적립
+   */
+  private void onAttempt(HttpRoute route, int execCount) {
+    if (execCount == 1 && route != null) {
+      retryBudget.onRequest(route);
+    }
+  }
+
+  private boolean shouldRetry(HttpRequest request, HttpRoute route, String cause) {
+    if (!isIdempotent(request)) {
+      notIdempotentCount.increment();
+      return false;
+    }
+    if (route != null && !retryBudget.tryAcquire(route)) {
+      throttledCount.increment();
+      log.debug("Retry budget exhausted - route: {}", HttpRoutes.nameOf(route));
+      return false;
+    }
+    retriedCount.increment();
+    log.debug("Retrying request - {} {}, cause: {}", request.getMethod(), request.getRequestUri(),
+        cause);
+    return true;
+  }
+
+  private boolean isNonRetriable(IOException exception) {
+    return NON_RETRIABLE_EXCEPTIONS.stream().anyMatch(type -> type.isInstance(exception));
+  }
+
+  private boolean isIdempotent(HttpRequest request) {
+    // GET, HEAD, PUT, DELETE, OPTIONS, TRACE (RFC 9110)
+    return Method.isIdempotent(request.getMethod())
+        || request.containsHeader(idempotencyKeyHeader);
+  }
+
+  /**
+   * 지수 백오프 + full jitter 재시도 간격
+   */
+  private TimeValue backoff(int execCount) {
+    long ceiling = initialBackoffMillis << Math.min(execCount - 1, 30);
+    long bound = Math.min(maxBackoffMillis, ceiling < 0 ? Long.MAX_VALUE : ceiling);
+    return TimeValue.ofMilliseconds(ThreadLocalRandom.current().nextLong(bound + 1));
+  }
+
+  /**
+   * Retry-After 헤더 값(초 또는 HTTP 날짜)을 밀리초로 변환
+   *
+   * @return 대기 시간 (밀리초, 헤더가 없거나 형식이 잘못되면 null)
+   */
+  private Long retryAfterMillis(HttpResponse response) {
+    Header header = response.getFirstHeader(HttpHeaders.RETRY_AFTER);
+    if (header == null) {
+      return null;
+    }
+    String value = header.getValue().trim();
+    try {
+      return Long.parseLong(value) * 1000L;
+    } catch (NumberFormatException ex) {
+      Instant date = DateUtils.parseStandardDate(value);
+      return date != null ? date.toEpochMilli() - System.currentTimeMillis() : null;
+    }
+  }
+
+  private HttpRoute routeOf(HttpRequest request, HttpContext context) {
+    if (HttpClientContext.castOrCreate(context).getHttpRoute() instanceof HttpRoute route) {
+      return route;
+    }
+    if (request == null) {
+      return null;
+    }
+    try {
+      return HttpRoutes.of(request.getUri());
+    } catch (URISyntaxException | IllegalArgumentException ex) {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,87 @@
+package com.example.restclient.retry;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.hc.client5.http.HttpRoute;
+
+/**
+ * 경로(호스트)별 재시도 예산 (토큰 버킷)
+ * <p>경로별로 첫 번째 요청 1건마다 budgetPercent/100 개의 토큰을 적립하고, 재시도 1건에 토큰 1개를 사용</p>
+ * <p>다운스트림 장애로 모든 요청이 실패하면 토큰이 바로 소진되어, 재시도로 인한 추가 부하가 요청 수의 budgetPercent% 이내로 제한됨</p>
+ */
+public class RetryBudget {
+
+  private static final int TOKEN_UNIT = 100; // 재시도 1건에 사용하는 토큰 (백분율 단위)
+
+  private final int budgetPercent;
+  private final int maxTokens;
+  private final Map<HttpRoute, RouteTokens> routeTokens = new ConcurrentHashMap<>();
+
+  /**
+   * @param budgetPercent 재시도 예산 (요청 수 대비 재시도 비율, %)
+   * @param maxTokens     경로별로 적립할 수 있는 최대 재시도 수 (처음에는 가득 찬 상태로 시작)
+   */
+  public RetryBudget(int budgetPercent, int maxTokens) {
+    this.budgetPercent = budgetPercent;
+    this.maxTokens = maxTokens * TOKEN_UNIT;
+  }
+
+  /**
+   * 첫 번째 요청을 기록하여 토큰을 적립
+   *
+   * @param route 요청 경로
+   */
+  public void onRequest(HttpRoute route) {
+    tokensOf(route).deposit(budgetPercent);
+  }
+
+  /**
+   * 재시도에 사용할 토큰을 획득
+   *
+   * @param route 요청 경로
+   * @return 획득 여부 (토큰이 부족하면 false)
+   */
+  public boolean tryAcquire(HttpRoute route) {
+    return tokensOf(route).withdraw(TOKEN_UNIT);
+  }
+
+  /**
+   * 경로의 남은 재시도 수를 반환
+   *
+   * @param route 요청 경로
+   * @return 남은 재시도 수
+   */
+  public double remaining(HttpRoute route) {
+    return (double) tokensOf(route).tokens / TOKEN_UNIT;
+  }
+
+  private RouteTokens tokensOf(HttpRoute route) {
+    return routeTokens.computeIfAbsent(route, key -> new RouteTokens(maxTokens));
+  }
+
+  /**
+   * 경로별 토큰 수
+   */
+  private static class RouteTokens {
+
+    private final int maxTokens;
+    private volatile int tokens;
+
+    private RouteTokens(int maxTokens) {
+      this.maxTokens = maxTokens;
+      this.tokens = maxTokens;
+    }
+
+    private synchronized void deposit(int amount) {
+      tokens = Math.min(maxTokens, tokens + amount);
+    }
+
+    private synchronized boolean withdraw(int amount) {
+      if (tokens < amount) {
+        return false;
+      }
+      tokens -= amount;
+      return true;
+    }
+  }
+}
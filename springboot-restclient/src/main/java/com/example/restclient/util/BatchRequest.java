@@ -0,0 +1,41 @@
+package com.example.restclient.util;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpMethod;
+import org.springframework.util.MultiValueMap;
+
+/**
+ * HttpUtil의 비동기/일괄 요청(sendAllAsync, sendBatch)에 사용하는 요청 정보
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BatchRequest<T> {
+
+  private final HttpMethod method; // HTTP 메서드
+  private final String targetUrl; // 요청을 보낼 URL
+  private final MultiValueMap<String, String> headers; // 요청 헤더 정보
+  private final Object body; // 요청 본문 객체
+  private final Class<T> responseType; // 응답을 매핑할 클래스 타입
+
+  public static <T> BatchRequest<T> get(String targetUrl, MultiValueMap<String, String> headers,
+      Class<T> responseType) {
+    return new BatchRequest<>(HttpMethod.GET, targetUrl, headers, null, responseType);
+  }
+
+  public static <T> BatchRequest<T> post(String targetUrl, MultiValueMap<String, String> headers,
+      Object body, Class<T> responseType) {
+    return new BatchRequest<>(HttpMethod.POST, targetUrl, headers, body, responseType);
+  }
+
+  public static <T> BatchRequest<T> put(String targetUrl, MultiValueMap<String, String> headers,
+      Object body, Class<T> responseType) {
+    return new BatchRequest<>(HttpMethod.PUT, targetUrl, headers, body, responseType);
+  }
+
+  public static <T> BatchRequest<T> delete(String targetUrl, MultiValueMap<String, String> headers,
+      Class<T> responseType) {
+    return new BatchRequest<>(HttpMethod.DELETE, targetUrl, headers, null, responseType);
+  }
+}
@@ -1,24 +1,76 @@
 package com.example.restclient.util;
 
-import lombok.AllArgsConstructor;
+import com.example.restclient.buffer.ByteBufferPool;
+import com.example.restclient.buffer.FileTransfers;
+import com.example.restclient.codec.PayloadFormat;
+import com.example.restclient.codec.PayloadFormatResolver;
+import com.example.restclient.concurrent.FanOutExecutor;
+import com.example.restclient.concurrent.HedgingExecutor;
+import com.example.restclient.concurrent.RequestCoalescer;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.DefaultResponseErrorHandler;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.util.UriComponentsBuilder;
 
 /**
  * RestClient를 활용한 HTTP 요청(GET, POST, PUT, DELETE)을 위한 유틸리티 클래스
+ * <p>요청/응답 본문은 경로별 직렬화 형식(rest-client.serialization, 기본 JSON)으로 직렬화</p>
+ * <p>파일 다운로드/업로드는 본문이 메모리에 복사되지 않도록 인터셉터를 적용하지 않은 RestClient(fileTransferRestClient)로 요청</p>
  */
 
-@AllArgsConstructor
 @Component
 public class HttpUtil {
 
+  private static final DefaultResponseErrorHandler ERROR_HANDLER = new DefaultResponseErrorHandler();
+  private static final String IDENTITY_ENCODING = "identity"; // 이어받기 Range 요청의 Accept-Encoding
+
   private final RestClient restClient;
+  private final RestClient fileTransferRestClient;
+  private final FanOutExecutor fanOutExecutor;
+  private final ByteBufferPool bufferPool;
+  private final RequestCoalescer requestCoalescer;
+  private final HedgingExecutor hedgingExecutor;
+  private final PayloadFormatResolver payloadFormatResolver;
+
+  public HttpUtil(RestClient restClient,
+      @Qualifier("fileTransferRestClient") RestClient fileTransferRestClient,
+      FanOutExecutor fanOutExecutor, ByteBufferPool bufferPool, RequestCoalescer requestCoalescer,
+      HedgingExecutor hedgingExecutor, PayloadFormatResolver payloadFormatResolver) {
+    this.restClient = restClient;
+    this.fileTransferRestClient = fileTransferRestClient;
+    this.fanOutExecutor = fanOutExecutor;
+    this.bufferPool = bufferPool;
+    this.requestCoalescer = requestCoalescer;
+    this.hedgingExecutor = hedgingExecutor;
+    this.payloadFormatResolver = payloadFormatResolver;
+  }
 
   /**
    * GET 요청을 보내고 응답을 객체로 반환
+   * <p>동시에 진행 중인 동일 요청(URL, 요청 헤더, 응답 타입이 같은 요청)이 있으면 새로 요청하지 않고 그 응답 객체를 공유 (병합된 호출자는 같은
+   * ResponseEntity와 본문 인스턴스를 받으므로 반환된 객체는 읽기 전용으로 사용하고, 변경하려면 복사본을 만들거나 coalesce=false로 요청)</p>
+   * <p>헤징을 적용한 경로(rest-client.hedging.routes)는 최근 응답 시간의 백분위수 안에 응답이 없으면 같은 요청을 한 번 더 보내고, 먼저 성공한
+   * 응답을 사용</p>
    *
    * @param targetUrl    요청을 보낼 URL
    * @param headers      요청 헤더 정보
@@ -27,20 +79,30 @@ public class HttpUtil {
    */
   public <T> ResponseEntity<T> sendGet(String targetUrl, MultiValueMap<String, String> headers,
       Class<T> responseType) {
-    return restClient.get()
-        .uri(targetUrl)
-        .accept(MediaType.APPLICATION_JSON)
-        .headers(httpHeaders -> {
-          if (headers != null && !headers.isEmpty()) {
-            httpHeaders.addAll(headers);
-          }
-        })
-        .retrieve()
-        .toEntity(responseType);
+    return sendGet(targetUrl, headers, responseType, true);
+  }
+
+  /**
+   * GET 요청을 보내고 응답을 객체로 반환
+   *
+   * @param targetUrl    요청을 보낼 URL
+   * @param headers      요청 헤더 정보
+   * @param responseType 응답을 매핑할 클래스 타입
+   * @param coalesce     동일 요청 병합 여부 (false면 진행 중인 동일 요청이 있어도 별도로 요청)
+   * @return 응답 객체 (coalesce가 true이면 병합된 다른 호출자와 공유할 수 있으므로 변경하지 않아야 함)
+   */
+  public <T> ResponseEntity<T> sendGet(String targetUrl, MultiValueMap<String, String> headers,
+      Class<T> responseType, boolean coalesce) {
+    if (!coalesce) {
+      return get(targetUrl, headers, responseType);
+    }
+    return requestCoalescer.execute(HttpMethod.GET, targetUrl, headers, responseType,
+        () -> get(targetUrl, headers, responseType));
   }
 
   /**
    * POST 요청을 보내고 응답을 객체로 반환
+   * <p>POST는 멱등하지 않으므로 요청 헤더에 멱등 키(Idempotency-Key)가 있을 때만 실패 시 재시도</p>
    *
    * @param targetUrl    요청을 보낼 URL
    * @param headers      요청 헤더 정보
@@ -50,9 +112,11 @@ public class HttpUtil {
    */
   public <T> ResponseEntity<T> sendPost(String targetUrl, MultiValueMap<String, String> headers,
       Object body, Class<T> responseType) {
+    PayloadFormat format = payloadFormatResolver.resolve(targetUrl);
     return restClient.post()
         .uri(targetUrl)
-        .contentType(MediaType.APPLICATION_JSON)
+        .contentType(format.getMediaType())
+        .accept(format.getAcceptableMediaTypes().toArray(MediaType[]::new))
         .headers(httpHeaders -> {
           if (headers != null && !headers.isEmpty()) {
             httpHeaders.addAll(headers);
@@ -74,9 +138,11 @@ public class HttpUtil {
    */
   public <T> ResponseEntity<T> sendPut(String targetUrl, MultiValueMap<String, String> headers,
       Object body, Class<T> responseType) {
+    PayloadFormat format = payloadFormatResolver.resolve(targetUrl);
     return restClient.put()
         .uri(targetUrl)
-        .contentType(MediaType.APPLICATION_JSON)
+        .contentType(format.getMediaType())
+        .accept(format.getAcceptableMediaTypes().toArray(MediaType[]::new))
         .headers(httpHeaders -> {
           if (headers != null && !headers.isEmpty()) {
             httpHeaders.addAll(headers);
@@ -107,4 +173,247 @@ public class HttpUtil {
         .retrieve()
         .toEntity(responseType);
   }
+
+  /**
+   * 요청마다 URI 변수(와 요청 본문)만 받아 실행하는 RequestTemplate을 생성
+   * <p>URI 템플릿 파싱, 기본 요청 헤더 준비, 경로별 직렬화 형식 조회를 생성 시 한 번만 수행하므로, 자주 호출하는 요청은 생성한 템플릿을 보관해 두고
+   * 재사용</p>
+   *
+   * @param method       HTTP 메서드
+   * @param uriTemplate  URI 템플릿 (예: https://jsonplaceholder.typicode.com/posts/{id})
+   * @param headers      기본 요청 헤더 정보
+   * @param responseType 응답을 매핑할 클래스 타입
+   * @return RequestTemplate 객체
+   */
+  public <T> RequestTemplate<T> template(HttpMethod method, String uriTemplate,
+      MultiValueMap<String, String> headers, Class<T> responseType) {
+    return new RequestTemplate<>(restClient, requestCoalescer, hedgingExecutor, method,
+        uriTemplate, headers, payloadFormatResolver, responseType);
+  }
+
+  /**
+   * GET 요청의 응답 본문을 파일로 저장
+   * <p>응답 본문을 메모리에 올리지 않고, 풀링된 고정 크기 버퍼로 소켓에서 FileChannel로 바로 기록</p>
+   * <p>resume이 true이고 파일이 이미 있으면 Range 요청으로 남은 부분만 받아 이어서 기록하며, 서버가 Range를 지원하지 않으면(200) 처음부터
+   * 다시 기록</p>
+   * <p>Range 요청은 Accept-Encoding: identity로 보내, 서버가 압축된 본문 기준으로 자른 조각을 받아 이어 붙이지 않도록 함</p>
+   *
+   * @param targetUrl 요청을 보낼 URL
+   * @param headers   요청 헤더 정보
+   * @param target    저장할 파일 경로
+   * @param resume    이어받기 여부
+   * @return 저장된 파일의 전체 크기 (바이트)
+   */
+  public long downloadTo(String targetUrl, MultiValueMap<String, String> headers, Path target,
+      boolean resume) {
+    long offset = resume ? existingSize(target) : 0L;
+    Long size = fileTransferRestClient.get()
+        .uri(targetUrl)
+        .headers(httpHeaders -> {
+          if (headers != null && !headers.isEmpty()) {
+            httpHeaders.addAll(headers);
+          }
+          if (offset > 0) {
+            httpHeaders.setRange(List.of(HttpRange.createByteRange(offset)));
+            httpHeaders.set(HttpHeaders.ACCEPT_ENCODING, IDENTITY_ENCODING);
+          }
+        })
+        .exchange((request, response) -> {
+          // 이미 파일을 모두 받은 경우 서버는 416(Range Not Satisfiable)을 반환
+          if (offset > 0 && response.getStatusCode().isSameCodeAs(
+              HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)) {
+            return offset;
+          }
+          if (ERROR_HANDLER.hasError(response)) {
+            ERROR_HANDLER.handleError(request.getURI(), request.getMethod(), response);
+          }
+          boolean partial = response.getStatusCode().isSameCodeAs(HttpStatus.PARTIAL_CONTENT);
+          if (partial) {
+            verifyContentRange(response.getHeaders(), offset);
+          }
+          try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+              StandardOpenOption.WRITE,
+              partial ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING)) {
+            return (partial ? offset : 0L)
+                + FileTransfers.copy(response.getBody(), channel, bufferPool);
+          }
+        });
+    return size != null ? size : 0L;
+  }
+
+  /**
+   * 파일을 요청 본문으로 POST 요청을 보내고 응답을 객체로 반환
+   * <p>파일을 메모리에 올리지 않고, 풀링된 고정 크기 버퍼로 FileChannel에서 요청 본문으로 바로 기록 (Content-Length 지정)</p>
+   *
+   * @param targetUrl    요청을 보낼 URL
+   * @param headers      요청 헤더 정보
+   * @param source       업로드할 파일 경로
+   * @param responseType 응답을 매핑할 클래스 타입
+   * @return 응답 객체
+   */
+  public <T> ResponseEntity<T> uploadFrom(String targetUrl, MultiValueMap<String, String> headers,
+      Path source, Class<T> responseType) {
+    return fileTransferRestClient.post()
+        .uri(targetUrl)
+        .contentType(MediaType.APPLICATION_OCTET_STREAM)
+        .contentLength(existingSize(source))
+        .headers(httpHeaders -> {
+          if (headers != null && !headers.isEmpty()) {
+            httpHeaders.addAll(headers);
+          }
+        })
+        .body(outputStream -> {
+          try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            FileTransfers.copy(channel, outputStream, bufferPool);
+          }
+        })
+        .retrieve()
+        .toEntity(responseType);
+  }
+
+  /**
+   * 여러 건의 요청을 비동기로 보내고, 요청 순서와 같은 순서의 CompletableFuture 목록을 반환
+   * <p>호출 1건당 최대 동시 요청 수는 기본 설정 값(rest-client.fan-out.max-concurrency)을 사용</p>
+   *
+   * @param requests 요청 목록
+   * @return 요청 순서와 같은 순서의 CompletableFuture 목록
+   */
+  public <T> List<CompletableFuture<ResponseEntity<T>>> sendAllAsync(
+      List<BatchRequest<T>> requests) {
+    return sendAllAsync(requests, fanOutExecutor.getDefaultMaxConcurrency());
+  }
+
+  /**
+   * 여러 건의 요청을 비동기로 보내고, 요청 순서와 같은 순서의 CompletableFuture 목록을 반환
+   * <p>호스트별 동시 요청 수는 Connection Pool의 경로별 최대 커넥션 수로 제한</p>
+   *
+   * @param requests       요청 목록
+   * @param maxConcurrency 호출 1건당 최대 동시 요청 수
+   * @return 요청 순서와 같은 순서의 CompletableFuture 목록
+   */
+  public <T> List<CompletableFuture<ResponseEntity<T>>> sendAllAsync(
+      List<BatchRequest<T>> requests, int maxConcurrency) {
+    return fanOutExecutor.submitAll(requests,
+        request -> UriComponentsBuilder.fromUriString(request.getTargetUrl()).build().toUri(),
+        this::send, maxConcurrency);
+  }
+
+  /**
+   * 여러 건의 요청을 동시에 보내고, 모든 응답을 요청 순서대로 반환
+   *
+   * @param requests 요청 목록
+   * @return 요청 순서와 같은 순서의 응답 객체 목록
+   */
+  public <T> List<ResponseEntity<T>> sendBatch(List<BatchRequest<T>> requests) {
+    return sendBatch(requests, fanOutExecutor.getDefaultMaxConcurrency());
+  }
+
+  /**
+   * 여러 건의 요청을 동시에 보내고, 모든 응답을 요청 순서대로 반환
+   * <p>모든 요청이 끝난 뒤, 실패한 요청이 있으면 첫 번째 실패 예외를 던짐</p>
+   *
+   * @param requests       요청 목록
+   * @param maxConcurrency 호출 1건당 최대 동시 요청 수
+   * @return 요청 순서와 같은 순서의 응답 객체 목록
+   */
+  public <T> List<ResponseEntity<T>> sendBatch(List<BatchRequest<T>> requests,
+      int maxConcurrency) {
+    List<CompletableFuture<ResponseEntity<T>>> futures = sendAllAsync(requests, maxConcurrency);
+    try {
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    } catch (CompletionException ex) {
+      // 첫 번째 실패 예외는 아래에서 요청 순서대로 확인하여 던짐
+    }
+
+    List<ResponseEntity<T>> responses = new ArrayList<>(futures.size());
+    for (CompletableFuture<ResponseEntity<T>> future : futures) {
+      try {
+        responses.add(future.get());
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        throw new RestClientException("Batch request interrupted", ex);
+      } catch (ExecutionException ex) {
+        if (ex.getCause() instanceof RuntimeException runtimeException) {
+          throw runtimeException;
+        }
+        throw new RestClientException("Batch request failed", ex.getCause());
+      }
+    }
+    return responses;
+  }
+
+  /**
+   * GET 요청을 보내고 응답을 객체로 반환 (동일 요청 병합 없음, 헤징을 적용한 경로는 헤징)
+   *
+   * @param targetUrl    요청을 보낼 URL
+   * @param headers      요청 헤더 정보
+   * @param responseType 응답을 매핑할 클래스 타입
+   * @return 응답 객체
+   */
+  private <T> ResponseEntity<T> get(String targetUrl, MultiValueMap<String, String> headers,
+      Class<T> responseType) {
+    PayloadFormat format = payloadFormatResolver.resolve(targetUrl);
+    return hedgingExecutor.execute(targetUrl, () -> restClient.get()
+        .uri(targetUrl)
+        .accept(format.getAcceptableMediaTypes().toArray(MediaType[]::new))
+        .headers(httpHeaders -> {
+          if (headers != null && !headers.isEmpty()) {
+            httpHeaders.addAll(headers);
+          }
+        })
+        .retrieve()
+        .toEntity(responseType));
+  }
+
+  /**
+   * BatchRequest의 HTTP 메서드에 맞는 요청을 보내고 응답을 객체로 반환
+   *
+   * @param request 요청 정보
+   * @return 응답 객체
+   */
+  private <T> ResponseEntity<T> send(BatchRequest<T> request) {
+    HttpMethod method = request.getMethod();
+    if (HttpMethod.GET.equals(method)) {
+      return sendGet(request.getTargetUrl(), request.getHeaders(), request.getResponseType());
+    } else if (HttpMethod.POST.equals(method)) {
+      return sendPost(request.getTargetUrl(), request.getHeaders(), request.getBody(),
+          request.getResponseType());
+    } else if (HttpMethod.PUT.equals(method)) {
+      return sendPut(request.getTargetUrl(), request.getHeaders(), request.getBody(),
+          request.getResponseType());
+    } else if (HttpMethod.DELETE.equals(method)) {
+      return sendDelete(request.getTargetUrl(), request.getHeaders(), request.getResponseType());
+    }
+    throw new IllegalArgumentException("Unsupported HTTP method: " + method);
+  }
+
+  /**
+   * 파일 크기를 반환 (파일이 없으면 0)
+   *
+   * @param path 파일 경로
+   * @return 파일 크기 (바이트)
+   */
+  private long existingSize(Path path) {
+    try {
+      return Files.exists(path) ? Files.size(path) : 0L;
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  /**
+   * 206(Partial Content) 응답의 Content-Range 시작 위치가 요청한 위치와 같은지 확인
+   *
+   * @param headers 응답 헤더
+   * @param offset  요청한 시작 위치
+   */
+  private void verifyContentRange(HttpHeaders headers, long offset) {
+    String contentRange = headers.getFirst(HttpHeaders.CONTENT_RANGE);
+    String expected = "bytes " + offset + "-";
+    if (contentRange == null || !contentRange.startsWith(expected)) {
+      throw new RestClientException(
+          "Unexpected Content-Range for resumed download: " + contentRange + " (expected "
+              + expected + "...)");
+    }
+  }
 }
@@ -0,0 +1,118 @@
+package com.example.restclient.util;
+
+import com.example.restclient.codec.PayloadFormat;
+import com.example.restclient.codec.PayloadFormatResolver;
+import com.example.restclient.concurrent.HedgingExecutor;
+import com.example.restclient.concurrent.RequestCoalescer;
+import com.example.restclient.pool.HttpRoutes;
+import java.net.URI;
+import java.util.function.Consumer;
+import org.apache.hc.client5.http.HttpRoute;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.RestClient;
+
+/**
+ * URI 템플릿, 기본 요청 헤더, 직렬화 형식을 미리 준비해 두고 요청마다 URI 변수(와 요청 본문)만 받아 실행하는 요청 템플릿
+ * <p>HttpUtil.sendX와 달리 요청마다 URL 문자열 파싱, 요청 헤더 복사용 람다 생성, 경로별 직렬화 형식 조회를 하지 않음</p>
+ * <p>HttpUtil.template(...)으로 생성하여 필드 등에 보관해 두고 재사용 (스레드 안전)</p>
+ * <ul>
+ *   <li>GET : HttpUtil.sendGet과 같이 동일 요청 병합, 헤징을 적용</li>
+ *   <li>POST, PUT : HttpUtil.sendPost, sendPut과 같이 멱등 키 헤더가 있을 때만 재시도</li>
+ * </ul>
+ */
+public final class RequestTemplate<T> {
+
+  private final RestClient restClient;
+  private final RequestCoalescer requestCoalescer;
+  private final HedgingExecutor hedgingExecutor;
+  private final HttpMethod method;
+  private final CompiledUriTemplate uriTemplate;
+  private final HttpRoute route;
+  private final HttpHeaders headers;
+  private final Consumer<HttpHeaders> headersInitializer;
+  private final MediaType contentType;
+  private final MediaType[] acceptableMediaTypes;
+  private final Class<T> responseType;
+
+  RequestTemplate(RestClient restClient, RequestCoalescer requestCoalescer,
+      HedgingExecutor hedgingExecutor, HttpMethod method, String uriTemplate,
+      MultiValueMap<String, String> headers, PayloadFormatResolver payloadFormatResolver,
+      Class<T> responseType) {
+    this.restClient = restClient;
+    this.requestCoalescer = requestCoalescer;
+    this.hedgingExecutor = hedgingExecutor;
+    this.method = method;
+    this.uriTemplate = CompiledUriTemplate.compile(uriTemplate);
+    this.route = HttpRoutes.of(this.uriTemplate.getBaseUri());
+    HttpHeaders defaultHeaders = new HttpHeaders();
+    if (headers != null) {
+      defaultHeaders.addAll(headers);
+    }
+    this.headers = HttpHeaders.readOnlyHttpHeaders(defaultHeaders);
+    this.headersInitializer = httpHeaders -> httpHeaders.addAll(this.headers);
+    PayloadFormat format = payloadFormatResolver.resolve(
+        this.uriTemplate.getBaseUri().toString());
+    this.contentType = format.getMediaType();
+    this.acceptableMediaTypes = format.getAcceptableMediaTypes().toArray(MediaType[]::new);
+    this.responseType = responseType;
+  }
+
+  /**
+   * 요청 본문 없이 요청을 보내고 응답을 객체로 반환
+   *
+   * @param uriVariables URI 템플릿 변수 값 (템플릿의 변수 순서)
+   * @return 응답 객체 (GET은 진행 중인 동일 요청과 병합되면 같은 객체를 공유하므로 변경하지 않아야 함)
+   */
+  public ResponseEntity<T> execute(Object... uriVariables) {
+    URI uri = uriTemplate.expand(uriVariables);
+    if (!HttpMethod.GET.equals(method)) {
+      return exchange(uri, null);
+    }
+    return requestCoalescer.execute(method, uri.toString(), headers, responseType,
+        () -> hedgingExecutor.execute(route, () -> exchange(uri, null)));
+  }
+
+  /**
+   * 요청 본문과 함께 요청을 보내고 응답을 객체로 반환
+   *
+   * @param body         요청 본문 객체
+   * @param uriVariables URI 템플릿 변수 값 (템플릿의 변수 순서)
+   * @return 응답 객체
+   */
+  public ResponseEntity<T> executeWithBody(Object body, Object... uriVariables) {
+    return exchange(uriTemplate.expand(uriVariables), body);
+  }
+
+  /**
+   * 템플릿의 HTTP 메서드를 반환
+   *
+   * @return HTTP 메서드
+   */
+  public HttpMethod getMethod() {
+    return method;
+  }
+
+  /**
+   * 템플릿의 URI 템플릿 문자열을 반환
+   *
+   * @return URI 템플릿
+   */
+  public String getUriTemplate() {
+    return uriTemplate.getTemplate();
+  }
+
+  private ResponseEntity<T> exchange(URI uri, Object body) {
+    RestClient.RequestBodySpec request = restClient.method(method)
+        .uri(uri)
+        .headers(headersInitializer)
+        .accept(acceptableMediaTypes);
+    if (body != null) {
+      request.contentType(contentType).body(body);
+    }
+    return request.retrieve().toEntity(responseType);
+  }
+}
@@ -0,0 +1,88 @@
+package com.example.restclient.warmup;
+
+import com.example.restclient.pool.ConnectionPoolTuner;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.io.ConnectionEndpoint;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.ConnectionRequestTimeoutException;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+
+/**
+ * 경로의 커넥션을 미리 연결하여 Connection Pool에 유휴 커넥션으로 넣어 두는 클래스
+ * <p>커넥션을 지정한 수만큼 동시에 임대한 뒤 연결(TCP 연결, TLS 핸드셰이크)하고 재사용 가능한 상태로 반납하므로, 첫 요청부터 Keep-Alive
+ * 커넥션을 재사용</p>
+ */
+public class ConnectionWarmer {
+
+  private static final String LEASE_ID_PREFIX = "warm-up-"; // 커넥션 임대 ID 접두사 (로그)
+
+  private final PoolingHttpClientConnectionManager connectionManager;
+  private final ConnectionPoolTuner connectionPoolTuner;
+
+  /**
+   * @param connectionManager   커넥션을 열어 둘 Connection Manager
+   * @param connectionPoolTuner 경로별 유휴 연결 유지 시간을 조회할 ConnectionPoolTuner
+   */
+  public ConnectionWarmer(PoolingHttpClientConnectionManager connectionManager,
+      ConnectionPoolTuner connectionPoolTuner) {
+    this.connectionManager = connectionManager;
+    this.connectionPoolTuner = connectionPoolTuner;
+  }
+
+  /**
+   * 경로의 커넥션을 미리 연결
+   * <p>이미 연결된 유휴 커넥션도 개수에 포함하며, 경로별 최대 커넥션 수를 넘지 않음</p>
+   *
+   * @param route       커넥션을 열 경로
+   * @param connections 열어 둘 커넥션 수
+   * @param timeout     커넥션 임대 최대 대기 시간
+   * @return 새로 연결한 커넥션 수
+   * @throws IOException 커넥션을 임대하거나 연결하지 못한 경우 (그 전까지 연결한 커넥션은 Connection Pool에 반납)
+   */
+  public int warm(HttpRoute route, int connections, Timeout timeout) throws IOException {
+    int target = Math.min(connections, connectionManager.getMaxPerRoute(route));
+    List<ConnectionEndpoint> endpoints = new ArrayList<>(target);
+    int opened = 0;
+    try {
+      for (int i = 0; i < target; i++) {
+        ConnectionEndpoint endpoint = lease(route, LEASE_ID_PREFIX + i, timeout);
+        endpoints.add(endpoint);
+        if (!endpoint.isConnected()) {
+          // 연결 타임아웃은 경로별 ConnectionConfig 값을 사용
+          connectionManager.connect(endpoint, null, HttpClientContext.create());
+          opened++;
+        }
+      }
+    } finally {
+      TimeValue keepAlive = connectionPoolTuner.settingsOf(route).maxIdleTime();
+      TimeValue validDuration = keepAlive != null ? keepAlive
+          : RequestConfig.DEFAULT.getConnectionKeepAlive();
+      // 연결에 실패한 커넥션은 재사용할 수 없는 상태이므로 반납 시 닫힘
+      endpoints.forEach(endpoint -> connectionManager.release(endpoint, null, validDuration));
+    }
+    return opened;
+  }
+
+  private ConnectionEndpoint lease(HttpRoute route, String id, Timeout timeout)
+      throws IOException {
+    try {
+      return connectionManager.lease(id, route, timeout, null).get(timeout);
+    } catch (TimeoutException ex) {
+      throw new ConnectionRequestTimeoutException(ex.getMessage());
+    } catch (ExecutionException ex) {
+      throw new IOException("Connection lease failed: " + route, ex.getCause());
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Connection lease interrupted: " + route);
+    }
+  }
+}
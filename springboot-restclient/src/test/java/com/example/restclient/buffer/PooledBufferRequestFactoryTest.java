@@ -0,0 +1,136 @@
+package com.example.restclient.buffer;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.restclient.util.HttpUtil;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+
+@Slf4j
+@SpringBootTest(properties = {
+    "rest-client.response-buffer.enabled=true",
+    "rest-client.response-buffer.buffer-size=4KB",
+    "rest-client.response-buffer.max-pooled=4"
+})
+class PooledBufferRequestFactoryTest {
+
+  @Autowired
+  HttpUtil httpUtil;
+
+  @Autowired
+  @Qualifier("responseBufferPool")
+  ByteBufferPool responseBufferPool;
+
+  private HttpServer server;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/posts", exchange -> {
+      int titleLength = exchange.getRequestURI().getPath().endsWith("/large") ? 16 * 1024 : 16;
+      byte[] body = ("{\"id\":1,\"title\":\"" + "a".repeat(titleLength) + "\"}")
+          .getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("응답 버퍼 풀: 버퍼보다 작은 응답과 큰 응답을 모두 역직렬화하고, 읽은 뒤 반납한 버퍼를 다음 응답에서 재사용")
+  @Test
+  public void testReuseResponseBuffers() {
+
+    // Given
+    long missesBefore = responseBufferPool.getMissCount();
+    long hitsBefore = responseBufferPool.getHitCount();
+
+    // When
+    ResponseEntity<PostDTO> small = null;
+    ResponseEntity<PostDTO> large = null;
+    for (int i = 0; i < 5; i++) {
+      small = httpUtil.sendGet(baseUrl() + "/posts/small", null, PostDTO.class, false);
+      large = httpUtil.sendGet(baseUrl() + "/posts/large", null, PostDTO.class, false);
+    }
+
+    // Then
+    long misses = responseBufferPool.getMissCount() - missesBefore;
+    long hits = responseBufferPool.getHitCount() - hitsBefore;
+    log.debug("response buffer pool - hits: {}, misses: {}, hit rate: {}, saved: {} bytes", hits,
+        misses, responseBufferPool.getHitRate(), responseBufferPool.getSavedBytes());
+    ResponseEntity<PostDTO> smallResponse = small;
+    ResponseEntity<PostDTO> largeResponse = large;
+    assertAll(
+        () -> assertEquals(16, smallResponse.getBody().getTitle().length()),
+        () -> assertEquals(16 * 1024, largeResponse.getBody().getTitle().length()),
+        () -> assertTrue(misses <= 1),
+        () -> assertEquals(10, hits + misses),
+        () -> assertTrue(responseBufferPool.getPooledCount() >= 1)
+    );
+  }
+
+  @DisplayName("PooledBufferInputStream: 다이렉트 버퍼로 나눠 읽으며 mark/reset을 지원하고, 닫으면 버퍼를 반납")
+  @Test
+  public void testDirectBufferStream() throws IOException {
+
+    // Given
+    ByteBufferPool directPool = new ByteBufferPool(8, 1, true);
+    byte[] data = "0123456789abcdefghij".getBytes(StandardCharsets.UTF_8);
+    PooledBufferInputStream inputStream = new PooledBufferInputStream(
+        new ByteArrayInputStream(data), directPool, data.length);
+
+    // When
+    inputStream.mark(1);
+    int first = inputStream.read();
+    inputStream.reset();
+    byte[] read = inputStream.readAllBytes();
+    inputStream.close();
+
+    // Then
+    assertAll(
+        () -> assertEquals('0', first),
+        () -> assertEquals("0123456789abcdefghij", new String(read, StandardCharsets.UTF_8)),
+        () -> assertNull(inputStream.getBufferedBody()),
+        () -> assertEquals(1, directPool.getPooledCount()),
+        () -> assertTrue(directPool.acquire().isDirect())
+    );
+  }
+
+  private String baseUrl() {
+    return "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class PostDTO {
+
+    private int id;
+    private String title;
+  }
+}
@@ -0,0 +1,285 @@
+package com.example.restclient.cache;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.example.restclient.util.HttpUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+@Slf4j
+@SpringBootTest(properties = "rest-client.response-cache.enabled=true")
+class ResponseCacheInterceptorTest {
+
+  private static final String ETAG = "\"v1\"";
+  private static final String LAST_MODIFIED = "Wed, 01 Jan 2025 00:00:00 GMT";
+
+  @Autowired
+  HttpUtil httpUtil;
+
+  @TempDir
+  Path tempDir;
+
+  private HttpServer server;
+  private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+  private final List<String> conditionalHeaders = new CopyOnWriteArrayList<>();
+  private final List<String> authorizationHeaders = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/max-age", exchange -> respond(exchange, "max-age=60", null, null));
+    server.createContext("/etag", exchange -> {
+      String ifNoneMatch = exchange.getRequestHeaders().getFirst(HttpHeaders.IF_NONE_MATCH);
+      if (ETAG.equals(ifNoneMatch)) {
+        conditionalHeaders.add(ifNoneMatch);
+        notModified(exchange);
+      } else {
+        respond(exchange, "no-cache", ETAG, null);
+      }
+    });
+    server.createContext("/last-modified", exchange -> {
+      String ifModifiedSince = exchange.getRequestHeaders()
+          .getFirst(HttpHeaders.IF_MODIFIED_SINCE);
+      if (ifModifiedSince != null) {
+        conditionalHeaders.add(ifModifiedSince);
+        notModified(exchange);
+      } else {
+        respond(exchange, "max-age=0", null, LAST_MODIFIED);
+      }
+    });
+    server.createContext("/no-store", exchange -> respond(exchange, "no-store", ETAG, null));
+    server.createContext("/private", exchange -> respond(exchange, "private, max-age=60", null,
+        null));
+    server.createContext("/authorized", exchange -> {
+      authorizationHeaders.add(exchange.getRequestHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+      respond(exchange, "max-age=60", null, null);
+    });
+    server.createContext("/public", exchange -> {
+      authorizationHeaders.add(exchange.getRequestHeaders().getFirst(HttpHeaders.AUTHORIZATION));
+      respond(exchange, "public, max-age=60", null, null);
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("max-age 응답: 신선도 기간 동안 요청을 보내지 않고 캐시에서 반환")
+  @Test
+  public void testFreshResponseServedFromCache() {
+
+    // When
+    ResponseEntity<PostDTO> first = httpUtil.sendGet(url("/max-age"), null, PostDTO.class);
+    ResponseEntity<PostDTO> second = httpUtil.sendGet(url("/max-age"), null, PostDTO.class);
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, requestCount("/max-age")),
+        () -> assertEquals(first.getBody().getId(), second.getBody().getId()),
+        () -> assertNotNull(second.getHeaders().getFirst(HttpHeaders.AGE))
+    );
+  }
+
+  @DisplayName("ETag 응답: If-None-Match 조건부 요청으로 재검증하고 304 응답이면 캐시된 본문을 반환")
+  @Test
+  public void testRevalidateWithETag() {
+
+    // When
+    httpUtil.sendGet(url("/etag"), null, PostDTO.class);
+    ResponseEntity<PostDTO> response = httpUtil.sendGet(url("/etag"), null, PostDTO.class);
+
+    // Then
+    assertAll(
+        () -> assertEquals(200, response.getStatusCode().value()),
+        () -> assertEquals(1, response.getBody().getId()),
+        () -> assertEquals(List.of(ETAG), conditionalHeaders)
+    );
+  }
+
+  @DisplayName("Last-Modified 응답: If-Modified-Since 조건부 요청으로 재검증하고 304 응답이면 캐시된 본문을 반환")
+  @Test
+  public void testRevalidateWithLastModified() {
+
+    // When
+    httpUtil.sendGet(url("/last-modified"), null, PostDTO.class);
+    ResponseEntity<PostDTO> response = httpUtil.sendGet(url("/last-modified"), null,
+        PostDTO.class);
+
+    // Then
+    assertAll(
+        () -> assertEquals(200, response.getStatusCode().value()),
+        () -> assertEquals(1, response.getBody().getId()),
+        () -> assertEquals(List.of(LAST_MODIFIED), conditionalHeaders)
+    );
+  }
+
+  @DisplayName("no-store 응답: 캐시하지 않고 매번 요청")
+  @Test
+  public void testNoStoreNotCached() {
+
+    // When
+    httpUtil.sendGet(url("/no-store"), null, PostDTO.class);
+    httpUtil.sendGet(url("/no-store"), null, PostDTO.class);
+
+    // Then
+    assertAll(
+        () -> assertEquals(2, requestCount("/no-store")),
+        () -> assertEquals(List.of(), conditionalHeaders)
+    );
+  }
+
+  @DisplayName("private 응답: 캐시하지 않고 매번 요청")
+  @Test
+  public void testPrivateNotCached() {
+
+    // When
+    httpUtil.sendGet(url("/private"), null, PostDTO.class);
+    httpUtil.sendGet(url("/private"), null, PostDTO.class);
+
+    // Then
+    assertEquals(2, requestCount("/private"));
+  }
+
+  @DisplayName("Authorization 요청: public이 아닌 응답은 캐시하지 않아 다른 사용자에게 반환하지 않음")
+  @Test
+  public void testAuthorizedResponseNotShared() {
+
+    // When
+    httpUtil.sendGet(url("/authorized"), authorization("Bearer user-a"), PostDTO.class);
+    httpUtil.sendGet(url("/authorized"), authorization("Bearer user-b"), PostDTO.class);
+
+    // Then
+    assertAll(
+        () -> assertEquals(2, requestCount("/authorized")),
+        () -> assertEquals(List.of("Bearer user-a", "Bearer user-b"), authorizationHeaders)
+    );
+  }
+
+  @DisplayName("Authorization 요청: public 응답은 캐시에서 반환")
+  @Test
+  public void testAuthorizedPublicResponseCached() {
+
+    // When
+    httpUtil.sendGet(url("/public"), authorization("Bearer user-a"), PostDTO.class);
+    httpUtil.sendGet(url("/public"), authorization("Bearer user-b"), PostDTO.class);
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, requestCount("/public")),
+        () -> assertEquals(List.of("Bearer user-a"), authorizationHeaders)
+    );
+  }
+
+  @DisplayName("POST 요청: 요청이 성공하면 같은 URL의 캐시된 응답을 삭제")
+  @Test
+  public void testUnsafeMethodInvalidatesCache() {
+
+    // When
+    httpUtil.sendGet(url("/max-age"), null, PostDTO.class);
+    httpUtil.sendPost(url("/max-age"), null, new PostDTO(), PostDTO.class);
+    httpUtil.sendGet(url("/max-age"), null, PostDTO.class);
+
+    // Then
+    assertEquals(3, requestCount("/max-age"));
+  }
+
+  @DisplayName("디스크 캐시: 메모리 캐시에서 밀려난 응답을 디스크에서 다시 조회")
+  @Test
+  public void testDiskTier() {
+
+    // Given
+    ResponseCache responseCache = new ResponseCache(1024,
+        new DiskCacheTier(tempDir, 1024 * 1024));
+    HttpHeaders headers = new HttpHeaders();
+    headers.setETag(ETAG);
+    byte[] body = new byte[800];
+
+    // When
+    responseCache.put("first", CachedResponse.of(200, headers, body, new HttpHeaders(), 0L));
+    responseCache.put("second", CachedResponse.of(200, headers, body, new HttpHeaders(), 0L));
+    responseCache.cleanUp();
+    CachedResponse first = responseCache.get("first");
+    responseCache.cleanUp();
+    CachedResponse second = responseCache.get("second");
+
+    // Then
+    assertAll(
+        () -> assertNotNull(first),
+        () -> assertNotNull(second),
+        () -> assertEquals(ETAG, first.getHeaders().getETag()),
+        () -> assertEquals(body.length, first.getBody().length),
+        () -> assertNull(responseCache.get("unknown"))
+    );
+  }
+
+  private void respond(HttpExchange exchange, String cacheControl, String etag,
+      String lastModified) throws IOException {
+    requestCounts.computeIfAbsent(exchange.getHttpContext().getPath(), key -> new AtomicInteger())
+        .incrementAndGet();
+    byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.getResponseHeaders().set(HttpHeaders.CACHE_CONTROL, cacheControl);
+    if (etag != null) {
+      exchange.getResponseHeaders().set(HttpHeaders.ETAG, etag);
+    }
+    if (lastModified != null) {
+      exchange.getResponseHeaders().set(HttpHeaders.LAST_MODIFIED, lastModified);
+    }
+    exchange.sendResponseHeaders(200, body.length);
+    exchange.getResponseBody().write(body);
+    exchange.close();
+  }
+
+  private void notModified(HttpExchange exchange) throws IOException {
+    exchange.sendResponseHeaders(304, -1);
+    exchange.close();
+  }
+
+  private HttpHeaders authorization(String value) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.set(HttpHeaders.AUTHORIZATION, value);
+    return headers;
+  }
+
+  private int requestCount(String path) {
+    return requestCounts.getOrDefault(path, new AtomicInteger()).get();
+  }
+
+  private String url(String path) {
+    return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+  }
+
+  @Getter
+  @NoArgsConstructor
+  public static class PostDTO {
+
+    private int id = 1;
+  }
+}
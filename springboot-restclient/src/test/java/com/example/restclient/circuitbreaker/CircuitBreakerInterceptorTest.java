@@ -0,0 +1,111 @@
+package com.example.restclient.circuitbreaker;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.restclient.pool.HttpRoutes;
+import com.example.restclient.util.HttpUtil;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpServerErrorException;
+
+@Slf4j
+@SpringBootTest(properties = {
+    "rest-client.circuit-breaker.enabled=true",
+    "rest-client.circuit-breaker.window-size=4",
+    "rest-client.circuit-breaker.minimum-calls=4",
+    "rest-client.circuit-breaker.wait-duration-in-open=300ms",
+    "rest-client.circuit-breaker.permitted-calls-in-half-open=1"
+})
+class CircuitBreakerInterceptorTest {
+
+  private static final int FAILURE_COUNT = 4;
+  private static final long WAIT_DURATION_IN_OPEN_MILLIS = 300L;
+
+  @Autowired
+  HttpUtil httpUtil;
+
+  @Autowired
+  CircuitBreakerInterceptor circuitBreakerInterceptor;
+
+  private HttpServer server;
+  private volatile boolean failing = true;
+  private final AtomicInteger requestCount = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/posts/1", exchange -> {
+      requestCount.incrementAndGet();
+      if (failing) {
+        exchange.sendResponseHeaders(500, -1);
+        exchange.close();
+        return;
+      }
+      byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("서킷 브레이커: 실패율이 기준 이상이면 요청을 보내지 않고 거절하며, 대기 시간 후 시험 요청이 성공하면 닫힘")
+  @Test
+  public void testOpenAndHalfOpenProbe() throws InterruptedException {
+
+    // Given
+    String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/posts/1";
+    for (int i = 0; i < FAILURE_COUNT; i++) {
+      assertThrows(HttpServerErrorException.class,
+          () -> httpUtil.sendGet(url, null, PostDTO.class, false));
+    }
+
+    // When
+    CircuitBreakerOpenException rejected = assertThrows(CircuitBreakerOpenException.class,
+        () -> httpUtil.sendGet(url, null, PostDTO.class, false));
+    int requestsWhileOpen = requestCount.get();
+
+    failing = false;
+    Thread.sleep(WAIT_DURATION_IN_OPEN_MILLIS + 100);
+    ResponseEntity<PostDTO> probe = httpUtil.sendGet(url, null, PostDTO.class, false);
+
+    // Then
+    assertAll(
+        () -> assertEquals(CircuitBreaker.State.OPEN, rejected.getState()),
+        () -> assertEquals(FAILURE_COUNT, requestsWhileOpen),
+        () -> assertEquals(1, probe.getBody().getId()),
+        () -> assertEquals(CircuitBreaker.State.CLOSED,
+            circuitBreakerInterceptor.stateOf(HttpRoutes.of(URI.create(url))))
+    );
+  }
+
+  @Getter
+  @NoArgsConstructor
+  public static class PostDTO {
+
+    private int id;
+  }
+}
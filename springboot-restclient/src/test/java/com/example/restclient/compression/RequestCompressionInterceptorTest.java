@@ -0,0 +1,159 @@
+package com.example.restclient.compression;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.restclient.util.HttpUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+
+@Slf4j
+@SpringBootTest(properties = {
+    "rest-client.compression.accept-zstd=true",
+    "rest-client.compression.request.enabled=true",
+    "rest-client.compression.request.encoding=zstd",
+    "rest-client.compression.request.min-size=1KB"
+})
+class RequestCompressionInterceptorTest {
+
+  @Autowired
+  HttpUtil httpUtil;
+
+  private HttpServer server;
+  private final List<ReceivedRequest> receivedRequests = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/posts", exchange -> {
+      String contentEncoding = exchange.getRequestHeaders().getFirst("Content-Encoding");
+      byte[] rawBody;
+      try (InputStream inputStream = exchange.getRequestBody()) {
+        rawBody = inputStream.readAllBytes();
+      }
+      byte[] body = contentEncoding == null ? rawBody
+          : ContentEncoding.ZSTD.decode(new ByteArrayInputStream(rawBody)).readAllBytes();
+      receivedRequests.add(new ReceivedRequest(contentEncoding, rawBody.length,
+          new String(body, StandardCharsets.UTF_8)));
+      respond(exchange, "{\"id\":1,\"title\":\"posted\"}", false);
+    });
+    server.createContext("/posts/1", exchange -> {
+      String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+      receivedRequests.add(new ReceivedRequest(acceptEncoding, 0, null));
+      respond(exchange, "{\"id\":1,\"title\":\"" + "a".repeat(4096) + "\"}",
+          acceptEncoding != null && acceptEncoding.contains("zstd"));
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("요청 본문 압축: 최소 크기 이상인 POST 본문만 zstd로 압축하여 보냄")
+  @Test
+  public void testCompressLargeRequestBody() {
+
+    // Given
+    String url = baseUrl() + "/posts";
+    PostDTO largePost = new PostDTO(1, "a".repeat(4096));
+    PostDTO smallPost = new PostDTO(2, "small");
+
+    // When
+    httpUtil.sendPost(url, null, largePost, PostDTO.class);
+    httpUtil.sendPost(url, null, smallPost, PostDTO.class);
+
+    // Then
+    ReceivedRequest large = receivedRequests.get(0);
+    ReceivedRequest small = receivedRequests.get(1);
+    assertAll(
+        () -> assertEquals("zstd", large.getEncoding()),
+        () -> assertTrue(large.getRawLength() < 4096),
+        () -> assertTrue(large.getBody().contains("a".repeat(4096))),
+        () -> assertNull(small.getEncoding()),
+        () -> assertTrue(small.getBody().contains("small"))
+    );
+  }
+
+  @DisplayName("응답 압축 해제: Accept-Encoding으로 zstd를 협상하고, zstd로 압축된 응답을 그대로 읽음")
+  @Test
+  public void testDecompressZstdResponse() {
+
+    // Given
+    String url = baseUrl() + "/posts/1";
+
+    // When
+    ResponseEntity<PostDTO> response = httpUtil.sendGet(url, null, PostDTO.class, false);
+
+    // Then
+    String acceptEncoding = receivedRequests.get(0).getEncoding();
+    assertAll(
+        () -> assertTrue(acceptEncoding.startsWith("zstd")),
+        () -> assertTrue(acceptEncoding.contains("gzip")),
+        () -> assertEquals(4096, response.getBody().getTitle().length()),
+        () -> assertNull(response.getHeaders().getFirst("Content-Encoding"))
+    );
+  }
+
+  private void respond(HttpExchange exchange, String json, boolean zstd) throws IOException {
+    byte[] body = json.getBytes(StandardCharsets.UTF_8);
+    if (zstd) {
+      ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+      try (OutputStream outputStream = ContentEncoding.ZSTD.encode(buffer)) {
+        outputStream.write(body);
+      }
+      body = buffer.toByteArray();
+      exchange.getResponseHeaders().set("Content-Encoding", "zstd");
+    }
+    exchange.getResponseHeaders().set("Content-Type", "application/json");
+    exchange.sendResponseHeaders(200, body.length);
+    exchange.getResponseBody().write(body);
+    exchange.close();
+  }
+
+  private String baseUrl() {
+    return "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class ReceivedRequest {
+
+    private final String encoding;
+    private final int rawLength;
+    private final String body;
+  }
+
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class PostDTO {
+
+    private int id;
+    private String title;
+  }
+}
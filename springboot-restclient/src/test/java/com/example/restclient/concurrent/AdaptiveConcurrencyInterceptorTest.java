@@ -0,0 +1,215 @@
+package com.example.restclient.concurrent;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.restclient.config.ConnectionPoolProperties;
+import com.example.restclient.pool.ConnectionPoolTuner;
+import com.example.restclient.util.HttpUtil;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.mock.http.client.MockClientHttpRequest;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+@Slf4j
+@SpringBootTest(properties = {
+    "rest-client.adaptive-concurrency.enabled=true",
+    "rest-client.adaptive-concurrency.initial-limit=2"
+})
+class AdaptiveConcurrencyInterceptorTest {
+
+  private static final int CALLER_COUNT = 4;
+  private static final long RESPONSE_DELAY_MILLIS = 300L;
+
+  @Autowired
+  HttpUtil httpUtil;
+
+  private HttpServer server;
+  private ExecutorService callers;
+  private final AtomicInteger requestCount = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext("/posts/1", exchange -> {
+      requestCount.incrementAndGet();
+      try {
+        Thread.sleep(RESPONSE_DELAY_MILLIS);
+        byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      } finally {
+        exchange.close();
+      }
+    });
+    server.start();
+    callers = Executors.newFixedThreadPool(CALLER_COUNT);
+  }
+
+  @AfterEach
+  void tearDown() {
+    callers.shutdownNow();
+    server.stop(0);
+  }
+
+  @DisplayName("동시 요청 제한: 경로의 한도를 넘는 요청은 보내지 않고 바로 거절")
+  @Test
+  public void testRejectOverLimit() throws Exception {
+
+    // Given
+    String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/posts/1";
+    CountDownLatch start = new CountDownLatch(1);
+
+    // When
+    List<Future<?>> futures = IntStream.range(0, CALLER_COUNT)
+        .<Future<?>>mapToObj(i -> callers.submit(() -> {
+          start.await();
+          return httpUtil.sendGet(url, null, PostDTO.class, false);
+        }))
+        .toList();
+    start.countDown();
+    List<Throwable> failures = new ArrayList<>();
+    for (Future<?> future : futures) {
+      try {
+        future.get(5, TimeUnit.SECONDS);
+      } catch (ExecutionException ex) {
+        failures.add(ex.getCause());
+      }
+    }
+
+    // Then
+    assertAll(
+        () -> assertEquals(2, requestCount.get()),
+        () -> assertEquals(2, failures.size()),
+        () -> failures.forEach(
+            failure -> assertInstanceOf(ConcurrencyLimitExceededException.class, failure))
+    );
+  }
+
+  @DisplayName("동시 요청 제한: 응답 상태를 읽다 실패하면 응답을 닫고 요청 허용을 반납")
+  @Test
+  public void testReleaseWhenStatusCodeFails() throws Exception {
+
+    // Given
+    AdaptiveConcurrencyInterceptor interceptor = new AdaptiveConcurrencyInterceptor(
+        new ConnectionPoolTuner(new PoolingHttpClientConnectionManager(),
+            new ConnectionPoolProperties()), 1, 1, 1, Duration.ZERO, 0);
+    MockClientHttpRequest request = new MockClientHttpRequest(HttpMethod.GET,
+        URI.create("http://127.0.0.1:8080/posts/1"));
+    AtomicBoolean closed = new AtomicBoolean();
+    ClientHttpResponse brokenResponse = new ClientHttpResponse() {
+
+      @Override
+      public HttpStatusCode getStatusCode() throws IOException {
+        throw new IOException("Connection reset while reading status line");
+      }
+
+      @Override
+      public String getStatusText() throws IOException {
+        throw new IOException("Connection reset while reading status line");
+      }
+
+      @Override
+      public HttpHeaders getHeaders() {
+        return new HttpHeaders();
+      }
+
+      @Override
+      public InputStream getBody() {
+        return InputStream.nullInputStream();
+      }
+
+      @Override
+      public void close() {
+        closed.set(true);
+      }
+    };
+
+    // When
+    IOException failure = assertThrows(IOException.class,
+        () -> interceptor.intercept(request, new byte[0], (req, body) -> brokenResponse));
+    ClientHttpResponse response = interceptor.intercept(request, new byte[0],
+        (req, body) -> new MockClientHttpResponse(new byte[0], HttpStatus.OK));
+    response.close();
+
+    // Then
+    assertAll(
+        () -> assertEquals("Connection reset while reading status line", failure.getMessage()),
+        () -> assertTrue(closed.get()),
+        () -> assertEquals(HttpStatus.OK, response.getStatusCode())
+    );
+  }
+
+  @DisplayName("Vegas 한도: 응답 시간이 늘어나면 한도를 줄이고, 최소 응답 시간에 가까우면 한도를 늘림")
+  @Test
+  public void testVegasLimit() {
+
+    // Given
+    VegasLimit slowing = new VegasLimit(20, 1);
+    VegasLimit steady = new VegasLimit(20, 1);
+    VegasLimit dropping = new VegasLimit(20, 1);
+
+    // When
+    slowing.onSample(10_000_000L, 20, false, 100);
+    for (int i = 0; i < 5; i++) {
+      slowing.onSample(50_000_000L, 20, false, 100);
+    }
+    for (int i = 0; i < 5; i++) {
+      steady.onSample(10_000_000L, 20, false, 100);
+    }
+    dropping.onSample(10_000_000L, 20, true, 100);
+
+    // Then
+    assertAll(
+        () -> assertTrue(slowing.getLimit() < 20, "slowing limit: " + slowing.getLimit()),
+        () -> assertTrue(steady.getLimit() > 20, "steady limit: " + steady.getLimit()),
+        () -> assertEquals(18, dropping.getLimit())
+    );
+  }
+
+  @Getter
+  @NoArgsConstructor
+  public static class PostDTO {
+
+    private int id;
+  }
+}
@@ -0,0 +1,185 @@
+package com.example.restclient.dns;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import org.apache.hc.client5.http.DnsResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CachingDnsResolverTest {
+
+  private static final String HOST = "api.example.com";
+  private static final Duration LONG = Duration.ofMinutes(1);
+
+  private StubDnsResolver delegate;
+  private SimpleMeterRegistry registry;
+  private CachingDnsResolver resolver;
+
+  @BeforeEach
+  void setUp() throws UnknownHostException {
+    delegate = new StubDnsResolver(InetAddress.getByAddress(HOST, new byte[]{10, 0, 0, 1}));
+    registry = new SimpleMeterRegistry();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (resolver != null) {
+      resolver.close();
+    }
+  }
+
+  @DisplayName("DNS 캐시: TTL 안에서는 다시 조회하지 않고 캐시된 주소(같은 배열)를 반환")
+  @Test
+  public void testHitWithinTtl() throws Exception {
+
+    // Given
+    resolver = newResolver(LONG, LONG, LONG);
+
+    // When
+    InetAddress[] first = resolver.resolve(HOST);
+    InetAddress[] second = resolver.resolve(HOST);
+
+    // Then
+    assertAll(
+        () -> assertSame(first, second),
+        () -> assertEquals(1, delegate.lookups.get()),
+        () -> assertEquals(1.0, lookups("miss")),
+        () -> assertEquals(1.0, lookups("hit"))
+    );
+  }
+
+  @DisplayName("DNS 캐시: TTL 만료 후 조회에 실패하면 maxStale 동안 마지막 조회 결과를 반환하고, 이후에는 예외를 던짐")
+  @Test
+  public void testStaleFallbackWithinMaxStale() throws Exception {
+
+    // Given
+    resolver = newResolver(Duration.ofMillis(100), Duration.ofMillis(300), LONG);
+    InetAddress[] resolved = resolver.resolve(HOST);
+    delegate.failing = true;
+
+    // When
+    TimeUnit.MILLISECONDS.sleep(150); // TTL 만료, maxStale 이내
+    InetAddress[] stale = resolver.resolve(HOST);
+    TimeUnit.MILLISECONDS.sleep(300); // TTL + maxStale 경과
+
+    // Then
+    assertAll(
+        () -> assertSame(resolved, stale),
+        () -> assertEquals(1.0, lookups("stale")),
+        () -> assertThrows(UnknownHostException.class, () -> resolver.resolve(HOST))
+    );
+  }
+
+  @DisplayName("DNS 캐시: 계속 조회하는 호스트는 유지하고, idleTimeout 동안 조회하지 않으면 캐시에서 제거")
+  @Test
+  public void testIdleEviction() throws Exception {
+
+    // Given
+    resolver = newResolver(Duration.ofMillis(50), Duration.ZERO, Duration.ofMillis(200));
+
+    // When
+    boolean cachedWhileInUse = true;
+    for (int i = 0; i < 8; i++) { // idleTimeout보다 오래 사용
+      resolver.resolve(HOST);
+      cachedWhileInUse &= cacheSize() == 1;
+      TimeUnit.MILLISECONDS.sleep(50);
+    }
+    boolean evicted = awaitUntil(() -> cacheSize() == 0, Duration.ofSeconds(2));
+
+    // Then
+    boolean cached = cachedWhileInUse;
+    assertAll(
+        () -> assertTrue(cached),
+        () -> assertTrue(evicted)
+    );
+  }
+
+  @DisplayName("DNS 캐시: 백그라운드 조회는 마지막 사용 시각을 갱신하지 않아, 다시 조회에 성공해도 idleTimeout 후 제거")
+  @Test
+  public void testBackgroundRefreshDoesNotExtendLastAccess() throws Exception {
+
+    // Given
+    resolver = newResolver(Duration.ofMillis(50), LONG, Duration.ofMillis(300));
+    resolver.resolve(HOST);
+
+    // When
+    boolean refreshed = awaitUntil(() -> delegate.lookups.get() > 1, Duration.ofSeconds(2));
+    boolean evicted = awaitUntil(() -> cacheSize() == 0, Duration.ofSeconds(2));
+
+    // Then
+    assertAll(
+        () -> assertTrue(refreshed),
+        () -> assertTrue(evicted),
+        () -> assertEquals(1.0, lookups("miss")),
+        () -> assertEquals(0.0, lookups("hit"))
+    );
+  }
+
+  private CachingDnsResolver newResolver(Duration ttl, Duration maxStale, Duration idleTimeout) {
+    CachingDnsResolver cachingDnsResolver = new CachingDnsResolver(delegate, ttl, maxStale,
+        idleTimeout);
+    cachingDnsResolver.bindTo(registry);
+    return cachingDnsResolver;
+  }
+
+  private double lookups(String result) {
+    return registry.get("httpclient.dns.lookups").tag("result", result).functionCounter().count();
+  }
+
+  private double cacheSize() {
+    return registry.get("httpclient.dns.cache.size").gauge().value();
+  }
+
+  private static boolean awaitUntil(BooleanSupplier condition, Duration timeout)
+      throws InterruptedException {
+    long deadline = System.nanoTime() + timeout.toNanos();
+    while (!condition.getAsBoolean()) {
+      if (System.nanoTime() - deadline > 0) {
+        return false;
+      }
+      TimeUnit.MILLISECONDS.sleep(10);
+    }
+    return true;
+  }
+
+  /**
+   * 고정 주소를 반환하고, failing이 true이면 UnknownHostException을 던지는 DnsResolver
+   */
+  private static class StubDnsResolver implements DnsResolver {
+
+    private final InetAddress address;
+    private final AtomicInteger lookups = new AtomicInteger();
+    private volatile boolean failing;
+
+    private StubDnsResolver(InetAddress address) {
+      this.address = address;
+    }
+
+    @Override
+    public InetAddress[] resolve(String host) throws UnknownHostException {
+      lookups.incrementAndGet();
+      if (failing) {
+        throw new UnknownHostException(host);
+      }
+      return new InetAddress[]{address};
+    }
+
+    @Override
+    public String resolveCanonicalHostname(String host) {
+      return host;
+    }
+  }
+}
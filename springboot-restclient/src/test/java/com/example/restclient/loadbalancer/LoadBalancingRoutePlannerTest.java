@@ -0,0 +1,156 @@
+package com.example.restclient.loadbalancer;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.restclient.pool.InstrumentedConnectionManager;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.SystemDefaultDnsResolver;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.ChainElement;
+import org.apache.hc.client5.http.impl.DefaultHttpRequestRetryStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.util.TimeValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LoadBalancingRoutePlannerTest {
+
+  private static final URI SERVICE_URL = URI.create("http://orders.test"); // 조회되지 않는 호스트 이름
+
+  private HttpServer healthyServer;
+  private HttpServer failingServer;
+  private AtomicInteger healthyCount;
+  private AtomicInteger failingCount;
+  private InstrumentedConnectionManager connectionManager;
+  private CloseableHttpClient httpClient;
+  private LoadBalancedService service;
+  private SimpleMeterRegistry registry;
+  private List<HttpRoute> endpointRoutes;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    healthyCount = new AtomicInteger();
+    failingCount = new AtomicInteger();
+    healthyServer = startServer(200, healthyCount);
+    failingServer = startServer(200, failingCount);
+    endpointRoutes = new ArrayList<>();
+    registry = new SimpleMeterRegistry();
+    connectionManager = new InstrumentedConnectionManager();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    httpClient.close();
+    healthyServer.stop(0);
+    failingServer.stop(0);
+  }
+
+  @DisplayName("로드 밸런싱: 라운드 로빈으로 두 엔드포인트에 나눠 보내고, 엔드포인트별 Connection Pool을 사용")
+  @Test
+  public void testRoundRobin() throws Exception {
+
+    // Given
+    createClient(LoadBalancingStrategy.ROUND_ROBIN);
+
+    // When
+    for (int i = 0; i < 10; i++) {
+      send();
+    }
+
+    // Then
+    assertAll(
+        () -> assertEquals(5, healthyCount.get()),
+        () -> assertEquals(5, failingCount.get()),
+        () -> assertEquals(2, endpointRoutes.size()),
+        () -> assertEquals(2, connectionManager.getRoutes().size()),
+        () -> assertTrue(service.getEndpoints().stream().allMatch(e -> e.getOutstanding() == 0)),
+        () -> assertEquals(2.0, registry.get("httpclient.loadbalancer.endpoints")
+            .tag("service", "orders").tag("state", "active").gauge().value())
+    );
+  }
+
+  @DisplayName("이상 엔드포인트 제외: 연속으로 5xx를 응답한 엔드포인트는 제외하고 나머지 엔드포인트로만 요청")
+  @Test
+  public void testOutlierEjection() throws Exception {
+
+    // Given
+    failingServer.stop(0);
+    failingServer = startServer(503, failingCount);
+    createClient(LoadBalancingStrategy.ROUND_ROBIN);
+
+    // When
+    for (int i = 0; i < 4; i++) {
+      send(); // 실패 엔드포인트에 2번 요청하여 제외
+    }
+    int failingBefore = failingCount.get();
+    for (int i = 0; i < 6; i++) {
+      send();
+    }
+
+    // Then
+    assertAll(
+        () -> assertEquals(2, failingBefore),
+        () -> assertEquals(2, failingCount.get()),
+        () -> assertEquals(8, healthyCount.get()),
+        () -> assertEquals(1, service.getEjectedCount()),
+        () -> assertEquals(1.0, registry.get("httpclient.loadbalancer.ejections")
+            .tag("service", "orders").functionCounter().count()),
+        () -> assertEquals(1.0, registry.get("httpclient.loadbalancer.endpoints")
+            .tag("service", "orders").tag("state", "ejected").gauge().value())
+    );
+  }
+
+  private void createClient(LoadBalancingStrategy strategy) {
+    service = new LoadBalancedService("orders", SERVICE_URL,
+        List.of("127.0.0.1:" + healthyServer.getAddress().getPort(),
+            "127.0.0.1:" + failingServer.getAddress().getPort()),
+        strategy, new LoadBalancedService.OutlierEjection(2, Duration.ofMinutes(1),
+            Duration.ofMinutes(5), 50),
+        SystemDefaultDnsResolver.INSTANCE, endpointRoutes::add);
+    LoadBalancingRoutePlanner routePlanner = new LoadBalancingRoutePlanner(List.of(service));
+    routePlanner.bindTo(registry);
+    httpClient = HttpClients.custom()
+        .setConnectionManager(connectionManager)
+        .setRoutePlanner(routePlanner)
+        .setRetryStrategy(new DefaultHttpRequestRetryStrategy(0, TimeValue.ZERO_MILLISECONDS))
+        .addExecInterceptorAfter(ChainElement.RETRY.name(), "load-balancer",
+            routePlanner.endpointTracker())
+        .build();
+  }
+
+  private void send() throws IOException {
+    httpClient.execute(new HttpGet(SERVICE_URL.resolve("/orders/1")),
+        response -> EntityUtils.toString(response.getEntity()));
+  }
+
+  private HttpServer startServer(int status, AtomicInteger count) throws IOException {
+    HttpServer server = HttpServer.create(
+        new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/", exchange -> {
+      count.incrementAndGet();
+      byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(status, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    server.start();
+    return server;
+  }
+}
@@ -0,0 +1,147 @@
+package com.example.restclient.observation;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.restclient.util.BatchRequest;
+import com.example.restclient.util.HttpUtil;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+
+@SpringBootTest
+@AutoConfigureObservability
+class HttpClientMetricsTest {
+
+  @Autowired
+  HttpUtil httpUtil;
+
+  @Autowired
+  MeterRegistry registry;
+
+  @Autowired
+  ObservationRegistry observationRegistry;
+
+  @Autowired
+  Tracer tracer;
+
+  private HttpServer server;
+  private AtomicReference<String> traceparent;
+  private List<String> traceparents;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    traceparent = new AtomicReference<>();
+    traceparents = new CopyOnWriteArrayList<>();
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/posts", exchange -> {
+      traceparent.set(exchange.getRequestHeaders().getFirst("traceparent"));
+      traceparents.add(exchange.getRequestHeaders().getFirst("traceparent"));
+      exchange.getRequestBody().readAllBytes();
+      byte[] body = "{\"id\":1,\"title\":\"observed\"}".getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("요청 메트릭: 구간별 처리 시간, 요청/응답 본문 크기, 상태 코드 분류를 경로별로 기록하고 traceparent 헤더를 전파")
+  @Test
+  public void testRecordRequestPhases() {
+
+    // Given
+    String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    String route = baseUrl;
+
+    // When
+    ResponseEntity<PostDTO> response = httpUtil.sendPost(baseUrl + "/posts", null,
+        new PostDTO(0, "observed"), PostDTO.class);
+
+    // Then
+    assertAll(
+        () -> assertEquals("observed", response.getBody().getTitle()),
+        () -> assertNotNull(traceparent.get()),
+        () -> assertEquals(1, registry.get("httpclient.request.phase").tag("route", route)
+            .tag("phase", "connect").timer().count()),
+        () -> assertEquals(1, registry.get("httpclient.request.phase").tag("route", route)
+            .tag("phase", "ttfb").timer().count()),
+        () -> assertEquals(1, registry.get("httpclient.request.phase").tag("route", route)
+            .tag("phase", "body.read").timer().count()),
+        () -> assertEquals(1, registry.get("httpclient.request.phase").tag("route", route)
+            .tag("phase", "deserialize").timer().count()),
+        () -> assertTrue(registry.get("httpclient.request.size").tag("route", route).summary()
+            .totalAmount() > 0),
+        () -> assertEquals(27.0, registry.get("httpclient.response.size").tag("route", route)
+            .summary().totalAmount()),
+        () -> assertEquals(1.0, registry.get("httpclient.responses").tag("route", route)
+            .tag("status", "2xx").counter().count()),
+        () -> assertEquals(1, registry.get("http.client.requests").tag("method", "POST")
+            .tag("client.name", "127.0.0.1").timer().count())
+    );
+  }
+
+  @DisplayName("비동기 요청: 요청 스레드에 호출 스레드의 트레이스 컨텍스트를 전파하여 같은 trace id로 요청")
+  @Test
+  public void testPropagateTraceContextToFanOut() {
+
+    // Given
+    String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    List<BatchRequest<PostDTO>> requests = IntStream.rangeClosed(1, 3)
+        .mapToObj(id -> BatchRequest.get(baseUrl + "/posts/" + id, null, PostDTO.class))
+        .toList();
+
+    // When
+    String traceId = Observation.createNotStarted("fan-out", observationRegistry).observe(() -> {
+      List<CompletableFuture<ResponseEntity<PostDTO>>> futures = httpUtil.sendAllAsync(requests);
+      CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+      return tracer.currentSpan().context().traceId();
+    });
+
+    // Then
+    assertAll(
+        () -> assertEquals(3, traceparents.size()),
+        () -> assertTrue(traceparents.stream().allMatch(header -> header.contains(traceId)),
+            "traceId: " + traceId + ", traceparents: " + traceparents)
+    );
+  }
+
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class PostDTO {
+
+    private int id;
+    private String title;
+  }
+}
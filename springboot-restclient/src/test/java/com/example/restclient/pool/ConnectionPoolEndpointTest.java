@@ -0,0 +1,73 @@
+package com.example.restclient.pool;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.restclient.config.ConnectionPoolProperties;
+import java.net.URI;
+import java.util.Map;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class ConnectionPoolEndpointTest {
+
+  private static final URI HOT_URL = URI.create("https://hot.example.com");
+
+  private PoolingHttpClientConnectionManager connectionManager;
+  private MockEnvironment environment;
+  private ConnectionPoolEndpoint endpoint;
+
+  @BeforeEach
+  void setUp() {
+    connectionManager = new PoolingHttpClientConnectionManager();
+    environment = new MockEnvironment();
+    endpoint = new ConnectionPoolEndpoint(connectionManager,
+        new ConnectionPoolTuner(connectionManager, new ConnectionPoolProperties()), environment);
+  }
+
+  @AfterEach
+  void tearDown() {
+    connectionManager.close();
+  }
+
+  @DisplayName("설정 변경: Environment의 Connection Pool 설정을 다시 읽어 실행 중인 Connection Manager에 적용")
+  @Test
+  public void testApplyFromEnvironment() {
+
+    // Given
+    environment.setProperty("rest-client.connection-pool.max-total", "200");
+    environment.setProperty("rest-client.connection-pool.routes.hot.url", HOT_URL.toString());
+    environment.setProperty("rest-client.connection-pool.routes.hot.max-connections", "50");
+
+    // When
+    ConnectionPoolEndpoint.PoolDescriptor pool = endpoint.apply(null, null);
+
+    // Then
+    assertAll(
+        () -> assertEquals(200, connectionManager.getMaxTotal()),
+        () -> assertEquals(50, connectionManager.getMaxPerRoute(HttpRoutes.of(HOT_URL))),
+        () -> assertEquals(200, pool.maxTotal()),
+        () -> assertEquals(10, pool.defaultMaxPerRoute()),
+        () -> assertEquals(Map.of(HttpRoutes.nameOf(HttpRoutes.of(HOT_URL)), 50), pool.routes())
+    );
+  }
+
+  @DisplayName("설정 변경: 지정한 최대 커넥션 수로 설정 값을 덮어써서 적용")
+  @Test
+  public void testApplyOverride() {
+
+    // When
+    endpoint.apply(300, 30);
+
+    // Then
+    assertAll(
+        () -> assertEquals(300, endpoint.pool().maxTotal()),
+        () -> assertEquals(30, endpoint.pool().defaultMaxPerRoute()),
+        () -> assertEquals(30, connectionManager.getDefaultMaxPerRoute())
+    );
+  }
+}
@@ -0,0 +1,109 @@
+package com.example.restclient.pool;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.example.restclient.config.ConnectionPoolProperties;
+import java.net.URI;
+import java.time.Duration;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.util.TimeValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConnectionPoolTunerTest {
+
+  private static final URI HOT_URL = URI.create("https://hot.example.com");
+  private static final URI COLD_URL = URI.create("http://cold.example.com:8080");
+
+  private PoolingHttpClientConnectionManager connectionManager;
+
+  @BeforeEach
+  void setUp() {
+    connectionManager = new PoolingHttpClientConnectionManager();
+  }
+
+  @AfterEach
+  void tearDown() {
+    connectionManager.close();
+  }
+
+  @DisplayName("경로별 설정: 등록한 호스트는 개별 값, 등록하지 않은 호스트는 기본 값을 사용")
+  @Test
+  public void testRouteSettings() {
+
+    // Given
+    ConnectionPoolProperties properties = new ConnectionPoolProperties();
+    properties.getRoutes().put("hot", route(HOT_URL, 50, Duration.ofMinutes(1)));
+
+    // When
+    ConnectionPoolTuner tuner = new ConnectionPoolTuner(connectionManager, properties);
+    ConnectionConfig hotConfig = tuner.resolve(HttpRoutes.of(HOT_URL));
+    ConnectionConfig coldConfig = tuner.resolve(HttpRoutes.of(COLD_URL));
+
+    // Then
+    assertAll(
+        () -> assertEquals(100, connectionManager.getMaxTotal()),
+        () -> assertEquals(50, connectionManager.getMaxPerRoute(HttpRoutes.of(HOT_URL))),
+        () -> assertEquals(10, connectionManager.getMaxPerRoute(HttpRoutes.of(COLD_URL))),
+        () -> assertEquals(TimeValue.ofMinutes(1), hotConfig.getTimeToLive()),
+        () -> assertEquals(TimeValue.ofSeconds(2), hotConfig.getValidateAfterInactivity()),
+        () -> assertEquals(null, coldConfig.getTimeToLive())
+    );
+  }
+
+  @DisplayName("설정 변경: 실행 중인 Connection Manager의 최대 커넥션 수를 변경하고, 제거된 호스트는 기본 값으로 복원")
+  @Test
+  public void testApply() {
+
+    // Given
+    ConnectionPoolProperties properties = new ConnectionPoolProperties();
+    properties.getRoutes().put("hot", route(HOT_URL, 50, null));
+    ConnectionPoolTuner tuner = new ConnectionPoolTuner(connectionManager, properties);
+
+    ConnectionPoolProperties changed = new ConnectionPoolProperties();
+    changed.setMaxTotal(200);
+    changed.setDefaultMaxPerRoute(20);
+    changed.getRoutes().put("cold", route(COLD_URL, 5, Duration.ofSeconds(30)));
+
+    // When
+    tuner.apply(changed);
+    HttpRoute hotRoute = HttpRoutes.of(HOT_URL);
+    HttpRoute coldRoute = HttpRoutes.of(COLD_URL);
+
+    // Then
+    assertAll(
+        () -> assertEquals(200, connectionManager.getMaxTotal()),
+        () -> assertEquals(20, connectionManager.getDefaultMaxPerRoute()),
+        () -> assertEquals(20, connectionManager.getMaxPerRoute(hotRoute)),
+        () -> assertEquals(5, connectionManager.getMaxPerRoute(coldRoute)),
+        () -> assertEquals(TimeValue.ofSeconds(30), tuner.resolve(coldRoute).getTimeToLive())
+    );
+  }
+
+  @DisplayName("설정 검증: 최대 커넥션 수가 0 이하이면 예외 발생")
+  @Test
+  public void testInvalidProperties() {
+
+    // Given
+    ConnectionPoolProperties properties = new ConnectionPoolProperties();
+    properties.getRoutes().put("hot", route(HOT_URL, 0, null));
+
+    // When & Then
+    assertThrows(IllegalArgumentException.class,
+        () -> new ConnectionPoolTuner(connectionManager, properties));
+  }
+
+  private ConnectionPoolProperties.Route route(URI url, int maxConnections, Duration timeToLive) {
+    ConnectionPoolProperties.Route route = new ConnectionPoolProperties.Route();
+    route.setUrl(url);
+    route.setMaxConnections(maxConnections);
+    route.setTimeToLive(timeToLive);
+    return route;
+  }
+}
@@ -0,0 +1,111 @@
+package com.example.restclient.pool;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.apache.hc.core5.util.TimeValue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class InstrumentedConnectionManagerTest {
+
+  private HttpServer server;
+  private InstrumentedConnectionManager connectionManager;
+  private CloseableHttpClient httpClient;
+  private SimpleMeterRegistry registry;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/", exchange -> {
+      byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    server.start();
+
+    registry = new SimpleMeterRegistry();
+    connectionManager = new InstrumentedConnectionManager();
+    connectionManager.bindTo(registry);
+    httpClient = HttpClients.custom().setConnectionManager(connectionManager).build();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    httpClient.close();
+    server.stop(0);
+  }
+
+  @DisplayName("Connection Pool 메트릭: 첫 요청은 신규 연결, 이후 요청은 Keep-Alive 재사용으로 집계")
+  @Test
+  public void testLeaseMetrics() throws Exception {
+
+    // Given
+    URI targetUrl = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/posts/1");
+    String route = HttpRoutes.nameOf(HttpRoutes.of(targetUrl));
+
+    // When
+    for (int i = 0; i < 3; i++) {
+      httpClient.execute(new HttpGet(targetUrl), response -> EntityUtils.toString(response.getEntity()));
+    }
+
+    // Then
+    assertAll(
+        () -> assertEquals(3, registry.get("httpclient.pool.lease.wait").tag("route", route)
+            .timer().count()),
+        () -> assertEquals(1.0, registry.get("httpclient.pool.connections.created")
+            .tag("route", route).counter().count()),
+        () -> assertEquals(2.0, registry.get("httpclient.pool.connections.reused")
+            .tag("route", route).counter().count()),
+        () -> assertEquals(2.0 / 3.0, registry.get("httpclient.pool.reuse.ratio").gauge().value(),
+            0.0001),
+        () -> assertEquals(0.0, registry.get("httpclient.pool.leased").gauge().value()),
+        () -> assertEquals(1.0, registry.get("httpclient.pool.route.available").tag("route", route)
+            .gauge().value()),
+        () -> assertNotNull(registry.find("httpclient.pool.pending").gauge())
+    );
+  }
+
+  @DisplayName("Connection Pool 메트릭: 유휴 상태에서 정리된 연결만 evicted로 집계 (종료 시 닫는 연결은 제외)")
+  @Test
+  public void testEvictionMetrics() throws Exception {
+
+    // Given
+    URI targetUrl = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/posts/1");
+    String route = HttpRoutes.nameOf(HttpRoutes.of(targetUrl));
+    httpClient.execute(new HttpGet(targetUrl), response -> EntityUtils.toString(response.getEntity()));
+
+    // When
+    TimeUnit.MILLISECONDS.sleep(10);
+    connectionManager.closeIdle(TimeValue.ZERO_MILLISECONDS);
+    httpClient.execute(new HttpGet(targetUrl), response -> EntityUtils.toString(response.getEntity()));
+    double evictedBeforeShutdown = registry.get("httpclient.pool.connections.evicted")
+        .functionCounter().count();
+    httpClient.close();
+
+    // Then
+    assertAll(
+        () -> assertEquals(1.0, evictedBeforeShutdown),
+        () -> assertEquals(2.0, registry.get("httpclient.pool.connections.created")
+            .tag("route", route).counter().count()),
+        () -> assertEquals(1.0, registry.get("httpclient.pool.connections.evicted")
+            .functionCounter().count())
+    );
+  }
+}
@@ -0,0 +1,150 @@
+package com.example.restclient.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.restclient.pool.HttpRoutes;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.hc.client5.http.HttpRoute;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+class RateLimitInterceptorTest {
+
+  private HttpServer server;
+  private URI url;
+  private HttpRoute route;
+  private final AtomicInteger requestCount = new AtomicInteger();
+  private volatile int status = 200;
+  private final Map<String, String> responseHeaders = new ConcurrentHashMap<>();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/posts/1", exchange -> {
+      requestCount.incrementAndGet();
+      byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+      responseHeaders.forEach(exchange.getResponseHeaders()::set);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(status, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    server.start();
+    url = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/posts/1");
+    route = HttpRoutes.of(url);
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("요청 속도 제한: 버스트만큼 바로 보내고, 최대 대기 시간 안에 토큰을 받을 수 없는 요청은 보내지 않고 거절")
+  @Test
+  public void testBurstAndReject() {
+
+    // Given
+    RateLimitInterceptor interceptor = new RateLimitInterceptor(
+        Map.of(route, new RateLimitInterceptor.Limit(1, 2, Duration.ZERO)), true);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    interceptor.bindTo(registry);
+    RestClient restClient = restClient(interceptor);
+
+    // When
+    restClient.get().uri(url).retrieve().toBodilessEntity();
+    restClient.get().uri(url).retrieve().toBodilessEntity();
+    RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+        () -> restClient.get().uri(url).retrieve().toBodilessEntity());
+
+    // Then
+    assertAll(
+        () -> assertEquals(2, requestCount.get()),
+        () -> assertEquals(HttpRoutes.nameOf(route), ex.getRoute()),
+        () -> assertEquals(1.0, registry.get("httpclient.ratelimit.rejected").counter().count()),
+        () -> assertEquals(0.0, registry.get("httpclient.ratelimit.available").gauge().value())
+    );
+  }
+
+  @DisplayName("요청 속도 제한: 토큰이 없으면 최대 대기 시간까지 기다린 후 초당 요청 수에 맞춰 보냄")
+  @Test
+  public void testQueueWithinMaxWait() {
+
+    // Given
+    RateLimitInterceptor interceptor = new RateLimitInterceptor(
+        Map.of(route, new RateLimitInterceptor.Limit(20, 1, Duration.ofSeconds(1))), true);
+    RestClient restClient = restClient(interceptor);
+
+    // When
+    long startTime = System.nanoTime();
+    for (int i = 0; i < 5; i++) {
+      restClient.get().uri(url).retrieve().toBodilessEntity();
+    }
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+    // Then (첫 요청 이후 4건은 50ms 간격)
+    assertAll(
+        () -> assertEquals(5, requestCount.get()),
+        () -> assertTrue(elapsedMillis >= 190, "elapsed: " + elapsedMillis)
+    );
+  }
+
+  @DisplayName("요청 속도 제한: 429 응답의 Retry-After 동안 토큰을 비우고, RateLimit-Remaining/Reset에 맞춰 속도를 낮춤")
+  @Test
+  public void testRespectResponseHeaders() {
+
+    // Given
+    RateLimitInterceptor interceptor = new RateLimitInterceptor(
+        Map.of(route, new RateLimitInterceptor.Limit(100, 10, Duration.ZERO)), true);
+    RestClient restClient = restClient(interceptor);
+    status = 429;
+    responseHeaders.put("Retry-After", "1");
+
+    // When
+    assertThrows(HttpClientErrorException.TooManyRequests.class,
+        () -> restClient.get().uri(url).retrieve().toBodilessEntity());
+    assertThrows(RateLimitExceededException.class,
+        () -> restClient.get().uri(url).retrieve().toBodilessEntity());
+    int requestsWhilePaused = requestCount.get();
+
+    RateLimitInterceptor headerInterceptor = new RateLimitInterceptor(
+        Map.of(route, new RateLimitInterceptor.Limit(100, 10, Duration.ZERO)), true);
+    status = 200;
+    responseHeaders.clear();
+    responseHeaders.put("RateLimit-Remaining", "5");
+    responseHeaders.put("RateLimit-Reset", "10");
+    restClient(headerInterceptor).get().uri(url).retrieve().toBodilessEntity();
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, requestsWhilePaused),
+        () -> assertEquals(0.5, headerInterceptor.rateOf(route), 0.01),
+        () -> assertEquals(100.0, interceptor.rateOf(route), 0.01)
+    );
+  }
+
+  private static RestClient restClient(RateLimitInterceptor interceptor) {
+    return RestClient.builder()
+        .requestFactory(new SimpleClientHttpRequestFactory())
+        .requestInterceptor(interceptor)
+        .build();
+  }
+}
@@ -0,0 +1,148 @@
+package com.example.restclient.retry;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.restclient.util.HttpUtil;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.client.HttpServerErrorException;
+
+@Slf4j
+@SpringBootTest(properties = {
+    "rest-client.retry.max-retries=1",
+    "rest-client.retry.initial-backoff=10ms",
+    "rest-client.retry.budget.percent=0",
+    "rest-client.retry.budget.max-tokens=2"
+})
+class BackoffRetryStrategyTest {
+
+  @Autowired
+  HttpUtil httpUtil;
+
+  private HttpServer server;
+  private String url;
+  private final AtomicInteger requestCount = new AtomicInteger();
+  private final AtomicInteger failuresRemaining = new AtomicInteger();
+  private volatile String retryAfter;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/posts", exchange -> {
+      requestCount.incrementAndGet();
+      exchange.getRequestBody().readAllBytes();
+      if (failuresRemaining.getAndDecrement() > 0) {
+        if (retryAfter != null) {
+          exchange.getResponseHeaders().set("Retry-After", retryAfter);
+        }
+        exchange.sendResponseHeaders(503, -1);
+        exchange.close();
+        return;
+      }
+      byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    server.start();
+    url = "http://127.0.0.1:" + server.getAddress().getPort() + "/posts";
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("재시도: 503 응답은 Retry-After 만큼 대기 후 재시도")
+  @Test
+  public void testRetryAfter() {
+
+    // Given
+    failuresRemaining.set(1);
+    retryAfter = "1";
+
+    // When
+    long startTime = System.nanoTime();
+    ResponseEntity<PostDTO> response = httpUtil.sendGet(url, null, PostDTO.class, false);
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, response.getBody().getId()),
+        () -> assertEquals(2, requestCount.get()),
+        () -> assertTrue(elapsedMillis >= 900, "elapsed: " + elapsedMillis + "ms")
+    );
+  }
+
+  @DisplayName("재시도: POST는 멱등 키 헤더가 있을 때만 재시도")
+  @Test
+  public void testRetryPostOnlyWithIdempotencyKey() {
+
+    // Given
+    MultiValueMap<String, String> headers = new LinkedMultiValueMap<>();
+    headers.add("Idempotency-Key", "post-1");
+
+    // When
+    failuresRemaining.set(1);
+    assertThrows(HttpServerErrorException.class,
+        () -> httpUtil.sendPost(url, null, new PostDTO(), PostDTO.class));
+    int withoutKey = requestCount.getAndSet(0);
+
+    failuresRemaining.set(1);
+    ResponseEntity<PostDTO> response = httpUtil.sendPost(url, headers, new PostDTO(),
+        PostDTO.class);
+    int withKey = requestCount.get();
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, withoutKey),
+        () -> assertEquals(2, withKey),
+        () -> assertEquals(1, response.getBody().getId())
+    );
+  }
+
+  @DisplayName("재시도 예산: 경로의 재시도 토큰을 모두 쓰면 더 이상 재시도하지 않음")
+  @Test
+  public void testRetryBudget() {
+
+    // Given
+    failuresRemaining.set(Integer.MAX_VALUE);
+
+    // When
+    for (int i = 0; i < 3; i++) {
+      assertThrows(HttpServerErrorException.class,
+          () -> httpUtil.sendGet(url, null, PostDTO.class, false));
+    }
+
+    // Then
+    assertEquals(2 + 2 + 1, requestCount.get());
+  }
+
+  @Getter
+  @NoArgsConstructor
+  public static class PostDTO {
+
+    private int id;
+  }
+}
@@ -0,0 +1,139 @@
+package com.example.restclient.util;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+
+@Slf4j
+@SpringBootTest(properties = "rest-client.connection-pool.default-max-per-route=3")
+class HttpUtilBatchTest {
+
+  private static final int ROUTE_MAX_CONNECTIONS = 3;
+  private static final long RESPONSE_DELAY_MILLIS = 50L;
+
+  @Autowired
+  HttpUtil httpUtil;
+
+  private HttpServer server;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext("/posts/", exchange -> {
+      maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+      try {
+        Thread.sleep(RESPONSE_DELAY_MILLIS);
+        String id = exchange.getRequestURI().getPath().substring("/posts/".length());
+        int status = "404".equals(id) ? 404 : 200;
+        byte[] body = ("{\"id\":" + id + "}").getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      } finally {
+        inFlight.decrementAndGet();
+        exchange.close();
+      }
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("일괄 요청: 응답이 요청 순서대로 반환되고, 호스트별 동시 요청 수가 경로별 최대 커넥션 수를 넘지 않음")
+  @Test
+  public void testSendBatch() {
+
+    // Given
+    List<BatchRequest<PostDTO>> requests = IntStream.rangeClosed(1, 12)
+        .mapToObj(id -> BatchRequest.get(postUrl(id), null, PostDTO.class))
+        .toList();
+
+    // When
+    List<ResponseEntity<PostDTO>> responses = httpUtil.sendBatch(requests, 10);
+
+    // Then
+    assertAll(
+        () -> assertEquals(12, responses.size()),
+        () -> IntStream.range(0, 12).forEach(i ->
+            assertEquals(i + 1, responses.get(i).getBody().getId())),
+        () -> assertTrue(maxInFlight.get() <= ROUTE_MAX_CONNECTIONS,
+            "maxInFlight: " + maxInFlight.get())
+    );
+  }
+
+  @DisplayName("비동기 요청: 호출 1건당 최대 동시 요청 수를 넘지 않음")
+  @Test
+  public void testSendAllAsync() {
+
+    // Given
+    List<BatchRequest<PostDTO>> requests = IntStream.rangeClosed(1, 6)
+        .mapToObj(id -> BatchRequest.get(postUrl(id), null, PostDTO.class))
+        .toList();
+
+    // When
+    List<CompletableFuture<ResponseEntity<PostDTO>>> futures = httpUtil.sendAllAsync(requests, 2);
+    CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+    // Then
+    assertAll(
+        () -> assertEquals(6, futures.size()),
+        () -> assertEquals(6, futures.get(5).join().getBody().getId()),
+        () -> assertTrue(maxInFlight.get() <= 2, "maxInFlight: " + maxInFlight.get())
+    );
+  }
+
+  @DisplayName("일괄 요청: 실패한 요청이 있으면 해당 예외 발생")
+  @Test
+  public void testSendBatchFailure() {
+
+    // Given
+    List<BatchRequest<PostDTO>> requests = List.of(
+        BatchRequest.get(postUrl(1), null, PostDTO.class),
+        BatchRequest.get(postUrl(404), null, PostDTO.class));
+
+    // When & Then
+    assertThrows(HttpClientErrorException.NotFound.class, () -> httpUtil.sendBatch(requests));
+  }
+
+  private String postUrl(int id) {
+    return "http://127.0.0.1:" + server.getAddress().getPort() + "/posts/" + id;
+  }
+
+  @Getter
+  @NoArgsConstructor
+  public static class PostDTO {
+
+    private int id;
+  }
+}
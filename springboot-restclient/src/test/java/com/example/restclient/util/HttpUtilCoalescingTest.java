@@ -0,0 +1,148 @@
+package com.example.restclient.util;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+@Slf4j
+@SpringBootTest
+class HttpUtilCoalescingTest {
+
+  private static final int CALLER_COUNT = 8;
+  private static final long RESPONSE_DELAY_MILLIS = 500L;
+
+  @Autowired
+  HttpUtil httpUtil;
+
+  private HttpServer server;
+  private ExecutorService callers;
+  private final AtomicInteger requestCount = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext("/posts/1", exchange -> {
+      requestCount.incrementAndGet();
+      try {
+        Thread.sleep(RESPONSE_DELAY_MILLIS);
+        byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      } finally {
+        exchange.close();
+      }
+    });
+    server.start();
+    callers = Executors.newFixedThreadPool(CALLER_COUNT);
+  }
+
+  @AfterEach
+  void tearDown() {
+    callers.shutdownNow();
+    server.stop(0);
+  }
+
+  @DisplayName("동일 GET 요청 병합: 동시에 들어온 같은 요청은 한 번만 보내고 응답 객체를 공유")
+  @Test
+  public void testCoalesceConcurrentGets() throws Exception {
+
+    // When
+    List<ResponseEntity<PostDTO>> responses = callConcurrently(
+        () -> httpUtil.sendGet(url(), null, PostDTO.class));
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, requestCount.get()),
+        () -> assertEquals(CALLER_COUNT, responses.size()),
+        () -> responses.forEach(response -> assertSame(responses.get(0), response)),
+        () -> assertEquals(1, responses.get(0).getBody().getId())
+    );
+  }
+
+  @DisplayName("동일 GET 요청 병합: 요청 헤더가 다르면 별도로 요청")
+  @Test
+  public void testDifferentHeadersNotCoalesced() throws Exception {
+
+    // Given
+    AtomicInteger callerIndex = new AtomicInteger();
+
+    // When
+    callConcurrently(() -> {
+      MultiValueMap<String, String> headers = new LinkedMultiValueMap<>();
+      headers.add("X-Tenant", String.valueOf(callerIndex.getAndIncrement() % 2));
+      return httpUtil.sendGet(url(), headers, PostDTO.class);
+    });
+
+    // Then
+    assertEquals(2, requestCount.get());
+  }
+
+  @DisplayName("동일 GET 요청 병합 제외: coalesce가 false면 진행 중인 동일 요청이 있어도 별도로 요청")
+  @Test
+  public void testCoalesceOptOut() throws Exception {
+
+    // When
+    callConcurrently(() -> httpUtil.sendGet(url(), null, PostDTO.class, false));
+
+    // Then
+    assertEquals(CALLER_COUNT, requestCount.get());
+  }
+
+  private <T> List<T> callConcurrently(Supplier<T> call) throws Exception {
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<T>> futures = IntStream.range(0, CALLER_COUNT)
+        .mapToObj(i -> callers.submit(() -> {
+          start.await();
+          return call.get();
+        }))
+        .toList();
+    start.countDown();
+    List<T> results = new ArrayList<>();
+    for (Future<T> future : futures) {
+      results.add(future.get());
+    }
+    return results;
+  }
+
+  private String url() {
+    return "http://127.0.0.1:" + server.getAddress().getPort() + "/posts/1";
+  }
+
+  @Getter
+  @NoArgsConstructor
+  public static class PostDTO {
+
+    private int id;
+  }
+}
@@ -0,0 +1,287 @@
+package com.example.restclient.util;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+@Slf4j
+@SpringBootTest(properties = "rest-client.compression.request.enabled=true")
+class HttpUtilFileTransferTest {
+
+  private static final int FILE_SIZE = 1024 * 1024 + 123; // 버퍼 크기의 배수가 아닌 크기
+
+  @Autowired
+  HttpUtil httpUtil;
+
+  @Autowired
+  RecordingInterceptor recordingInterceptor;
+
+  @TempDir
+  Path tempDir;
+
+  private HttpServer server;
+  private final byte[] content = new byte[FILE_SIZE];
+  private final AtomicReference<String> rangeHeader = new AtomicReference<>();
+  private final AtomicReference<String> acceptEncodingHeader = new AtomicReference<>();
+  private final AtomicReference<byte[]> uploaded = new AtomicReference<>();
+  private final AtomicReference<String> uploadContentEncoding = new AtomicReference<>();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    new Random(42).nextBytes(content);
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/files/data.bin", this::handleDownload);
+    server.createContext("/files/gzip.bin", this::handleCompressingDownload);
+    server.createContext("/files", exchange -> {
+      uploadContentEncoding.set(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+      try (InputStream body = exchange.getRequestBody()) {
+        uploaded.set(body.readAllBytes());
+      }
+      byte[] response = ("{\"size\":" + uploaded.get().length + "}").getBytes();
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(201, response.length);
+      exchange.getResponseBody().write(response);
+      exchange.close();
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("다운로드: 응답 본문을 파일로 저장")
+  @Test
+  public void testDownloadTo() throws Exception {
+
+    // Given
+    Path target = tempDir.resolve("data.bin");
+
+    // When
+    long size = httpUtil.downloadTo(url("/files/data.bin"), null, target, false);
+
+    // Then
+    assertAll(
+        () -> assertEquals(FILE_SIZE, size),
+        () -> assertArrayEquals(content, Files.readAllBytes(target)),
+        () -> assertEquals(null, rangeHeader.get())
+    );
+  }
+
+  @DisplayName("다운로드 이어받기: 이미 받은 부분 이후만 Range 요청으로 받아 파일 뒤에 이어서 기록")
+  @Test
+  public void testDownloadToResume() throws Exception {
+
+    // Given
+    Path target = tempDir.resolve("data.bin");
+    int received = 300_000;
+    Files.write(target, Arrays.copyOf(content, received));
+
+    // When
+    long size = httpUtil.downloadTo(url("/files/data.bin"), null, target, true);
+
+    // Then
+    assertAll(
+        () -> assertEquals(FILE_SIZE, size),
+        () -> assertEquals("bytes=" + received + "-", rangeHeader.get()),
+        () -> assertArrayEquals(content, Files.readAllBytes(target))
+    );
+  }
+
+  @DisplayName("다운로드 이어받기: 압축을 지원하는 서버에도 Range 요청은 identity로 보내 원본 바이트 기준으로 이어서 기록")
+  @Test
+  public void testDownloadToResumeFromCompressingServer() throws Exception {
+
+    // Given
+    Path target = tempDir.resolve("gzip.bin");
+    int received = 300_000;
+    Files.write(target, Arrays.copyOf(content, received));
+
+    // When
+    long size = httpUtil.downloadTo(url("/files/gzip.bin"), null, target, true);
+
+    // Then
+    assertAll(
+        () -> assertEquals(FILE_SIZE, size),
+        () -> assertEquals("identity", acceptEncodingHeader.get()),
+        () -> assertArrayEquals(content, Files.readAllBytes(target))
+    );
+  }
+
+  @DisplayName("다운로드 이어받기: 이미 모두 받은 파일은 그대로 유지")
+  @Test
+  public void testDownloadToAlreadyComplete() throws Exception {
+
+    // Given
+    Path target = tempDir.resolve("data.bin");
+    Files.write(target, content);
+
+    // When
+    long size = httpUtil.downloadTo(url("/files/data.bin"), null, target, true);
+
+    // Then
+    assertAll(
+        () -> assertEquals(FILE_SIZE, size),
+        () -> assertArrayEquals(content, Files.readAllBytes(target))
+    );
+  }
+
+  @DisplayName("업로드: 파일을 요청 본문으로 전송")
+  @Test
+  public void testUploadFrom() throws Exception {
+
+    // Given
+    Path source = tempDir.resolve("upload.bin");
+    Files.write(source, content);
+
+    // When
+    ResponseEntity<UploadResult> response = httpUtil.uploadFrom(url("/files"), null, source,
+        UploadResult.class);
+
+    // Then
+    assertAll(
+        () -> assertEquals(201, response.getStatusCode().value()),
+        () -> assertEquals(FILE_SIZE, response.getBody().getSize()),
+        () -> assertArrayEquals(content, uploaded.get())
+    );
+  }
+
+  @DisplayName("업로드: 인터셉터(요청 본문 압축 등)가 등록되어 있어도 파일을 메모리에 복사하지 않고 그대로 전송")
+  @Test
+  public void testUploadFromBypassesInterceptors() throws Exception {
+
+    // Given
+    Path source = tempDir.resolve("upload.bin");
+    Files.write(source, content);
+    recordingInterceptor.bodySizes.clear();
+    httpUtil.sendPost(url("/files"), null, Map.of("title", "foo"),
+        UploadResult.class);
+
+    // When
+    ResponseEntity<UploadResult> response = httpUtil.uploadFrom(url("/files"), null, source,
+        UploadResult.class);
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, recordingInterceptor.bodySizes.size()), // sendPost 요청만 인터셉터를 거치고, 파일 업로드는 거치지 않음
+        () -> assertEquals(FILE_SIZE, response.getBody().getSize()),
+        () -> assertNull(uploadContentEncoding.get()),
+        () -> assertArrayEquals(content, uploaded.get())
+    );
+  }
+
+  private void handleDownload(HttpExchange exchange) throws IOException {
+    String range = exchange.getRequestHeaders().getFirst("Range");
+    rangeHeader.set(range);
+    int start = range != null ? Integer.parseInt(range.replaceAll("\\D", "")) : 0;
+    if (start >= content.length) {
+      exchange.getResponseHeaders().set("Content-Range", "bytes */" + content.length);
+      exchange.sendResponseHeaders(416, -1);
+    } else {
+      if (range != null) {
+        exchange.getResponseHeaders().set("Content-Range",
+            "bytes " + start + "-" + (content.length - 1) + "/" + content.length);
+      }
+      exchange.sendResponseHeaders(range != null ? 206 : 200, content.length - start);
+      exchange.getResponseBody().write(content, start, content.length - start);
+    }
+    exchange.close();
+  }
+
+  /**
+   * Accept-Encoding에 gzip이 있으면 압축한 본문 기준으로 Range를 적용하는 서버 (Range와 압축을 함께 처리하는 일반적인 서버 동작)
+   */
+  private void handleCompressingDownload(HttpExchange exchange) throws IOException {
+    String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+    acceptEncodingHeader.set(acceptEncoding);
+    byte[] body = content;
+    if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+      ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+      try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+        gzip.write(content);
+      }
+      body = compressed.toByteArray();
+      exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+    }
+    String range = exchange.getRequestHeaders().getFirst("Range");
+    int start = range != null ? Integer.parseInt(range.replaceAll("\\D", "")) : 0;
+    if (range != null) {
+      exchange.getResponseHeaders().set("Content-Range",
+          "bytes " + start + "-" + (body.length - 1) + "/" + body.length);
+    }
+    exchange.sendResponseHeaders(range != null ? 206 : 200, body.length - start);
+    exchange.getResponseBody().write(body, start, body.length - start);
+    exchange.close();
+  }
+
+  private String url(String path) {
+    return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+  }
+
+  @TestConfiguration
+  static class RecordingInterceptorConfig {
+
+    @Bean
+    RecordingInterceptor recordingInterceptor() {
+      return new RecordingInterceptor();
+    }
+  }
+
+  /**
+   * 인터셉터를 거친 요청의 본문 크기를 기록 (인터셉터를 거치면 요청 본문 전체가 byte[]로 복사됨)
+   */
+  static class RecordingInterceptor implements ClientHttpRequestInterceptor {
+
+    private final List<Integer> bodySizes = new CopyOnWriteArrayList<>();
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+        ClientHttpRequestExecution execution) throws IOException {
+      bodySizes.add(body.length);
+      return execution.execute(request, body);
+    }
+  }
+
+  @Getter
+  @NoArgsConstructor
+  public static class UploadResult {
+
+    private long size;
+  }
+}
@@ -0,0 +1,133 @@
+package com.example.restclient.util;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.restclient.concurrent.HedgingExecutor;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+
+@Slf4j
+@SpringBootTest(properties = {
+    "rest-client.hedging.enabled=true",
+    "rest-client.hedging.min-samples=5",
+    "rest-client.hedging.min-delay=50ms",
+    "rest-client.hedging.budget-percent=50"
+})
+class HttpUtilHedgingTest {
+
+  private static final int WARM_UP_COUNT = 5;
+  private static final long SLOW_RESPONSE_DELAY_MILLIS = 3000L;
+
+  @Autowired
+  HttpUtil httpUtil;
+
+  @Autowired
+  PoolingHttpClientConnectionManager connectionManager;
+
+  @Autowired
+  HedgingExecutor hedgingExecutor;
+
+  private HttpServer server;
+  private final AtomicInteger requestCount = new AtomicInteger();
+  private final AtomicInteger slowResponses = new AtomicInteger();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext("/posts/1", exchange -> {
+      requestCount.incrementAndGet();
+      try {
+        if (slowResponses.getAndDecrement() > 0) {
+          Thread.sleep(SLOW_RESPONSE_DELAY_MILLIS);
+        }
+        byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        exchange.getResponseBody().write(body);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      } catch (IOException ex) {
+        log.debug("Client closed connection: {}", ex.getMessage());
+      } finally {
+        exchange.close();
+      }
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("GET 요청 헤징: 첫 번째 요청이 느리면 헤지 요청의 응답을 사용하고, 느린 요청은 취소")
+  @Test
+  public void testHedgeSlowRequest() {
+
+    // Given
+    String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/posts/1";
+    for (int i = 0; i < WARM_UP_COUNT; i++) {
+      httpUtil.sendGet(url, null, PostDTO.class, false);
+    }
+    slowResponses.set(1);
+
+    // When
+    long startTime = System.nanoTime();
+    ResponseEntity<PostDTO> response = httpUtil.sendGet(url, null, PostDTO.class, false);
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, response.getBody().getId()),
+        () -> assertTrue(elapsedMillis < SLOW_RESPONSE_DELAY_MILLIS / 2,
+            "elapsed: " + elapsedMillis + "ms"),
+        () -> assertEquals(WARM_UP_COUNT + 2, requestCount.get()),
+        () -> assertEquals(0, connectionManager.getTotalStats().getLeased())
+    );
+  }
+
+  @DisplayName("GET 요청 헤징: 첫 번째 요청은 새 스레드를 만들지 않고 호출 스레드에서 실행")
+  @Test
+  public void testPrimaryRunsOnCallerThread() {
+
+    // Given
+    String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/posts/1";
+    for (int i = 0; i < WARM_UP_COUNT; i++) {
+      httpUtil.sendGet(url, null, PostDTO.class, false);
+    }
+
+    // When
+    Thread thread = hedgingExecutor.execute(url, Thread::currentThread);
+
+    // Then
+    assertSame(Thread.currentThread(), thread);
+  }
+
+  @Getter
+  @NoArgsConstructor
+  public static class PostDTO {
+
+    private int id;
+  }
+}
@@ -0,0 +1,123 @@
+package com.example.restclient.util;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+@Slf4j
+@SpringBootTest
+class HttpUtilRequestTemplateTest {
+
+  @Autowired
+  HttpUtil httpUtil;
+
+  private HttpServer server;
+  private final List<String> receivedRequests = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/posts", exchange -> {
+      String requestBody;
+      try (InputStream inputStream = exchange.getRequestBody()) {
+        requestBody = new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+      }
+      receivedRequests.add(exchange.getRequestMethod() + " "
+          + exchange.getRequestURI().getRawPath() + "?" + exchange.getRequestURI().getRawQuery()
+          + " " + exchange.getRequestHeaders().getFirst("X-Client") + " " + requestBody);
+      byte[] body = "{\"id\":1,\"title\":\"foo\"}".getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("RequestTemplate: 한 번 만든 템플릿을 재사용하며, 요청마다 URI 변수만 인코딩하여 기본 헤더와 함께 보냄")
+  @Test
+  public void testExecuteTemplate() {
+
+    // Given
+    MultiValueMap<String, String> headers = new LinkedMultiValueMap<>();
+    headers.add("X-Client", "template");
+    RequestTemplate<PostDTO> getPost = httpUtil.template(HttpMethod.GET,
+        baseUrl() + "/posts/{id}?title={title}", headers, PostDTO.class);
+    RequestTemplate<PostDTO> updatePost = httpUtil.template(HttpMethod.PUT,
+        baseUrl() + "/posts/{id}", headers, PostDTO.class);
+
+    // When
+    ResponseEntity<PostDTO> first = getPost.execute(1, "a b&c");
+    ResponseEntity<PostDTO> second = getPost.execute(2, "foo");
+    ResponseEntity<PostDTO> updated = updatePost.executeWithBody(new PostDTO(1, "bar"), 1);
+
+    // Then
+    assertAll(
+        () -> assertEquals("GET /posts/1?title=a%20b%26c template ", receivedRequests.get(0)),
+        () -> assertEquals("GET /posts/2?title=foo template ", receivedRequests.get(1)),
+        () -> assertTrue(receivedRequests.get(2).startsWith("PUT /posts/1?null template ")),
+        () -> assertTrue(receivedRequests.get(2).contains("\"title\":\"bar\"")),
+        () -> assertEquals(1, first.getBody().getId()),
+        () -> assertEquals("foo", second.getBody().getTitle()),
+        () -> assertEquals(1, updated.getBody().getId())
+    );
+  }
+
+  @DisplayName("RequestTemplate: URI 변수 수가 맞지 않거나 host에 변수를 사용하면 예외 발생")
+  @Test
+  public void testInvalidTemplate() {
+
+    // Given
+    RequestTemplate<PostDTO> getPost = httpUtil.template(HttpMethod.GET,
+        baseUrl() + "/posts/{id}", null, PostDTO.class);
+
+    // When & Then
+    assertAll(
+        () -> assertThrows(IllegalArgumentException.class, () -> getPost.execute(1, 2)),
+        () -> assertThrows(IllegalArgumentException.class, () -> httpUtil.template(
+            HttpMethod.GET, "http://{host}/posts/{id}", null, PostDTO.class))
+    );
+  }
+
+  private String baseUrl() {
+    return "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class PostDTO {
+
+    private int id;
+    private String title;
+  }
+}
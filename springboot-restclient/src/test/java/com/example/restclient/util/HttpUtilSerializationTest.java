@@ -0,0 +1,125 @@
+package com.example.restclient.util;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+
+@Slf4j
+@SpringBootTest(properties = "rest-client.serialization.default-format=smile")
+class HttpUtilSerializationTest {
+
+  private static final String SMILE = "application/x-jackson-smile";
+  private static final ObjectMapper SMILE_MAPPER = new ObjectMapper(new SmileFactory());
+
+  @Autowired
+  HttpUtil httpUtil;
+
+  private HttpServer server;
+  private final List<String> receivedHeaders = new CopyOnWriteArrayList<>();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/posts", exchange -> {
+      receivedHeaders.add(exchange.getRequestHeaders().getFirst("Content-Type"));
+      PostDTO post;
+      try (InputStream inputStream = exchange.getRequestBody()) {
+        post = SMILE_MAPPER.readValue(inputStream, PostDTO.class);
+      }
+      respond(exchange, SMILE, SMILE_MAPPER.writeValueAsBytes(
+          new PostDTO(101, post.getTitle())));
+    });
+    server.createContext("/json/posts/1", exchange -> {
+      receivedHeaders.add(exchange.getRequestHeaders().getFirst("Accept"));
+      respond(exchange, "application/json",
+          "{\"id\":1,\"title\":\"json\"}".getBytes(StandardCharsets.UTF_8));
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("직렬화 형식: Smile로 설정한 경로는 요청 본문을 Smile로 보내고 Smile 응답을 같은 DTO로 읽음")
+  @Test
+  public void testSmileRoundTrip() {
+
+    // Given
+    String url = baseUrl() + "/posts";
+
+    // When
+    ResponseEntity<PostDTO> response = httpUtil.sendPost(url, null, new PostDTO(0, "smile"),
+        PostDTO.class);
+
+    // Then
+    assertAll(
+        () -> assertEquals(SMILE, receivedHeaders.get(0)),
+        () -> assertEquals(101, response.getBody().getId()),
+        () -> assertEquals("smile", response.getBody().getTitle())
+    );
+  }
+
+  @DisplayName("직렬화 형식: 서버가 Smile을 지원하지 않으면 함께 보낸 JSON으로 응답을 읽음")
+  @Test
+  public void testJsonFallback() {
+
+    // Given
+    String url = baseUrl() + "/json/posts/1";
+
+    // When
+    ResponseEntity<PostDTO> response = httpUtil.sendGet(url, null, PostDTO.class, false);
+
+    // Then
+    assertAll(
+        () -> assertTrue(receivedHeaders.get(0).startsWith(SMILE)),
+        () -> assertTrue(receivedHeaders.get(0).contains("application/json")),
+        () -> assertEquals("json", response.getBody().getTitle())
+    );
+  }
+
+  private void respond(HttpExchange exchange, String contentType, byte[] body)
+      throws IOException {
+    exchange.getResponseHeaders().set("Content-Type", contentType);
+    exchange.sendResponseHeaders(200, body.length);
+    exchange.getResponseBody().write(body);
+    exchange.close();
+  }
+
+  private String baseUrl() {
+    return "http://127.0.0.1:" + server.getAddress().getPort();
+  }
+
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class PostDTO {
+
+    private int id;
+    private String title;
+  }
+}
@@ -2,7 +2,18 @@ package com.example.restclient.util;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,12 +27,45 @@ class HttpUtilTimeoutTest {
   @Autowired
   HttpUtil httpUtil;
 
+  private HttpServer server;
+  private ExecutorService executor;
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @BeforeEach
+  void setUp() throws IOException {
+    // 응답 타임아웃(5초)보다 오래(최대 10초) 응답을 지연시키는 로컬 서버
+    executor = Executors.newCachedThreadPool();
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.setExecutor(executor);
+    server.createContext("/delay/10", exchange -> {
+      try {
+        release.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      }
+      exchange.sendResponseHeaders(200, -1);
+      exchange.close();
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    release.countDown();
+    server.stop(0);
+    executor.shutdownNow();
+  }
+
   @Test
   @DisplayName("GET 요청: 3초 연결 타임아웃")
-  public void testConnectTimeout() {
+  public void testConnectTimeout() throws IOException {
 
-    // Given: 연결 불가능한 IP 주소 또는 포트 지정 - 연결 불가능한 IP 주소
-    String targetUrl = "http://127.0.0.1";
+    // Given: 연결 불가능한 IP 주소 또는 포트 지정 - 비어 있는 로컬 포트
+    int closedPort;
+    try (ServerSocket serverSocket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress())) {
+      closedPort = serverSocket.getLocalPort();
+    }
+    String targetUrl = "http://127.0.0.1:" + closedPort;
 
     // When & Then: 연결 타임아웃이 발생
     assertThrows(ResourceAccessException.class, () -> {
@@ -33,8 +77,8 @@ class HttpUtilTimeoutTest {
   @DisplayName("GET 요청: 5초 읽기 타임아웃")
   public void testReadTimeout() {
 
-    // Given: 읽기 타임아웃을 유도하는 테스트 API 서버 사용 - 10초 동안 응답을 지연시킴
-    String targetUrl = "http://httpbin.org/delay/10"; //
+    // Given: 읽기 타임아웃을 유도하는 로컬 서버 사용 - 10초 동안 응답을 지연시킴
+    String targetUrl = "http://127.0.0.1:" + server.getAddress().getPort() + "/delay/10";
 
     // When & Then: 읽기 타임아웃이 발생
     assertThrows(ResourceAccessException.class, () -> {
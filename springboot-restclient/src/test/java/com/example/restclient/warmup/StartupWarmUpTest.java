@@ -0,0 +1,136 @@
+package com.example.restclient.warmup;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.restclient.config.ConnectionPoolProperties;
+import com.example.restclient.loadbalancer.LoadBalancingRoutePlanner;
+import com.example.restclient.pool.ConnectionPoolTuner;
+import com.example.restclient.pool.HttpRoutes;
+import com.example.restclient.pool.InstrumentedConnectionManager;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.core5.util.Timeout;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.availability.ApplicationAvailabilityBean;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+class StartupWarmUpTest {
+
+  private HttpServer server;
+  private List<ReadinessState> readinessDuringWarmUp;
+  private ApplicationAvailabilityBean availability;
+  private GenericApplicationContext context;
+  private InstrumentedConnectionManager connectionManager;
+  private CloseableHttpClient httpClient;
+  private StartupWarmUp startupWarmUp;
+  private URI url;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    readinessDuringWarmUp = new CopyOnWriteArrayList<>();
+    availability = new ApplicationAvailabilityBean();
+    context = new GenericApplicationContext();
+    context.addApplicationListener(availability);
+    context.refresh();
+
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/health", exchange -> {
+      readinessDuringWarmUp.add(availability.getReadinessState());
+      byte[] body = "UP".getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    server.start();
+    url = URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+
+    connectionManager = new InstrumentedConnectionManager();
+    ConnectionPoolTuner connectionPoolTuner = new ConnectionPoolTuner(connectionManager,
+        new ConnectionPoolProperties());
+    httpClient = HttpClients.custom().setConnectionManager(connectionManager).build();
+    RestClient restClient = RestClient.builder()
+        .requestFactory(new HttpComponentsClientHttpRequestFactory(httpClient))
+        .build();
+    startupWarmUp = new StartupWarmUp(new ConnectionWarmer(connectionManager, connectionPoolTuner),
+        new LoadBalancingRoutePlanner(List.of()), restClient,
+        List.of(new StartupWarmUp.Target(url, 3, "/health", 5)), List.of(PostDTO.class),
+        Duration.ofSeconds(10));
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    httpClient.close();
+    context.close();
+    server.stop(0);
+  }
+
+  @DisplayName("시작 시 워밍업: 경로별 커넥션을 미리 연결하고 합성 요청을 보내며, 끝날 때까지 Readiness는 REFUSING_TRAFFIC")
+  @Test
+  public void testWarmUp() {
+
+    // Given
+    HttpRoute route = HttpRoutes.of(url);
+    ApplicationReadyEvent event = new ApplicationReadyEvent(new SpringApplication(),
+        new String[0], context, Duration.ZERO);
+
+    // When
+    startupWarmUp.onApplicationEvent(event);
+
+    // Then
+    assertAll(
+        () -> assertEquals(5, readinessDuringWarmUp.size()),
+        () -> assertEquals(List.of(ReadinessState.REFUSING_TRAFFIC), readinessDuringWarmUp.stream()
+            .distinct().toList()),
+        () -> assertEquals(ReadinessState.ACCEPTING_TRAFFIC, availability.getReadinessState()),
+        () -> assertEquals(3, connectionManager.getStats(route).getAvailable()),
+        () -> assertEquals(0, connectionManager.getStats(route).getLeased())
+    );
+  }
+
+  @DisplayName("커넥션 워밍업: 경로별 최대 커넥션 수를 넘지 않고, 이미 연결된 유휴 커넥션은 다시 연결하지 않음")
+  @Test
+  public void testConnectionWarmerLimit() throws IOException {
+
+    // Given
+    HttpRoute route = HttpRoutes.of(url);
+    ConnectionWarmer connectionWarmer = new ConnectionWarmer(connectionManager,
+        new ConnectionPoolTuner(connectionManager, new ConnectionPoolProperties()));
+    connectionManager.setMaxPerRoute(route, 4);
+
+    // When
+    int first = connectionWarmer.warm(route, 2, Timeout.ofSeconds(5));
+    int second = connectionWarmer.warm(route, 10, Timeout.ofSeconds(5));
+
+    // Then
+    assertAll(
+        () -> assertEquals(2, first),
+        () -> assertEquals(2, second),
+        () -> assertEquals(4, connectionManager.getStats(route).getAvailable())
+    );
+  }
+
+  public static class PostDTO {
+
+    public int id;
+    public String title;
+  }
+}
@@ -0,0 +1,60 @@
+package com.example.resttemplate.buffer;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 고정 크기 ByteBuffer를 재사용하기 위한 풀
+ * <p>풀이 비어 있으면 새 버퍼를 할당하고, 반납 시 풀이 가득 차 있으면 버퍼를 버림 (최대 maxPooled 개까지 보관)</p>
+ */
+public class ByteBufferPool {
+
+  private final int bufferSize;
+  private final BlockingQueue<ByteBuffer> buffers;
+
+  /**
+   * ByteBufferPool을 생성
+   *
+   * @param bufferSize 버퍼 크기 (바이트)
+   * @param maxPooled  풀에 보관할 최대 버퍼 수
+   */
+  public ByteBufferPool(int bufferSize, int maxPooled) {
+    if (bufferSize <= 0 || maxPooled <= 0) {
+      throw new IllegalArgumentException(
+          "bufferSize and maxPooled must be positive: " + bufferSize + ", " + maxPooled);
+    }
+    this.bufferSize = bufferSize;
+    this.buffers = new ArrayBlockingQueue<>(maxPooled);
+  }
+
+  /**
+   * 버퍼를 대여 (사용 후 반드시 release()로 반납)
+   *
+   * @return 비어 있는(clear 상태의) 힙 ByteBuffer
+   */
+  public ByteBuffer acquire() {
+    ByteBuffer buffer = buffers.poll();
+    return buffer != null ? buffer : ByteBuffer.allocate(bufferSize);
+  }
+
+  /**
+   * 버퍼를 풀에 반납
+   *
+   * @param buffer acquire()로 대여한 버퍼
+   */
+  public void release(ByteBuffer buffer) {
+    if (buffer != null && buffer.capacity() == bufferSize) {
+      buffers.offer(buffer.clear());
+    }
+  }
+
+  /**
+   * 버퍼 크기를 반환
+   *
+   * @return 버퍼 크기 (바이트)
+   */
+  public int getBufferSize() {
+    return bufferSize;
+  }
+}
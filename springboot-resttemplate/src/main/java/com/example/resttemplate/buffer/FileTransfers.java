@@ -0,0 +1,70 @@
+package com.example.resttemplate.buffer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * 응답/요청 스트림과 FileChannel 사이에서 풀링된 버퍼로 데이터를 전송하기 위한 유틸리티 클래스
+ * <p>전송 크기와 관계없이 byte[]/String으로 전체를 읽지 않고, 고정 크기 버퍼 하나만 사용</p>
+ */
+public final class FileTransfers {
+
+  private FileTransfers() {
+  }
+
+  /**
+   * InputStream의 데이터를 FileChannel의 현재 위치부터 기록
+   *
+   * @param in         읽을 InputStream (예: 응답 본문)
+   * @param channel    기록할 FileChannel
+   * @param bufferPool 전송에 사용할 버퍼 풀
+   * @return 기록한 바이트 수
+   */
+  public static long copy(InputStream in, FileChannel channel, ByteBufferPool bufferPool)
+      throws IOException {
+    ByteBuffer buffer = bufferPool.acquire();
+    try {
+      byte[] array = buffer.array();
+      long transferred = 0;
+      int read;
+      while ((read = in.read(array, 0, array.length)) != -1) {
+        buffer.clear().limit(read);
+        while (buffer.hasRemaining()) {
+          channel.write(buffer);
+        }
+        transferred += read;
+      }
+      return transferred;
+    } finally {
+      bufferPool.release(buffer);
+    }
+  }
+
+  /**
+   * FileChannel의 데이터를 처음부터 끝까지 OutputStream에 기록
+   *
+   * @param channel    읽을 FileChannel
+   * @param out        기록할 OutputStream (예: 요청 본문)
+   * @param bufferPool 전송에 사용할 버퍼 풀
+   * @return 기록한 바이트 수
+   */
+  public static long copy(FileChannel channel, OutputStream out, ByteBufferPool bufferPool)
+      throws IOException {
+    ByteBuffer buffer = bufferPool.acquire();
+    try {
+      long transferred = 0;
+      int read;
+      while ((read = channel.read(buffer.clear())) != -1) {
+        out.write(buffer.array(), 0, read);
+        transferred += read;
+      }
+      out.flush();
+      return transferred;
+    } finally {
+      bufferPool.release(buffer);
+    }
+  }
+}
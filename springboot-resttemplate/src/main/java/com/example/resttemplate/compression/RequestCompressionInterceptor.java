@@ -0,0 +1,65 @@
+package com.example.resttemplate.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * POST, PUT, PATCH 요청 본문이 기준 크기 이상이면 압축하여 보내는 ClientHttpRequestInterceptor
+ * <p>이미 Content-Encoding이 있는 요청은 압축하지 않으며, 압축 결과가 원본보다 작지 않으면 원본을 그대로 보냄</p>
+ */
+@Slf4j
+public class RequestCompressionInterceptor implements ClientHttpRequestInterceptor {
+
+  private static final Set<HttpMethod> COMPRESSIBLE_METHODS = Set.of(HttpMethod.POST,
+      HttpMethod.PUT, HttpMethod.PATCH);
+
+  private final ContentEncoding encoding;
+  private final int minSize;
+
+  /**
+   * @param encoding 요청 본문 압축 방식
+   * @param minSize  압축할 최소 본문 크기 (바이트)
+   */
+  public RequestCompressionInterceptor(ContentEncoding encoding, int minSize) {
+    this.encoding = encoding;
+    this.minSize = minSize;
+  }
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+      ClientHttpRequestExecution execution) throws IOException {
+    HttpHeaders headers = request.getHeaders();
+    if (body.length < minSize || !COMPRESSIBLE_METHODS.contains(request.getMethod())
+        || headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+      return execution.execute(request, body);
+    }
+
+    byte[] compressed = compress(body);
+    if (compressed.length >= body.length) {
+      return execution.execute(request, body);
+    }
+    log.debug("Compressed request body - {} {}, encoding: {}, size: {} -> {}",
+        request.getMethod(), request.getURI(), encoding.getToken(), body.length,
+        compressed.length);
+    headers.set(HttpHeaders.CONTENT_ENCODING, encoding.getToken());
+    headers.setContentLength(compressed.length);
+    return execution.execute(request, compressed);
+  }
+
+  private byte[] compress(byte[] body) throws IOException {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream(body.length / 4);
+    try (OutputStream outputStream = encoding.encode(buffer)) {
+      outputStream.write(body);
+    }
+    return buffer.toByteArray();
+  }
+}
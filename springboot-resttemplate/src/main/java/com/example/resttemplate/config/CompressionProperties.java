@@ -0,0 +1,34 @@
+package com.example.resttemplate.config;
+
+import com.example.resttemplate.compression.ContentEncoding;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 요청/응답 본문 압축 설정 값 (rest-template.compression)
+ * <p>응답은 Accept-Encoding(gzip, deflate)으로 압축을 협상하고 스트리밍으로 압축을 해제하며, accept-zstd가 true이면 zstd도 협상</p>
+ * <p>요청 본문 압축은 request.enabled가 true일 때만 적용 (서버가 압축된 요청 본문을 지원하는 경우에만 사용)</p>
+ * <p>요청 본문 압축을 사용하면 RestTemplate이 인터셉터 적용을 위해 업로드를 포함한 모든 요청 본문을 메모리에 버퍼링함</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rest-template.compression")
+public class CompressionProperties {
+
+  private boolean acceptZstd = false; // 응답 압축 협상에 zstd 포함 여부
+  private Request request = new Request(); // 요청 본문 압축 설정
+
+  /**
+   * 요청 본문 압축 설정 값
+   */
+  @Getter
+  @Setter
+  public static class Request {
+
+    private boolean enabled = false; // 요청 본문 압축 사용 여부 (POST, PUT, PATCH)
+    private ContentEncoding encoding = ContentEncoding.GZIP; // 압축 방식 (gzip, deflate, zstd)
+    private DataSize minSize = DataSize.ofKilobytes(2); // 압축할 최소 본문 크기
+  }
+}
@@ -0,0 +1,21 @@
+package com.example.resttemplate.config;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Connection Pool 설정 값 (rest-template.connection-pool)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rest-template.connection-pool")
+public class ConnectionPoolProperties {
+
+  private int maxTotal = 100; // 최대 전체 커넥션 수
+  private int defaultMaxPerRoute = 10; // 호스트(경로)별 최대 커넥션 수
+  private Duration validateAfterInactivity = Duration.ofSeconds(2); // 유휴 후 재사용 전 연결 검증 기준 시간
+  private Duration timeToLive; // 커넥션 최대 수명 (미설정 시 무제한)
+  private Duration maxIdleTime = Duration.ofSeconds(10); // 유휴 연결 유지 시간 (초과 시 정리)
+}
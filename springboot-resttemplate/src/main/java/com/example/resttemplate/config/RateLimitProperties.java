@@ -0,0 +1,38 @@
+package com.example.resttemplate.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 경로별 요청 속도 제한 설정 값 (rest-template.rate-limit)
+ * <p>enabled가 true일 때만 RestTemplate에 적용하며, routes에 등록한 경로만 토큰 버킷으로 제한 (설정하지 않은 항목은 기본 설정 값을 사용)</p>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rest-template.rate-limit")
+public class RateLimitProperties {
+
+  private boolean enabled = false; // 요청 속도 제한 사용 여부
+  private int burst = 10; // 유휴 후 한 번에 보낼 수 있는 기본 최대 요청 수
+  private Duration maxWait = Duration.ofMillis(500); // 토큰을 기다릴 기본 최대 시간 (0이면 대기 없이 바로 거절)
+  private boolean respectHeaders = true; // Retry-After, RateLimit-* 응답 헤더에 따라 속도 조절 여부
+  private Map<String, Route> routes = new LinkedHashMap<>(); // 경로별 설정
+
+  /**
+   * 경로별 요청 속도 제한 설정 값
+   */
+  @Getter
+  @Setter
+  public static class Route {
+
+    private URI url; // 대상 호스트 URL (예: https://jsonplaceholder.typicode.com)
+    private Double permitsPerSecond; // 초당 요청 수 (할당량보다 조금 낮게 설정)
+    private Integer burst; // 유휴 후 한 번에 보낼 수 있는 최대 요청 수
+    private Duration maxWait; // 토큰을 기다릴 최대 시간
+  }
+}
@@ -1,24 +1,348 @@
 package com.example.resttemplate.config;
 
-import java.time.Duration;
+import com.example.resttemplate.buffer.ByteBufferPool;
+import com.example.resttemplate.compression.ContentEncoding;
+import com.example.resttemplate.compression.RequestCompressionInterceptor;
+import com.example.resttemplate.observation.HttpClientMetrics;
+import com.example.resttemplate.observation.ObservedRequestFactory;
+import com.example.resttemplate.ratelimit.RateLimitInterceptor;
+import com.example.resttemplate.warmup.ConnectionWarmer;
+import com.example.resttemplate.warmup.StartupWarmUp;
+import io.micrometer.observation.ObservationRegistry;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.entity.DeflateInputStreamFactory;
+import org.apache.hc.client5.http.entity.GZIPInputStreamFactory;
+import org.apache.hc.client5.http.entity.InputStreamFactory;
+import org.apache.hc.client5.http.impl.ChainElement;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHeaders;
+import org.apache.hc.core5.http.impl.DefaultConnectionReuseStrategy;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 @Configuration
+@EnableConfigurationProperties({ConnectionPoolProperties.class, CompressionProperties.class,
+    WarmUpProperties.class, RateLimitProperties.class})
+@ImportRuntimeHints(RestTemplateRuntimeHints.class)
 public class RestTemplateConfig {
 
+  // ClientHttpRequestInterceptor 적용 순서 (작을수록 바깥쪽에서 먼저 실행)
+  private static final int RATE_LIMIT_ORDER = 100; // 요청 속도 제한 (토큰을 기다린 후 요청 본문 압축)
+  private static final int REQUEST_COMPRESSION_ORDER = 200; // 요청 본문 압축
+
+  // 파일 전송 버퍼 설정 값
+  private static final int TRANSFER_BUFFER_SIZE = 64 * 1024; // 파일 전송 버퍼 크기 (바이트)
+  private static final int TRANSFER_BUFFER_POOL_SIZE = 32; // 풀에 보관할 최대 버퍼 수
+
+  // 응답 압축 협상 설정 값
+  private static final String ACCEPT_ENCODING_INTERCEPTOR = "accept-encoding"; // ExecChainHandler 이름
+  private static final String IDENTITY_ENCODING = "identity"; // Range 요청의 Accept-Encoding (압축하지 않음)
+
+  // 요청 구간 메트릭 설정 값
+  private static final String CONNECTION_START_INTERCEPTOR = "connection-start"; // ExecChainHandler 이름
+  private static final String TIME_TO_FIRST_BYTE_INTERCEPTOR = "time-to-first-byte"; // ExecChainHandler 이름
+
+  // Timeout 설정 값
+  private static final long CONNECT_TIMEOUT = 5L; // 연결 타임아웃 (초 단위)
+  private static final long RESPONSE_TIMEOUT = 5L; // 응답(읽기) 타임아웃 (초 단위)
+  private static final long CONNECTION_REQUEST_TIMEOUT = 3L; // 연결 요청 타임아웃 (초 단위)
+
   /**
    * RestTemplate 빈을 생성
+   * <p>Apache HttpClient의 Connection Pool을 사용하여 Keep-Alive 커넥션을 재사용</p>
+   * <p>등록된 ClientHttpRequestInterceptor 빈(요청 속도 제한, 요청 본문 압축 등)을 순서(@Order)대로 적용</p>
+   * <p>요청마다 Observation(http.client.requests 메트릭, 트레이스 컨텍스트 전파)을 기록하고, 요청/응답 본문 크기와 응답 본문
+   * 읽기/역직렬화 시간은 HttpClientMetrics에 기록</p>
    *
+   * @param httpClient          설정된 HttpClient 객체
+   * @param requestInterceptors 적용할 ClientHttpRequestInterceptor 목록
+   * @param observationRegistry 요청 Observation을 기록할 ObservationRegistry
+   * @param httpClientMetrics   요청 구간 메트릭을 기록할 HttpClientMetrics
    * @return RestTemplate 객체
    */
   @Bean
-  public RestTemplate restTemplate() {
-    return new RestTemplateBuilder()
-        .setConnectTimeout(Duration.ofSeconds(5)) // 연결 타임아웃을 5초로 설정
-        .setReadTimeout(Duration.ofSeconds(5)) // 읽기 타임아웃을 5초로 설정
+  @Primary
+  public RestTemplate restTemplate(HttpClient httpClient,
+      List<ClientHttpRequestInterceptor> requestInterceptors,
+      ObservationRegistry observationRegistry, HttpClientMetrics httpClientMetrics) {
+    RestTemplate restTemplate = new RestTemplateBuilder()
+        .requestFactory(() -> buildRequestFactory(httpClient, httpClientMetrics))
+        .additionalInterceptors(requestInterceptors)
+        .build();
+    restTemplate.setObservationRegistry(observationRegistry);
+    return restTemplate;
+  }
+
+  /**
+   * 파일 다운로드/업로드에 사용하는 RestTemplate 빈을 생성
+   * <p>ClientHttpRequestInterceptor가 있으면 InterceptingClientHttpRequest가 요청 본문 전체를 byte[]로 복사하므로, RestTemplate 빈과
+   * 같은 HttpClient, ClientHttpRequestFactory를 사용하되 인터셉터(요청 속도 제한, 요청 본문 압축 등)는 적용하지 않음</p>
+   *
+   * @param httpClient          설정된 HttpClient 객체
+   * @param observationRegistry 요청 Observation을 기록할 ObservationRegistry
+   * @param httpClientMetrics   요청 구간 메트릭을 기록할 HttpClientMetrics
+   * @return 인터셉터를 적용하지 않은 RestTemplate 객체
+   */
+  @Bean
+  public RestTemplate fileTransferRestTemplate(HttpClient httpClient,
+      ObservationRegistry observationRegistry, HttpClientMetrics httpClientMetrics) {
+    RestTemplate restTemplate = new RestTemplateBuilder()
+        .requestFactory(() -> buildRequestFactory(httpClient, httpClientMetrics))
+        .build();
+    restTemplate.setObservationRegistry(observationRegistry);
+    return restTemplate;
+  }
+
+  /**
+   * HttpClient 빈을 생성
+   * <p>만료(TTL, Keep-Alive 시간 초과) 커넥션과 유휴 시간을 넘은 커넥션은 백그라운드에서 정리</p>
+   * <p>Accept-Encoding으로 응답 압축을 협상하고, 압축된 응답은 읽는 시점에 스트리밍으로 압축을 해제</p>
+   * <p>커넥션 임대/연결 시간(connection)과 요청 전송부터 응답 헤더 수신까지의 시간(ttfb)은 HttpClientMetrics에 기록</p>
+   *
+   * @param connectionManager        Connection Manager 객체
+   * @param connectionPoolProperties Connection Pool 설정 값
+   * @param compressionProperties    요청/응답 본문 압축 설정 값
+   * @param httpClientMetrics        요청 구간 메트릭을 기록할 HttpClientMetrics
+   * @return 설정된 HttpClient 객체
+   */
+  @Bean
+  public HttpClient httpClient(PoolingHttpClientConnectionManager connectionManager,
+      ConnectionPoolProperties connectionPoolProperties,
+      CompressionProperties compressionProperties, HttpClientMetrics httpClientMetrics) {
+    LinkedHashMap<String, InputStreamFactory> contentDecoders = buildContentDecoders(
+        compressionProperties.isAcceptZstd());
+    return HttpClients.custom()
+        .setContentDecoderRegistry(contentDecoders)
+        .addExecInterceptorBefore(ChainElement.COMPRESS.name(), ACCEPT_ENCODING_INTERCEPTOR,
+            acceptEncodingHandler(String.join(", ", contentDecoders.keySet())))
+        .addExecInterceptorBefore(ChainElement.CONNECT.name(), CONNECTION_START_INTERCEPTOR,
+            httpClientMetrics.connectionStartHandler())
+        .addExecInterceptorBefore(ChainElement.MAIN_TRANSPORT.name(),
+            TIME_TO_FIRST_BYTE_INTERCEPTOR, httpClientMetrics.timeToFirstByteHandler())
+        .setKeepAliveStrategy(new DefaultConnectionKeepAliveStrategy())
+        .setConnectionReuseStrategy(DefaultConnectionReuseStrategy.INSTANCE)
+        .setDefaultRequestConfig(buildRequestConfig())
+        .setConnectionManager(connectionManager)
+        .evictExpiredConnections()
+        .evictIdleConnections(TimeValue.of(connectionPoolProperties.getMaxIdleTime()))
+        .build();
+  }
+
+  /**
+   * Connection Manager 빈을 생성
+   * <p>최근에 반환된 커넥션부터 재사용(LIFO)하여 자주 쓰는 커넥션은 유지하고, 쓰지 않는 커넥션은 유휴 상태로 정리되도록 함</p>
+   *
+   * @param connectionPoolProperties Connection Pool 설정 값
+   * @return 설정된 PoolingHttpClientConnectionManager 객체
+   */
+  @Bean
+  public PoolingHttpClientConnectionManager connectionManager(
+      ConnectionPoolProperties connectionPoolProperties) {
+    return PoolingHttpClientConnectionManagerBuilder.create()
+        .setMaxConnTotal(connectionPoolProperties.getMaxTotal())
+        .setMaxConnPerRoute(connectionPoolProperties.getDefaultMaxPerRoute())
+        .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+        .setConnPoolPolicy(PoolReusePolicy.LIFO)
+        .setDefaultConnectionConfig(buildConnectionConfig(connectionPoolProperties))
+        .build();
+  }
+
+  /**
+   * 경로별 요청 구간 시간(connection, ttfb, body.read, deserialize), 요청/응답 본문 크기, 응답 상태 메트릭을 기록하는
+   * HttpClientMetrics 빈을 생성
+   *
+   * @return HttpClientMetrics 객체
+   */
+  @Bean
+  public HttpClientMetrics httpClientMetrics() {
+    return new HttpClientMetrics();
+  }
+
+  /**
+   * 파일 다운로드/업로드에 사용하는 ByteBufferPool 빈을 생성
+   *
+   * @return ByteBufferPool 객체
+   */
+  @Bean
+  public ByteBufferPool transferBufferPool() {
+    return new ByteBufferPool(TRANSFER_BUFFER_SIZE, TRANSFER_BUFFER_POOL_SIZE);
+  }
+
+  /**
+   * 요청 본문 압축 ClientHttpRequestInterceptor 빈을 생성 (rest-template.compression.request.enabled=true일 때만 생성)
+   * <p>POST, PUT, PATCH 요청 본문이 최소 크기 이상이면 설정한 방식으로 압축하고 Content-Encoding 헤더를 추가</p>
+   *
+   * @param compressionProperties 요청/응답 본문 압축 설정 값
+   * @return RequestCompressionInterceptor 객체
+   */
+  @Bean
+  @Order(REQUEST_COMPRESSION_ORDER)
+  @ConditionalOnProperty(prefix = "rest-template.compression.request", name = "enabled",
+      havingValue = "true")
+  public RequestCompressionInterceptor requestCompressionInterceptor(
+      CompressionProperties compressionProperties) {
+    CompressionProperties.Request requestProperties = compressionProperties.getRequest();
+    return new RequestCompressionInterceptor(requestProperties.getEncoding(),
+        Math.toIntExact(requestProperties.getMinSize().toBytes()));
+  }
+
+  /**
+   * 경로별 요청 속도 제한 ClientHttpRequestInterceptor 빈을 생성 (rest-template.rate-limit.enabled=true일 때만 생성)
+   * <p>routes에 등록한 경로는 토큰 버킷으로 요청 속도를 제한하고, 최대 대기 시간 안에 토큰을 받을 수 없는 요청은
+   * RateLimitExceededException으로 거절</p>
+   *
+   * @param rateLimitProperties 요청 속도 제한 설정 값
+   * @return RateLimitInterceptor 객체
+   */
+  @Bean
+  @Order(RATE_LIMIT_ORDER)
+  @ConditionalOnProperty(prefix = "rest-template.rate-limit", name = "enabled", havingValue = "true")
+  public RateLimitInterceptor rateLimitInterceptor(RateLimitProperties rateLimitProperties) {
+    Map<URI, RateLimitInterceptor.Limit> limits = new LinkedHashMap<>();
+    rateLimitProperties.getRoutes().forEach((name, route) -> {
+      if (route.getUrl() == null || route.getPermitsPerSecond() == null) {
+        throw new IllegalArgumentException("rest-template.rate-limit.routes." + name
+            + ".url and permits-per-second must be set");
+      }
+      limits.put(route.getUrl(), new RateLimitInterceptor.Limit(
+          route.getPermitsPerSecond(),
+          route.getBurst() != null ? route.getBurst() : rateLimitProperties.getBurst(),
+          route.getMaxWait() != null ? route.getMaxWait() : rateLimitProperties.getMaxWait()));
+    });
+    return new RateLimitInterceptor(limits, rateLimitProperties.isRespectHeaders());
+  }
+
+  /**
+   * 시작 시 워밍업 ApplicationListener 빈을 생성 (rest-template.warm-up.enabled=true일 때만 생성)
+   * <p>애플리케이션 준비 후 경로별 커넥션 연결, DTO 타입의 직렬화/역직렬화기 생성, 합성 요청을 마칠 때까지 Readiness를
+   * REFUSING_TRAFFIC으로 유지</p>
+   *
+   * @param restTemplate      합성 요청을 보내고 HttpMessageConverter를 워밍업할 RestTemplate
+   * @param connectionManager 커넥션을 열어 둘 Connection Manager
+   * @param warmUpProperties  시작 시 워밍업 설정 값
+   * @return StartupWarmUp 객체
+   */
+  @Bean
+  @ConditionalOnProperty(prefix = "rest-template.warm-up", name = "enabled", havingValue = "true")
+  public StartupWarmUp startupWarmUp(RestTemplate restTemplate,
+      PoolingHttpClientConnectionManager connectionManager, WarmUpProperties warmUpProperties) {
+    List<StartupWarmUp.Target> targets = new ArrayList<>();
+    warmUpProperties.getRoutes().forEach((name, route) -> {
+      if (route.getUrl() == null) {
+        throw new IllegalArgumentException("rest-template.warm-up.routes." + name
+            + ".url must be set");
+      }
+      targets.add(new StartupWarmUp.Target(route.getUrl(),
+          route.getConnections() != null ? route.getConnections()
+              : warmUpProperties.getConnections(),
+          route.getHealthPath(), route.getHealthRequests()));
+    });
+    return new StartupWarmUp(new ConnectionWarmer(connectionManager), restTemplate, targets,
+        warmUpProperties.getTypes(), warmUpProperties.getTimeout());
+  }
+
+  /**
+   * 응답 압축 해제에 사용할 Content-Encoding별 InputStreamFactory를 생성
+   * <p>등록 순서대로 Accept-Encoding 헤더 값이 만들어짐 (예: zstd, gzip, x-gzip, deflate)</p>
+   *
+   * @param acceptZstd zstd 협상 여부
+   * @return Content-Encoding별 InputStreamFactory
+   */
+  private LinkedHashMap<String, InputStreamFactory> buildContentDecoders(boolean acceptZstd) {
+    LinkedHashMap<String, InputStreamFactory> decoders = new LinkedHashMap<>();
+    if (acceptZstd) {
+      decoders.put(ContentEncoding.ZSTD.getToken(), ContentEncoding.ZSTD::decode);
+    }
+    decoders.put(ContentEncoding.GZIP.getToken(), GZIPInputStreamFactory.getInstance());
+    decoders.put("x-gzip", GZIPInputStreamFactory.getInstance());
+    decoders.put(ContentEncoding.DEFLATE.getToken(), DeflateInputStreamFactory.getInstance());
+    return decoders;
+  }
+
+  /**
+   * 요청에 Accept-Encoding 헤더가 없으면 압축 해제가 가능한 방식을 추가하는 ExecChainHandler를 생성
+   * <p>HttpClient 기본 Accept-Encoding은 gzip, x-gzip, deflate로 고정되어 있어, 등록한 InputStreamFactory 기준으로
+   * 헤더를 직접 추가</p>
+   * <p>Range 요청은 서버가 압축된 본문 기준으로 범위를 자를 수 있으므로 identity로 보냄 (이어받기한 조각을 압축 해제하면 파일이 손상됨)</p>
+   *
+   * @param acceptEncoding Accept-Encoding 헤더 값
+   * @return ExecChainHandler 객체
+   */
+  private ExecChainHandler acceptEncodingHandler(String acceptEncoding) {
+    return (request, scope, chain) -> {
+      if (!request.containsHeader(HttpHeaders.ACCEPT_ENCODING)) {
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING,
+            request.containsHeader(HttpHeaders.RANGE) ? IDENTITY_ENCODING : acceptEncoding);
+      }
+      return chain.proceed(request, scope);
+    };
+  }
+
+  /**
+   * Connection Configuration을 생성
+   *
+   * @param connectionPoolProperties Connection Pool 설정 값
+   * @return 설정된 ConnectionConfig 객체
+   */
+  private ConnectionConfig buildConnectionConfig(
+      ConnectionPoolProperties connectionPoolProperties) {
+    ConnectionConfig.Builder builder = ConnectionConfig.custom()
+        .setConnectTimeout(CONNECT_TIMEOUT, TimeUnit.SECONDS)
+        .setValidateAfterInactivity(
+            TimeValue.of(connectionPoolProperties.getValidateAfterInactivity()));
+    if (connectionPoolProperties.getTimeToLive() != null) {
+      builder.setTimeToLive(TimeValue.of(connectionPoolProperties.getTimeToLive()));
+    }
+    return builder.build();
+  }
+
+  /**
+   * Request Configuration를 생성
+   *
+   * @return 설정된 RequestConfig 객체
+   */
+  private RequestConfig buildRequestConfig() {
+    return RequestConfig.custom()
+        .setResponseTimeout(RESPONSE_TIMEOUT, TimeUnit.SECONDS)
+        .setConnectionRequestTimeout(CONNECTION_REQUEST_TIMEOUT, TimeUnit.SECONDS)
         .build();
   }
+
+  /**
+   * 요청/응답 본문 크기 등을 HttpClientMetrics에 기록하는 ClientHttpRequestFactory를 생성
+   *
+   * @param httpClient        설정된 HttpClient 객체
+   * @param httpClientMetrics 요청 구간 메트릭을 기록할 HttpClientMetrics
+   * @return ClientHttpRequestFactory 객체
+   */
+  private ClientHttpRequestFactory buildRequestFactory(HttpClient httpClient,
+      HttpClientMetrics httpClientMetrics) {
+    return new ObservedRequestFactory(new HttpComponentsClientHttpRequestFactory(httpClient),
+        httpClientMetrics);
+  }
 }
@@ -0,0 +1,31 @@
+package com.example.resttemplate.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+
+/**
+ * GraalVM 네이티브 이미지에 필요한 RuntimeHints를 등록 (RestTemplateConfig에서 @ImportRuntimeHints로 등록)
+ * <ul>
+ *   <li>zstd 압축(zstd-jni): 실행 시 jar에서 꺼내 로드하는 네이티브 라이브러리와, 네이티브 코드가 JNI로 읽고 쓰는 스트림 필드(srcPos,
+ *   dstPos)</li>
+ * </ul>
+ * <p>HttpUtil로 주고받는 DTO 타입은 애플리케이션에서 @RegisterReflectionForBinding으로 등록해야 Jackson이 리플렉션으로 바인딩할 수
+ * 있음 (rest-template.warm-up.types에 지정하는 타입 포함)</p>
+ */
+public class RestTemplateRuntimeHints implements RuntimeHintsRegistrar {
+
+  private static final String ZSTD_NATIVE_LIBRARY_PATTERN = "*/*/libzstd-jni-*"; // {os}/{arch}/libzstd-jni-{version}.{so,dylib,dll}
+  private static final String[] ZSTD_JNI_STREAMS = {
+      "com.github.luben.zstd.ZstdInputStreamNoFinalizer",
+      "com.github.luben.zstd.ZstdOutputStreamNoFinalizer"};
+
+  @Override
+  public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+    hints.resources().registerPattern(ZSTD_NATIVE_LIBRARY_PATTERN);
+    for (String stream : ZSTD_JNI_STREAMS) {
+      hints.jni().registerType(TypeReference.of(stream), MemberCategory.DECLARED_FIELDS);
+    }
+  }
+}
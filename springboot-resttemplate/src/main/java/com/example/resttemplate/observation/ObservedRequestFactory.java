@@ -0,0 +1,251 @@
+package com.example.resttemplate.observation;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.AbstractClientHttpRequestFactoryWrapper;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 요청/응답 본문 크기, 응답 상태, 응답 본문 읽기/역직렬화 시간을 HttpClientMetrics에 기록하는 ClientHttpRequestFactory
+ * <p>응답 본문 스트림의 read 호출에서 대기한 시간은 본문 읽기(body.read), 응답 헤더 수신부터 응답을 닫을 때까지의 나머지 시간은
+ * 역직렬화(deserialize)로 기록하며, 본문을 읽지 않은 응답은 본문 구간을 기록하지 않음</p>
+ */
+public class ObservedRequestFactory extends AbstractClientHttpRequestFactoryWrapper {
+
+  private final HttpClientMetrics metrics;
+
+  /**
+   * @param requestFactory 감쌀 ClientHttpRequestFactory (예: HttpComponentsClientHttpRequestFactory)
+   * @param metrics        메트릭을 기록할 HttpClientMetrics
+   */
+  public ObservedRequestFactory(ClientHttpRequestFactory requestFactory,
+      HttpClientMetrics metrics) {
+    super(requestFactory);
+    this.metrics = metrics;
+  }
+
+  @Override
+  protected ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod,
+      ClientHttpRequestFactory requestFactory) throws IOException {
+    return new ObservedRequest(requestFactory.createRequest(uri, httpMethod),
+        HttpClientMetrics.routeName(uri), metrics);
+  }
+
+  /**
+   * 요청 본문 크기를 세고 응답을 ObservedResponse로 감싸는 ClientHttpRequest
+   * <p>감싼 요청이 스트리밍 본문을 지원하면 본문을 버퍼링하지 않고 그대로 전달</p>
+   */
+  private static final class ObservedRequest implements ClientHttpRequest,
+      StreamingHttpOutputMessage {
+
+    private final ClientHttpRequest delegate;
+    private final String route;
+    private final HttpClientMetrics metrics;
+    private CountingOutputStream body;
+
+    private ObservedRequest(ClientHttpRequest delegate, String route, HttpClientMetrics metrics) {
+      this.delegate = delegate;
+      this.route = route;
+      this.metrics = metrics;
+    }
+
+    @Override
+    public ClientHttpResponse execute() throws IOException {
+      ClientHttpResponse response;
+      try {
+        response = delegate.execute();
+      } catch (IOException ex) {
+        metrics.recordIoError(route);
+        throw ex;
+      }
+      if (body != null) {
+        metrics.recordRequestSize(route, body.count);
+      }
+      metrics.recordStatus(route, response.getStatusCode().value());
+      return new ObservedResponse(response, route, metrics);
+    }
+
+    @Override
+    public OutputStream getBody() throws IOException {
+      if (body == null) {
+        body = new CountingOutputStream(delegate.getBody());
+      }
+      return body;
+    }
+
+    @Override
+    public void setBody(Body body) {
+      if (!(delegate instanceof StreamingHttpOutputMessage streamingMessage)) {
+        try {
+          body.writeTo(getBody());
+        } catch (IOException ex) {
+          throw new IllegalStateException("Failed to write request body", ex);
+        }
+        return;
+      }
+      streamingMessage.setBody(new Body() {
+
+        @Override
+        public void writeTo(OutputStream outputStream) throws IOException {
+          ObservedRequest.this.body = new CountingOutputStream(outputStream);
+          body.writeTo(ObservedRequest.this.body);
+        }
+
+        @Override
+        public boolean repeatable() {
+          return body.repeatable();
+        }
+      });
+    }
+
+    @Override
+    public HttpMethod getMethod() {
+      return delegate.getMethod();
+    }
+
+    @Override
+    public URI getURI() {
+      return delegate.getURI();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+  }
+
+  /**
+   * 응답 본문 읽기 시간과 크기를 측정하고, 응답(또는 본문 스트림)을 닫을 때 본문 구간을 기록하는 ClientHttpResponse
+   */
+  private static final class ObservedResponse implements ClientHttpResponse {
+
+    private final ClientHttpResponse delegate;
+    private final String route;
+    private final HttpClientMetrics metrics;
+    private final long receivedAt = System.nanoTime();
+    private TimedInputStream body;
+    private boolean recorded;
+
+    private ObservedResponse(ClientHttpResponse delegate, String route,
+        HttpClientMetrics metrics) {
+      this.delegate = delegate;
+      this.route = route;
+      this.metrics = metrics;
+    }
+
+    @Override
+    public HttpStatusCode getStatusCode() throws IOException {
+      return delegate.getStatusCode();
+    }
+
+    @Override
+    public String getStatusText() throws IOException {
+      return delegate.getStatusText();
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+      return delegate.getHeaders();
+    }
+
+    @Override
+    public InputStream getBody() throws IOException {
+      if (body == null) {
+        body = new TimedInputStream(delegate.getBody());
+      }
+      return body;
+    }
+
+    @Override
+    public void close() {
+      recordBody();
+      delegate.close();
+    }
+
+    private void recordBody() {
+      if (recorded || body == null) {
+        return;
+      }
+      recorded = true;
+      long elapsed = System.nanoTime() - receivedAt;
+      metrics.recordPhase(route, RequestPhase.BODY_READ, body.readNanos);
+      metrics.recordPhase(route, RequestPhase.DESERIALIZE, Math.max(0, elapsed - body.readNanos));
+      metrics.recordResponseSize(route, body.count);
+    }
+
+    /**
+     * read 호출에서 대기한 시간과 읽은 바이트 수를 누적하는 InputStream
+     */
+    private final class TimedInputStream extends FilterInputStream {
+
+      private long readNanos;
+      private long count;
+
+      private TimedInputStream(InputStream in) {
+        super(in);
+      }
+
+      @Override
+      public int read() throws IOException {
+        long startTime = System.nanoTime();
+        int b = super.read();
+        readNanos += System.nanoTime() - startTime;
+        if (b >= 0) {
+          count++;
+        }
+        return b;
+      }
+
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        long startTime = System.nanoTime();
+        int read = super.read(b, off, len);
+        readNanos += System.nanoTime() - startTime;
+        if (read > 0) {
+          count += read;
+        }
+        return read;
+      }
+
+      @Override
+      public void close() throws IOException {
+        recordBody();
+        super.close();
+      }
+    }
+  }
+
+  /**
+   * 쓴 바이트 수를 세는 OutputStream
+   */
+  private static final class CountingOutputStream extends FilterOutputStream {
+
+    private long count;
+
+    private CountingOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      count += len;
+    }
+  }
+}
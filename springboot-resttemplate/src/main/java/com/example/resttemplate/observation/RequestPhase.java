@@ -0,0 +1,42 @@
+package com.example.resttemplate.observation;
+
+/**
+ * HTTP 요청 처리 구간 (httpclient.request.phase 메트릭의 phase 태그)
+ */
+public enum RequestPhase {
+
+  /**
+   * 커넥션 임대와 연결 (새 커넥션이면 TCP 연결, TLS 핸드셰이크 포함)
+   */
+  CONNECTION("connection"),
+
+  /**
+   * 요청 전송부터 응답 헤더 수신까지 (커넥션 임대, 연결 시간 제외)
+   */
+  TIME_TO_FIRST_BYTE("ttfb"),
+
+  /**
+   * 응답 본문을 네트워크에서 읽는 데 걸린 시간 (스트림 read 호출에서 대기한 시간의 합)
+   */
+  BODY_READ("body.read"),
+
+  /**
+   * 응답 본문 역직렬화 시간 (응답 헤더 수신부터 응답을 닫을 때까지의 시간에서 본문 읽기 시간을 제외)
+   */
+  DESERIALIZE("deserialize");
+
+  private final String tag;
+
+  RequestPhase(String tag) {
+    this.tag = tag;
+  }
+
+  /**
+   * 메트릭 phase 태그 값을 반환
+   *
+   * @return 태그 값 (예: ttfb)
+   */
+  public String getTag() {
+    return tag;
+  }
+}
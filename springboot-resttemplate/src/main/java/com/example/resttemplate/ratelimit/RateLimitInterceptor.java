@@ -0,0 +1,260 @@
+package com.example.resttemplate.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+/**
+ * 경로(scheme, host, port)별 요청 속도를 토큰 버킷({@link TokenBucket})으로 제한하는 ClientHttpRequestInterceptor
+ * <p>다운스트림 API의 할당량을 넘는 요청을 보내 429 응답과 재시도가 반복되지 않도록, 토큰이 없으면 최대 대기 시간까지 기다린 후 보내고 그 안에 토큰을
+ * 받을 수 없으면 RateLimitExceededException으로 거절</p>
+ * <ul>
+ *   <li>한도를 설정한 경로만 제한하며, 설정하지 않은 경로는 그대로 보냄</li>
+ *   <li>429, 503 응답의 Retry-After : 그 시각까지 토큰을 비움 (Retry-After가 없는 429 응답은 쌓인 토큰만 비움)</li>
+ *   <li>RateLimit-Remaining, RateLimit-Reset(X-RateLimit-* 포함) : 초기화 시각까지 속도를 남은 요청 수 / 남은 시간으로 낮춤 (설정 값보다
+ *   빠르게 보내지는 않음)</li>
+ *   <li>httpclient.ratelimit.rate / available : 경로별 현재 초당 토큰 수 / 사용할 수 있는 토큰 수 (route 태그)</li>
+ *   <li>httpclient.ratelimit.wait : 토큰을 기다린 시간 (route 태그)</li>
+ *   <li>httpclient.ratelimit.rejected / throttled : 한도 초과로 거절한 요청 수 / 받은 429 응답 수 (route 태그)</li>
+ * </ul>
+ */
+@Slf4j
+public class RateLimitInterceptor implements ClientHttpRequestInterceptor, MeterBinder {
+
+  private static final String PREFIX = "httpclient.ratelimit";
+  private static final List<String> REMAINING_HEADERS = List.of("RateLimit-Remaining",
+      "X-RateLimit-Remaining");
+  private static final List<String> RESET_HEADERS = List.of("RateLimit-Reset",
+      "X-RateLimit-Reset");
+  private static final long EPOCH_SECONDS_THRESHOLD = 1_000_000_000L; // RateLimit-Reset 값이 이보다 크면 남은 초가 아닌 Unix 시각(초)으로 해석
+
+  private final Map<String, RouteRateLimiter> routeLimiters = new LinkedHashMap<>();
+  private final boolean respectHeaders;
+
+  /**
+   * @param limits         경로 URL별 요청 속도 한도
+   * @param respectHeaders Retry-After, RateLimit-* 응답 헤더에 따라 속도를 조절할지 여부
+   */
+  public RateLimitInterceptor(Map<URI, Limit> limits, boolean respectHeaders) {
+    limits.forEach((url, limit) -> {
+      String route = routeOf(url);
+      routeLimiters.put(route, new RouteRateLimiter(route, limit));
+    });
+    this.respectHeaders = respectHeaders;
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    routeLimiters.values().forEach(routeLimiter -> routeLimiter.register(registry));
+  }
+
+  @Override
+  public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+      ClientHttpRequestExecution execution) throws IOException {
+    RouteRateLimiter routeLimiter = routeLimiters.get(routeOf(request.getURI()));
+    if (routeLimiter == null) {
+      return execution.execute(request, body);
+    }
+    routeLimiter.acquire();
+    ClientHttpResponse response = execution.execute(request, body);
+    routeLimiter.onResponse(response.getStatusCode(), response.getHeaders());
+    return response;
+  }
+
+  /**
+   * 경로의 현재 초당 토큰 수를 반환
+   *
+   * @param url 경로의 URL
+   * @return 초당 토큰 수 (한도를 설정하지 않은 경로는 null)
+   */
+  public Double rateOf(URI url) {
+    RouteRateLimiter routeLimiter = routeLimiters.get(routeOf(url));
+    return routeLimiter != null ? routeLimiter.bucket.getRate() : null;
+  }
+
+  /**
+   * URL을 경로 이름으로 변환 (예: https://jsonplaceholder.typicode.com:443)
+   */
+  private static String routeOf(URI url) {
+    int port = url.getPort() > 0 ? url.getPort() : ("https".equalsIgnoreCase(url.getScheme())
+        ? 443 : 80);
+    return url.getScheme() + "://" + url.getHost() + ":" + port;
+  }
+
+  /**
+   * Retry-After 헤더 값(초 또는 HTTP 날짜)을 나노초로 변환
+   *
+   * @return 대기 시간 (나노초, 헤더가 없거나 형식이 잘못되면 null)
+   */
+  private static Long retryAfterNanos(HttpHeaders headers) {
+    String value = headers.getFirst(HttpHeaders.RETRY_AFTER);
+    if (value == null) {
+      return null;
+    }
+    try {
+      return TimeUnit.SECONDS.toNanos(Long.parseLong(value.trim()));
+    } catch (NumberFormatException ex) {
+      try {
+        long date = headers.getFirstDate(HttpHeaders.RETRY_AFTER);
+        return TimeUnit.MILLISECONDS.toNanos(date - System.currentTimeMillis());
+      } catch (IllegalArgumentException dateEx) {
+        return null;
+      }
+    }
+  }
+
+  /**
+   * RateLimit-Reset 헤더 값(남은 초 또는 Unix 시각)을 나노초로 변환
+   *
+   * @return 초기화까지 남은 시간 (나노초, 헤더가 없거나 형식이 잘못되면 null)
+   */
+  private static Long resetNanos(HttpHeaders headers) {
+    Long reset = firstLong(headers, RESET_HEADERS);
+    if (reset == null) {
+      return null;
+    }
+    long seconds = reset > EPOCH_SECONDS_THRESHOLD
+        ? reset - TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()) : reset;
+    return TimeUnit.SECONDS.toNanos(seconds);
+  }
+
+  private static Long firstLong(HttpHeaders headers, List<String> names) {
+    for (String name : names) {
+      String value = headers.getFirst(name);
+      if (value != null) {
+        try {
+          return Long.parseLong(value.trim());
+        } catch (NumberFormatException ex) {
+          return null;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * 경로별 토큰 버킷과 메트릭
+   */
+  private class RouteRateLimiter {
+
+    private final String name;
+    private final TokenBucket bucket;
+    private final long maxWaitNanos;
+    private Timer waitTimer;
+    private Counter rejected;
+    private Counter throttled;
+
+    private RouteRateLimiter(String name, Limit limit) {
+      this.name = name;
+      this.bucket = new TokenBucket(limit.permitsPerSecond(), limit.burst());
+      this.maxWaitNanos = limit.maxWait().toNanos();
+    }
+
+    /**
+     * 토큰을 받을 때까지 대기 (최대 대기 시간 안에 받을 수 없으면 거절)
+     */
+    private void acquire() throws InterruptedIOException {
+      long waitNanos = bucket.reserve(maxWaitNanos);
+      if (waitNanos < 0) {
+        if (rejected != null) {
+          rejected.increment();
+        }
+        throw new RateLimitExceededException(name, bucket.getRate());
+      }
+      if (waitNanos > 0) {
+        try {
+          TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException ex) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while waiting for rate limit");
+        }
+      }
+      if (waitTimer != null) {
+        waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+
+    private void onResponse(HttpStatusCode statusCode, HttpHeaders headers) {
+      boolean tooManyRequests = statusCode.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+      if (tooManyRequests && throttled != null) {
+        throttled.increment();
+      }
+      if (!respectHeaders) {
+        return;
+      }
+      long now = System.nanoTime();
+      if (tooManyRequests || statusCode.isSameCodeAs(HttpStatus.SERVICE_UNAVAILABLE)) {
+        Long retryAfterNanos = retryAfterNanos(headers);
+        if (retryAfterNanos != null) {
+          bucket.pauseUntil(now + Math.max(0L, retryAfterNanos));
+          log.debug("Rate limit paused by Retry-After - route: {}, retry-after: {}ms", name,
+              TimeUnit.NANOSECONDS.toMillis(retryAfterNanos));
+          return;
+        }
+        if (tooManyRequests) {
+          bucket.pauseUntil(now);
+        }
+      }
+      Long remaining = firstLong(headers, REMAINING_HEADERS);
+      Long resetNanos = resetNanos(headers);
+      if (remaining != null && resetNanos != null && resetNanos > 0) {
+        bucket.limitRate((double) remaining * TimeUnit.SECONDS.toNanos(1) / resetNanos,
+            now + resetNanos);
+      }
+    }
+
+    private void register(MeterRegistry registry) {
+      Tags tags = Tags.of("route", name);
+      Gauge.builder(PREFIX + ".rate", bucket, TokenBucket::getRate)
+          .tags(tags)
+          .description("경로별 현재 초당 토큰 수")
+          .register(registry);
+      Gauge.builder(PREFIX + ".available", bucket, TokenBucket::availablePermits)
+          .tags(tags)
+          .description("경로별 바로 사용할 수 있는 토큰 수")
+          .register(registry);
+      this.waitTimer = Timer.builder(PREFIX + ".wait")
+          .tags(tags)
+          .description("토큰을 기다린 시간")
+          .register(registry);
+      this.rejected = Counter.builder(PREFIX + ".rejected")
+          .tags(tags)
+          .description("요청 속도 한도 초과로 거절한 요청 수")
+          .register(registry);
+      this.throttled = Counter.builder(PREFIX + ".throttled")
+          .tags(tags)
+          .description("다운스트림에서 받은 429 응답 수")
+          .register(registry);
+    }
+  }
+
+  /**
+   * 경로별 요청 속도 한도
+   *
+   * @param permitsPerSecond 초당 요청 수
+   * @param burst            유휴 후 한 번에 보낼 수 있는 최대 요청 수
+   * @param maxWait          토큰을 기다릴 최대 시간 (0이면 대기 없이 바로 거절)
+   */
+  public record Limit(double permitsPerSecond, int burst, Duration maxWait) {
+
+  }
+}
@@ -0,0 +1,111 @@
+package com.example.resttemplate.util;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * 한 번만 파싱해 두는 URI 템플릿 (예: https://jsonplaceholder.typicode.com/posts/{id}?userId={userId})
+ * <p>고정 문자열과 변수 위치를 미리 나눠 두고, 요청마다 변수 값만 인코딩하여 이어 붙인 뒤 URI를 한 번만 생성</p>
+ * <p>고정 문자열은 이미 인코딩된 URI 문자열이어야 하며, scheme과 host(port)는 변수를 사용할 수 없음</p>
+ */
+final class CompiledUriTemplate {
+
+  private final String template;
+  private final String[] literals; // 변수 사이의 고정 문자열 (변수 수 + 1개)
+  private final String[] variableNames; // 변수 이름 (템플릿 순서)
+  private final URI fixedUri; // 변수가 없는 템플릿의 URI (요청마다 재사용)
+
+  private CompiledUriTemplate(String template, String[] literals, String[] variableNames) {
+    this.template = template;
+    this.literals = literals;
+    this.variableNames = variableNames;
+    validateAuthority();
+    this.fixedUri = variableNames.length == 0 ? URI.create(template) : null;
+  }
+
+  /**
+   * URI 템플릿을 파싱
+   *
+   * @param template URI 템플릿
+   * @return CompiledUriTemplate 객체
+   */
+  static CompiledUriTemplate compile(String template) {
+    List<String> literals = new ArrayList<>();
+    List<String> variableNames = new ArrayList<>();
+    int start = 0;
+    int open;
+    while ((open = template.indexOf('{', start)) >= 0) {
+      int close = template.indexOf('}', open);
+      if (close < 0) {
+        throw new IllegalArgumentException("Unclosed URI template variable: " + template);
+      }
+      literals.add(template.substring(start, open));
+      variableNames.add(template.substring(open + 1, close));
+      start = close + 1;
+    }
+    literals.add(template.substring(start));
+    return new CompiledUriTemplate(template, literals.toArray(String[]::new),
+        variableNames.toArray(String[]::new));
+  }
+
+  /**
+   * 변수 값을 템플릿 순서대로 인코딩하여 URI를 생성
+   *
+   * @param uriVariables 변수 값 (템플릿의 변수 순서)
+   * @return URI 객체
+   */
+  URI expand(Object... uriVariables) {
+    if (uriVariables.length != variableNames.length) {
+      throw new IllegalArgumentException("Expected URI variables " + Arrays.toString(variableNames)
+          + " but got " + uriVariables.length + " values: " + template);
+    }
+    if (fixedUri != null) {
+      return fixedUri;
+    }
+    StringBuilder uri = new StringBuilder(template.length() + 16 * variableNames.length);
+    for (int i = 0; i < variableNames.length; i++) {
+      uri.append(literals[i])
+          .append(UriUtils.encode(String.valueOf(uriVariables[i]), StandardCharsets.UTF_8));
+    }
+    return URI.create(uri.append(literals[variableNames.length]).toString());
+  }
+
+  String getTemplate() {
+    return template;
+  }
+
+  /**
+   * scheme, host(port)에 변수가 없는지 확인
+   */
+  private void validateAuthority() {
+    String prefix = literals[0];
+    int authorityStart = prefix.indexOf("://");
+    int authorityEnd = authorityStart < 0 ? -1 : indexOfAny(prefix, authorityStart + 3);
+    if (authorityStart <= 0 || (authorityEnd < 0 && variableNames.length > 0)) {
+      throw new IllegalArgumentException(
+          "URI template must have a static scheme and host: " + template);
+    }
+    URI uri = URI.create(authorityEnd < 0 ? prefix : prefix.substring(0, authorityEnd));
+    if (uri.getHost() == null) {
+      throw new IllegalArgumentException(
+          "URI template must have a static scheme and host: " + template);
+    }
+  }
+
+  /**
+   * authority 끝(/, ?, #) 위치를 반환 (없으면 -1)
+   */
+  private static int indexOfAny(String value, int fromIndex) {
+    for (int i = fromIndex; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '/' || c == '?' || c == '#') {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -1,22 +1,50 @@
 package com.example.resttemplate.util;
 
+import com.example.resttemplate.buffer.ByteBufferPool;
+import com.example.resttemplate.buffer.FileTransfers;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
 import java.util.Map;
-import lombok.AllArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.StreamingHttpOutputMessage;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
 /**
  * RestTemplate를 사용한 HTTP 요청(GET, POST, PUT, DELETE)을 위한 유틸리티 클래스
+ * <p>파일 다운로드/업로드는 본문이 메모리에 복사되지 않도록 인터셉터를 적용하지 않은 RestTemplate(fileTransferRestTemplate)로 요청</p>
  */
-@AllArgsConstructor
 @Component
 public class HttpUtil {
 
+  private static final String IDENTITY_ENCODING = "identity"; // 이어받기 Range 요청의 Accept-Encoding
+
   private final RestTemplate restTemplate;
+  private final RestTemplate fileTransferRestTemplate;
+  private final ByteBufferPool bufferPool;
+
+  public HttpUtil(RestTemplate restTemplate,
+      @Qualifier("fileTransferRestTemplate") RestTemplate fileTransferRestTemplate,
+      ByteBufferPool bufferPool) {
+    this.restTemplate = restTemplate;
+    this.fileTransferRestTemplate = fileTransferRestTemplate;
+    this.bufferPool = bufferPool;
+  }
 
   /**
    * HTTP 요청을 위한 HttpEntity를 생성
@@ -90,4 +118,137 @@ public class HttpUtil {
     HttpEntity<Void> entity = createHttpEntity(headers, null);
     return restTemplate.exchange(targetUrl, HttpMethod.DELETE, entity, responseType);
   }
+
+  /**
+   * 요청마다 URI 변수(와 요청 본문)만 받아 실행하는 RequestTemplate을 생성
+   * <p>URI 템플릿 파싱과 요청 헤더 준비를 생성 시 한 번만 수행하므로, 자주 호출하는 요청은 생성한 템플릿을 보관해 두고 재사용</p>
+   *
+   * @param method       HTTP 메서드
+   * @param uriTemplate  URI 템플릿 (예: https://jsonplaceholder.typicode.com/posts/{id})
+   * @param headers      기본 요청 헤더 정보
+   * @param responseType 응답을 매핑할 클래스 타입
+   * @return RequestTemplate 객체
+   */
+  public <T> RequestTemplate<T> template(HttpMethod method, String uriTemplate,
+      Map<String, String> headers, Class<T> responseType) {
+    return new RequestTemplate<>(restTemplate, method, uriTemplate, headers, responseType);
+  }
+
+  /**
+   * GET 요청의 응답 본문을 파일로 저장
+   * <p>응답 본문을 메모리에 올리지 않고, 풀링된 고정 크기 버퍼로 소켓에서 FileChannel로 바로 기록</p>
+   * <p>resume이 true이고 파일이 이미 있으면 Range 요청으로 남은 부분만 받아 이어서 기록하며, 서버가 Range를 지원하지 않으면(200) 처음부터
+   * 다시 기록</p>
+   * <p>Range 요청은 Accept-Encoding: identity로 보내, 서버가 압축된 본문 기준으로 자른 조각을 받아 이어 붙이지 않도록 함</p>
+   *
+   * @param targetUrl 요청을 보낼 URL
+   * @param headers   요청 헤더 정보
+   * @param target    저장할 파일 경로
+   * @param resume    이어받기 여부
+   * @return 저장된 파일의 전체 크기 (바이트)
+   */
+  public long downloadTo(String targetUrl, Map<String, String> headers, Path target,
+      boolean resume) {
+    long offset = resume ? existingSize(target) : 0L;
+    try {
+      Long size = fileTransferRestTemplate.execute(targetUrl, HttpMethod.GET, request -> {
+        if (headers != null) {
+          headers.forEach(request.getHeaders()::set);
+        }
+        if (offset > 0) {
+          request.getHeaders().setRange(List.of(HttpRange.createByteRange(offset)));
+          request.getHeaders().set(HttpHeaders.ACCEPT_ENCODING, IDENTITY_ENCODING);
+        }
+      }, response -> {
+        boolean partial = response.getStatusCode().isSameCodeAs(HttpStatus.PARTIAL_CONTENT);
+        if (partial) {
+          verifyContentRange(response.getHeaders(), offset);
+        }
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            partial ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING)) {
+          return (partial ? offset : 0L)
+              + FileTransfers.copy(response.getBody(), channel, bufferPool);
+        }
+      });
+      return size != null ? size : 0L;
+    } catch (HttpClientErrorException ex) {
+      // 이미 파일을 모두 받은 경우 서버는 416(Range Not Satisfiable)을 반환
+      if (offset > 0 && ex.getStatusCode().isSameCodeAs(
+          HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)) {
+        return offset;
+      }
+      throw ex;
+    }
+  }
+
+  /**
+   * 파일을 요청 본문으로 POST 요청을 보내고 응답을 객체로 반환
+   * <p>파일을 메모리에 올리지 않고, 풀링된 고정 크기 버퍼로 FileChannel에서 요청 본문으로 바로 기록 (Content-Length 지정)</p>
+   *
+   * @param targetUrl    요청을 보낼 URL
+   * @param source       업로드할 파일 경로
+   * @param headers      요청 헤더 정보
+   * @param responseType 응답을 매핑할 클래스 타입
+   * @return 응답 객체
+   */
+  public <R> ResponseEntity<R> uploadFrom(String targetUrl, Path source,
+      Map<String, String> headers, Class<R> responseType) {
+    long size = existingSize(source);
+    return fileTransferRestTemplate.execute(targetUrl, HttpMethod.POST, request -> {
+      HttpHeaders httpHeaders = request.getHeaders();
+      httpHeaders.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+      httpHeaders.setContentLength(size);
+      if (headers != null) {
+        headers.forEach(httpHeaders::set);
+      }
+      if (request instanceof StreamingHttpOutputMessage streamingRequest) {
+        streamingRequest.setBody(outputStream -> writeFile(source, outputStream));
+      } else {
+        writeFile(source, request.getBody());
+      }
+    }, fileTransferRestTemplate.responseEntityExtractor(responseType));
+  }
+
+  /**
+   * 파일을 OutputStream에 기록
+   *
+   * @param source       읽을 파일 경로
+   * @param outputStream 기록할 OutputStream (요청 본문)
+   */
+  private void writeFile(Path source, OutputStream outputStream) throws IOException {
+    try (FileChannel channel = FileChannel.open(source, StandardOpenOption.READ)) {
+      FileTransfers.copy(channel, outputStream, bufferPool);
+    }
+  }
+
+  /**
+   * 파일 크기를 반환 (파일이 없으면 0)
+   *
+   * @param path 파일 경로
+   * @return 파일 크기 (바이트)
+   */
+  private long existingSize(Path path) {
+    try {
+      return Files.exists(path) ? Files.size(path) : 0L;
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  /**
+   * 206(Partial Content) 응답의 Content-Range 시작 위치가 요청한 위치와 같은지 확인
+   *
+   * @param headers 응답 헤더
+   * @param offset  요청한 시작 위치
+   */
+  private void verifyContentRange(HttpHeaders headers, long offset) {
+    String contentRange = headers.getFirst(HttpHeaders.CONTENT_RANGE);
+    String expected = "bytes " + offset + "-";
+    if (contentRange == null || !contentRange.startsWith(expected)) {
+      throw new RestClientException(
+          "Unexpected Content-Range for resumed download: " + contentRange + " (expected "
+              + expected + "...)");
+    }
+  }
 }
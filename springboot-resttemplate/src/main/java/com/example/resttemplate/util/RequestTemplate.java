@@ -0,0 +1,79 @@
+package com.example.resttemplate.util;
+
+import java.util.Map;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * URI 템플릿과 기본 요청 헤더를 미리 준비해 두고 요청마다 URI 변수(와 요청 본문)만 받아 실행하는 요청 템플릿
+ * <p>HttpUtil.sendX와 달리 요청마다 URL 문자열 파싱(UriTemplateHandler), HttpHeaders 생성을 하지 않으며, 요청 본문이 없는 요청은
+ * HttpEntity도 재사용</p>
+ * <p>HttpUtil.template(...)으로 생성하여 필드 등에 보관해 두고 재사용 (스레드 안전)</p>
+ */
+public final class RequestTemplate<T> {
+
+  private final RestTemplate restTemplate;
+  private final HttpMethod method;
+  private final CompiledUriTemplate uriTemplate;
+  private final HttpHeaders headers;
+  private final HttpEntity<Void> emptyEntity;
+  private final Class<T> responseType;
+
+  RequestTemplate(RestTemplate restTemplate, HttpMethod method, String uriTemplate,
+      Map<String, String> headers, Class<T> responseType) {
+    this.restTemplate = restTemplate;
+    this.method = method;
+    this.uriTemplate = CompiledUriTemplate.compile(uriTemplate);
+    HttpHeaders httpHeaders = new HttpHeaders();
+    if (headers != null) {
+      headers.forEach(httpHeaders::set);
+    }
+    this.headers = HttpHeaders.readOnlyHttpHeaders(httpHeaders);
+    this.emptyEntity = new HttpEntity<>(this.headers);
+    this.responseType = responseType;
+  }
+
+  /**
+   * 요청 본문 없이 요청을 보내고 응답을 객체로 반환
+   *
+   * @param uriVariables URI 템플릿 변수 값 (템플릿의 변수 순서)
+   * @return 응답 객체
+   */
+  public ResponseEntity<T> execute(Object... uriVariables) {
+    return restTemplate.exchange(uriTemplate.expand(uriVariables), method, emptyEntity,
+        responseType);
+  }
+
+  /**
+   * 요청 본문과 함께 요청을 보내고 응답을 객체로 반환
+   *
+   * @param body         요청 본문 객체
+   * @param uriVariables URI 템플릿 변수 값 (템플릿의 변수 순서)
+   * @return 응답 객체
+   */
+  public ResponseEntity<T> executeWithBody(Object body, Object... uriVariables) {
+    return restTemplate.exchange(uriTemplate.expand(uriVariables), method,
+        new HttpEntity<>(body, headers), responseType);
+  }
+
+  /**
+   * 템플릿의 HTTP 메서드를 반환
+   *
+   * @return HTTP 메서드
+   */
+  public HttpMethod getMethod() {
+    return method;
+  }
+
+  /**
+   * 템플릿의 URI 템플릿 문자열을 반환
+   *
+   * @return URI 템플릿
+   */
+  public String getUriTemplate() {
+    return uriTemplate.getTemplate();
+  }
+}
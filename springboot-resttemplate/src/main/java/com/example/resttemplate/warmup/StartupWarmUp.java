@@ -0,0 +1,173 @@
+package com.example.resttemplate.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 애플리케이션 준비(ApplicationReadyEvent) 후 첫 요청의 지연 시간을 줄이기 위해 RestTemplate을 워밍업하는 ApplicationListener
+ * <ul>
+ *   <li>경로별로 커넥션을 미리 연결하여 Connection Pool에 넣어 둠</li>
+ *   <li>RestTemplate의 Jackson HttpMessageConverter마다 DTO 타입의 ObjectReader, ObjectWriter를 미리 만들어
+ *   역직렬화기/직렬화기를 캐시</li>
+ *   <li>health 경로를 설정한 경로는 합성 GET 요청을 보내 요청 처리 경로를 JIT 컴파일</li>
+ * </ul>
+ * <p>워밍업은 이벤트를 처리하는 스레드에서 끝날 때까지(최대 timeout) 기다리며, 그동안 Readiness는 REFUSING_TRAFFIC으로 유지</p>
+ */
+@Slf4j
+public class StartupWarmUp implements ApplicationListener<ApplicationReadyEvent> {
+
+  private static final int MAX_THREADS = 8; // 경로를 동시에 워밍업할 최대 스레드 수
+
+  private final ConnectionWarmer connectionWarmer;
+  private final RestTemplate restTemplate;
+  private final List<Target> targets;
+  private final List<Class<?>> types;
+  private final Duration timeout;
+
+  /**
+   * @param connectionWarmer 커넥션을 미리 연결할 ConnectionWarmer
+   * @param restTemplate     합성 요청을 보내고 HttpMessageConverter를 워밍업할 RestTemplate
+   * @param targets          워밍업할 경로 목록
+   * @param types            직렬화/역직렬화기를 미리 만들 DTO 타입 목록
+   * @param timeout          워밍업 최대 시간
+   */
+  public StartupWarmUp(ConnectionWarmer connectionWarmer, RestTemplate restTemplate,
+      List<Target> targets, List<Class<?>> types, Duration timeout) {
+    this.connectionWarmer = connectionWarmer;
+    this.restTemplate = restTemplate;
+    this.targets = List.copyOf(targets);
+    this.types = List.copyOf(types);
+    this.timeout = timeout;
+  }
+
+  @Override
+  public void onApplicationEvent(ApplicationReadyEvent event) {
+    AvailabilityChangeEvent.publish(event.getApplicationContext(),
+        ReadinessState.REFUSING_TRAFFIC);
+    try {
+      warmUp();
+    } finally {
+      AvailabilityChangeEvent.publish(event.getApplicationContext(),
+          ReadinessState.ACCEPTING_TRAFFIC);
+    }
+  }
+
+  /**
+   * 직렬화/역직렬화기를 미리 만들고, 경로별 커넥션 연결과 합성 요청을 동시에 실행하여 끝날 때까지(최대 timeout) 기다림
+   * <p>실패하거나 시간 안에 끝나지 않은 작업은 로그만 남김</p>
+   *
+   * @return 새로 연결한 커넥션 수
+   */
+  public int warmUp() {
+    long startTime = System.nanoTime();
+    warmSerialization();
+    AtomicInteger opened = new AtomicInteger();
+    if (!targets.isEmpty()) {
+      CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("warm-up-");
+      threadFactory.setDaemon(true);
+      ExecutorService executor = Executors.newFixedThreadPool(
+          Math.min(targets.size(), MAX_THREADS), threadFactory);
+      try {
+        CompletableFuture.allOf(targets.stream()
+                .map(target -> CompletableFuture.runAsync(
+                    () -> opened.addAndGet(warm(target)), executor))
+                .toArray(CompletableFuture[]::new))
+            .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+      } catch (TimeoutException ex) {
+        log.warn("Warm-up timed out - timeout: {}", timeout);
+      } catch (ExecutionException ex) {
+        log.warn("Warm-up failed", ex.getCause());
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+    log.info("Warm-up completed - routes: {}, types: {}, connections: {}, elapsed: {}ms",
+        targets.size(), types.size(), opened.get(),
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+    return opened.get();
+  }
+
+  /**
+   * RestTemplate의 Jackson HttpMessageConverter마다 DTO 타입의 역직렬화기/직렬화기를 만들어 ObjectMapper에 캐시
+   */
+  private void warmSerialization() {
+    if (types.isEmpty()) {
+      return;
+    }
+    for (HttpMessageConverter<?> converter : restTemplate.getMessageConverters()) {
+      if (!(converter instanceof AbstractJackson2HttpMessageConverter jackson)) {
+        continue;
+      }
+      ObjectMapper objectMapper = jackson.getObjectMapper();
+      for (Class<?> type : types) {
+        if (jackson.canRead(type, null)) {
+          objectMapper.readerFor(type);
+        }
+        if (jackson.canWrite(type, null)) {
+          objectMapper.writerFor(type);
+        }
+      }
+    }
+  }
+
+  /**
+   * 경로의 커넥션을 연결하고 합성 요청을 보냄
+   *
+   * @return 새로 연결한 커넥션 수
+   */
+  private int warm(Target target) {
+    int opened = 0;
+    try {
+      opened = connectionWarmer.warm(target.url(), target.connections(), Timeout.of(timeout));
+    } catch (IOException ex) {
+      log.warn("Connection warm-up failed - url: {}, error: {}", target.url(), ex.getMessage());
+    }
+    if (target.healthPath() != null) {
+      URI healthUrl = target.url().resolve(target.healthPath());
+      try {
+        for (int i = 0; i < target.healthRequests() && !Thread.currentThread().isInterrupted();
+            i++) {
+          restTemplate.getForEntity(healthUrl, Void.class);
+        }
+      } catch (RestClientException ex) {
+        log.warn("Health warm-up failed - url: {}, error: {}", healthUrl, ex.getMessage());
+      }
+    }
+    return opened;
+  }
+
+  /**
+   * 워밍업할 경로
+   *
+   * @param url            경로 URL
+   * @param connections    미리 열어 둘 커넥션 수
+   * @param healthPath     합성 GET 요청을 보낼 경로 (null이면 보내지 않음)
+   * @param healthRequests 합성 GET 요청 수
+   */
+  public record Target(URI url, int connections, String healthPath, int healthRequests) {
+
+  }
+}
@@ -0,0 +1,89 @@
+package com.example.resttemplate.config;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.example.resttemplate.util.HttpUtil;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@Slf4j
+@SpringBootTest(properties = {
+    "rest-template.connection-pool.max-total=20",
+    "rest-template.connection-pool.default-max-per-route=5"
+})
+class RestTemplateConfigTest {
+
+  private static final int REQUEST_COUNT = 10;
+
+  @Autowired
+  HttpUtil httpUtil;
+
+  @Autowired
+  PoolingHttpClientConnectionManager connectionManager;
+
+  private HttpServer server;
+  private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/posts/1", exchange -> {
+      clientPorts.add(exchange.getRemoteAddress().getPort());
+      byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("Connection Pool: 설정 값을 적용하고, 연속된 요청은 Keep-Alive 커넥션 하나를 재사용")
+  @Test
+  public void testConnectionReuse() {
+
+    // Given
+    String url = "http://127.0.0.1:" + server.getAddress().getPort() + "/posts/1";
+
+    // When
+    for (int i = 0; i < REQUEST_COUNT; i++) {
+      httpUtil.sendGet(url, null, PostDTO.class);
+    }
+
+    // Then
+    assertAll(
+        () -> assertEquals(20, connectionManager.getMaxTotal()),
+        () -> assertEquals(5, connectionManager.getDefaultMaxPerRoute()),
+        () -> assertEquals(1, clientPorts.size()),
+        () -> assertEquals(1, connectionManager.getTotalStats().getAvailable())
+    );
+  }
+
+  @Getter
+  @NoArgsConstructor
+  public static class PostDTO {
+
+    private int id;
+  }
+}
@@ -0,0 +1,105 @@
+package com.example.resttemplate.observation;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.example.resttemplate.util.HttpUtil;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.ResponseEntity;
+
+@SpringBootTest
+@AutoConfigureObservability
+class HttpClientMetricsTest {
+
+  @Autowired
+  HttpUtil httpUtil;
+
+  @Autowired
+  MeterRegistry registry;
+
+  private HttpServer server;
+  private AtomicReference<String> traceparent;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    traceparent = new AtomicReference<>();
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/posts", exchange -> {
+      traceparent.set(exchange.getRequestHeaders().getFirst("traceparent"));
+      exchange.getRequestBody().readAllBytes();
+      byte[] body = "{\"id\":1,\"title\":\"observed\"}".getBytes(StandardCharsets.UTF_8);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(200, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    server.start();
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("요청 메트릭: 구간별 처리 시간, 요청/응답 본문 크기, 상태 코드 분류를 경로별로 기록하고 traceparent 헤더를 전파")
+  @Test
+  public void testRecordRequestPhases() {
+
+    // Given
+    String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+    String route = baseUrl;
+
+    // When
+    ResponseEntity<PostDTO> response = httpUtil.sendPost(baseUrl + "/posts",
+        new PostDTO(0, "observed"), null, PostDTO.class);
+
+    // Then
+    assertAll(
+        () -> assertEquals("observed", response.getBody().getTitle()),
+        () -> assertNotNull(traceparent.get()),
+        () -> assertEquals(1, registry.get("httpclient.request.phase").tag("route", route)
+            .tag("phase", "connection").timer().count()),
+        () -> assertEquals(1, registry.get("httpclient.request.phase").tag("route", route)
+            .tag("phase", "ttfb").timer().count()),
+        () -> assertEquals(1, registry.get("httpclient.request.phase").tag("route", route)
+            .tag("phase", "body.read").timer().count()),
+        () -> assertEquals(1, registry.get("httpclient.request.phase").tag("route", route)
+            .tag("phase", "deserialize").timer().count()),
+        () -> assertTrue(registry.get("httpclient.request.size").tag("route", route).summary()
+            .totalAmount() > 0),
+        () -> assertEquals(27.0, registry.get("httpclient.response.size").tag("route", route)
+            .summary().totalAmount()),
+        () -> assertEquals(1.0, registry.get("httpclient.responses").tag("route", route)
+            .tag("status", "2xx").counter().count()),
+        () -> assertEquals(1, registry.get("http.client.requests").tag("method", "POST")
+            .tag("client.name", "127.0.0.1").timer().count())
+    );
+  }
+
+  @Getter
+  @NoArgsConstructor
+  @AllArgsConstructor
+  public static class PostDTO {
+
+    private int id;
+    private String title;
+  }
+}
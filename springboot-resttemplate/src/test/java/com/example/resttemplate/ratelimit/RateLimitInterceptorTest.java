@@ -0,0 +1,119 @@
+package com.example.resttemplate.ratelimit;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestTemplate;
+
+class RateLimitInterceptorTest {
+
+  private HttpServer server;
+  private URI url;
+  private final AtomicInteger requestCount = new AtomicInteger();
+  private volatile int status = 200;
+  private final Map<String, String> responseHeaders = new ConcurrentHashMap<>();
+
+  @BeforeEach
+  void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+    server.createContext("/posts/1", exchange -> {
+      requestCount.incrementAndGet();
+      byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+      responseHeaders.forEach(exchange.getResponseHeaders()::set);
+      exchange.getResponseHeaders().set("Content-Type", "application/json");
+      exchange.sendResponseHeaders(status, body.length);
+      exchange.getResponseBody().write(body);
+      exchange.close();
+    });
+    server.start();
+    url = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/posts/1");
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+  }
+
+  @DisplayName("요청 속도 제한: 버스트만큼 바로 보내고, 최대 대기 시간 안에 토큰을 받을 수 없는 요청은 보내지 않고 거절")
+  @Test
+  public void testBurstAndReject() {
+
+    // Given
+    RateLimitInterceptor interceptor = new RateLimitInterceptor(
+        Map.of(url, new RateLimitInterceptor.Limit(1, 2, Duration.ZERO)), true);
+    SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    interceptor.bindTo(registry);
+    RestTemplate restTemplate = restTemplate(interceptor);
+
+    // When
+    restTemplate.getForEntity(url, String.class);
+    restTemplate.getForEntity(url, String.class);
+    RateLimitExceededException ex = assertThrows(RateLimitExceededException.class,
+        () -> restTemplate.getForEntity(url, String.class));
+
+    // Then
+    assertAll(
+        () -> assertEquals(2, requestCount.get()),
+        () -> assertEquals("http://127.0.0.1:" + url.getPort(), ex.getRoute()),
+        () -> assertEquals(1.0, registry.get("httpclient.ratelimit.rejected").counter().count())
+    );
+  }
+
+  @DisplayName("요청 속도 제한: 429 응답의 Retry-After 동안 토큰을 비우고, RateLimit-Remaining/Reset에 맞춰 속도를 낮춤")
+  @Test
+  public void testRespectResponseHeaders() {
+
+    // Given
+    RateLimitInterceptor interceptor = new RateLimitInterceptor(
+        Map.of(url, new RateLimitInterceptor.Limit(100, 10, Duration.ZERO)), true);
+    RestTemplate restTemplate = restTemplate(interceptor);
+    status = 429;
+    responseHeaders.put("Retry-After", "1");
+
+    // When
+    assertThrows(HttpClientErrorException.TooManyRequests.class,
+        () -> restTemplate.getForEntity(url, String.class));
+    assertThrows(RateLimitExceededException.class,
+        () -> restTemplate.getForEntity(url, String.class));
+    int requestsWhilePaused = requestCount.get();
+
+    RateLimitInterceptor headerInterceptor = new RateLimitInterceptor(
+        Map.of(url, new RateLimitInterceptor.Limit(100, 10, Duration.ZERO)), true);
+    status = 200;
+    responseHeaders.clear();
+    responseHeaders.put("RateLimit-Remaining", "5");
+    responseHeaders.put("RateLimit-Reset", "10");
+    restTemplate(headerInterceptor).getForEntity(url, String.class);
+
+    // Then
+    assertAll(
+        () -> assertEquals(1, requestsWhilePaused),
+        () -> assertEquals(0.5, headerInterceptor.rateOf(url), 0.01),
+        () -> assertEquals(100.0, interceptor.rateOf(url), 0.01)
+    );
+  }
+
+  private static RestTemplate restTemplate(RateLimitInterceptor interceptor) {
+    RestTemplate restTemplate = new RestTemplate();
+    restTemplate.setInterceptors(List.of(interceptor));
+    return restTemplate;
+  }
+}